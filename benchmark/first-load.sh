@@ -0,0 +1,90 @@
+#!/usr/bin/env bash
+#
+# Measures what a new session downloads for the login route: the HTML
+# document plus every script and stylesheet it references, transferred with
+# and without compression. Also verifies that the hashed bundle is served with
+# immutable cache headers.
+#
+# Usage (application running in production mode):
+#   ./benchmark/first-load.sh [base-url]
+#
+# Environment:
+#   LIGHTHOUSE   Set to 1 to additionally measure time-to-interactive with a
+#                throttled Lighthouse run (requires npx and Chrome)
+#   MAX_BYTES    Fail if the compressed first load exceeds this many bytes
+#
+# Results are appended to target/benchmark/first-load.csv.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+BASE_URL="${1:-http://localhost:9001}"
+OUT_DIR="target/benchmark"
+CSV="$OUT_DIR/first-load.csv"
+
+mkdir -p "$OUT_DIR"
+if [ ! -f "$CSV" ]; then
+  echo "timestamp,compressed_bytes,uncompressed_bytes,requests,total_seconds,tti_ms" >"$CSV"
+fi
+
+# Prints "<bytes transferred> <seconds>" for a single request
+fetch() {
+  local url="$1" encoding="$2"
+  curl -s -o /dev/null -H "Accept-Encoding: $encoding" -w '%{size_download} %{time_total}' "$url"
+}
+
+html="$(curl -s "$BASE_URL/login")"
+assets="$(printf '%s' "$html" | grep -oE '(src|href)="[^"]+\.(js|css)"' | sed -E 's/^(src|href)="\.?\/?//; s/"$//' | sort -u)"
+
+compressed=0
+uncompressed=0
+seconds=0
+requests=1
+missing_cache_headers=0
+
+read -r bytes time <<<"$(fetch "$BASE_URL/login" 'br, gzip')"
+compressed=$((compressed + bytes))
+seconds="$(echo "$seconds + $time" | bc)"
+read -r bytes _ <<<"$(fetch "$BASE_URL/login" 'identity')"
+uncompressed=$((uncompressed + bytes))
+
+for asset in $assets; do
+  url="$BASE_URL/$asset"
+  requests=$((requests + 1))
+
+  read -r bytes time <<<"$(fetch "$url" 'br, gzip')"
+  compressed=$((compressed + bytes))
+  seconds="$(echo "$seconds + $time" | bc)"
+  read -r bytes _ <<<"$(fetch "$url" 'identity')"
+  uncompressed=$((uncompressed + bytes))
+
+  if [[ "$asset" == VAADIN/build/* ]] &&
+    ! curl -s -I "$url" | grep -qi '^cache-control:.*immutable'; then
+    echo "Missing immutable Cache-Control header: $asset" >&2
+    missing_cache_headers=$((missing_cache_headers + 1))
+  fi
+done
+
+tti=""
+if [ "${LIGHTHOUSE:-0}" = "1" ]; then
+  npx --yes lighthouse "$BASE_URL/login" --quiet --only-categories=performance \
+    --chrome-flags='--headless' --output=json --output-path="$OUT_DIR/lighthouse.json" >/dev/null
+  tti="$(grep -A 5 '"id": "interactive"' "$OUT_DIR/lighthouse.json" | grep -oE '"numericValue": [0-9.]+' |
+    grep -oE '[0-9.]+' | cut -d. -f1)"
+fi
+
+echo "$(date -Iseconds),$compressed,$uncompressed,$requests,$seconds,$tti" >>"$CSV"
+echo "login route: $requests requests, $compressed bytes compressed ($uncompressed uncompressed), ${seconds}s total"
+if [ -n "$tti" ]; then
+  echo "login route: time-to-interactive ${tti} ms"
+fi
+
+if [ -n "${MAX_BYTES:-}" ] && [ "$compressed" -gt "$MAX_BYTES" ]; then
+  echo "REGRESSION: first load is $compressed bytes, limit is $MAX_BYTES" >&2
+  exit 1
+fi
+
+if [ "$missing_cache_headers" -gt 0 ]; then
+  exit 1
+fi
@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+#
+# Compares a JMH result against a baseline and fails when any benchmark got
+# slower than the allowed margin. Both files are JSON results as written by
+# the benchmark profile (-rf json).
+#
+# Usage:
+#   ./benchmark/jmh-gate.sh <baseline.json> [result.json]
+#
+# Environment:
+#   MAX_REGRESSION_PERCENT   Allowed slowdown per benchmark (default: 10)
+#
+# Requires jq.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+BASELINE="${1:?baseline result required}"
+RESULT="${2:-target/jmh-result.json}"
+MAX_REGRESSION_PERCENT="${MAX_REGRESSION_PERCENT:-10}"
+
+# Prints "<benchmark>[params] <score>" per line; all benchmarks report average time
+scores() {
+  jq -r '.[] | "\(.benchmark)\(.params // {} | tostring) \(.primaryMetric.score)"' "$1"
+}
+
+regressions=0
+while read -r name score; do
+  baseline="$(scores "$BASELINE" | awk -v n="$name" '$1 == n { print $2 }')"
+  if [ -z "$baseline" ]; then
+    echo "NEW: $name $score"
+    continue
+  fi
+  change="$(echo "scale=2; ($score - $baseline) * 100 / $baseline" | bc)"
+  if [ "$(echo "$change > $MAX_REGRESSION_PERCENT" | bc)" -eq 1 ]; then
+    echo "REGRESSION: $name $baseline -> $score (+$change%)" >&2
+    regressions=$((regressions + 1))
+  else
+    echo "OK: $name $baseline -> $score ($change%)"
+  fi
+done < <(scores "$RESULT")
+
+if [ "$regressions" -gt 0 ]; then
+  exit 1
+fi
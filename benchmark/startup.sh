@@ -0,0 +1,124 @@
+#!/usr/bin/env bash
+#
+# Measures time-to-first-request and resident memory of the packaged
+# application, for the JVM build and (if present) the native executable.
+#
+# Usage:
+#   ./mvnw package -Pproduction                # JVM build
+#   ./mvnw package -Pproduction -Dnative       # native build (optional)
+#   ./benchmark/startup.sh
+#
+# Environment:
+#   PORT             HTTP port the application listens on (default: 9001)
+#   RUNS             Number of cold starts per variant (default: 5)
+#   CLASS_AUDIT      Set to 1 to log loaded classes of the JVM build
+#   MAX_JVM_MS       Fail if the median JVM time-to-first-request exceeds this
+#   MAX_NATIVE_MS    Fail if the median native time-to-first-request exceeds this
+#   MAX_NATIVE_RSS_KB Fail if the median native RSS exceeds this
+#
+# Results are appended to target/benchmark/startup.csv.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT="${PORT:-9001}"
+RUNS="${RUNS:-5}"
+OUT_DIR="target/benchmark"
+CSV="$OUT_DIR/startup.csv"
+JVM_JAR="target/quarkus-app/quarkus-run.jar"
+NATIVE_BIN="$(ls target/*-runner 2>/dev/null | head -n 1 || true)"
+
+mkdir -p "$OUT_DIR"
+if [ ! -f "$CSV" ]; then
+  echo "timestamp,variant,run,ttfr_ms,rss_kb" >"$CSV"
+fi
+
+now_ms() {
+  date +%s%3N
+}
+
+# Starts the given command, waits for the first successful HTTP response
+# and prints "<time-to-first-request ms> <rss kb>".
+measure() {
+  local start pid ttfr rss
+  start="$(now_ms)"
+  QUARKUS_HTTP_PORT="$PORT" "$@" >"$OUT_DIR/app.log" 2>&1 &
+  pid=$!
+
+  until curl -s -o /dev/null "http://localhost:$PORT/login"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "Application exited before serving a request, see $OUT_DIR/app.log" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+
+  ttfr=$(($(now_ms) - start))
+  rss="$(awk '/VmRSS/ { print $2 }' "/proc/$pid/status")"
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo "$ttfr $rss"
+}
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+
+run_variant() {
+  local variant="$1"
+  shift
+  local ttfrs="" rsss="" result ttfr rss
+
+  for run in $(seq 1 "$RUNS"); do
+    result="$(measure "$@")"
+    ttfr="${result% *}"
+    rss="${result#* }"
+    echo "$(date -Iseconds),$variant,$run,$ttfr,$rss" >>"$CSV"
+    ttfrs="$ttfrs$ttfr"$'\n'
+    rsss="$rsss$rss"$'\n'
+  done
+
+  MEDIAN_TTFR="$(printf '%s' "$ttfrs" | median)"
+  MEDIAN_RSS="$(printf '%s' "$rsss" | median)"
+  echo "$variant: median time-to-first-request ${MEDIAN_TTFR} ms, median RSS ${MEDIAN_RSS} kB"
+}
+
+check_limit() {
+  local name="$1" value="$2" limit="$3"
+  if [ -n "$limit" ] && [ "$value" -gt "$limit" ]; then
+    echo "REGRESSION: $name is $value, limit is $limit" >&2
+    FAILED=1
+  fi
+}
+
+FAILED=0
+
+if [ ! -f "$JVM_JAR" ]; then
+  echo "$JVM_JAR not found, package the application first" >&2
+  exit 1
+fi
+
+JVM_ARGS=()
+if [ "${CLASS_AUDIT:-0}" = "1" ]; then
+  JVM_ARGS+=("-Xlog:class+load=info:file=$OUT_DIR/class-load.log")
+fi
+
+run_variant jvm java "${JVM_ARGS[@]}" -jar "$JVM_JAR"
+check_limit "JVM time-to-first-request (ms)" "$MEDIAN_TTFR" "${MAX_JVM_MS:-}"
+
+if [ "${CLASS_AUDIT:-0}" = "1" ]; then
+  echo "jvm: $(grep -c 'class,load' "$OUT_DIR/class-load.log") classes loaded until shutdown," \
+    "see $OUT_DIR/class-load.log"
+fi
+
+if [ -n "$NATIVE_BIN" ]; then
+  run_variant native "$NATIVE_BIN"
+  check_limit "native time-to-first-request (ms)" "$MEDIAN_TTFR" "${MAX_NATIVE_MS:-}"
+  check_limit "native RSS (kB)" "$MEDIAN_RSS" "${MAX_NATIVE_RSS_KB:-}"
+else
+  echo "native: no target/*-runner found, skipping"
+fi
+
+exit "$FAILED"
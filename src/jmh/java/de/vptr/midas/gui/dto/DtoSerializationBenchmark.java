@@ -0,0 +1,134 @@
+package de.vptr.midas.gui.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Jackson round-trips of the DTO lists the grids load, configured like the
+ * Quarkus default ObjectMapper used by the REST clients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoSerializationBenchmark {
+
+    private static final TypeReference<List<PostDto>> POST_LIST = new TypeReference<>() {
+    };
+    private static final TypeReference<List<UserPaymentDto>> PAYMENT_LIST = new TypeReference<>() {
+    };
+    private static final TypeReference<List<UserRankDto>> RANK_LIST = new TypeReference<>() {
+    };
+
+    @Param({ "100", "5000" })
+    int size;
+
+    private ObjectMapper mapper;
+
+    private List<PostDto> posts;
+    private List<UserPaymentDto> payments;
+    private List<UserRankDto> ranks;
+
+    private byte[] postJson;
+    private byte[] paymentJson;
+    private byte[] rankJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        this.mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        final var rank = new UserRankDto();
+        rank.id = 1L;
+        rank.name = "Admin";
+
+        final var user = new UserDto("benchmark", "benchmark@example.com");
+        user.id = 1L;
+        user.rank = rank;
+
+        final var category = new PostCategoryDto(1L, "General", null);
+        final var now = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123456789);
+
+        this.posts = new ArrayList<>(this.size);
+        this.payments = new ArrayList<>(this.size);
+        this.ranks = new ArrayList<>(this.size);
+        for (var i = 0; i < this.size; i++) {
+            this.posts.add(new PostDto((long) i, "Post " + i, "Lorem ipsum dolor sit amet ".repeat(20), user,
+                    category, i % 2 == 0, true, now, now));
+
+            final var payment = new UserPaymentDto(user, (long) i % 50, (long) (i + 1) % 50,
+                    new BigDecimal("1234.56").add(BigDecimal.valueOf(i, 2)), LocalDate.of(2025, 1, 1).plusDays(i % 365),
+                    "Payment " + i, now, now);
+            payment.id = (long) i;
+            this.payments.add(payment);
+
+            final var userRank = new UserRankDto();
+            userRank.id = (long) i;
+            userRank.name = "Rank " + i;
+            userRank.postAdd = i % 2 == 0;
+            this.ranks.add(userRank);
+        }
+
+        this.postJson = this.mapper.writeValueAsBytes(this.posts);
+        this.paymentJson = this.mapper.writeValueAsBytes(this.payments);
+        this.rankJson = this.mapper.writeValueAsBytes(this.ranks);
+    }
+
+    @Benchmark
+    public byte[] serializePosts() throws Exception {
+        return this.mapper.writeValueAsBytes(this.posts);
+    }
+
+    @Benchmark
+    public List<PostDto> deserializePosts() throws Exception {
+        return this.mapper.readValue(this.postJson, POST_LIST);
+    }
+
+    @Benchmark
+    public byte[] serializePayments() throws Exception {
+        return this.mapper.writeValueAsBytes(this.payments);
+    }
+
+    @Benchmark
+    public List<UserPaymentDto> deserializePayments() throws Exception {
+        return this.mapper.readValue(this.paymentJson, PAYMENT_LIST);
+    }
+
+    @Benchmark
+    public byte[] serializeRanks() throws Exception {
+        return this.mapper.writeValueAsBytes(this.ranks);
+    }
+
+    @Benchmark
+    public List<UserRankDto> deserializeRanks() throws Exception {
+        return this.mapper.readValue(this.rankJson, RANK_LIST);
+    }
+}
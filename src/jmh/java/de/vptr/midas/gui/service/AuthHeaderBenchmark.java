@@ -0,0 +1,68 @@
+package de.vptr.midas.gui.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.flow.server.VaadinSession;
+
+/**
+ * Cost of building the Authorization header that every backend call carries.
+ * The session lookup variant runs against a map-backed session so it measures
+ * the service code rather than Vaadin's session locking.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthHeaderBenchmark {
+
+    private AuthService authService;
+    private VaadinSession session;
+
+    @Setup
+    public void setUp() {
+        final Map<String, Object> attributes = new HashMap<>();
+        attributes.put("authenticated.status", true);
+        attributes.put("authenticated.username", "benchmark");
+        attributes.put("authenticated.password", "correct horse battery staple");
+
+        this.session = new VaadinSession(null) {
+            @Override
+            public Object getAttribute(final String name) {
+                return attributes.get(name);
+            }
+        };
+        VaadinSession.setCurrent(this.session);
+        this.authService = new AuthService();
+    }
+
+    @TearDown
+    public void tearDown() {
+        VaadinSession.setCurrent(null);
+    }
+
+    @Benchmark
+    public String buildBasicAuthHeader() {
+        return AuthService.buildBasicAuthHeader("benchmark", "correct horse battery staple");
+    }
+
+    @Benchmark
+    public String getAuthHeader() {
+        return this.authService.getAuthHeader();
+    }
+}
@@ -0,0 +1,70 @@
+package de.vptr.midas.gui.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.vptr.midas.gui.dto.PostCategoryDto;
+
+/**
+ * Tree building as done by PostCategoryView: index the flat category list,
+ * then expand every node once the way the TreeGrid data provider does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryTreeBenchmark {
+
+    private static final int CHILDREN_PER_NODE = 5;
+
+    @Param({ "100", "2000" })
+    int size;
+
+    private List<PostCategoryDto> categories;
+    private CategoryTree tree;
+
+    @Setup
+    public void setUp() {
+        this.categories = new ArrayList<>(this.size);
+        for (var i = 0; i < this.size; i++) {
+            final var parent = i == 0 ? null : this.categories.get((i - 1) / CHILDREN_PER_NODE);
+            this.categories.add(new PostCategoryDto((long) i, "Category " + i, parent));
+        }
+        this.tree = CategoryTree.of(this.categories);
+    }
+
+    @Benchmark
+    public CategoryTree build() {
+        return CategoryTree.of(this.categories);
+    }
+
+    @Benchmark
+    public void buildAndExpandAll(final Blackhole blackhole) {
+        final var tree = CategoryTree.of(this.categories);
+        for (final var category : this.categories) {
+            blackhole.consume(tree.getChildren(category));
+            blackhole.consume(tree.hasChildren(category));
+        }
+    }
+
+    @Benchmark
+    public boolean isDescendantOfDeepestNode() {
+        return this.tree.isDescendantOf(this.categories.get(this.size - 1), this.categories.get(0));
+    }
+}
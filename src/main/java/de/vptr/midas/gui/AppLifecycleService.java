@@ -3,16 +3,21 @@ package de.vptr.midas.gui;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.vptr.midas.gui.service.ReferenceDataCache;
 import io.quarkus.runtime.ShutdownEvent;
 import io.quarkus.runtime.StartupEvent;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
 
 @ApplicationScoped
 public class AppLifecycleService {
 
     private static final Logger LOG = LoggerFactory.getLogger(AppLifecycleService.class);
 
+    @Inject
+    ReferenceDataCache referenceDataCache;
+
     /**
      * ASCII art for the application logo.
      * This is displayed in the console when the application starts.
@@ -41,9 +46,11 @@ public class AppLifecycleService {
     void onStart(@Observes final StartupEvent ev) {
         LOG.info(asciiArt);
         LOG.info("Welcome to Midas GUI! o/");
+        this.referenceDataCache.restore();
     }
 
     void onStop(@Observes final ShutdownEvent ev) {
+        this.referenceDataCache.persist();
         LOG.info("Midas GUI is shutting down. Goodbye! \\o");
     }
 }
@@ -0,0 +1,61 @@
+package de.vptr.midas.gui;
+
+import java.time.Duration;
+import java.util.logging.Filter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import de.vptr.midas.gui.util.LogSampler;
+import io.quarkus.logging.LoggingFilter;
+
+/**
+ * Keeps log volume bounded when the same message repeats, e.g. when the
+ * backend is down and every request logs the same connection error.
+ *
+ * Messages are grouped per logger and message text up to the first digit or
+ * colon, so "HTTP error while fetching account 4: 503" and "... account 7: 500"
+ * count as one. Each group may log {@code midas.log.burst} messages per
+ * {@code midas.log.window}. Beyond that, warnings and errors are suppressed
+ * until the window ends and the next one that is logged states how many were
+ * dropped; less severe messages are sampled once every
+ * {@code midas.log.sample-every}.
+ */
+@LoggingFilter(name = "midas-log-sampling")
+public final class LogSamplingFilter implements Filter {
+
+    static final int MAX_KEY_LENGTH = 80;
+
+    private final LogSampler sampler;
+
+    public LogSamplingFilter(@ConfigProperty(name = "midas.log.burst", defaultValue = "20") final int burst,
+            @ConfigProperty(name = "midas.log.sample-every", defaultValue = "100") final int sampleEvery,
+            @ConfigProperty(name = "midas.log.window", defaultValue = "10S") final Duration window,
+            @ConfigProperty(name = "midas.log.max-keys", defaultValue = "1000") final int maxKeys) {
+        this.sampler = new LogSampler(burst, sampleEvery, window, maxKeys);
+    }
+
+    @Override
+    public boolean isLoggable(final LogRecord record) {
+        final var severe = record.getLevel().intValue() >= Level.WARNING.intValue();
+        final var dropped = this.sampler.acquire(key(record), !severe);
+        if (dropped < 0) {
+            return false;
+        }
+        if (dropped > 0 && record.getMessage() != null) {
+            record.setMessage(record.getMessage() + " (" + dropped + " similar messages suppressed)");
+        }
+        return true;
+    }
+
+    static String key(final LogRecord record) {
+        final var message = record.getMessage() != null ? record.getMessage() : "";
+        final var limit = Math.min(message.length(), MAX_KEY_LENGTH);
+        var end = 0;
+        while (end < limit && message.charAt(end) != ':' && !Character.isDigit(message.charAt(end))) {
+            end++;
+        }
+        return record.getLoggerName() + '|' + record.getLevel().getName() + '|' + message.substring(0, end);
+    }
+}
@@ -0,0 +1,73 @@
+package de.vptr.midas.gui;
+
+import de.vptr.midas.gui.dto.AuthTokenDto;
+import de.vptr.midas.gui.dto.AuthTokenRefreshDto;
+import de.vptr.midas.gui.dto.PageDto;
+import de.vptr.midas.gui.dto.PostCategoryDto;
+import de.vptr.midas.gui.dto.PostCommentDto;
+import de.vptr.midas.gui.dto.PostDto;
+import de.vptr.midas.gui.dto.UserAccountDto;
+import de.vptr.midas.gui.dto.UserAccountMetaDto;
+import de.vptr.midas.gui.dto.UserDto;
+import de.vptr.midas.gui.dto.UserGroupDto;
+import de.vptr.midas.gui.dto.UserPaymentDto;
+import de.vptr.midas.gui.dto.UserRankDto;
+import de.vptr.midas.gui.view.BackendErrorView;
+import de.vptr.midas.gui.view.GreetView;
+import de.vptr.midas.gui.view.LoginView;
+import de.vptr.midas.gui.view.MainLayout;
+import de.vptr.midas.gui.view.PageView;
+import de.vptr.midas.gui.view.PaymentFlowView;
+import de.vptr.midas.gui.view.PaymentImportView;
+import de.vptr.midas.gui.view.PostCategoryView;
+import de.vptr.midas.gui.view.PostCommentView;
+import de.vptr.midas.gui.view.PostView;
+import de.vptr.midas.gui.view.UserAccountView;
+import de.vptr.midas.gui.view.UserDetailView;
+import de.vptr.midas.gui.view.UserGroupView;
+import de.vptr.midas.gui.view.UserPaymentView;
+import de.vptr.midas.gui.view.UserRankView;
+import de.vptr.midas.gui.view.UserView;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Reflection registrations for the native image build.
+ * 
+ * The DTOs are (de)serialized by Jackson, partly as nested types or through
+ * {@code Response.readEntity}, which the REST client build step cannot detect.
+ * The route targets and the layout are instantiated and introspected by the
+ * Vaadin router at runtime.
+ */
+@RegisterForReflection(targets = {
+        AuthTokenDto.class,
+        AuthTokenRefreshDto.class,
+        PageDto.class,
+        PostCategoryDto.class,
+        PostCommentDto.class,
+        PostDto.class,
+        UserAccountDto.class,
+        UserAccountMetaDto.class,
+        UserDto.class,
+        UserGroupDto.class,
+        UserPaymentDto.class,
+        UserRankDto.class,
+        AppConfig.class,
+        MainLayout.class,
+        BackendErrorView.class,
+        GreetView.class,
+        LoginView.class,
+        PageView.class,
+        PaymentFlowView.class,
+        PaymentImportView.class,
+        PostCategoryView.class,
+        PostCommentView.class,
+        PostView.class,
+        UserAccountView.class,
+        UserDetailView.class,
+        UserGroupView.class,
+        UserPaymentView.class,
+        UserRankView.class,
+        UserView.class
+})
+public class NativeImageConfig {
+}
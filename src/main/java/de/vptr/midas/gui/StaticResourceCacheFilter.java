@@ -0,0 +1,101 @@
+package de.vptr.midas.gui;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Marks the production frontend bundle as immutable.
+ *
+ * Everything below {@code /VAADIN/build/} carries a content hash in its file
+ * name, so a changed asset always gets a new URL. Vaadin itself only allows
+ * caching these files for an hour, which makes returning users revalidate the
+ * whole bundle.
+ */
+@WebFilter(urlPatterns = "/VAADIN/build/*")
+public class StaticResourceCacheFilter extends HttpFilter {
+
+    static final String CACHE_CONTROL = "Cache-Control";
+    static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    static final String NO_CACHE = "no-cache";
+
+    @Override
+    protected void doFilter(final HttpServletRequest request, final HttpServletResponse response,
+            final FilterChain chain) throws IOException, ServletException {
+        chain.doFilter(request, new ImmutableResponse(response));
+    }
+
+    /**
+     * Marks the response immutable until it turns out not to be a successful
+     * one. A 404 for a hash this instance does not know yet, e.g. during a
+     * rolling deploy, must not stay in the browser cache for a year.
+     */
+    static final class ImmutableResponse extends HttpServletResponseWrapper {
+
+        private boolean immutable = true;
+
+        ImmutableResponse(final HttpServletResponse response) {
+            super(response);
+            response.setHeader(CACHE_CONTROL, IMMUTABLE);
+        }
+
+        @Override
+        public void setStatus(final int status) {
+            this.checkStatus(status);
+            super.setStatus(status);
+        }
+
+        @Override
+        public void sendError(final int status) throws IOException {
+            this.checkStatus(status);
+            super.sendError(status);
+        }
+
+        @Override
+        public void sendError(final int status, final String message) throws IOException {
+            this.checkStatus(status);
+            super.sendError(status, message);
+        }
+
+        @Override
+        public void sendRedirect(final String location) throws IOException {
+            this.checkStatus(SC_FOUND);
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void setHeader(final String name, final String value) {
+            if (!this.immutable || !CACHE_CONTROL.equalsIgnoreCase(name)) {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(final String name, final String value) {
+            if (!this.immutable || !CACHE_CONTROL.equalsIgnoreCase(name)) {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void setDateHeader(final String name, final long date) {
+            if (!this.immutable || !"Expires".equalsIgnoreCase(name)) {
+                super.setDateHeader(name, date);
+            }
+        }
+
+        private void checkStatus(final int status) {
+            // A 304 confirms the cached copy, which stays immutable
+            if (this.immutable && status != SC_OK && status != SC_NOT_MODIFIED) {
+                this.immutable = false;
+                super.setHeader(CACHE_CONTROL, NO_CACHE);
+            }
+        }
+    }
+}
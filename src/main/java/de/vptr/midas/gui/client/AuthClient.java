@@ -1,16 +1,34 @@
 package de.vptr.midas.gui.client;
 
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 
+import de.vptr.midas.gui.dto.AuthTokenDto;
+import de.vptr.midas.gui.dto.AuthTokenRefreshDto;
+import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.HEAD;
 import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 @RegisterRestClient(configKey = "midas-api")
+@RegisterProvider(LatencyFilter.class)
 @Path("/auth")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
 public interface AuthClient {
 
     @HEAD
     Response validateCredentials(@HeaderParam("Authorization") String authorization);
-}
\ No newline at end of file
+
+    @POST
+    @Path("/token")
+    AuthTokenDto requestToken(@HeaderParam("Authorization") String authorization);
+
+    @POST
+    @Path("/token/refresh")
+    AuthTokenDto refreshToken(AuthTokenRefreshDto refresh);
+}
@@ -0,0 +1,139 @@
+package de.vptr.midas.gui.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.vptr.midas.gui.util.CredentialScope;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Turns repeated GETs into conditional requests backed by {@link ResponseCache}.
+ *
+ * A GET for which a cached response with validators exists carries
+ * If-None-Match / If-Modified-Since. When the backend answers 304, the
+ * response is rewritten to a 200 with the cached body, so the backend neither
+ * queries nor transfers it again. Successful responses carrying an ETag or
+ * Last-Modified header are stored as received.
+ *
+ * The cache holds bytes, not entities: every caller deserializes its own DTO
+ * instances, which views are free to edit in place.
+ *
+ * Every write invalidates the cached responses of its collection, whether it
+ * succeeded or not.
+ */
+@ApplicationScoped
+public class ConditionalRequestFilter implements ClientRequestFilter, ClientResponseFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConditionalRequestFilter.class);
+
+    private static final String CACHE_KEY_PROPERTY = ConditionalRequestFilter.class.getName() + ".key";
+    private static final String CACHE_ENTRY_PROPERTY = ConditionalRequestFilter.class.getName() + ".entry";
+
+    @Inject
+    ResponseCache cache;
+
+    @ConfigProperty(name = "quarkus.rest-client.midas-api.url")
+    String baseUrl;
+
+    @Override
+    public void filter(final ClientRequestContext request) {
+        final var uri = request.getUri().toString();
+
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            final var collection = this.collectionOf(request.getUri());
+            LOG.trace("{} {} - invalidating cached responses below {}", request.getMethod(), uri, collection);
+            this.cache.invalidate(collection);
+            return;
+        }
+
+        final var authorization = request.getHeaderString(HttpHeaders.AUTHORIZATION);
+        if (authorization == null) {
+            return;
+        }
+
+        final var key = new ResponseCache.Key(uri, CredentialScope.of(authorization));
+        request.setProperty(CACHE_KEY_PROPERTY, key);
+
+        final var cached = this.cache.get(key);
+        if (cached != null) {
+            // Kept on the request so a concurrent eviction cannot leave a 304 without a body
+            request.setProperty(CACHE_ENTRY_PROPERTY, cached);
+            if (cached.etag() != null) {
+                request.getHeaders().putSingle(HttpHeaders.IF_NONE_MATCH, cached.etag());
+            }
+            if (cached.lastModified() != null) {
+                request.getHeaders().putSingle(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+            }
+        }
+    }
+
+    @Override
+    public void filter(final ClientRequestContext request, final ClientResponseContext response)
+            throws IOException {
+        final var key = (ResponseCache.Key) request.getProperty(CACHE_KEY_PROPERTY);
+        if (key == null) {
+            return;
+        }
+
+        final var cached = (ResponseCache.Entry) request.getProperty(CACHE_ENTRY_PROPERTY);
+        if (cached != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            LOG.trace("Not modified: {}", key.uri());
+            response.setStatus(Response.Status.OK.getStatusCode());
+            response.getHeaders().putSingle(HttpHeaders.CONTENT_TYPE, cached.contentType());
+            if (cached.contentEncoding() != null) {
+                response.getHeaders().putSingle(HttpHeaders.CONTENT_ENCODING, cached.contentEncoding());
+            }
+            response.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+            response.setEntityStream(new ByteArrayInputStream(cached.body()));
+            return;
+        }
+        if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL || !response.hasEntity()) {
+            // Error bodies are never cached
+            return;
+        }
+
+        final var etag = response.getHeaderString(HttpHeaders.ETAG);
+        final var lastModified = response.getHeaderString(HttpHeaders.LAST_MODIFIED);
+        if (etag == null && lastModified == null) {
+            this.cache.remove(key);
+            return;
+        }
+
+        final var body = response.getEntityStream().readAllBytes();
+        response.setEntityStream(new ByteArrayInputStream(body));
+        this.cache.put(key, new ResponseCache.Entry(body, etag, lastModified,
+                response.getHeaderString(HttpHeaders.CONTENT_TYPE),
+                response.getHeaderString(HttpHeaders.CONTENT_ENCODING)));
+    }
+
+    /**
+     * The URI prefix of the collection a request targets, i.e. the base URL
+     * plus the first path segment below it ({@code .../api/v1/posts} for
+     * {@code .../api/v1/posts/5/...}).
+     */
+    String collectionOf(final URI uri) {
+        final var full = uri.toString();
+        final var base = this.baseUrl.endsWith("/") ? this.baseUrl : this.baseUrl + "/";
+        if (!full.startsWith(base)) {
+            return full;
+        }
+        final var rest = full.substring(base.length());
+        final var end = rest.indexOf('/');
+        final var query = rest.indexOf('?');
+        final var cut = end >= 0 ? (query >= 0 ? Math.min(end, query) : end) : query;
+        return base + (cut >= 0 ? rest.substring(0, cut) : rest);
+    }
+}
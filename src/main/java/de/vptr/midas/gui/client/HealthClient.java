@@ -1,5 +1,6 @@
 package de.vptr.midas.gui.client;
 
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 
 import jakarta.ws.rs.HEAD;
@@ -7,6 +8,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.core.Response;
 
 @RegisterRestClient(configKey = "midas-api")
+@RegisterProvider(LatencyFilter.class)
 @Path("/health")
 public interface HealthClient {
 
@@ -0,0 +1,167 @@
+package de.vptr.midas.gui.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.WebApplicationException;
+
+/**
+ * Runs idempotent GETs with a timeout adapted to the endpoint's recent
+ * latency and, optionally, a hedge: if no response has arrived by the time 95%
+ * of recent requests had their answer, the same request is sent a second time
+ * and whichever response arrives first is used. The other request is
+ * cancelled. A slow backend instance or a lost connection then costs the p95
+ * delay instead of the full timeout.
+ *
+ * Hedges are paid from a budget that every request tops up by
+ * {@code midas.hedging.budget} (0.1 allows one hedge per ten requests), so
+ * hedging cannot multiply the load on a backend that is slow for everyone.
+ *
+ * Failures are rethrown as thrown by the request, so callers handle them as
+ * if they had made the request themselves; running out of time is reported as
+ * a {@link ProcessingException}.
+ *
+ * A request that is given up, after a timeout or because its hedge answered
+ * first, never reaches {@link LatencyFilter}. Its time so far is recorded
+ * instead, a lower bound of its latency. Otherwise only the requests that beat
+ * the timeout would be sampled, and after the backend slowed down the
+ * timeout could never grow back.
+ */
+@ApplicationScoped
+public class HedgedRequests {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HedgedRequests.class);
+
+    private static final double MAX_BUDGET = 10;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final var thread = new Thread(runnable, "midas-request-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Inject
+    LatencyTracker tracker;
+
+    @ConfigProperty(name = "midas.hedging.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "midas.hedging.budget", defaultValue = "0.1")
+    double budget;
+
+    @ConfigProperty(name = "midas.latency.max-timeout", defaultValue = "30S")
+    Duration maxTimeout;
+
+    private double tokens;
+
+    /**
+     * @param endpoint The endpoint as recorded by {@link LatencyFilter}, e.g.
+     *                 {@code GET /posts}
+     * @param request  The request; must be idempotent and must not access the
+     *                 VaadinSession
+     * @return The first response
+     */
+    public <T> T get(final String endpoint, final Supplier<T> request) {
+        final var start = System.nanoTime();
+        final var timeout = this.tracker.timeout(endpoint, this.maxTimeout);
+        final var hedgeDelay = this.enabled ? this.tracker.percentile(endpoint, 0.95) : null;
+        this.earn();
+
+        final var result = new CompletableFuture<T>();
+        final var running = new AtomicInteger();
+        final List<Future<?>> attempts = new CopyOnWriteArrayList<>();
+        final var firstFinished = new AtomicBoolean();
+
+        this.attempt(request, result, running, attempts, firstFinished);
+        if (hedgeDelay != null && hedgeDelay.compareTo(timeout) < 0) {
+            final var hedge = CompletableFuture.runAsync(() -> {
+                if (!result.isDone() && this.spend()) {
+                    LOG.debug("No response from {} after {} ms, sending hedge", endpoint, hedgeDelay.toMillis());
+                    this.attempt(request, result, running, attempts, new AtomicBoolean());
+                }
+            }, CompletableFuture.delayedExecutor(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS, EXECUTOR));
+            result.whenComplete((value, throwable) -> hedge.cancel(false));
+        }
+
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            LOG.warn("No response from {} within {} ms", endpoint, timeout.toMillis());
+            throw new ProcessingException("No response from " + endpoint + " within " + timeout.toMillis() + " ms", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Interrupted while waiting for " + endpoint, e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof final RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof final Error cause) {
+                throw cause;
+            }
+            throw new ProcessingException(e.getCause());
+        } finally {
+            // Aborts the request still in flight, or both after a timeout
+            attempts.forEach(attempt -> attempt.cancel(true));
+            if (!firstFinished.get()) {
+                this.tracker.record(endpoint, Duration.ofNanos(System.nanoTime() - start));
+            }
+        }
+    }
+
+    /**
+     * @param finished Set before the attempt completes {@code result}
+     */
+    private <T> void attempt(final Supplier<T> request, final CompletableFuture<T> result,
+            final AtomicInteger running, final List<Future<?>> attempts, final AtomicBoolean finished) {
+        running.incrementAndGet();
+        attempts.add(EXECUTOR.submit(() -> {
+            try {
+                final var value = request.get();
+                finished.set(true);
+                result.complete(value);
+            } catch (final WebApplicationException e) {
+                finished.set(true);
+                // The backend answered, asking again would get the same answer
+                result.completeExceptionally(e);
+            } catch (final Throwable t) {
+                finished.set(true);
+                // Without a response the other attempt may still succeed
+                if (running.decrementAndGet() == 0) {
+                    result.completeExceptionally(t);
+                }
+            }
+        }));
+    }
+
+    private synchronized void earn() {
+        this.tokens = Math.min(MAX_BUDGET, this.tokens + this.budget);
+    }
+
+    private synchronized boolean spend() {
+        if (this.tokens < 1) {
+            return false;
+        }
+        this.tokens -= 1;
+        return true;
+    }
+}
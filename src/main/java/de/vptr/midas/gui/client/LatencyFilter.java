@@ -0,0 +1,58 @@
+package de.vptr.midas.gui.client;
+
+import java.net.URI;
+import java.time.Duration;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+
+/**
+ * Measures the time from sending a request until its response headers
+ * arrive and records it in {@link LatencyTracker} under the request's
+ * endpoint. Requests that fail without a response are not recorded.
+ */
+@ApplicationScoped
+public class LatencyFilter implements ClientRequestFilter, ClientResponseFilter {
+
+    private static final String START_PROPERTY = LatencyFilter.class.getName() + ".start";
+
+    @Inject
+    LatencyTracker tracker;
+
+    @ConfigProperty(name = "quarkus.rest-client.midas-api.url")
+    String baseUrl;
+
+    @Override
+    public void filter(final ClientRequestContext request) {
+        request.setProperty(START_PROPERTY, System.nanoTime());
+    }
+
+    @Override
+    public void filter(final ClientRequestContext request, final ClientResponseContext response) {
+        if (request.getProperty(START_PROPERTY) instanceof final Long start) {
+            this.tracker.record(this.endpointOf(request.getMethod(), request.getUri()),
+                    Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * The method and path below the base URL with numeric path segments
+     * replaced by {@code {id}}, so all requests for one resource type share
+     * their samples: {@code GET /posts/user/{id}} for
+     * {@code GET .../api/v1/posts/user/5?x=y}.
+     */
+    String endpointOf(final String method, final URI uri) {
+        var path = uri.getRawPath() != null ? uri.getRawPath() : "";
+        final var basePath = URI.create(this.baseUrl).getRawPath();
+        if (basePath != null && !basePath.isEmpty() && path.startsWith(basePath)) {
+            path = path.substring(basePath.endsWith("/") ? basePath.length() - 1 : basePath.length());
+        }
+        return method + " " + path.replaceAll("/\\d+(?=/|$)", "/{id}");
+    }
+}
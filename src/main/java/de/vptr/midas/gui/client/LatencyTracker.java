@@ -0,0 +1,99 @@
+package de.vptr.midas.gui.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Recent response times per backend endpoint, e.g. {@code GET /posts} or
+ * {@code GET /user-payments/user/{id}}, as recorded by {@link LatencyFilter}.
+ *
+ * Every endpoint keeps a sliding window of its latest samples, so the
+ * percentiles follow the backend when it gets faster or slower. Until an
+ * endpoint has enough samples it has no percentiles, and callers fall back to
+ * their fixed limits.
+ */
+@ApplicationScoped
+public class LatencyTracker {
+
+    @ConfigProperty(name = "midas.latency.window", defaultValue = "256")
+    int window;
+
+    @ConfigProperty(name = "midas.latency.min-samples", defaultValue = "20")
+    int minSamples;
+
+    @ConfigProperty(name = "midas.latency.timeout-multiplier", defaultValue = "3")
+    double timeoutMultiplier;
+
+    @ConfigProperty(name = "midas.latency.min-timeout", defaultValue = "1S")
+    Duration minTimeout;
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    private static final class Samples {
+        final long[] nanos;
+        int count;
+        int next;
+
+        Samples(final int size) {
+            this.nanos = new long[size];
+        }
+
+        synchronized void add(final long value) {
+            this.nanos[this.next] = value;
+            this.next = (this.next + 1) % this.nanos.length;
+            this.count = Math.min(this.count + 1, this.nanos.length);
+        }
+
+        synchronized long[] sorted() {
+            final var copy = Arrays.copyOf(this.nanos, this.count);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    public void record(final String endpoint, final Duration latency) {
+        this.samples.computeIfAbsent(endpoint, key -> new Samples(Math.max(1, this.window)))
+                .add(latency.toNanos());
+    }
+
+    /**
+     * @param quantile E.g. 0.95 for the 95th percentile
+     * @return The latency {@code quantile} of the recent requests stayed
+     *         below, or null while the endpoint has too few samples
+     */
+    public Duration percentile(final String endpoint, final double quantile) {
+        final var recorded = this.samples.get(endpoint);
+        if (recorded == null) {
+            return null;
+        }
+        final var sorted = recorded.sorted();
+        if (sorted.length == 0 || sorted.length < this.minSamples) {
+            return null;
+        }
+        final var rank = (int) Math.ceil(quantile * sorted.length) - 1;
+        return Duration.ofNanos(sorted[Math.min(sorted.length - 1, Math.max(0, rank))]);
+    }
+
+    /**
+     * How long to wait for the endpoint: a multiple of its 99th percentile,
+     * but at least the configured minimum and at most {@code max}. Without
+     * enough samples this is {@code max}.
+     */
+    public Duration timeout(final String endpoint, final Duration max) {
+        final var p99 = this.percentile(endpoint, 0.99);
+        if (p99 == null) {
+            return max;
+        }
+        final var adaptive = Duration.ofNanos((long) (p99.toNanos() * this.timeoutMultiplier));
+        if (adaptive.compareTo(this.minTimeout) < 0) {
+            return this.minTimeout.compareTo(max) < 0 ? this.minTimeout : max;
+        }
+        return adaptive.compareTo(max) < 0 ? adaptive : max;
+    }
+}
@@ -2,6 +2,7 @@ package de.vptr.midas.gui.client;
 
 import java.util.List;
 
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 
 import de.vptr.midas.gui.dto.PageDto;
@@ -10,6 +11,9 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 @RegisterRestClient(configKey = "midas-api")
+@RegisterProvider(ConditionalRequestFilter.class)
+@RegisterProvider(UnauthorizedResponseFilter.class)
+@RegisterProvider(LatencyFilter.class)
 @Path("/pages")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
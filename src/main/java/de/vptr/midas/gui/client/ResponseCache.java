@@ -0,0 +1,105 @@
+package de.vptr.midas.gui.client;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Raw GET response bodies together with their validators (ETag and
+ * Last-Modified), keyed by request URI and credential scope.
+ *
+ * Memory is bounded by a byte budget on the bodies as received, i.e. the JSON
+ * size (or its compressed size), not the heap size of the DTOs read from it.
+ * The least recently used entries are evicted once the total exceeds
+ * {@code midas.response-cache.max-bytes}.
+ */
+@ApplicationScoped
+public class ResponseCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResponseCache.class);
+
+    @ConfigProperty(name = "midas.response-cache.max-bytes", defaultValue = "33554432")
+    long maxBytes;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public record Key(String uri, String scope) {
+    }
+
+    public record Entry(byte[] body, String etag, String lastModified, String contentType,
+            String contentEncoding) {
+
+        public long bytes() {
+            return this.body.length;
+        }
+    }
+
+    public synchronized Entry get(final Key key) {
+        return this.entries.get(key);
+    }
+
+    public synchronized void put(final Key key, final Entry entry) {
+        if (entry.bytes() > this.maxBytes) {
+            LOG.debug("Not caching {}: {} bytes exceed the budget", key.uri(), entry.bytes());
+            this.remove(key);
+            return;
+        }
+
+        final var previous = this.entries.put(key, entry);
+        if (previous != null) {
+            this.totalBytes -= previous.bytes();
+        }
+        this.totalBytes += entry.bytes();
+
+        final Iterator<Map.Entry<Key, Entry>> eldest = this.entries.entrySet().iterator();
+        while (this.totalBytes > this.maxBytes && eldest.hasNext()) {
+            final var evicted = eldest.next();
+            this.totalBytes -= evicted.getValue().bytes();
+            eldest.remove();
+            LOG.trace("Evicted cached response for {}", evicted.getKey().uri());
+        }
+    }
+
+    public synchronized void remove(final Key key) {
+        final var removed = this.entries.remove(key);
+        if (removed != null) {
+            this.totalBytes -= removed.bytes();
+        }
+    }
+
+    /**
+     * Drops every cached response, for all credential scopes, whose URI starts
+     * with the given prefix. Used after writes, which may change any view of
+     * the affected collection.
+     */
+    public synchronized void invalidate(final String uriPrefix) {
+        final var iterator = this.entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final var entry = iterator.next();
+            if (entry.getKey().uri().startsWith(uriPrefix)) {
+                this.totalBytes -= entry.getValue().bytes();
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        this.entries.clear();
+        this.totalBytes = 0;
+    }
+
+    public synchronized long getTotalBytes() {
+        return this.totalBytes;
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+}
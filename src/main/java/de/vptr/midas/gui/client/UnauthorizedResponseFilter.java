@@ -0,0 +1,29 @@
+package de.vptr.midas.gui.client;
+
+import de.vptr.midas.gui.service.CredentialValidationCache;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Forgets a cached credential validation as soon as any backend call rejects
+ * those credentials, so a changed or revoked password is checked against the
+ * backend again on the next login.
+ */
+@ApplicationScoped
+public class UnauthorizedResponseFilter implements ClientResponseFilter {
+
+    @Inject
+    CredentialValidationCache validationCache;
+
+    @Override
+    public void filter(final ClientRequestContext request, final ClientResponseContext response) {
+        if (response.getStatus() == Response.Status.UNAUTHORIZED.getStatusCode()) {
+            this.validationCache.invalidate(request.getHeaderString(HttpHeaders.AUTHORIZATION));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package de.vptr.midas.gui.component;
+
+import com.vaadin.flow.component.combobox.ComboBox;
+
+import de.vptr.midas.gui.dto.UserAccountDto;
+import de.vptr.midas.gui.service.LookupService;
+
+/**
+ * Selects an account by typing the start of its name. Items are fetched page
+ * by page as the list is scrolled.
+ */
+public class AccountPicker extends ComboBox<UserAccountDto> {
+
+    private static final int PAGE_SIZE = 50;
+
+    private final LookupService lookupService;
+
+    public AccountPicker(final String label, final LookupService lookupService) {
+        super(label);
+        this.lookupService = lookupService;
+
+        this.setPageSize(PAGE_SIZE);
+        this.setClearButtonVisible(true);
+        this.setPlaceholder("Type to search...");
+        this.setItemLabelGenerator(account -> account.name + " (#" + account.id + ")");
+        this.setItems(
+                query -> lookupService.findAccounts(query.getFilter().orElse(""), query.getOffset(), query.getLimit())
+                        .stream(),
+                query -> lookupService.countAccounts(query.getFilter().orElse("")))
+                .setIdentifierProvider(account -> account.id);
+
+        this.addAttachListener(event -> lookupService.warm());
+    }
+
+    public Long getAccountId() {
+        return this.getValue() != null ? this.getValue().id : null;
+    }
+
+    public void setAccountId(final Long id) {
+        this.setValue(this.lookupService.getAccount(id).orElse(null));
+    }
+}
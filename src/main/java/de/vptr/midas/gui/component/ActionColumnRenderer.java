@@ -0,0 +1,37 @@
+package de.vptr.midas.gui.component;
+
+import org.vaadin.lineawesome.LineAwesomeIconUrl;
+
+import com.vaadin.flow.data.renderer.LitRenderer;
+import com.vaadin.flow.function.SerializableConsumer;
+
+/**
+ * Edit and delete buttons for a grid's action column, looking and behaving
+ * like {@link EditButton} and {@link DeleteButton}.
+ *
+ * The buttons are rendered client-side from a template, so rows add no
+ * server-side components or state nodes no matter how many are scrolled
+ * into view. Clicks are routed back to the server with the row's item.
+ *
+ * @param <T> The grid item type
+ */
+public class ActionColumnRenderer<T> extends LitRenderer<T> {
+    private final static String TEMPLATE = """
+            <vaadin-horizontal-layout theme="spacing">
+              <vaadin-button theme="small icon" aria-label="Edit" @click="${onEdit}">
+                <vaadin-icon src="%s"></vaadin-icon>
+                <vaadin-tooltip slot="tooltip" text="Edit"></vaadin-tooltip>
+              </vaadin-button>
+              <vaadin-button theme="small error" aria-label="Delete" @click="${onDelete}">
+                <vaadin-icon src="%s"></vaadin-icon>
+                <vaadin-tooltip slot="tooltip" text="Delete"></vaadin-tooltip>
+              </vaadin-button>
+            </vaadin-horizontal-layout>
+            """.formatted(LineAwesomeIconUrl.EDIT_SOLID, LineAwesomeIconUrl.TRASH_ALT_SOLID);
+
+    public ActionColumnRenderer(final SerializableConsumer<T> editAction, final SerializableConsumer<T> deleteAction) {
+        super(TEMPLATE);
+        this.withFunction("onEdit", editAction);
+        this.withFunction("onDelete", item -> DeleteButton.confirm(null, null, () -> deleteAction.accept(item)));
+    }
+}
@@ -0,0 +1,21 @@
+package de.vptr.midas.gui.component;
+
+import com.vaadin.flow.data.renderer.LitRenderer;
+import com.vaadin.flow.function.ValueProvider;
+
+/**
+ * Read-only checkbox for boolean grid columns, rendered client-side so rows
+ * add no server-side components. A null value is shown unchecked.
+ *
+ * @param <T> The grid item type
+ */
+public class CheckboxRenderer<T> extends LitRenderer<T> {
+    private final static String TEMPLATE = """
+            <vaadin-checkbox readonly .checked="${item.checked}"></vaadin-checkbox>
+            """;
+
+    public CheckboxRenderer(final ValueProvider<T, Boolean> valueProvider) {
+        super(TEMPLATE);
+        this.withProperty("checked", item -> Boolean.TRUE.equals(valueProvider.apply(item)));
+    }
+}
@@ -0,0 +1,37 @@
+package de.vptr.midas.gui.component;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.html.H4;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+
+public class DashboardTile extends VerticalLayout {
+    private final static String LOADING_TEXT = "Loading...";
+
+    private final VerticalLayout content = new VerticalLayout();
+
+    public DashboardTile(final String title) {
+        this.setWidth("320px");
+        this.setPadding(true);
+        this.setSpacing(false);
+        this.getStyle().set("border", "1px solid var(--lumo-contrast-10pct)");
+        this.getStyle().set("border-radius", "var(--lumo-border-radius-l)");
+
+        this.content.setPadding(false);
+        this.content.setSpacing(false);
+        this.content.add(new Span(LOADING_TEXT));
+
+        this.add(new H4(title), this.content);
+    }
+
+    public void setContent(final Component... components) {
+        this.content.removeAll();
+        this.content.add(components);
+    }
+
+    public void showError(final String message) {
+        final var error = new Span(message);
+        error.getStyle().set("color", "var(--lumo-error-text-color)");
+        this.setContent(error);
+    }
+}
@@ -31,18 +31,26 @@ public class DeleteButton extends Button {
     }
 
     private void showConfirmationDialog(final ClickEvent<Button> event) {
+        confirm(this.confirmationTitle, this.confirmationText, () -> {
+            if (this.deleteAction != null) {
+                this.deleteAction.onComponentEvent(event);
+            }
+        });
+    }
+
+    /**
+     * Opens the same confirmation dialog a DeleteButton shows, for delete
+     * actions that are not backed by a button component (e.g. grid renderers).
+     */
+    public static void confirm(final String title, final String text, final Runnable deleteAction) {
         final var confirmDialog = new ConfirmDialog();
-        confirmDialog.setHeader(this.confirmationTitle);
-        confirmDialog.setText(this.confirmationText);
+        confirmDialog.setHeader(title != null ? title : DEFAULT_CONFIRMATION_TITLE);
+        confirmDialog.setText(text != null ? text : DEFAULT_CONFIRMATION_TEXT);
         confirmDialog.setCancelable(true);
         confirmDialog.setConfirmText("Delete");
         confirmDialog.setConfirmButtonTheme("error primary");
 
-        confirmDialog.addConfirmListener(e -> {
-            if (this.deleteAction != null) {
-                this.deleteAction.onComponentEvent(event);
-            }
-        });
+        confirmDialog.addConfirmListener(e -> deleteAction.run());
 
         confirmDialog.open();
     }
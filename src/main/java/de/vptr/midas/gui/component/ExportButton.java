@@ -0,0 +1,122 @@
+package de.vptr.midas.gui.component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.html.Anchor;
+import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.server.StreamResourceWriter;
+import com.vaadin.flow.server.VaadinSession;
+
+import de.vptr.midas.gui.util.TableExport;
+
+/**
+ * Download link that exports rows as CSV or XLSX. The file is written straight
+ * to the response while the rows are read, it is never built in memory.
+ *
+ * @param <T> The row type
+ */
+public class ExportButton<T> extends Anchor {
+
+    /** Rows read per session lock; the lock is released while they are written */
+    static final int CHUNK_SIZE = 500;
+
+    /**
+     * @param fileName File name without extension
+     * @param rows     The rows to export, e.g. the items of a grid with its
+     *                 current filter and sort order; called and consumed with
+     *                 the session locked
+     */
+    public ExportButton(final String fileName, final TableExport.Format format, final TableExport<T> export,
+            final Supplier<? extends Stream<? extends T>> rows) {
+        final var resource = new StreamResource(fileName + "." + format.extension(),
+                (StreamResourceWriter) (out, session) -> {
+                    final var chunks = new LockedChunks<T>(session, rows);
+                    try {
+                        export.write(out, format, () -> chunks);
+                    } finally {
+                        chunks.close();
+                    }
+                });
+        resource.setContentType(format.contentType());
+        resource.setCacheTime(0);
+
+        this.setHref(resource);
+        this.getElement().setAttribute("download", true);
+
+        final var button = new Button(format.name());
+        button.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+        button.setIcon(new Icon(VaadinIcon.DOWNLOAD));
+        button.setTooltipText("Export as " + format.name());
+        this.add(button);
+    }
+
+    /**
+     * Reads the rows in chunks. Downloads are served without the session lock,
+     * which guards the component state, so it is taken for every chunk read
+     * but not while the chunk is written to the client.
+     */
+    static final class LockedChunks<T> implements Iterator<T>, AutoCloseable {
+        private final VaadinSession session;
+        private final Supplier<? extends Stream<? extends T>> rows;
+        private final List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+        private Stream<? extends T> stream;
+        private Iterator<? extends T> source;
+        private int position;
+
+        LockedChunks(final VaadinSession session, final Supplier<? extends Stream<? extends T>> rows) {
+            this.session = session;
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.position < this.chunk.size()) {
+                return true;
+            }
+            this.chunk.clear();
+            this.position = 0;
+            this.session.lock();
+            try {
+                if (this.source == null) {
+                    this.stream = this.rows.get();
+                    this.source = this.stream.iterator();
+                }
+                while (this.chunk.size() < CHUNK_SIZE && this.source.hasNext()) {
+                    this.chunk.add(this.source.next());
+                }
+            } finally {
+                this.session.unlock();
+            }
+            return !this.chunk.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return this.chunk.get(this.position++);
+        }
+
+        @Override
+        public void close() {
+            if (this.stream != null) {
+                this.session.lock();
+                try {
+                    this.stream.close();
+                } finally {
+                    this.session.unlock();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package de.vptr.midas.gui.component;
+
+import com.vaadin.flow.data.renderer.LitRenderer;
+import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.function.ValueProvider;
+
+/**
+ * Clickable text for a grid column, e.g. a name that opens the row's edit
+ * dialog. Rendered client-side so rows add no server-side components.
+ *
+ * @param <T> The grid item type
+ */
+public class LinkRenderer<T> extends LitRenderer<T> {
+    private final static String TEMPLATE = """
+            <span style="color: var(--lumo-primary-text-color); cursor: pointer; width: 100%; display: block"
+                  @click="${onClick}">${item.text}</span>
+            """;
+
+    public LinkRenderer(final ValueProvider<T, String> textProvider, final SerializableConsumer<T> clickAction) {
+        super(TEMPLATE);
+        this.withProperty("text", textProvider);
+        this.withFunction("onClick", clickAction);
+    }
+}
@@ -0,0 +1,42 @@
+package de.vptr.midas.gui.component;
+
+import com.vaadin.flow.component.combobox.ComboBox;
+
+import de.vptr.midas.gui.dto.UserDto;
+import de.vptr.midas.gui.service.LookupService;
+
+/**
+ * Selects a user by typing the start of the username. Items are fetched page
+ * by page as the list is scrolled.
+ */
+public class UserPicker extends ComboBox<UserDto> {
+
+    private static final int PAGE_SIZE = 50;
+
+    private final LookupService lookupService;
+
+    public UserPicker(final String label, final LookupService lookupService) {
+        super(label);
+        this.lookupService = lookupService;
+
+        this.setPageSize(PAGE_SIZE);
+        this.setClearButtonVisible(true);
+        this.setPlaceholder("Type to search...");
+        this.setItemLabelGenerator(user -> user.username + " (#" + user.id + ")");
+        this.setItems(
+                query -> lookupService.findUsers(query.getFilter().orElse(""), query.getOffset(), query.getLimit())
+                        .stream(),
+                query -> lookupService.countUsers(query.getFilter().orElse("")))
+                .setIdentifierProvider(user -> user.id);
+
+        this.addAttachListener(event -> lookupService.warm());
+    }
+
+    public Long getUserId() {
+        return this.getValue() != null ? this.getValue().id : null;
+    }
+
+    public void setUserId(final Long id) {
+        this.setValue(this.lookupService.getUser(id).orElse(null));
+    }
+}
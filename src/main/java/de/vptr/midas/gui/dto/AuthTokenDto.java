@@ -0,0 +1,73 @@
+package de.vptr.midas.gui.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class AuthTokenDto {
+
+    @JsonProperty("accessToken")
+    public String accessToken;
+
+    @JsonProperty("refreshToken")
+    public String refreshToken;
+
+    @JsonProperty("tokenType")
+    public String tokenType = "Bearer";
+
+    // Lifetime of the access token in seconds
+    @JsonProperty("expiresIn")
+    public Long expiresIn;
+
+    public AuthTokenDto() {
+        // Default constructor for Jackson
+    }
+
+    public AuthTokenDto(final String accessToken, final String refreshToken, final Long expiresIn) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
+
+    // Getter methods
+    public String getAccessToken() {
+        return this.accessToken;
+    }
+
+    public String getRefreshToken() {
+        return this.refreshToken;
+    }
+
+    public String getTokenType() {
+        return this.tokenType;
+    }
+
+    public Long getExpiresIn() {
+        return this.expiresIn;
+    }
+
+    // Setter methods
+    public void setAccessToken(final String accessToken) {
+        this.accessToken = accessToken;
+    }
+
+    public void setRefreshToken(final String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public void setTokenType(final String tokenType) {
+        this.tokenType = tokenType;
+    }
+
+    public void setExpiresIn(final Long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+
+    @Override
+    public String toString() {
+        // Never include the tokens themselves, they are credentials
+        return "AuthToken{" +
+                "tokenType='" + this.tokenType + '\'' +
+                ", expiresIn=" + this.expiresIn +
+                ", refreshable=" + (this.refreshToken != null) +
+                '}';
+    }
+}
@@ -0,0 +1,30 @@
+package de.vptr.midas.gui.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class AuthTokenRefreshDto {
+
+    @JsonProperty("refreshToken")
+    public String refreshToken;
+
+    public AuthTokenRefreshDto() {
+        // Default constructor for Jackson
+    }
+
+    public AuthTokenRefreshDto(final String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public String getRefreshToken() {
+        return this.refreshToken;
+    }
+
+    public void setRefreshToken(final String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthTokenRefresh{}";
+    }
+}
@@ -0,0 +1,97 @@
+package de.vptr.midas.gui.result;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import de.vptr.midas.gui.dto.PostCommentDto;
+import de.vptr.midas.gui.dto.UserPaymentDto;
+import jakarta.ws.rs.WebApplicationException;
+
+/**
+ * The tiles shown on the home dashboard. Every tile is loaded independently,
+ * so a view can render each one as soon as its future completes.
+ */
+public class DashboardSnapshot {
+
+    private final long createdNanos;
+    private final CompletableFuture<List<PostCommentDto>> recentComments;
+    private final CompletableFuture<List<UserPaymentDto>> recentPayments;
+    private final CompletableFuture<Integer> postCount;
+    private final CompletableFuture<Integer> pageCount;
+    private final CompletableFuture<Boolean> backendAvailable;
+
+    public DashboardSnapshot(final CompletableFuture<List<PostCommentDto>> recentComments,
+            final CompletableFuture<List<UserPaymentDto>> recentPayments,
+            final CompletableFuture<Integer> postCount,
+            final CompletableFuture<Integer> pageCount,
+            final CompletableFuture<Boolean> backendAvailable) {
+        this.createdNanos = System.nanoTime();
+        this.recentComments = recentComments;
+        this.recentPayments = recentPayments;
+        this.postCount = postCount;
+        this.pageCount = pageCount;
+        this.backendAvailable = backendAvailable;
+    }
+
+    public CompletableFuture<List<PostCommentDto>> getRecentComments() {
+        return this.recentComments;
+    }
+
+    public CompletableFuture<List<UserPaymentDto>> getRecentPayments() {
+        return this.recentPayments;
+    }
+
+    public CompletableFuture<Integer> getPostCount() {
+        return this.postCount;
+    }
+
+    public CompletableFuture<Integer> getPageCount() {
+        return this.pageCount;
+    }
+
+    public CompletableFuture<Boolean> getBackendAvailable() {
+        return this.backendAvailable;
+    }
+
+    public boolean isFresh(final Duration ttl) {
+        return System.nanoTime() - this.createdNanos < ttl.toNanos();
+    }
+
+    public boolean hasFailedTiles() {
+        return this.tiles().anyMatch(CompletableFuture::isCompletedExceptionally);
+    }
+
+    /**
+     * Whether a tile failed in a way the next attempt may not, e.g. a timeout
+     * or a lost connection. Tiles the backend refused (403) or does not know
+     * (404) would fail the same way again and do not count.
+     */
+    public boolean hasTransientFailures() {
+        return this.tiles().filter(CompletableFuture::isCompletedExceptionally)
+                .map(tile -> tile.handle((value, throwable) -> throwable).join())
+                .anyMatch(throwable -> !isPermanent(throwable));
+    }
+
+    public boolean isDone() {
+        return this.tiles().allMatch(CompletableFuture::isDone);
+    }
+
+    private static boolean isPermanent(final Throwable throwable) {
+        var cause = throwable;
+        while (cause != null) {
+            if (cause instanceof final WebApplicationException e) {
+                final var status = e.getResponse().getStatus();
+                return status == 403 || status == 404;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    private Stream<CompletableFuture<?>> tiles() {
+        return Stream.of(this.recentComments, this.recentPayments, this.postCount, this.pageCount,
+                this.backendAvailable);
+    }
+}
@@ -0,0 +1,101 @@
+package de.vptr.midas.gui.result;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import de.vptr.midas.gui.dto.PostCommentDto;
+import de.vptr.midas.gui.dto.PostDto;
+import de.vptr.midas.gui.dto.UserAccountDto;
+import de.vptr.midas.gui.dto.UserDto;
+import de.vptr.midas.gui.dto.UserGroupDto;
+import de.vptr.midas.gui.dto.UserPaymentDto;
+
+/**
+ * Everything shown about a single user. Every section is loaded by its own
+ * request, so a view can render each one as soon as its future completes.
+ */
+public class UserDetail {
+
+    private final Long userId;
+    private final CompletableFuture<Optional<UserDto>> user;
+    private final CompletableFuture<List<UserAccountDto>> accounts;
+    private final CompletableFuture<List<UserPaymentDto>> payments;
+    private final CompletableFuture<BigDecimal> paymentTotal;
+    private final CompletableFuture<List<PostDto>> posts;
+    private final CompletableFuture<List<PostCommentDto>> comments;
+    private final CompletableFuture<List<UserGroupDto>> groups;
+
+    public UserDetail(final Long userId,
+            final CompletableFuture<Optional<UserDto>> user,
+            final CompletableFuture<List<UserAccountDto>> accounts,
+            final CompletableFuture<List<UserPaymentDto>> payments,
+            final CompletableFuture<BigDecimal> paymentTotal,
+            final CompletableFuture<List<PostDto>> posts,
+            final CompletableFuture<List<PostCommentDto>> comments,
+            final CompletableFuture<List<UserGroupDto>> groups) {
+        this.userId = userId;
+        this.user = user;
+        this.accounts = accounts;
+        this.payments = payments;
+        this.paymentTotal = paymentTotal;
+        this.posts = posts;
+        this.comments = comments;
+        this.groups = groups;
+    }
+
+    public Long getUserId() {
+        return this.userId;
+    }
+
+    public CompletableFuture<Optional<UserDto>> getUser() {
+        return this.user;
+    }
+
+    public CompletableFuture<List<UserAccountDto>> getAccounts() {
+        return this.accounts;
+    }
+
+    public CompletableFuture<List<UserPaymentDto>> getPayments() {
+        return this.payments;
+    }
+
+    public CompletableFuture<BigDecimal> getPaymentTotal() {
+        return this.paymentTotal;
+    }
+
+    public CompletableFuture<List<PostDto>> getPosts() {
+        return this.posts;
+    }
+
+    public CompletableFuture<List<PostCommentDto>> getComments() {
+        return this.comments;
+    }
+
+    public CompletableFuture<List<UserGroupDto>> getGroups() {
+        return this.groups;
+    }
+
+    public boolean hasFailedSections() {
+        return this.sections().anyMatch(CompletableFuture::isCompletedExceptionally);
+    }
+
+    public boolean isDone() {
+        return this.sections().allMatch(CompletableFuture::isDone);
+    }
+
+    /**
+     * Stops waiting for the sections still loading, e.g. when the view showing
+     * them is left. Their requests are interrupted.
+     */
+    public void cancel() {
+        this.sections().forEach(section -> section.cancel(false));
+    }
+
+    private Stream<CompletableFuture<?>> sections() {
+        return Stream.of(this.user, this.accounts, this.payments, this.paymentTotal, this.posts, this.comments,
+                this.groups);
+    }
+}
@@ -1,8 +1,11 @@
 package de.vptr.midas.gui.service;
 
 import java.net.ConnectException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,7 +13,10 @@ import org.slf4j.LoggerFactory;
 import com.vaadin.flow.server.VaadinSession;
 
 import de.vptr.midas.gui.client.AuthClient;
+import de.vptr.midas.gui.dto.AuthTokenDto;
+import de.vptr.midas.gui.dto.AuthTokenRefreshDto;
 import de.vptr.midas.gui.result.AuthResult;
+import de.vptr.midas.gui.util.CredentialScope;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.ProcessingException;
@@ -24,9 +30,33 @@ public class AuthService {
     @RestClient
     AuthClient authClient;
 
+    @Inject
+    CredentialValidationCache validationCache;
+
+    @ConfigProperty(name = "midas.auth.bearer-tokens", defaultValue = "true")
+    boolean bearerTokens;
+
+    @ConfigProperty(name = "midas.auth.token-refresh-skew", defaultValue = "30S")
+    Duration tokenRefreshSkew;
+
+    @ConfigProperty(name = "midas.auth.token-default-lifetime", defaultValue = "5M")
+    Duration tokenDefaultLifetime;
+
+    @ConfigProperty(name = "midas.auth.token-retry-after", defaultValue = "60S")
+    Duration tokenRetryAfter;
+
+    @ConfigProperty(name = "midas.auth.token-support-recheck", defaultValue = "1H")
+    Duration tokenSupportRecheck;
+
+    // Set when the backend turned out not to issue tokens, so it is not asked again on every login until then
+    private volatile Instant tokensUnsupportedUntil;
+
     private static final String USERNAME_KEY = "authenticated.username";
     private static final String PASSWORD_KEY = "authenticated.password";
     private static final String AUTHENTICATED_KEY = "authenticated.status";
+    private static final String TOKEN_KEY = "authenticated.token";
+    private static final String TOKEN_EXPIRY_KEY = "authenticated.tokenExpiry";
+    private static final String TOKEN_RETRY_KEY = "authenticated.tokenRetryAfter";
 
     public AuthResult authenticate(final String username, final String password) {
         LOG.trace("Starting authentication for user: {}", username);
@@ -37,10 +67,25 @@ public class AuthService {
         }
 
         try {
-            final var testAuthHeader = "Basic "
-                    + Base64.getEncoder().encodeToString((username + ":" + password).getBytes());
+            final var testAuthHeader = buildBasicAuthHeader(username, password);
 
-            this.authClient.validateCredentials(testAuthHeader);
+            if (this.validationCache.isValid(testAuthHeader)) {
+                LOG.trace("Credentials recently validated, skipping backend check for user: {}", username);
+            } else {
+                if (!this.validationCache.tryAcquirePermit()) {
+                    LOG.warn("Too many concurrent logins, rejecting login for user: {}", username);
+                    return AuthResult.backendUnavailable("Too many concurrent logins, please try again");
+                }
+                try {
+                    // Exchanging the credentials for a token validates them as well
+                    if (this.requestToken(testAuthHeader) == null) {
+                        this.authClient.validateCredentials(testAuthHeader);
+                    }
+                } finally {
+                    this.validationCache.releasePermit();
+                }
+                this.validationCache.markValid(testAuthHeader);
+            }
 
             VaadinSession.getCurrent().setAttribute(USERNAME_KEY, username);
             VaadinSession.getCurrent().setAttribute(PASSWORD_KEY, password);
@@ -52,6 +97,7 @@ public class AuthService {
         } catch (final WebApplicationException e) {
             if (e.getResponse().getStatus() == 401) {
                 LOG.trace("Authentication failed - invalid credentials for user: {}", username);
+                this.validationCache.invalidate(buildBasicAuthHeader(username, password));
                 return AuthResult.invalidCredentials();
             } else {
                 LOG.error("Backend returned HTTP error {} for user: {}", e.getResponse().getStatus(), username);
@@ -74,6 +120,14 @@ public class AuthService {
         final var username = this.getUsername();
         LOG.trace("Logging out user: {}", username);
 
+        final var password = (String) VaadinSession.getCurrent().getAttribute(PASSWORD_KEY);
+        if (username != null && password != null) {
+            // Logouts also follow 401s from the backend, so force a fresh validation on the next login
+            this.validationCache.invalidate(buildBasicAuthHeader(username, password));
+        }
+        this.clearToken();
+        VaadinSession.getCurrent().setAttribute(TOKEN_RETRY_KEY, null);
+
         VaadinSession.getCurrent().setAttribute(USERNAME_KEY, null);
         VaadinSession.getCurrent().setAttribute(PASSWORD_KEY, null);
         VaadinSession.getCurrent().setAttribute(AUTHENTICATED_KEY, false);
@@ -88,7 +142,15 @@ public class AuthService {
         return result;
     }
 
-    public String getBasicAuthHeader() {
+    /**
+     * Returns the Authorization header for backend calls on behalf of the
+     * current user: a bearer token if the backend issues them, so it does not
+     * have to verify the password hash on every request, or Basic credentials
+     * otherwise. Tokens about to expire are refreshed first.
+     *
+     * @return The header value, or null if the user is not authenticated
+     */
+    public String getAuthHeader() {
         if (!this.isAuthenticated()) {
             LOG.warn("Attempting to get auth header but user is not authenticated");
             return null;
@@ -102,6 +164,16 @@ public class AuthService {
             return null;
         }
 
+        final var basicAuthHeader = buildBasicAuthHeader(username, password);
+        if (!this.tokensEnabled()) {
+            return basicAuthHeader;
+        }
+
+        final var bearerAuthHeader = this.currentBearerHeader(basicAuthHeader);
+        return bearerAuthHeader != null ? bearerAuthHeader : basicAuthHeader;
+    }
+
+    public static String buildBasicAuthHeader(final String username, final String password) {
         final var credentials = username + ":" + password;
         return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes());
     }
@@ -109,4 +181,116 @@ public class AuthService {
     public String getUsername() {
         return (String) VaadinSession.getCurrent().getAttribute(USERNAME_KEY);
     }
+
+    private boolean tokensEnabled() {
+        final var unsupportedUntil = this.tokensUnsupportedUntil;
+        return this.bearerTokens && (unsupportedUntil == null || Instant.now().isAfter(unsupportedUntil));
+    }
+
+    /**
+     * Returns the session's bearer header, refreshing or requesting a token if
+     * there is none or it expires within the refresh skew. Any failure falls
+     * back to Basic auth; the following backend call then reports the actual
+     * problem, e.g. credentials that were revoked in the meantime. After a
+     * failure the session keeps using Basic auth for
+     * {@code midas.auth.token-retry-after} instead of asking for a token (and
+     * having the backend check the password hash) before every request.
+     */
+    private String currentBearerHeader(final String basicAuthHeader) {
+        final var token = (AuthTokenDto) VaadinSession.getCurrent().getAttribute(TOKEN_KEY);
+        final var expiry = (Instant) VaadinSession.getCurrent().getAttribute(TOKEN_EXPIRY_KEY);
+        if (token != null && expiry != null && Instant.now().plus(this.tokenRefreshSkew).isBefore(expiry)) {
+            return bearerHeader(token);
+        }
+
+        final var retryAfter = (Instant) VaadinSession.getCurrent().getAttribute(TOKEN_RETRY_KEY);
+        if (retryAfter != null && Instant.now().isBefore(retryAfter)) {
+            return null;
+        }
+
+        try {
+            if (token != null && token.getRefreshToken() != null) {
+                try {
+                    final var refreshed = this.storeToken(
+                            this.authClient.refreshToken(new AuthTokenRefreshDto(token.getRefreshToken())),
+                            basicAuthHeader);
+                    if (refreshed != null) {
+                        LOG.trace("Access token refreshed for user: {}", this.getUsername());
+                        return refreshed;
+                    }
+                } catch (final WebApplicationException e) {
+                    LOG.debug("Token refresh rejected with HTTP {}, requesting a new token",
+                            e.getResponse().getStatus());
+                }
+            }
+            return this.requestToken(basicAuthHeader);
+        } catch (final WebApplicationException | ProcessingException e) {
+            LOG.debug("Could not obtain an access token, using Basic auth for {}: {}", this.tokenRetryAfter,
+                    e.getMessage());
+            this.clearToken();
+            VaadinSession.getCurrent().setAttribute(TOKEN_RETRY_KEY, Instant.now().plus(this.tokenRetryAfter));
+            return null;
+        }
+    }
+
+    /**
+     * Exchanges Basic credentials for a token and stores it in the session.
+     *
+     * @return The bearer header, or null if tokens are disabled or the backend
+     *         does not issue them
+     * @throws WebApplicationException if the backend rejects the credentials
+     */
+    private String requestToken(final String basicAuthHeader) {
+        if (!this.tokensEnabled()) {
+            return null;
+        }
+
+        try {
+            return this.storeToken(this.authClient.requestToken(basicAuthHeader), basicAuthHeader);
+        } catch (final WebApplicationException e) {
+            final var status = e.getResponse().getStatus();
+            if (status == 404 || status == 405 || status == 501) {
+                LOG.info("Backend does not issue access tokens (HTTP {}), using Basic auth for {}", status,
+                        this.tokenSupportRecheck);
+                this.tokensUnsupportedUntil = Instant.now().plus(this.tokenSupportRecheck);
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private String storeToken(final AuthTokenDto token, final String basicAuthHeader) {
+        if (token == null || token.getAccessToken() == null) {
+            LOG.warn("Backend returned no access token, using Basic auth");
+            return null;
+        }
+
+        this.clearToken();
+        // Without a lifetime from the backend the token is renewed regularly rather than trusted forever
+        final var expiry = token.getExpiresIn() != null
+                ? Instant.now().plusSeconds(token.getExpiresIn())
+                : Instant.now().plus(this.tokenDefaultLifetime);
+        VaadinSession.getCurrent().setAttribute(TOKEN_KEY, token);
+        VaadinSession.getCurrent().setAttribute(TOKEN_EXPIRY_KEY, expiry);
+        VaadinSession.getCurrent().setAttribute(TOKEN_RETRY_KEY, null);
+
+        // Keep cache entries scoped to the credentials rather than to a token that changes on every refresh
+        final var bearerAuthHeader = bearerHeader(token);
+        CredentialScope.alias(bearerAuthHeader, basicAuthHeader);
+        return bearerAuthHeader;
+    }
+
+    private void clearToken() {
+        final var token = (AuthTokenDto) VaadinSession.getCurrent().getAttribute(TOKEN_KEY);
+        if (token != null) {
+            CredentialScope.removeAlias(bearerHeader(token));
+            VaadinSession.getCurrent().setAttribute(TOKEN_KEY, null);
+            VaadinSession.getCurrent().setAttribute(TOKEN_EXPIRY_KEY, null);
+        }
+    }
+
+    private static String bearerHeader(final AuthTokenDto token) {
+        final var type = token.getTokenType() != null ? token.getTokenType() : "Bearer";
+        return type + " " + token.getAccessToken();
+    }
 }
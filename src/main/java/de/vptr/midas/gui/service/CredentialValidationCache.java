@@ -0,0 +1,130 @@
+package de.vptr.midas.gui.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.vptr.midas.gui.util.CredentialScope;
+import de.vptr.midas.gui.util.LruCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Remembers recently validated credentials so repeated logins (several tabs,
+ * reconnects after session expiry, scripted UI tests) skip the HEAD /auth
+ * round-trip, and limits how many validations may hit the backend at once.
+ *
+ * Credentials are only kept as an HMAC under a random per-process key, and
+ * only successful validations are cached. Entries expire after
+ * {@code midas.auth.validation-ttl} and are dropped early whenever the backend
+ * rejects the credentials with a 401.
+ *
+ * Entries are keyed by {@link CredentialScope}, so a bearer token issued for
+ * the credentials finds the same entry as the Basic header it was exchanged
+ * for: a 401 on a request made with the token invalidates the credentials.
+ */
+@ApplicationScoped
+public class CredentialValidationCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CredentialValidationCache.class);
+
+    @ConfigProperty(name = "midas.auth.validation-ttl", defaultValue = "60S")
+    Duration ttl;
+
+    @ConfigProperty(name = "midas.auth.validation-cache-size", defaultValue = "1000")
+    int maxEntries;
+
+    @ConfigProperty(name = "midas.auth.max-concurrent-validations", defaultValue = "8")
+    int maxConcurrentValidations;
+
+    @ConfigProperty(name = "midas.auth.validation-wait", defaultValue = "2S")
+    Duration validationWait;
+
+    private final SecretKeySpec key;
+    private LruCache<String, Instant> validUntil;
+    private Semaphore permits;
+
+    public CredentialValidationCache() {
+        final var secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, "HmacSHA256");
+    }
+
+    @PostConstruct
+    void init() {
+        this.validUntil = new LruCache<>(this.maxEntries);
+        this.permits = new Semaphore(this.maxConcurrentValidations, true);
+    }
+
+    public boolean isValid(final String authHeader) {
+        final var digest = this.digest(authHeader);
+        final var expiry = this.validUntil.get(digest);
+        if (expiry == null) {
+            return false;
+        }
+        if (Instant.now().isAfter(expiry)) {
+            this.validUntil.remove(digest);
+            return false;
+        }
+        return true;
+    }
+
+    public void markValid(final String authHeader) {
+        if (!this.ttl.isZero()) {
+            this.validUntil.put(this.digest(authHeader), Instant.now().plus(this.ttl));
+        }
+    }
+
+    public void invalidate(final String authHeader) {
+        if (authHeader != null && this.validUntil.remove(this.digest(authHeader)) != null) {
+            LOG.trace("Invalidated cached credential validation");
+        }
+    }
+
+    public void clear() {
+        this.validUntil.clear();
+    }
+
+    /**
+     * Waits up to {@code midas.auth.validation-wait} for one of the limited
+     * backend validation slots. Every successful call must be paired with
+     * {@link #releasePermit()}.
+     *
+     * @return Whether a slot was acquired
+     */
+    public boolean tryAcquirePermit() {
+        try {
+            return this.permits.tryAcquire(this.validationWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void releasePermit() {
+        this.permits.release();
+    }
+
+    private String digest(final String authHeader) {
+        try {
+            final var mac = Mac.getInstance("HmacSHA256");
+            mac.init(this.key);
+            final var scope = CredentialScope.of(authHeader);
+            return HexFormat.of().formatHex(mac.doFinal(scope.getBytes(StandardCharsets.UTF_8)));
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package de.vptr.midas.gui.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.vptr.midas.gui.exception.AuthenticationException;
+import de.vptr.midas.gui.result.DashboardSnapshot;
+import de.vptr.midas.gui.util.CredentialScope;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class DashboardService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DashboardService.class);
+
+    static final Duration SNAPSHOT_TTL = Duration.ofSeconds(5);
+    static final int RECENT_LIMIT = 5;
+    static final long TILE_TIMEOUT_SECONDS = 5;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    // Own threads, so a tile's timeout only counts time spent on its request and not time queued behind the others
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final var thread = new Thread(runnable, "midas-dashboard-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Inject
+    PostCommentService commentService;
+
+    @Inject
+    UserPaymentService paymentService;
+
+    @Inject
+    PostService postService;
+
+    @Inject
+    PageService pageService;
+
+    @Inject
+    HealthService healthService;
+
+    private final Map<String, DashboardSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the dashboard tiles for the given credentials. All tiles are
+     * requested in parallel, each with its own timeout. Snapshots are shared
+     * for a few seconds per credential scope, so concurrent logins of the same
+     * user (multiple tabs, reconnects) cause a single backend burst.
+     *
+     * @param authHeader The Authorization header captured in the UI thread
+     * @return The (possibly still loading) dashboard snapshot
+     */
+    public DashboardSnapshot getSnapshot(final String authHeader) throws AuthenticationException {
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+
+        this.snapshots.values().removeIf(snapshot -> snapshot.isDone() && !snapshot.isFresh(SNAPSHOT_TTL));
+
+        return this.snapshots.compute(CredentialScope.of(authHeader), (scope, cached) -> {
+            if (cached != null && cached.isFresh(SNAPSHOT_TTL) && !cached.hasTransientFailures()) {
+                LOG.trace("Reusing cached dashboard snapshot");
+                return cached;
+            }
+            return this.loadSnapshot(authHeader);
+        });
+    }
+
+    private DashboardSnapshot loadSnapshot(final String authHeader) {
+        LOG.debug("Loading dashboard snapshot");
+
+        final var recentComments = this.tile(() -> this.commentService.getRecentComments(RECENT_LIMIT, authHeader));
+        final var recentPayments = this.tile(() -> this.paymentService.getRecentPayments(RECENT_LIMIT, authHeader));
+        final var postCount = this.tile(() -> this.postService.getAllPosts(authHeader).size());
+        final var pageCount = this.tile(() -> this.pageService.getAllPages(authHeader).size());
+        final var backendAvailable = this.tile(() -> this.healthService.isBackendAvailable());
+
+        return new DashboardSnapshot(recentComments, recentPayments, postCount, pageCount, backendAvailable);
+    }
+
+    private <T> CompletableFuture<T> tile(final Supplier<T> request) {
+        return CompletableFuture.supplyAsync(request, EXECUTOR).orTimeout(TILE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}
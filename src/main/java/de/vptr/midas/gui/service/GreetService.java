@@ -24,7 +24,7 @@ public class GreetService {
         LOG.debug("GreetService.greet called with name: {}", name);
 
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 return "Error: Not authenticated";
             }
@@ -0,0 +1,238 @@
+package de.vptr.midas.gui.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.vptr.midas.gui.dto.UserAccountDto;
+import de.vptr.midas.gui.dto.UserDto;
+import de.vptr.midas.gui.exception.AuthenticationException;
+import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.util.CredentialScope;
+import de.vptr.midas.gui.util.LruCache;
+import de.vptr.midas.gui.util.PrefixIndex;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Looks up accounts and users by name for the pickers.
+ *
+ * Account names and usernames are indexed per credential scope in the
+ * background. While an index is fresh, lookups are answered from it without a
+ * backend round-trip, however fast the user types. Until then, account
+ * lookups fall back to the backend search (remembered per filter, so the
+ * count and the pages of one filter share a request) and user lookups to an
+ * exact username match.
+ */
+@ApplicationScoped
+public class LookupService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LookupService.class);
+
+    @Inject
+    UserAccountService accountService;
+
+    @Inject
+    UserService userService;
+
+    @Inject
+    AuthService authService;
+
+    @ConfigProperty(name = "midas.lookup.max-age", defaultValue = "60S")
+    Duration maxAge;
+
+    private final LruCache<String, Index<UserAccountDto>> accountIndexes = new LruCache<>(100);
+    private final LruCache<String, Index<UserDto>> userIndexes = new LruCache<>(100);
+    private final Set<String> building = ConcurrentHashMap.newKeySet();
+    private final LruCache<String, Instant> failures = new LruCache<>(200);
+    private final LruCache<String, Search> accountSearches = new LruCache<>(200);
+
+    private record Index<T>(List<T> source, PrefixIndex<T> byName, Map<Long, T> byId, Instant builtAt) {
+    }
+
+    private record Search(List<UserAccountDto> matches, Instant fetchedAt) {
+    }
+
+    /**
+     * Like {@link #warm(String)}, for the current session's credentials.
+     */
+    public void warm() {
+        this.warm(this.authService.getAuthHeader());
+    }
+
+    /**
+     * Builds the indexes for the caller's credentials in the background, unless
+     * fresh ones exist or are being built. After a failed build (e.g. users
+     * may not list all users) the next attempt waits for the max age.
+     */
+    public void warm(final String authHeader) {
+        if (authHeader == null) {
+            return;
+        }
+        final var scope = CredentialScope.of(authHeader);
+        if (this.fresh(this.accountIndexes, scope) == null) {
+            this.buildAsync("accounts", scope, () -> this.index(this.accountIndexes, scope,
+                    this.accountService.getAllAccounts(authHeader), account -> account.name, account -> account.id));
+        }
+        if (this.fresh(this.userIndexes, scope) == null) {
+            this.buildAsync("users", scope, () -> this.index(this.userIndexes, scope,
+                    this.userService.getAllUsers(authHeader), user -> user.username, user -> user.id));
+        }
+    }
+
+    public List<UserAccountDto> findAccounts(final String filter, final int offset, final int limit) {
+        final var authHeader = this.authService.getAuthHeader();
+        final var index = this.freshOrWarm(this.accountIndexes, authHeader);
+        if (index != null) {
+            return index.byName().find(filter, offset, limit);
+        }
+        return page(this.searchAccounts(authHeader, filter), offset, limit);
+    }
+
+    public int countAccounts(final String filter) {
+        final var authHeader = this.authService.getAuthHeader();
+        final var index = this.freshOrWarm(this.accountIndexes, authHeader);
+        if (index != null) {
+            return index.byName().count(filter);
+        }
+        return this.searchAccounts(authHeader, filter).size();
+    }
+
+    public Optional<UserAccountDto> getAccount(final Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        final var index = this.freshOrWarm(this.accountIndexes, this.authService.getAuthHeader());
+        if (index != null && index.byId().containsKey(id)) {
+            return Optional.of(index.byId().get(id));
+        }
+        return this.accountService.getAccountById(id);
+    }
+
+    public List<UserDto> findUsers(final String filter, final int offset, final int limit) {
+        final var index = this.freshOrWarm(this.userIndexes, this.authService.getAuthHeader());
+        if (index != null) {
+            return index.byName().find(filter, offset, limit);
+        }
+        return page(this.findUserByUsername(filter).map(List::of).orElse(List.of()), offset, limit);
+    }
+
+    public int countUsers(final String filter) {
+        final var index = this.freshOrWarm(this.userIndexes, this.authService.getAuthHeader());
+        if (index != null) {
+            return index.byName().count(filter);
+        }
+        return this.findUserByUsername(filter).isPresent() ? 1 : 0;
+    }
+
+    public Optional<UserDto> getUser(final Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        final var index = this.freshOrWarm(this.userIndexes, this.authService.getAuthHeader());
+        if (index != null && index.byId().containsKey(id)) {
+            return Optional.of(index.byId().get(id));
+        }
+        return this.userService.getUserById(id);
+    }
+
+    private <T> Index<T> freshOrWarm(final LruCache<String, Index<T>> indexes, final String authHeader) {
+        if (authHeader == null) {
+            LOG.warn("No authentication header available");
+            return null;
+        }
+        final var index = this.fresh(indexes, CredentialScope.of(authHeader));
+        if (index == null) {
+            this.warm(authHeader);
+        }
+        return index;
+    }
+
+    private <T> Index<T> fresh(final LruCache<String, Index<T>> indexes, final String scope) {
+        final var index = indexes.get(scope);
+        if (index == null || index.builtAt().plus(this.maxAge).isBefore(Instant.now())) {
+            return null;
+        }
+        return index;
+    }
+
+    private void buildAsync(final String name, final String scope, final Runnable build) {
+        final var key = name + ":" + scope;
+        final var failedAt = this.failures.get(key);
+        if (failedAt != null && failedAt.plus(this.maxAge).isAfter(Instant.now())) {
+            return;
+        }
+        if (!this.building.add(key)) {
+            return;
+        }
+        CompletableFuture.runAsync(() -> {
+            try {
+                build.run();
+            } catch (final AuthenticationException | ServiceException e) {
+                LOG.debug("Could not index {}: {}", name, e.getMessage());
+                this.failures.put(key, Instant.now());
+            } catch (final Exception e) {
+                LOG.warn("Unexpected error while indexing {}", name, e);
+                this.failures.put(key, Instant.now());
+            } finally {
+                this.building.remove(key);
+            }
+        });
+    }
+
+    private <T> void index(final LruCache<String, Index<T>> indexes, final String scope, final List<T> items,
+            final Function<T, String> name, final Function<T, Long> id) {
+        final var previous = indexes.get(scope);
+        final Index<T> index;
+        if (previous != null && previous.source() == items) {
+            // Served from the reference data cache and not reloaded since, the index is still current
+            index = new Index<>(items, previous.byName(), previous.byId(), Instant.now());
+        } else {
+            final var byId = new HashMap<Long, T>(items.size() * 2);
+            for (final T item : items) {
+                if (id.apply(item) != null) {
+                    byId.put(id.apply(item), item);
+                }
+            }
+            index = new Index<>(items, PrefixIndex.of(items, name), byId, Instant.now());
+            LOG.debug("Indexed {} names", index.byName().size());
+        }
+        indexes.put(scope, index);
+    }
+
+    private List<UserAccountDto> searchAccounts(final String authHeader, final String filter) {
+        final var query = filter != null ? filter.strip() : "";
+        if (authHeader == null || query.isEmpty()) {
+            return List.of();
+        }
+        final var key = CredentialScope.of(authHeader) + ":" + query;
+        final var search = this.accountSearches.get(key);
+        if (search != null && !search.fetchedAt().plus(this.maxAge).isBefore(Instant.now())) {
+            return search.matches();
+        }
+        final var matches = this.accountService.searchAccounts(query);
+        this.accountSearches.put(key, new Search(matches, Instant.now()));
+        return matches;
+    }
+
+    private Optional<UserDto> findUserByUsername(final String filter) {
+        final var username = filter != null ? filter.strip() : "";
+        return username.isEmpty() ? Optional.empty() : this.userService.getUserByUsername(username);
+    }
+
+    private static <T> List<T> page(final List<T> items, final int offset, final int limit) {
+        final var from = Math.min(Math.max(0, offset), items.size());
+        return items.subList(from, (int) Math.min((long) from + Math.max(0, limit), items.size()));
+    }
+}
@@ -10,6 +10,8 @@ import de.vptr.midas.gui.client.PageClient;
 import de.vptr.midas.gui.dto.PageDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.util.CredentialScope;
+import de.vptr.midas.gui.util.SingleFlight;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.ProcessingException;
@@ -28,6 +30,8 @@ public class PageService {
     @Inject
     AuthService authService;
 
+    private final SingleFlight<String, List<PageDto>> allPagesInFlight = new SingleFlight<>();
+
     public List<PageDto> getAllPages(final String authHeader) throws AuthenticationException, ServiceException {
         LOG.debug("Fetching all pages");
         try {
@@ -36,7 +40,8 @@ public class PageService {
                 throw new AuthenticationException("Authentication required");
             }
 
-            return this.pageClient.getAllPages(authHeader);
+            return this.allPagesInFlight.execute(CredentialScope.of(authHeader),
+                    () -> this.pageClient.getAllPages(authHeader));
         } catch (final ProcessingException e) {
             LOG.error("Connection error while fetching pages", e);
             throw new ServiceException("Backend connection failed", e);
@@ -61,7 +66,7 @@ public class PageService {
         }
 
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             final var response = this.pageClient.getPage(id, authHeader);
 
             if (response.getStatus() == Response.Status.OK.getStatusCode()) {
@@ -91,7 +96,7 @@ public class PageService {
         }
 
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             final var response = this.pageClient.createPage(page, authHeader);
 
             if (response.getStatus() == Response.Status.CREATED.getStatusCode()) {
@@ -121,7 +126,7 @@ public class PageService {
         }
 
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             final var response = this.pageClient.updatePage(page.id, page, authHeader);
 
             if (response.getStatus() == Response.Status.OK.getStatusCode()) {
@@ -151,7 +156,7 @@ public class PageService {
         }
 
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             final var response = this.pageClient.deletePage(id, authHeader);
 
             if (response.getStatus() == Response.Status.NO_CONTENT.getStatusCode() ||
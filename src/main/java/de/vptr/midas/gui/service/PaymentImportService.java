@@ -0,0 +1,464 @@
+package de.vptr.midas.gui.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.vptr.midas.gui.dto.UserAccountDto;
+import de.vptr.midas.gui.dto.UserPaymentDto;
+import de.vptr.midas.gui.exception.AuthenticationException;
+import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.util.CsvReader;
+import de.vptr.midas.gui.util.PaymentColumnStore;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Imports payments from CSV files, e.g. exported bank statements.
+ *
+ * The file is parsed one row at a time while earlier rows are being created,
+ * so neither the file nor the created payments are held in memory. Each row
+ * is checked against the cached accounts and against the payments that
+ * already exist (or appeared earlier in the file) by its source, target,
+ * amount and date. Valid rows are created with a bounded number of requests
+ * in flight; parsing waits whenever that many are outstanding. Duplicates are
+ * not created but reported with their payment, since two identical transfers
+ * on the same day can be legitimate; the user decides whether to import them.
+ */
+@ApplicationScoped
+public class PaymentImportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentImportService.class);
+
+    /** Problem rows kept for the report; beyond that they are only counted. */
+    static final int MAX_REPORTED_PROBLEMS = 1000;
+
+    private static final Map<String, Column> COLUMN_NAMES = Map.ofEntries(
+            Map.entry("source", Column.SOURCE),
+            Map.entry("sourceid", Column.SOURCE),
+            Map.entry("sourceaccount", Column.SOURCE),
+            Map.entry("from", Column.SOURCE),
+            Map.entry("target", Column.TARGET),
+            Map.entry("targetid", Column.TARGET),
+            Map.entry("targetaccount", Column.TARGET),
+            Map.entry("to", Column.TARGET),
+            Map.entry("amount", Column.AMOUNT),
+            Map.entry("date", Column.DATE),
+            Map.entry("paymentdate", Column.DATE),
+            Map.entry("comment", Column.COMMENT),
+            Map.entry("description", Column.COMMENT));
+
+    private static final DateTimeFormatter GERMAN_DATE = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+    @Inject
+    UserAccountService accountService;
+
+    @Inject
+    UserPaymentService paymentService;
+
+    @ConfigProperty(name = "midas.import.concurrency", defaultValue = "4")
+    int concurrency;
+
+    @ConfigProperty(name = "midas.import.progress-interval", defaultValue = "250MS")
+    Duration progressInterval;
+
+    private enum Column {
+        SOURCE, TARGET, AMOUNT, DATE, COMMENT
+    }
+
+    public enum Status {
+        CREATED, DUPLICATE, INVALID, FAILED
+    }
+
+    /**
+     * @param payment The parsed payment of a {@link Status#DUPLICATE} row, to
+     *                import it once the user confirms it; null otherwise
+     */
+    public record RowResult(int line, Status status, String message, UserPaymentDto payment) {
+    }
+
+    public record Progress(int processed, int created, int duplicates, int invalid, int failed) {
+    }
+
+    /**
+     * @param problems The rows that were not created, in file order, at most
+     *                 {@value #MAX_REPORTED_PROBLEMS}
+     */
+    public record ImportResult(Progress totals, List<RowResult> problems) {
+    }
+
+    private record PaymentKey(long sourceId, long targetId, BigDecimal amount, LocalDate date) {
+
+        static PaymentKey of(final UserPaymentDto payment) {
+            return new PaymentKey(payment.sourceId, payment.targetId, payment.amount.stripTrailingZeros(),
+                    payment.date);
+        }
+    }
+
+    /**
+     * Imports all rows of a CSV file with a header row naming the columns
+     * source, target, amount, date and (optionally) comment. Fields may be
+     * separated by semicolons, tabs or commas; amounts may use a decimal
+     * comma and dates may be written as yyyy-MM-dd or dd.MM.yyyy. Rows that
+     * match an existing payment are reported as duplicates, see
+     * {@link #importDuplicates}.
+     *
+     * @param authHeader Captured in the UI thread, the import runs in the
+     *                   background
+     * @param progress   Called about every progress interval while the import
+     *                   runs, from varying threads
+     * @throws ServiceException If the file cannot be read or the import is
+     *                          cancelled by interrupting the calling thread
+     */
+    public ImportResult importPayments(final InputStream input, final String authHeader,
+            final Consumer<Progress> progress) throws ServiceException, AuthenticationException {
+        LOG.debug("Importing payments with provided auth header");
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+
+        final var accountIds = new HashSet<Long>();
+        for (final UserAccountDto account : this.accountService.getAllAccounts(authHeader)) {
+            accountIds.add(account.id);
+        }
+        final Set<PaymentKey> seen = ConcurrentHashMap.newKeySet();
+        for (final var payment : this.paymentService.getColumnStore(authHeader)
+                .find(PaymentColumnStore.Filter.all(), PaymentColumnStore.Sort.DATE, false, 0)) {
+            if (payment.sourceId != null && payment.targetId != null && payment.amount != null
+                    && payment.date != null) {
+                seen.add(PaymentKey.of(payment));
+            }
+        }
+
+        final var run = new Run(progress);
+        try (final var reader = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+                final var creates = new Creates(run, authHeader)) {
+            final var columns = this.readHeader(reader.next());
+
+            String[] fields;
+            while ((fields = reader.next()) != null && run.aborted == null) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException();
+                }
+                final var line = reader.lineNumber();
+                final UserPaymentDto payment;
+                try {
+                    payment = parse(fields, columns);
+                    validate(payment, accountIds);
+                } catch (final IllegalArgumentException e) {
+                    run.report(line, Status.INVALID, e.getMessage(), null);
+                    continue;
+                }
+                if (!seen.add(PaymentKey.of(payment))) {
+                    run.report(line, Status.DUPLICATE, "Same payment exists or appears earlier in the file", payment);
+                    continue;
+                }
+                if (!creates.submit(line, payment)) {
+                    break;
+                }
+            }
+            creates.await();
+        } catch (final IOException e) {
+            LOG.error("Failed to read import file", e);
+            throw new ServiceException("Failed to read import file", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.info("Payment import cancelled after {} rows", run.processed.get());
+            throw new ServiceException("Import cancelled", e);
+        }
+        return this.finish(run);
+    }
+
+    /**
+     * Creates the duplicate rows of an earlier import that the user confirmed
+     * as separate payments. Rows without a payment are ignored.
+     *
+     * @param authHeader Captured in the UI thread, the import runs in the
+     *                   background
+     * @param progress   Called about every progress interval while the import
+     *                   runs, from varying threads
+     * @throws ServiceException If the import is cancelled by interrupting the
+     *                          calling thread
+     */
+    public ImportResult importDuplicates(final List<RowResult> duplicates, final String authHeader,
+            final Consumer<Progress> progress) throws ServiceException, AuthenticationException {
+        LOG.debug("Importing {} confirmed duplicate payments", duplicates.size());
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+
+        final var run = new Run(progress);
+        try (final var creates = new Creates(run, authHeader)) {
+            for (final var row : duplicates) {
+                if (row.payment() == null) {
+                    continue;
+                }
+                if (!creates.submit(row.line(), row.payment())) {
+                    break;
+                }
+            }
+            creates.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.info("Duplicate import cancelled after {} rows", run.processed.get());
+            throw new ServiceException("Import cancelled", e);
+        }
+        return this.finish(run);
+    }
+
+    private ImportResult finish(final Run run) {
+        if (run.aborted != null) {
+            throw run.aborted;
+        }
+        final var totals = run.publish();
+        LOG.info("Imported {} of {} payments ({} duplicates, {} invalid, {} failed)", totals.created(),
+                totals.processed(), totals.duplicates(), totals.invalid(), totals.failed());
+        return new ImportResult(totals, run.problems());
+    }
+
+    private Column[] readHeader(final String[] header) {
+        if (header == null) {
+            throw new ServiceException("Import file is empty");
+        }
+        final var columns = new Column[header.length];
+        final var found = new HashSet<Column>();
+        for (var i = 0; i < header.length; i++) {
+            final var name = header[i].strip().toLowerCase(Locale.ROOT).replace(" ", "").replace("_", "");
+            columns[i] = COLUMN_NAMES.get(name);
+            found.add(columns[i]);
+        }
+        for (final var required : List.of(Column.SOURCE, Column.TARGET, Column.AMOUNT, Column.DATE)) {
+            if (!found.contains(required)) {
+                throw new ServiceException("Import file has no " + required.name().toLowerCase(Locale.ROOT)
+                        + " column");
+            }
+        }
+        return columns;
+    }
+
+    private static UserPaymentDto parse(final String[] fields, final Column[] columns) {
+        final var payment = new UserPaymentDto();
+        for (var i = 0; i < Math.min(fields.length, columns.length); i++) {
+            final var value = fields[i].strip();
+            if (columns[i] == null || value.isEmpty()) {
+                continue;
+            }
+            switch (columns[i]) {
+                case SOURCE -> payment.sourceId = parseId(value, "source account");
+                case TARGET -> payment.targetId = parseId(value, "target account");
+                case AMOUNT -> payment.amount = parseAmount(value);
+                case DATE -> payment.date = parseDate(value);
+                case COMMENT -> payment.comment = value;
+            }
+        }
+        return payment;
+    }
+
+    private static void validate(final UserPaymentDto payment, final Set<Long> accountIds) {
+        if (payment.sourceId == null || payment.targetId == null) {
+            throw new IllegalArgumentException("Source and target account are required");
+        }
+        if (!accountIds.contains(payment.sourceId)) {
+            throw new IllegalArgumentException("Unknown source account " + payment.sourceId);
+        }
+        if (!accountIds.contains(payment.targetId)) {
+            throw new IllegalArgumentException("Unknown target account " + payment.targetId);
+        }
+        if (payment.sourceId.equals(payment.targetId)) {
+            throw new IllegalArgumentException("Source and target account are the same");
+        }
+        if (payment.amount == null || payment.amount.signum() <= 0) {
+            throw new IllegalArgumentException("Amount must be positive");
+        }
+        if (payment.date == null) {
+            throw new IllegalArgumentException("Date is required");
+        }
+    }
+
+    private static Long parseId(final String value, final String name) {
+        try {
+            return Long.valueOf(value);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    /**
+     * Accepts "1234.56", "1234,56", "1,234.56", "1.234,56" and "1.234.567":
+     * the last separator is the decimal one unless it occurs more than once.
+     * Amounts with more than two decimal places are rejected, which also
+     * rejects "1.234" and "1,234" where the separator is ambiguous.
+     */
+    static BigDecimal parseAmount(final String value) {
+        var text = value.replace(" ", "").replace("'", "");
+        final var decimal = Math.max(text.lastIndexOf(','), text.lastIndexOf('.'));
+        if (decimal >= 0 && text.indexOf(text.charAt(decimal)) == decimal) {
+            if (text.length() - decimal - 1 > 2) {
+                throw new IllegalArgumentException("Invalid amount, more than two decimal places: " + value);
+            }
+            text = text.substring(0, decimal).replace(",", "").replace(".", "") + "." + text.substring(decimal + 1);
+        } else {
+            text = text.replace(",", "").replace(".", "");
+        }
+        try {
+            return new BigDecimal(text);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount: " + value);
+        }
+    }
+
+    static LocalDate parseDate(final String value) {
+        try {
+            return value.indexOf('.') > 0 ? LocalDate.parse(value, GERMAN_DATE) : LocalDate.parse(value);
+        } catch (final DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+    }
+
+    /**
+     * The counters and problems of one import, updated by the parsing thread
+     * and the create workers.
+     */
+    private final class Run {
+        final Consumer<Progress> listener;
+        final AtomicInteger processed = new AtomicInteger();
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger duplicates = new AtomicInteger();
+        final AtomicInteger invalid = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final List<RowResult> problems = new ArrayList<>();
+        volatile AuthenticationException aborted;
+        private volatile long lastPublished = System.nanoTime();
+
+        Run(final Consumer<Progress> listener) {
+            this.listener = listener;
+        }
+
+        void report(final int line, final Status status, final String message, final UserPaymentDto payment) {
+            switch (status) {
+                case CREATED -> this.created.incrementAndGet();
+                case DUPLICATE -> this.duplicates.incrementAndGet();
+                case INVALID -> this.invalid.incrementAndGet();
+                case FAILED -> this.failed.incrementAndGet();
+            }
+            if (status != Status.CREATED) {
+                synchronized (this.problems) {
+                    if (this.problems.size() < MAX_REPORTED_PROBLEMS) {
+                        this.problems.add(new RowResult(line, status, message, payment));
+                    }
+                }
+            }
+            this.processed.incrementAndGet();
+
+            final var now = System.nanoTime();
+            if (now - this.lastPublished >= PaymentImportService.this.progressInterval.toNanos()) {
+                this.lastPublished = now;
+                this.publish();
+            }
+        }
+
+        Progress publish() {
+            final var progress = new Progress(this.processed.get(), this.created.get(), this.duplicates.get(),
+                    this.invalid.get(), this.failed.get());
+            if (this.listener != null) {
+                this.listener.accept(progress);
+            }
+            return progress;
+        }
+
+        List<RowResult> problems() {
+            synchronized (this.problems) {
+                final var sorted = new ArrayList<>(this.problems);
+                sorted.sort((a, b) -> Integer.compare(a.line(), b.line()));
+                return sorted;
+            }
+        }
+    }
+
+    /**
+     * Creates payments on a pool of workers with at most concurrency requests
+     * in flight.
+     */
+    private final class Creates implements AutoCloseable {
+        private final Run run;
+        private final String authHeader;
+        private final int permits = Math.max(1, PaymentImportService.this.concurrency);
+        private final Semaphore inFlight = new Semaphore(this.permits);
+        private final ExecutorService executor = Executors.newFixedThreadPool(this.permits, runnable -> {
+            final var thread = new Thread(runnable, "midas-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Creates(final Run run, final String authHeader) {
+            this.run = run;
+            this.authHeader = authHeader;
+        }
+
+        /**
+         * Waits until fewer than concurrency creates are outstanding.
+         *
+         * @return false if the session expired meanwhile and the payment was
+         *         not submitted
+         */
+        boolean submit(final int line, final UserPaymentDto payment) throws InterruptedException {
+            this.inFlight.acquire();
+            if (this.run.aborted != null) {
+                this.inFlight.release();
+                return false;
+            }
+            this.executor.execute(() -> {
+                try {
+                    PaymentImportService.this.paymentService.createPayment(payment, this.authHeader);
+                    this.run.report(line, Status.CREATED, null, null);
+                } catch (final AuthenticationException e) {
+                    this.run.aborted = e;
+                    this.run.report(line, Status.FAILED, e.getMessage(), null);
+                } catch (final Exception e) {
+                    this.run.report(line, Status.FAILED, e.getMessage(), null);
+                } finally {
+                    this.inFlight.release();
+                }
+            });
+            return true;
+        }
+
+        /** Keeps reporting until the last creates are done */
+        void await() throws InterruptedException {
+            while (!this.inFlight.tryAcquire(this.permits,
+                    PaymentImportService.this.progressInterval.toMillis(), TimeUnit.MILLISECONDS)) {
+                this.run.publish();
+            }
+        }
+
+        @Override
+        public void close() {
+            this.executor.shutdownNow();
+        }
+    }
+}
@@ -12,6 +12,8 @@ import de.vptr.midas.gui.client.PostCategoryClient;
 import de.vptr.midas.gui.dto.PostCategoryDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.util.CredentialScope;
+import de.vptr.midas.gui.util.SingleFlight;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.ProcessingException;
@@ -30,6 +32,11 @@ public class PostCategoryService {
     @Inject
     AuthService authService;
 
+    @Inject
+    ReferenceDataCache referenceData;
+
+    private final SingleFlight<String, List<PostCategoryDto>> allCategoriesInFlight = new SingleFlight<>();
+
     public List<PostCategoryDto> getAllCategories(final String authHeader) {
         LOG.debug("Fetching all categories");
         try {
@@ -38,7 +45,9 @@ public class PostCategoryService {
                 return Collections.emptyList();
             }
 
-            return this.categoryClient.getAllCategories(authHeader);
+            return this.referenceData.get(ReferenceDataCache.Kind.CATEGORIES, authHeader,
+                    () -> this.allCategoriesInFlight.execute(CredentialScope.of(authHeader),
+                            () -> this.categoryClient.getAllCategories(authHeader)));
         } catch (final ProcessingException e) {
             LOG.error("Connection error while fetching categories", e);
             throw new ServiceException("Backend connection failed", e);
@@ -58,7 +67,7 @@ public class PostCategoryService {
     public List<PostCategoryDto> getRootCategories() {
         LOG.debug("Fetching root categories");
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Collections.emptyList();
@@ -84,7 +93,7 @@ public class PostCategoryService {
     public Optional<PostCategoryDto> getCategoryById(final Long id) {
         LOG.debug("Fetching category with ID: {}", id);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Optional.empty();
@@ -117,7 +126,7 @@ public class PostCategoryService {
     public List<PostCategoryDto> getCategoriesByParent(final Long parentId) {
         LOG.debug("Fetching categories for parent: {}", parentId);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Collections.emptyList();
@@ -143,7 +152,7 @@ public class PostCategoryService {
     public PostCategoryDto createCategory(final PostCategoryDto category) {
         LOG.debug("Creating new category: {}", category.name);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
@@ -168,13 +177,15 @@ public class PostCategoryService {
         } catch (final Exception e) {
             LOG.error("Unexpected error while creating category", e);
             throw new ServiceException("Unexpected error", e);
+        } finally {
+            this.referenceData.invalidate(ReferenceDataCache.Kind.CATEGORIES);
         }
     }
 
     public PostCategoryDto updateCategory(final PostCategoryDto category) {
         LOG.debug("Updating category: {}", category.id);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
@@ -199,13 +210,15 @@ public class PostCategoryService {
         } catch (final Exception e) {
             LOG.error("Unexpected error while updating category", e);
             throw new ServiceException("Unexpected error", e);
+        } finally {
+            this.referenceData.invalidate(ReferenceDataCache.Kind.CATEGORIES);
         }
     }
 
     public boolean deleteCategory(final Long id) {
         LOG.debug("Deleting category: {}", id);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
@@ -226,6 +239,8 @@ public class PostCategoryService {
         } catch (final Exception e) {
             LOG.error("Unexpected error while deleting category {}", id, e);
             throw new ServiceException("Unexpected error", e);
+        } finally {
+            this.referenceData.invalidate(ReferenceDataCache.Kind.CATEGORIES);
         }
     }
 }
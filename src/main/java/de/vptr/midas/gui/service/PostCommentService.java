@@ -10,6 +10,8 @@ import de.vptr.midas.gui.client.PostCommentClient;
 import de.vptr.midas.gui.dto.PostCommentDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.util.CredentialScope;
+import de.vptr.midas.gui.util.SingleFlight;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.ProcessingException;
@@ -28,6 +30,10 @@ public class PostCommentService {
     @Inject
     AuthService authService;
 
+    private final SingleFlight<String, List<PostCommentDto>> allCommentsInFlight = new SingleFlight<>();
+    private final SingleFlight<String, List<PostCommentDto>> commentsByPostInFlight = new SingleFlight<>();
+    private final SingleFlight<String, List<PostCommentDto>> recentCommentsInFlight = new SingleFlight<>();
+
     public List<PostCommentDto> getAllComments(final String authHeader)
             throws AuthenticationException, ServiceException {
         LOG.debug("Fetching all comments");
@@ -37,7 +43,8 @@ public class PostCommentService {
                 throw new AuthenticationException("Authentication required");
             }
 
-            return this.commentClient.getAllComments(authHeader);
+            return this.allCommentsInFlight.execute(CredentialScope.of(authHeader),
+                    () -> this.commentClient.getAllComments(authHeader));
         } catch (final ProcessingException e) {
             LOG.error("Connection error while fetching comments", e);
             throw new ServiceException("Backend connection failed", e);
@@ -54,6 +61,86 @@ public class PostCommentService {
         }
     }
 
+    public List<PostCommentDto> getCommentsByPost(final Long postId, final String authHeader)
+            throws AuthenticationException, ServiceException {
+        LOG.debug("Fetching comments for post: {}", postId);
+        try {
+            if (authHeader == null) {
+                LOG.warn("No authentication header available");
+                throw new AuthenticationException("Authentication required");
+            }
+
+            return this.commentsByPostInFlight.execute(postId + ":" + CredentialScope.of(authHeader),
+                    () -> this.commentClient.getCommentsByPost(postId, authHeader));
+        } catch (final AuthenticationException e) {
+            throw e;
+        } catch (final ProcessingException e) {
+            LOG.error("Connection error while fetching comments for post {}", postId, e);
+            throw new ServiceException("Backend connection failed", e);
+        } catch (final WebApplicationException e) {
+            LOG.error("HTTP error while fetching comments for post {}: {}", postId, e.getResponse().getStatus());
+            if (e.getResponse().getStatus() == 401) {
+                throw new AuthenticationException("Session expired");
+            }
+            throw new ServiceException("Backend error: " + e.getResponse().getStatus(), e);
+        } catch (final Exception e) {
+            LOG.error("Unexpected error while fetching comments for post {}", postId, e);
+            throw new ServiceException("Unexpected error", e);
+        }
+    }
+
+    public List<PostCommentDto> getRecentComments(final int limit, final String authHeader)
+            throws AuthenticationException, ServiceException {
+        LOG.debug("Fetching recent comments with limit: {}", limit);
+        try {
+            if (authHeader == null) {
+                LOG.warn("No authentication header available");
+                throw new AuthenticationException("Authentication required");
+            }
+
+            return this.recentCommentsInFlight.execute(limit + ":" + CredentialScope.of(authHeader),
+                    () -> this.commentClient.getRecentComments(limit, authHeader));
+        } catch (final AuthenticationException e) {
+            throw e;
+        } catch (final ProcessingException e) {
+            LOG.error("Connection error while fetching recent comments", e);
+            throw new ServiceException("Backend connection failed", e);
+        } catch (final WebApplicationException e) {
+            LOG.error("HTTP error while fetching recent comments: {}", e.getResponse().getStatus());
+            if (e.getResponse().getStatus() == 401) {
+                throw new AuthenticationException("Session expired");
+            }
+            throw new ServiceException("Backend error: " + e.getResponse().getStatus(), e);
+        } catch (final Exception e) {
+            LOG.error("Unexpected error while fetching recent comments", e);
+            throw new ServiceException("Unexpected error", e);
+        }
+    }
+
+    public List<PostCommentDto> getCommentsByUser(final Long userId, final String authHeader)
+            throws ServiceException, AuthenticationException {
+        LOG.debug("Fetching comments for user {} and provided auth header", userId);
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+        try {
+            return this.commentClient.getCommentsByUser(userId, authHeader);
+        } catch (final ProcessingException e) {
+            LOG.error("Connection error while fetching comments for user {}", userId, e);
+            throw new ServiceException("Backend connection failed", e);
+        } catch (final WebApplicationException e) {
+            LOG.error("HTTP error while fetching comments for user {}: {}", userId, e.getResponse().getStatus());
+            if (e.getResponse().getStatus() == 401) {
+                throw new AuthenticationException("Session expired");
+            }
+            throw new ServiceException("Backend error: " + e.getResponse().getStatus(), e);
+        } catch (final Exception e) {
+            LOG.error("Unexpected error while fetching comments for user {}", userId, e);
+            throw new ServiceException("Unexpected error", e);
+        }
+    }
+
     public List<PostCommentDto> getCommentsByPost(final Long postId) throws AuthenticationException, ServiceException {
         LOG.info("Getting comments for post: {}", postId);
 
@@ -62,7 +149,7 @@ public class PostCommentService {
         }
 
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             final var response = this.commentClient.getCommentsByPost(postId, authHeader);
             LOG.info("Successfully retrieved {} comments for post {}", response.size(), postId);
             return response;
@@ -86,7 +173,7 @@ public class PostCommentService {
         }
 
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             final var response = this.commentClient.getComment(id, authHeader);
 
             if (response.getStatus() == Response.Status.OK.getStatusCode()) {
@@ -116,7 +203,7 @@ public class PostCommentService {
         }
 
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             final var response = this.commentClient.createComment(comment, authHeader);
 
             if (response.getStatus() == Response.Status.CREATED.getStatusCode()) {
@@ -146,7 +233,7 @@ public class PostCommentService {
         }
 
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             final var response = this.commentClient.updateComment(comment.id, comment, authHeader);
 
             if (response.getStatus() == Response.Status.OK.getStatusCode()) {
@@ -176,7 +263,7 @@ public class PostCommentService {
         }
 
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             final var response = this.commentClient.deleteComment(id, authHeader);
 
             if (response.getStatus() == Response.Status.NO_CONTENT.getStatusCode() ||
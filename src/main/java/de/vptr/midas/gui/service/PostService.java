@@ -1,17 +1,27 @@
 package de.vptr.midas.gui.service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.vptr.midas.gui.client.HedgedRequests;
 import de.vptr.midas.gui.client.PostClient;
 import de.vptr.midas.gui.dto.PostDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.util.CategoryStats;
+import de.vptr.midas.gui.util.CategoryTree;
+import de.vptr.midas.gui.util.CredentialScope;
+import de.vptr.midas.gui.util.LruCache;
+import de.vptr.midas.gui.util.SingleFlight;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.ProcessingException;
@@ -30,6 +40,19 @@ public class PostService {
     @Inject
     AuthService authService;
 
+    @Inject
+    HedgedRequests hedging;
+
+    @ConfigProperty(name = "midas.posts.category-stats.max-age", defaultValue = "60S")
+    Duration categoryStatsMaxAge;
+
+    private final SingleFlight<String, List<PostDto>> allPostsInFlight = new SingleFlight<>();
+
+    private final LruCache<String, CategoryStatsEntry> categoryStats = new LruCache<>(100);
+
+    private record CategoryStatsEntry(CategoryStats stats, Instant loadedAt) {
+    }
+
     public List<PostDto> getAllPosts(final String authHeader) {
         LOG.debug("Fetching all posts");
         if (authHeader == null) {
@@ -37,7 +60,8 @@ public class PostService {
             throw new AuthenticationException("Authentication required");
         }
         try {
-            return this.postClient.getAllPosts(authHeader);
+            return this.allPostsInFlight.execute(CredentialScope.of(authHeader),
+                    () -> this.hedging.get("GET /posts", () -> this.postClient.getAllPosts(authHeader)));
         } catch (final ProcessingException e) {
             LOG.error("Connection error while fetching posts", e);
             throw new ServiceException("Backend connection failed", e);
@@ -54,10 +78,40 @@ public class PostService {
         }
     }
 
+    /**
+     * Post counts per category and subtree for the given hierarchy. All posts
+     * are fetched once per credential scope and counted in one pass; posts
+     * created, moved or deleted through this service update the counts in
+     * place, and a changed hierarchy is recounted from the remembered posts.
+     */
+    public CategoryStats getCategoryStats(final CategoryTree tree, final String authHeader)
+            throws ServiceException, AuthenticationException {
+        if (authHeader == null) {
+            LOG.warn("No authentication header available");
+            throw new AuthenticationException("Authentication required");
+        }
+        final var scope = CredentialScope.of(authHeader);
+        synchronized (this.categoryStats) {
+            final var entry = this.categoryStats.get(scope);
+            if (entry != null && !entry.loadedAt().plus(this.categoryStatsMaxAge).isBefore(Instant.now())) {
+                if (entry.stats().getTree() == tree) {
+                    return entry.stats();
+                }
+                final var stats = entry.stats().withTree(tree);
+                this.categoryStats.put(scope, new CategoryStatsEntry(stats, entry.loadedAt()));
+                return stats;
+            }
+        }
+
+        final var stats = CategoryStats.of(tree, this.getAllPosts(authHeader));
+        this.categoryStats.put(scope, new CategoryStatsEntry(stats, Instant.now()));
+        return stats;
+    }
+
     public List<PostDto> getPublishedPosts() {
         LOG.debug("Fetching published posts");
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Collections.emptyList();
@@ -80,10 +134,38 @@ public class PostService {
         }
     }
 
+    /**
+     * Variant for background loads, which must not access the VaadinSession.
+     *
+     * @param authHeader The Authorization header captured in the UI thread
+     */
+    public List<PostDto> getPublishedPosts(final String authHeader) throws ServiceException, AuthenticationException {
+        LOG.debug("Fetching published posts with provided auth header");
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+        try {
+            return this.postClient.getPublishedPosts(authHeader);
+        } catch (final ProcessingException e) {
+            LOG.error("Connection error while fetching published posts", e);
+            throw new ServiceException("Backend connection failed", e);
+        } catch (final WebApplicationException e) {
+            LOG.error("HTTP error while fetching published posts: {}", e.getResponse().getStatus());
+            if (e.getResponse().getStatus() == 401) {
+                throw new AuthenticationException("Session expired");
+            }
+            throw new ServiceException("Backend error: " + e.getResponse().getStatus(), e);
+        } catch (final Exception e) {
+            LOG.error("Unexpected error while fetching published posts", e);
+            throw new ServiceException("Unexpected error", e);
+        }
+    }
+
     public Optional<PostDto> getPostById(final Long id) {
         LOG.debug("Fetching post with ID: {}", id);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Optional.empty();
@@ -116,13 +198,13 @@ public class PostService {
     public List<PostDto> getPostsByUser(final Long userId) {
         LOG.debug("Fetching posts for user: {}", userId);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Collections.emptyList();
             }
 
-            return this.postClient.getPostsByUser(userId, authHeader);
+            return this.hedging.get("GET /posts/user/{id}", () -> this.postClient.getPostsByUser(userId, authHeader));
         } catch (final ProcessingException e) {
             LOG.error("Connection error while fetching posts for user {}", userId, e);
             throw new ServiceException("Backend connection failed", e);
@@ -139,10 +221,34 @@ public class PostService {
         }
     }
 
+    public List<PostDto> getPostsByUser(final Long userId, final String authHeader)
+            throws ServiceException, AuthenticationException {
+        LOG.debug("Fetching posts for user {} and provided auth header", userId);
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+        try {
+            return this.hedging.get("GET /posts/user/{id}", () -> this.postClient.getPostsByUser(userId, authHeader));
+        } catch (final ProcessingException e) {
+            LOG.error("Connection error while fetching posts for user {}", userId, e);
+            throw new ServiceException("Backend connection failed", e);
+        } catch (final WebApplicationException e) {
+            LOG.error("HTTP error while fetching posts for user {}: {}", userId, e.getResponse().getStatus());
+            if (e.getResponse().getStatus() == 401) {
+                throw new AuthenticationException("Session expired");
+            }
+            throw new ServiceException("Backend error: " + e.getResponse().getStatus(), e);
+        } catch (final Exception e) {
+            LOG.error("Unexpected error while fetching posts for user {}", userId, e);
+            throw new ServiceException("Unexpected error", e);
+        }
+    }
+
     public List<PostDto> getPostsByCategory(final Long categoryId) {
         LOG.debug("Fetching posts for category: {}", categoryId);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Collections.emptyList();
@@ -167,7 +273,7 @@ public class PostService {
 
     public PostDto createPost(final PostDto post) {
         LOG.debug("Creating new post: {}", post.title);
-        final var authHeader = this.authService.getBasicAuthHeader();
+        final var authHeader = this.authService.getAuthHeader();
         if (authHeader == null) {
             LOG.warn("No authentication header available");
             throw new AuthenticationException("Not authenticated");
@@ -175,7 +281,9 @@ public class PostService {
         try {
             final Response response = this.postClient.createPost(post, authHeader);
             if (response.getStatus() == 201) {
-                return response.readEntity(PostDto.class);
+                final var created = response.readEntity(PostDto.class);
+                this.updateCategoryStats(authHeader, stats -> stats.put(created));
+                return created;
             } else {
                 throw new ServiceException("Failed to create post");
             }
@@ -197,7 +305,7 @@ public class PostService {
 
     public PostDto updatePost(final PostDto post) {
         LOG.debug("Updating post: {}", post.id);
-        final var authHeader = this.authService.getBasicAuthHeader();
+        final var authHeader = this.authService.getAuthHeader();
         if (authHeader == null) {
             LOG.warn("No authentication header available");
             throw new AuthenticationException("Not authenticated");
@@ -205,7 +313,9 @@ public class PostService {
         try {
             final Response response = this.postClient.updatePost(post.id, post, authHeader);
             if (response.getStatus() == 200) {
-                return response.readEntity(PostDto.class);
+                final var updated = response.readEntity(PostDto.class);
+                this.updateCategoryStats(authHeader, stats -> stats.put(updated));
+                return updated;
             } else {
                 throw new ServiceException("Failed to update post");
             }
@@ -228,14 +338,18 @@ public class PostService {
     public boolean deletePost(final Long id) {
         LOG.debug("Deleting post: {}", id);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
             }
 
             final Response response = this.postClient.deletePost(id, authHeader);
-            return response.getStatus() == 204 || response.getStatus() == 200;
+            final var deleted = response.getStatus() == 204 || response.getStatus() == 200;
+            if (deleted) {
+                this.updateCategoryStats(authHeader, stats -> stats.remove(id));
+            }
+            return deleted;
         } catch (final ProcessingException e) {
             LOG.error("Connection error while deleting post {}", id, e);
             throw new ServiceException("Backend connection failed", e);
@@ -251,4 +365,11 @@ public class PostService {
             throw new ServiceException("Unexpected error", e);
         }
     }
+
+    private void updateCategoryStats(final String authHeader, final Consumer<CategoryStats> update) {
+        final var entry = this.categoryStats.get(CredentialScope.of(authHeader));
+        if (entry != null) {
+            update.accept(entry.stats());
+        }
+    }
 }
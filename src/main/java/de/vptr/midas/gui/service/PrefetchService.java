@@ -0,0 +1,114 @@
+package de.vptr.midas.gui.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.server.VaadinSession;
+
+import de.vptr.midas.gui.util.CredentialScope;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Short-lived, per-session store for data loads started ahead of navigation,
+ * e.g. while the user hovers a navigation tab. The target view takes the
+ * (possibly still running) load in its beforeEnter instead of starting its
+ * own, so its grid is filled without waiting for another round-trip.
+ *
+ * Loads are only started on user interaction, at most once per target while
+ * a previous one is younger than {@code midas.prefetch.ttl}, and are dropped
+ * once taken or expired. A load is only handed out for the credentials it was
+ * started with, so nothing survives a logout and re-login as another user.
+ */
+@ApplicationScoped
+public class PrefetchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PrefetchService.class);
+
+    static final String SESSION_KEY = PrefetchService.class.getName();
+
+    @ConfigProperty(name = "midas.prefetch.ttl", defaultValue = "10S")
+    Duration ttl;
+
+    record Entry(String scope, CompletableFuture<?> data, Instant startedAt) {
+    }
+
+    /**
+     * Starts loading the data for {@code target} in the background, unless a
+     * fresh load for it is already pending. Must be called from the UI thread.
+     *
+     * @param target     The view the data is meant for
+     * @param authHeader The Authorization header captured in the UI thread
+     * @param loader     Loads the data with the given header; must not access
+     *                   the VaadinSession
+     */
+    public <T> void prefetch(final Class<?> target, final String authHeader, final Function<String, T> loader) {
+        final var entries = this.entries();
+        if (entries == null) {
+            return;
+        }
+
+        final var scope = CredentialScope.of(authHeader);
+        final var existing = entries.get(target);
+        if (existing != null && existing.scope().equals(scope) && !existing.data().isCompletedExceptionally()) {
+            return;
+        }
+
+        LOG.trace("Prefetching data for {}", target.getSimpleName());
+        entries.put(target,
+                new Entry(scope, CompletableFuture.supplyAsync(() -> loader.apply(authHeader)), Instant.now()));
+    }
+
+    /**
+     * Removes and returns the pending or finished load for {@code target}.
+     * Must be called from the UI thread.
+     *
+     * @param target     The view the data is meant for
+     * @param authHeader The Authorization header the view would load with
+     * @return The load, or null if there is none that is fresh, has not failed
+     *         and was started with the same credentials
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> take(final Class<?> target, final String authHeader) {
+        final var entries = this.entries();
+        if (entries == null) {
+            return null;
+        }
+
+        final var entry = entries.remove(target);
+        if (entry == null || authHeader == null || !entry.scope().equals(CredentialScope.of(authHeader))
+                || entry.data().isCompletedExceptionally()) {
+            return null;
+        }
+        LOG.trace("Using prefetched data for {}", target.getSimpleName());
+        return (CompletableFuture<T>) entry.data();
+    }
+
+    /**
+     * The session's entries with expired ones already removed, or null outside
+     * of a Vaadin request.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Class<?>, Entry> entries() {
+        final var session = VaadinSession.getCurrent();
+        if (session == null) {
+            return null;
+        }
+
+        var entries = (Map<Class<?>, Entry>) session.getAttribute(SESSION_KEY);
+        if (entries == null) {
+            entries = new ConcurrentHashMap<>();
+            session.setAttribute(SESSION_KEY, entries);
+        }
+        final var oldest = Instant.now().minus(this.ttl);
+        entries.values().removeIf(entry -> entry.startedAt().isBefore(oldest));
+        return entries;
+    }
+}
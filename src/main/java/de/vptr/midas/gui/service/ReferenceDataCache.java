@@ -0,0 +1,328 @@
+package de.vptr.midas.gui.service;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.vptr.midas.gui.dto.PostCategoryDto;
+import de.vptr.midas.gui.dto.UserAccountDto;
+import de.vptr.midas.gui.dto.UserGroupDto;
+import de.vptr.midas.gui.dto.UserRankDto;
+import de.vptr.midas.gui.exception.AuthenticationException;
+import de.vptr.midas.gui.util.CredentialScope;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Session-independent cache of the reference data most views need (ranks,
+ * groups, categories and accounts), per credential scope.
+ *
+ * Entries younger than {@code midas.reference-data.refresh-after} are served
+ * as is. Older entries are still served, but trigger a background reload.
+ * Entries older than {@code midas.reference-data.max-age} are never served.
+ * Any write to a kind of reference data drops its entries for all scopes once
+ * it has completed. Loads that were already running when the write completed
+ * are not cached, as they may have read the state from before the write.
+ *
+ * The cache is written to a gzip compressed snapshot on shutdown and restored
+ * on startup, so the first requests after a restart are answered locally
+ * instead of all sessions hitting the backend at once. Credential scopes are
+ * only stored as an HMAC with an installation specific key, never as plain
+ * credential digests.
+ */
+@ApplicationScoped
+public class ReferenceDataCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReferenceDataCache.class);
+
+    static final int SNAPSHOT_VERSION = 1;
+    static final String SNAPSHOT_FILE = "reference-data.snapshot.gz";
+    static final String KEY_FILE = "reference-data.key";
+
+    public enum Kind {
+        RANKS(UserRankDto.class),
+        GROUPS(UserGroupDto.class),
+        CATEGORIES(PostCategoryDto.class),
+        ACCOUNTS(UserAccountDto.class);
+
+        private final Class<?> type;
+
+        Kind(final Class<?> type) {
+            this.type = type;
+        }
+    }
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "midas.reference-data.snapshot-dir")
+    Path snapshotDir;
+
+    @ConfigProperty(name = "midas.reference-data.refresh-after", defaultValue = "30S")
+    Duration refreshAfter;
+
+    @ConfigProperty(name = "midas.reference-data.max-age", defaultValue = "24H")
+    Duration maxAge;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<Key> revalidating = ConcurrentHashMap.newKeySet();
+    // Counts the invalidations per kind, so a load can tell whether one happened while it was running
+    private final Map<Kind, AtomicLong> generations = new ConcurrentHashMap<>();
+    private volatile SecretKeySpec scopeKey;
+
+    record Key(Kind kind, String scope) {
+    }
+
+    record Entry(List<?> items, Instant fetchedAt) {
+    }
+
+    @RegisterForReflection
+    record Snapshot(int version, List<SnapshotEntry> entries) {
+    }
+
+    @RegisterForReflection
+    record SnapshotEntry(Kind kind, String scope, long fetchedAt, JsonNode items) {
+    }
+
+    /**
+     * Returns the cached reference data for the caller's credentials, loading
+     * it with {@code loader} if there is no usable entry.
+     *
+     * @param kind       The kind of reference data
+     * @param authHeader The caller's Authorization header
+     * @param loader     Loads the data from the backend; its exceptions are
+     *                   passed through to the caller
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(final Kind kind, final String authHeader, final Supplier<List<T>> loader) {
+        final var key = new Key(kind, this.scopeOf(authHeader));
+        final var entry = this.entries.get(key);
+        if (entry != null) {
+            final var age = Duration.between(entry.fetchedAt(), Instant.now());
+            if (age.compareTo(this.maxAge) <= 0) {
+                if (age.compareTo(this.refreshAfter) > 0) {
+                    this.revalidate(key, loader);
+                }
+                LOG.trace("Serving cached {} ({} old)", kind, age);
+                return (List<T>) entry.items();
+            }
+        }
+
+        final var generation = this.generation(kind).get();
+        final var items = loader.get();
+        this.store(key, items, generation);
+        return items;
+    }
+
+    /**
+     * Drops all entries of the given kind. Call it after a write has completed,
+     * not before: a load running concurrently with the write could otherwise
+     * store the state from before it again.
+     */
+    public void invalidate(final Kind kind) {
+        this.generation(kind).incrementAndGet();
+        this.entries.keySet().removeIf(key -> key.kind() == kind);
+    }
+
+    public void clear() {
+        this.entries.clear();
+    }
+
+    private <T> void revalidate(final Key key, final Supplier<List<T>> loader) {
+        if (!this.revalidating.add(key)) {
+            return;
+        }
+        final var generation = this.generation(key.kind()).get();
+        CompletableFuture.runAsync(() -> {
+            try {
+                this.store(key, loader.get(), generation);
+                LOG.debug("Revalidated cached {}", key.kind());
+            } catch (final AuthenticationException e) {
+                this.entries.remove(key);
+            } catch (final WebApplicationException e) {
+                if (e.getResponse().getStatus() == Response.Status.UNAUTHORIZED.getStatusCode()) {
+                    // Credentials are no longer valid - never serve their data again
+                    this.entries.remove(key);
+                } else {
+                    LOG.warn("Could not revalidate cached {}: HTTP {}", key.kind(), e.getResponse().getStatus());
+                }
+            } catch (final RuntimeException e) {
+                LOG.warn("Could not revalidate cached {}: {}", key.kind(), e.getMessage());
+            } finally {
+                this.revalidating.remove(key);
+            }
+        });
+    }
+
+    /**
+     * Caches a loaded list unless the kind was invalidated since the load
+     * started. The check follows the put, so an invalidation between the two
+     * either removes the entry itself or is seen by the check.
+     */
+    private void store(final Key key, final List<?> items, final long generation) {
+        final var entry = new Entry(items, Instant.now());
+        this.entries.put(key, entry);
+        if (this.generation(key.kind()).get() != generation) {
+            LOG.debug("Discarding {} loaded before the last write", key.kind());
+            this.entries.remove(key, entry);
+        }
+    }
+
+    private AtomicLong generation(final Kind kind) {
+        return this.generations.computeIfAbsent(kind, k -> new AtomicLong());
+    }
+
+    /**
+     * Writes all entries that have not exceeded the max age to the snapshot
+     * file, replacing the previous snapshot atomically.
+     */
+    public void persist() {
+        final List<SnapshotEntry> snapshotEntries = new ArrayList<>();
+        final var oldest = Instant.now().minus(this.maxAge);
+        this.entries.forEach((key, entry) -> {
+            if (entry.fetchedAt().isAfter(oldest)) {
+                snapshotEntries.add(new SnapshotEntry(key.kind(), key.scope(), entry.fetchedAt().toEpochMilli(),
+                        this.objectMapper.valueToTree(entry.items())));
+            }
+        });
+
+        try {
+            Files.createDirectories(this.snapshotDir);
+            final var target = this.snapshotDir.resolve(SNAPSHOT_FILE);
+            final var temp = Files.createTempFile(this.snapshotDir, SNAPSHOT_FILE, ".tmp");
+            try (var out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                this.objectMapper.writeValue(out, new Snapshot(SNAPSHOT_VERSION, snapshotEntries));
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            LOG.info("Persisted {} reference data entries to {}", snapshotEntries.size(), target);
+        } catch (final IOException e) {
+            LOG.warn("Could not persist reference data snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the snapshot written by {@link #persist()}, skipping entries that
+     * exceeded the max age in the meantime. A missing or unreadable snapshot
+     * just means a cold start.
+     */
+    public void restore() {
+        final var source = this.snapshotDir.resolve(SNAPSHOT_FILE);
+        if (!Files.isRegularFile(source)) {
+            LOG.debug("No reference data snapshot at {}", source);
+            return;
+        }
+
+        try (var in = new GZIPInputStream(Files.newInputStream(source))) {
+            final var snapshot = this.objectMapper.readValue(in, Snapshot.class);
+            if (snapshot.version() != SNAPSHOT_VERSION) {
+                LOG.info("Ignoring reference data snapshot with version {}", snapshot.version());
+                return;
+            }
+
+            final var oldest = Instant.now().minus(this.maxAge);
+            var restored = 0;
+            for (final var entry : snapshot.entries()) {
+                final var fetchedAt = Instant.ofEpochMilli(entry.fetchedAt());
+                if (fetchedAt.isBefore(oldest)) {
+                    continue;
+                }
+                final var listType = this.objectMapper.getTypeFactory().constructCollectionType(List.class,
+                        entry.kind().type);
+                final List<?> items = this.objectMapper.convertValue(entry.items(), listType);
+                this.entries.putIfAbsent(new Key(entry.kind(), entry.scope()), new Entry(items, fetchedAt));
+                restored++;
+            }
+            LOG.info("Restored {} reference data entries from {}", restored, source);
+        } catch (final IOException | IllegalArgumentException e) {
+            LOG.warn("Could not restore reference data snapshot: {}", e.getMessage());
+        }
+    }
+
+    private String scopeOf(final String authHeader) {
+        try {
+            final var mac = Mac.getInstance("HmacSHA256");
+            mac.init(this.scopeKey());
+            return HexFormat.of().formatHex(mac.doFinal(HexFormat.of().parseHex(CredentialScope.of(authHeader))));
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private SecretKeySpec scopeKey() {
+        var key = this.scopeKey;
+        if (key == null) {
+            synchronized (this) {
+                key = this.scopeKey;
+                if (key == null) {
+                    key = new SecretKeySpec(this.loadOrCreateKey(), "HmacSHA256");
+                    this.scopeKey = key;
+                }
+            }
+        }
+        return key;
+    }
+
+    /**
+     * The HMAC key has to survive restarts for restored entries to match, so it
+     * is kept next to the snapshot, readable by the owner only. Without a
+     * usable snapshot directory a throwaway key is used.
+     */
+    private byte[] loadOrCreateKey() {
+        final var keyFile = this.snapshotDir.resolve(KEY_FILE);
+        try {
+            if (Files.isRegularFile(keyFile)) {
+                return Files.readAllBytes(keyFile);
+            }
+            final var key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            Files.createDirectories(this.snapshotDir);
+            Files.write(keyFile, key);
+            try {
+                Files.setPosixFilePermissions(keyFile, PosixFilePermissions.fromString("rw-------"));
+            } catch (final UnsupportedOperationException e) {
+                LOG.debug("Cannot restrict permissions of {} on this file system", keyFile);
+            }
+            return key;
+        } catch (final IOException e) {
+            LOG.warn("Could not access reference data key, snapshot will not be reusable: {}", e.getMessage());
+            final var key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            return key;
+        }
+    }
+}
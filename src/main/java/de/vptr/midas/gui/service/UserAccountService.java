@@ -13,6 +13,9 @@ import de.vptr.midas.gui.dto.UserAccountDto;
 import de.vptr.midas.gui.dto.UserPaymentDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.util.CredentialScope;
+import de.vptr.midas.gui.util.LogSummary;
+import de.vptr.midas.gui.util.SingleFlight;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.ProcessingException;
@@ -31,6 +34,11 @@ public class UserAccountService {
     @Inject
     AuthService authService;
 
+    @Inject
+    ReferenceDataCache referenceData;
+
+    private final SingleFlight<String, List<UserAccountDto>> allAccountsInFlight = new SingleFlight<>();
+
     public List<UserAccountDto> getAllAccounts(final String authHeader)
             throws ServiceException, AuthenticationException {
         LOG.debug("Fetching all user accounts with provided auth header");
@@ -39,7 +47,9 @@ public class UserAccountService {
             throw new AuthenticationException("Authentication required");
         }
         try {
-            return this.accountClient.getAllAccounts(authHeader);
+            return this.referenceData.get(ReferenceDataCache.Kind.ACCOUNTS, authHeader,
+                    () -> this.allAccountsInFlight.execute(CredentialScope.of(authHeader),
+                            () -> this.accountClient.getAllAccounts(authHeader)));
         } catch (final ProcessingException e) {
             LOG.error("Connection error while fetching accounts", e);
             throw new ServiceException("Backend connection failed", e);
@@ -59,7 +69,7 @@ public class UserAccountService {
     public Optional<UserAccountDto> getAccountById(final Long id) {
         LOG.debug("Fetching account with ID: {}", id);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Optional.empty();
@@ -92,7 +102,7 @@ public class UserAccountService {
     public Optional<UserAccountDto> getAccountByName(final String name) {
         LOG.debug("Fetching account with name: {}", name);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Optional.empty();
@@ -125,7 +135,7 @@ public class UserAccountService {
     public List<UserAccountDto> getAccountsByUser(final Long userId) {
         LOG.debug("Fetching accounts for user: {}", userId);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Collections.emptyList();
@@ -148,10 +158,34 @@ public class UserAccountService {
         }
     }
 
+    public List<UserAccountDto> getAccountsByUser(final Long userId, final String authHeader)
+            throws ServiceException, AuthenticationException {
+        LOG.debug("Fetching accounts for user {} and provided auth header", userId);
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+        try {
+            return this.accountClient.getAccountsByUser(userId, authHeader);
+        } catch (final ProcessingException e) {
+            LOG.error("Connection error while fetching accounts for user {}", userId, e);
+            throw new ServiceException("Backend connection failed", e);
+        } catch (final WebApplicationException e) {
+            LOG.error("HTTP error while fetching accounts for user {}: {}", userId, e.getResponse().getStatus());
+            if (e.getResponse().getStatus() == 401) {
+                throw new AuthenticationException("Session expired");
+            }
+            throw new ServiceException("Backend error: " + e.getResponse().getStatus(), e);
+        } catch (final Exception e) {
+            LOG.error("Unexpected error while fetching accounts for user {}", userId, e);
+            throw new ServiceException("Unexpected error", e);
+        }
+    }
+
     public List<UserAccountDto> searchAccounts(final String query) {
         LOG.debug("Searching accounts with query: {}", query);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Collections.emptyList();
@@ -178,7 +212,7 @@ public class UserAccountService {
     public List<UserPaymentDto> getOutgoingPayments(final Long accountId) {
         LOG.debug("Fetching outgoing payments for account: {}", accountId);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Collections.emptyList();
@@ -211,7 +245,7 @@ public class UserAccountService {
     public List<UserPaymentDto> getIncomingPayments(final Long accountId) {
         LOG.debug("Fetching incoming payments for account: {}", accountId);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Collections.emptyList();
@@ -241,9 +275,9 @@ public class UserAccountService {
     }
 
     public UserAccountDto createAccount(final UserAccountDto account) {
-        LOG.debug("Creating new account: {}", account);
+        LOG.debug("Creating new account: {}", LogSummary.of(() -> "name=" + account.name));
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
@@ -268,13 +302,15 @@ public class UserAccountService {
         } catch (final Exception e) {
             LOG.error("Unexpected error while creating account", e);
             throw new ServiceException("Unexpected error", e);
+        } finally {
+            this.referenceData.invalidate(ReferenceDataCache.Kind.ACCOUNTS);
         }
     }
 
     public UserAccountDto updateAccount(final UserAccountDto account) {
-        LOG.debug("Updating account: {}", account);
+        LOG.debug("Updating account: {}", LogSummary.of(() -> "id=" + account.id + ", name=" + account.name));
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
@@ -299,13 +335,15 @@ public class UserAccountService {
         } catch (final Exception e) {
             LOG.error("Unexpected error while updating account", e);
             throw new ServiceException("Unexpected error", e);
+        } finally {
+            this.referenceData.invalidate(ReferenceDataCache.Kind.ACCOUNTS);
         }
     }
 
     public boolean deleteAccount(final Long id) {
         LOG.debug("Deleting account with ID: {}", id);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
@@ -326,6 +364,8 @@ public class UserAccountService {
         } catch (final Exception e) {
             LOG.error("Unexpected error while deleting account {}", id, e);
             throw new ServiceException("Unexpected error", e);
+        } finally {
+            this.referenceData.invalidate(ReferenceDataCache.Kind.ACCOUNTS);
         }
     }
 }
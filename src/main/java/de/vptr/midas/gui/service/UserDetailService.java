@@ -0,0 +1,103 @@
+package de.vptr.midas.gui.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.vptr.midas.gui.exception.AuthenticationException;
+import de.vptr.midas.gui.result.UserDetail;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class UserDetailService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UserDetailService.class);
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    // The sections block on their requests, a shared pool sized for CPU work would run them in turns
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final var thread = new Thread(runnable, "midas-detail-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Inject
+    UserService userService;
+
+    @Inject
+    UserAccountService accountService;
+
+    @Inject
+    UserPaymentService paymentService;
+
+    @Inject
+    PostService postService;
+
+    @Inject
+    PostCommentService commentService;
+
+    @Inject
+    UserGroupService groupService;
+
+    @ConfigProperty(name = "midas.user-detail.section-timeout", defaultValue = "5S")
+    Duration sectionTimeout;
+
+    /**
+     * Requests every section about the given user at once, each with its own
+     * timeout. The whole detail takes as long as its slowest section, and a
+     * section that fails or times out leaves the others untouched.
+     *
+     * @param userId     The user to load
+     * @param authHeader The Authorization header captured in the UI thread
+     * @return The (still loading) user detail
+     */
+    public UserDetail getDetail(final Long userId, final String authHeader) throws AuthenticationException {
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+
+        LOG.debug("Loading detail for user {}", userId);
+        return new UserDetail(userId,
+                this.section(() -> this.userService.getUserById(userId, authHeader)),
+                this.section(() -> this.accountService.getAccountsByUser(userId, authHeader)),
+                this.section(() -> this.paymentService.getPaymentsByUser(userId, authHeader)),
+                this.section(() -> this.paymentService.getTotalAmountByUser(userId, authHeader)),
+                this.section(() -> this.postService.getPostsByUser(userId, authHeader)),
+                this.section(() -> this.commentService.getCommentsByUser(userId, authHeader)),
+                this.section(() -> this.groupService.getGroupsForUser(userId, authHeader)));
+    }
+
+    /**
+     * Runs one request. A section that times out or is cancelled interrupts
+     * its request, so a slow backend does not pile up blocked threads.
+     */
+    private <T> CompletableFuture<T> section(final Supplier<T> request) {
+        final var section = new CompletableFuture<T>();
+        final Future<?> task = EXECUTOR.submit(() -> {
+            try {
+                section.complete(request.get());
+            } catch (final Throwable t) {
+                section.completeExceptionally(t);
+            }
+        });
+        section.orTimeout(this.sectionTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((value, throwable) -> {
+                    if (throwable != null) {
+                        task.cancel(true);
+                    }
+                });
+        return section;
+    }
+}
@@ -13,6 +13,8 @@ import de.vptr.midas.gui.dto.UserDto;
 import de.vptr.midas.gui.dto.UserGroupDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.util.CredentialScope;
+import de.vptr.midas.gui.util.SingleFlight;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.ProcessingException;
@@ -31,6 +33,11 @@ public class UserGroupService {
     @Inject
     AuthService authService;
 
+    @Inject
+    ReferenceDataCache referenceData;
+
+    private final SingleFlight<String, List<UserGroupDto>> allGroupsInFlight = new SingleFlight<>();
+
     public List<UserGroupDto> getAllGroups(final String authHeader) {
         LOG.debug("Fetching all groups");
         try {
@@ -39,7 +46,9 @@ public class UserGroupService {
                 throw new AuthenticationException("Authentication required");
             }
 
-            return this.groupClient.getAllGroups(authHeader);
+            return this.referenceData.get(ReferenceDataCache.Kind.GROUPS, authHeader,
+                    () -> this.allGroupsInFlight.execute(CredentialScope.of(authHeader),
+                            () -> this.groupClient.getAllGroups(authHeader)));
         } catch (final ProcessingException e) {
             LOG.error("Connection error while fetching groups", e);
             throw new ServiceException("Backend connection failed", e);
@@ -59,7 +68,7 @@ public class UserGroupService {
     public Optional<UserGroupDto> getGroupById(final Long id) {
         LOG.debug("Fetching group with ID: {}", id);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Optional.empty();
@@ -92,7 +101,7 @@ public class UserGroupService {
     public List<UserDto> getUsersInGroup(final Long groupId) {
         LOG.debug("Fetching users in group: {}", groupId);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Collections.emptyList();
@@ -115,10 +124,34 @@ public class UserGroupService {
         }
     }
 
+    public List<UserGroupDto> getGroupsForUser(final Long userId, final String authHeader)
+            throws ServiceException, AuthenticationException {
+        LOG.debug("Fetching groups for user {} and provided auth header", userId);
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+        try {
+            return this.groupClient.getGroupsForUser(userId, authHeader);
+        } catch (final ProcessingException e) {
+            LOG.error("Connection error while fetching groups for user {}", userId, e);
+            throw new ServiceException("Backend connection failed", e);
+        } catch (final WebApplicationException e) {
+            LOG.error("HTTP error while fetching groups for user {}: {}", userId, e.getResponse().getStatus());
+            if (e.getResponse().getStatus() == 401) {
+                throw new AuthenticationException("Session expired");
+            }
+            throw new ServiceException("Backend error: " + e.getResponse().getStatus(), e);
+        } catch (final Exception e) {
+            LOG.error("Unexpected error while fetching groups for user {}", userId, e);
+            throw new ServiceException("Unexpected error", e);
+        }
+    }
+
     public UserGroupDto createGroup(final UserGroupDto group) {
         LOG.debug("Creating new group: {}", group.name);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
@@ -143,13 +176,15 @@ public class UserGroupService {
         } catch (final Exception e) {
             LOG.error("Unexpected error while creating group", e);
             throw new ServiceException("Unexpected error", e);
+        } finally {
+            this.referenceData.invalidate(ReferenceDataCache.Kind.GROUPS);
         }
     }
 
     public UserGroupDto updateGroup(final UserGroupDto group) {
         LOG.debug("Updating group: {}", group.id);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
@@ -174,13 +209,15 @@ public class UserGroupService {
         } catch (final Exception e) {
             LOG.error("Unexpected error while updating group", e);
             throw new ServiceException("Unexpected error", e);
+        } finally {
+            this.referenceData.invalidate(ReferenceDataCache.Kind.GROUPS);
         }
     }
 
     public boolean deleteGroup(final Long id) {
         LOG.debug("Deleting group: {}", id);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
@@ -201,13 +238,15 @@ public class UserGroupService {
         } catch (final Exception e) {
             LOG.error("Unexpected error while deleting group {}", id, e);
             throw new ServiceException("Unexpected error", e);
+        } finally {
+            this.referenceData.invalidate(ReferenceDataCache.Kind.GROUPS);
         }
     }
 
     public boolean addUserToGroup(final Long groupId, final Long userId) {
         LOG.debug("Adding user {} to group {}", userId, groupId);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
@@ -228,13 +267,15 @@ public class UserGroupService {
         } catch (final Exception e) {
             LOG.error("Unexpected error while adding user {} to group {}", userId, groupId, e);
             throw new ServiceException("Unexpected error", e);
+        } finally {
+            this.referenceData.invalidate(ReferenceDataCache.Kind.GROUPS);
         }
     }
 
     public boolean removeUserFromGroup(final Long groupId, final Long userId) {
         LOG.debug("Removing user {} from group {}", userId, groupId);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
@@ -256,6 +297,8 @@ public class UserGroupService {
         } catch (final Exception e) {
             LOG.error("Unexpected error while removing user {} from group {}", userId, groupId, e);
             throw new ServiceException("Unexpected error", e);
+        } finally {
+            this.referenceData.invalidate(ReferenceDataCache.Kind.GROUPS);
         }
     }
 }
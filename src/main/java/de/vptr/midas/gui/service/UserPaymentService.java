@@ -1,18 +1,30 @@
 package de.vptr.midas.gui.service;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.vptr.midas.gui.client.HedgedRequests;
 import de.vptr.midas.gui.client.UserPaymentClient;
 import de.vptr.midas.gui.dto.UserPaymentDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.util.CredentialScope;
+import de.vptr.midas.gui.util.DateRangeCache;
+import de.vptr.midas.gui.util.LogSummary;
+import de.vptr.midas.gui.util.LruCache;
+import de.vptr.midas.gui.util.PaymentColumnStore;
+import de.vptr.midas.gui.util.SingleFlight;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.ProcessingException;
@@ -31,6 +43,40 @@ public class UserPaymentService {
     @Inject
     AuthService authService;
 
+    @Inject
+    HedgedRequests hedging;
+
+    @ConfigProperty(name = "midas.payments.column-store.enabled", defaultValue = "true")
+    boolean columnStoreEnabled;
+
+    @ConfigProperty(name = "midas.payments.column-store.max-age", defaultValue = "60S")
+    Duration columnStoreMaxAge;
+
+    @ConfigProperty(name = "midas.payments.range-cache.enabled", defaultValue = "true")
+    boolean rangeCacheEnabled;
+
+    @ConfigProperty(name = "midas.payments.range-cache.max-age", defaultValue = "60S")
+    Duration rangeCacheMaxAge;
+
+    private final SingleFlight<String, List<UserPaymentDto>> allPaymentsInFlight = new SingleFlight<>();
+    private final SingleFlight<String, List<UserPaymentDto>> recentPaymentsInFlight = new SingleFlight<>();
+
+    /**
+     * The payments last loaded per credential scope, for filtering without a
+     * backend round-trip. Own writes are applied incrementally; changes made
+     * by others show up once the store is older than the max age.
+     */
+    private final LruCache<String, ColumnStoreEntry> columnStores = new LruCache<>(100);
+
+    private record ColumnStoreEntry(PaymentColumnStore store, Instant loadedAt) {
+    }
+
+    /**
+     * The date ranges already fetched per credential scope, used while no
+     * column store is available.
+     */
+    private final LruCache<String, DateRangeCache<UserPaymentDto>> rangeCaches = new LruCache<>(100);
+
     public List<UserPaymentDto> getAllPayments(final String authHeader)
             throws ServiceException, AuthenticationException {
         LOG.debug("Fetching all payments with provided auth header");
@@ -39,7 +85,13 @@ public class UserPaymentService {
             throw new AuthenticationException("Authentication required");
         }
         try {
-            return this.paymentClient.getAllPayments(authHeader);
+            return this.allPaymentsInFlight.execute(CredentialScope.of(authHeader), () -> {
+                final var payments = this.hedging.get("GET /user-payments",
+                        () -> this.paymentClient.getAllPayments(authHeader));
+                // Once per shared fetch, not once per coalesced caller
+                this.rememberPayments(authHeader, payments);
+                return payments;
+            });
         } catch (final ProcessingException e) {
             LOG.error("Connection error while fetching payments", e);
             throw new ServiceException("Backend connection failed", e);
@@ -59,7 +111,7 @@ public class UserPaymentService {
     public Optional<UserPaymentDto> getPaymentById(final Long id) {
         LOG.debug("Fetching payment with ID: {}", id);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Optional.empty();
@@ -92,13 +144,14 @@ public class UserPaymentService {
     public List<UserPaymentDto> getPaymentsByUser(final Long userId) {
         LOG.debug("Fetching payments for user: {}", userId);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Collections.emptyList();
             }
 
-            return this.paymentClient.getPaymentsByUser(userId, authHeader);
+            return this.hedging.get("GET /user-payments/user/{id}",
+                    () -> this.paymentClient.getPaymentsByUser(userId, authHeader));
         } catch (final ProcessingException e) {
             LOG.error("Connection error while fetching payments for user {}", userId, e);
             throw new ServiceException("Backend connection failed", e);
@@ -115,15 +168,103 @@ public class UserPaymentService {
         }
     }
 
+    public List<UserPaymentDto> getPaymentsByUser(final Long userId, final String authHeader)
+            throws ServiceException, AuthenticationException {
+        LOG.debug("Fetching payments for user {} and provided auth header", userId);
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+        try {
+            return this.hedging.get("GET /user-payments/user/{id}",
+                    () -> this.paymentClient.getPaymentsByUser(userId, authHeader));
+        } catch (final ProcessingException e) {
+            LOG.error("Connection error while fetching payments for user {}", userId, e);
+            throw new ServiceException("Backend connection failed", e);
+        } catch (final WebApplicationException e) {
+            LOG.error("HTTP error while fetching payments for user {}: {}", userId, e.getResponse().getStatus());
+            if (e.getResponse().getStatus() == 401) {
+                throw new AuthenticationException("Session expired");
+            }
+            throw new ServiceException("Backend error: " + e.getResponse().getStatus(), e);
+        } catch (final Exception e) {
+            LOG.error("Unexpected error while fetching payments for user {}", userId, e);
+            throw new ServiceException("Unexpected error", e);
+        }
+    }
+
+    public BigDecimal getTotalAmountByUser(final Long userId, final String authHeader)
+            throws ServiceException, AuthenticationException {
+        LOG.debug("Fetching payment total for user {} and provided auth header", userId);
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+        try {
+            final Response response = this.paymentClient.getTotalAmountByUser(userId, authHeader);
+            if (response.getStatus() == 200) {
+                final var total = response.readEntity(BigDecimal.class);
+                return total != null ? total : BigDecimal.ZERO;
+            } else if (response.getStatus() == 404) {
+                return BigDecimal.ZERO;
+            }
+            throw new ServiceException("Backend error: " + response.getStatus());
+        } catch (final ServiceException e) {
+            throw e;
+        } catch (final ProcessingException e) {
+            LOG.error("Connection error while fetching payment total for user {}", userId, e);
+            throw new ServiceException("Backend connection failed", e);
+        } catch (final WebApplicationException e) {
+            LOG.error("HTTP error while fetching payment total for user {}: {}", userId,
+                    e.getResponse().getStatus());
+            if (e.getResponse().getStatus() == 401) {
+                throw new AuthenticationException("Session expired");
+            }
+            throw new ServiceException("Backend error: " + e.getResponse().getStatus(), e);
+        } catch (final Exception e) {
+            LOG.error("Unexpected error while fetching payment total for user {}", userId, e);
+            throw new ServiceException("Unexpected error", e);
+        }
+    }
+
+    public List<UserPaymentDto> getRecentPayments(final int limit, final String authHeader)
+            throws ServiceException, AuthenticationException {
+        LOG.debug("Fetching recent payments with limit {} and provided auth header", limit);
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+        try {
+            return this.recentPaymentsInFlight.execute(limit + ":" + CredentialScope.of(authHeader),
+                    () -> this.paymentClient.getRecentPayments(limit, authHeader));
+        } catch (final ProcessingException e) {
+            LOG.error("Connection error while fetching recent payments", e);
+            throw new ServiceException("Backend connection failed", e);
+        } catch (final WebApplicationException e) {
+            LOG.error("HTTP error while fetching recent payments: {}", e.getResponse().getStatus());
+            if (e.getResponse().getStatus() == 401) {
+                throw new AuthenticationException("Session expired");
+            }
+            throw new ServiceException("Backend error: " + e.getResponse().getStatus(), e);
+        } catch (final Exception e) {
+            LOG.error("Unexpected error while fetching recent payments", e);
+            throw new ServiceException("Unexpected error", e);
+        }
+    }
+
     public List<UserPaymentDto> getRecentPayments(final int limit) {
         LOG.debug("Fetching recent payments with limit: {}", limit);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Collections.emptyList();
             }
 
+            final var store = this.cachedColumnStore(authHeader);
+            if (store != null) {
+                return store.find(PaymentColumnStore.Filter.all(), PaymentColumnStore.Sort.DATE, true, limit);
+            }
             return this.paymentClient.getRecentPayments(limit, authHeader);
         } catch (final ProcessingException e) {
             LOG.error("Connection error while fetching recent payments", e);
@@ -144,13 +285,13 @@ public class UserPaymentService {
     public List<UserPaymentDto> getPaymentsByDateRange(final LocalDate startDate, final LocalDate endDate) {
         LOG.debug("Fetching payments for date range: {} to {}", startDate, endDate);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Collections.emptyList();
             }
 
-            return this.paymentClient.getPaymentsByDateRange(startDate, endDate, authHeader);
+            return this.findByDateRange(startDate, endDate, authHeader);
         } catch (final ProcessingException e) {
             LOG.error("Connection error while fetching payments by date range", e);
             throw new ServiceException("Backend connection failed", e);
@@ -167,21 +308,156 @@ public class UserPaymentService {
         }
     }
 
+    public List<UserPaymentDto> getPaymentsByDateRange(final LocalDate startDate, final LocalDate endDate,
+            final String authHeader) throws ServiceException, AuthenticationException {
+        LOG.debug("Fetching payments for date range {} to {} and provided auth header", startDate, endDate);
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+        try {
+            return this.findByDateRange(startDate, endDate, authHeader);
+        } catch (final ProcessingException e) {
+            LOG.error("Connection error while fetching payments by date range", e);
+            throw new ServiceException("Backend connection failed", e);
+        } catch (final WebApplicationException e) {
+            LOG.error("HTTP error while fetching payments by date range: {}", e.getResponse().getStatus());
+            if (e.getResponse().getStatus() == 401) {
+                throw new AuthenticationException("Session expired");
+            }
+            throw new ServiceException("Backend error: " + e.getResponse().getStatus(), e);
+        } catch (final Exception e) {
+            LOG.error("Unexpected error while fetching payments by date range", e);
+            throw new ServiceException("Unexpected error", e);
+        }
+    }
+
+    private List<UserPaymentDto> findByDateRange(final LocalDate startDate, final LocalDate endDate,
+            final String authHeader) {
+        final var store = this.cachedColumnStore(authHeader);
+        if (store != null) {
+            return store.find(PaymentColumnStore.Filter.all().withDateRange(startDate, endDate),
+                    PaymentColumnStore.Sort.DATE, false, 0);
+        }
+        final var rangeCache = this.rangeCache(authHeader);
+        if (rangeCache != null && startDate != null && endDate != null && !startDate.isAfter(endDate)) {
+            return rangeCache.get(startDate, endDate, (from, to) -> {
+                LOG.debug("Fetching uncached payments from {} to {}", from, to);
+                return this.paymentClient.getPaymentsByDateRange(from, to, authHeader);
+            });
+        }
+        return this.paymentClient.getPaymentsByDateRange(startDate, endDate, authHeader);
+    }
+
+    public List<UserPaymentDto> getPaymentsByAmountRange(final BigDecimal minAmount, final BigDecimal maxAmount) {
+        LOG.debug("Fetching payments for amount range: {} to {}", minAmount, maxAmount);
+        try {
+            final var authHeader = this.authService.getAuthHeader();
+            if (authHeader == null) {
+                LOG.warn("No authentication header available");
+                return Collections.emptyList();
+            }
+
+            return this.findByAmountRange(minAmount, maxAmount, authHeader);
+        } catch (final ProcessingException e) {
+            LOG.error("Connection error while fetching payments by amount range", e);
+            throw new ServiceException("Backend connection failed", e);
+        } catch (final WebApplicationException e) {
+            LOG.error("HTTP error while fetching payments by amount range: {}", e.getResponse().getStatus());
+            if (e.getResponse().getStatus() == 401) {
+                this.authService.logout();
+                throw new AuthenticationException("Session expired");
+            }
+            throw new ServiceException("Backend error: " + e.getResponse().getStatus(), e);
+        } catch (final Exception e) {
+            LOG.error("Unexpected error while fetching payments by amount range", e);
+            throw new ServiceException("Unexpected error", e);
+        }
+    }
+
+    public List<UserPaymentDto> getPaymentsByAmountRange(final BigDecimal minAmount, final BigDecimal maxAmount,
+            final String authHeader) throws ServiceException, AuthenticationException {
+        LOG.debug("Fetching payments for amount range {} to {} and provided auth header", minAmount, maxAmount);
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+        try {
+            return this.findByAmountRange(minAmount, maxAmount, authHeader);
+        } catch (final ProcessingException e) {
+            LOG.error("Connection error while fetching payments by amount range", e);
+            throw new ServiceException("Backend connection failed", e);
+        } catch (final WebApplicationException e) {
+            LOG.error("HTTP error while fetching payments by amount range: {}", e.getResponse().getStatus());
+            if (e.getResponse().getStatus() == 401) {
+                throw new AuthenticationException("Session expired");
+            }
+            throw new ServiceException("Backend error: " + e.getResponse().getStatus(), e);
+        } catch (final Exception e) {
+            LOG.error("Unexpected error while fetching payments by amount range", e);
+            throw new ServiceException("Unexpected error", e);
+        }
+    }
+
+    private List<UserPaymentDto> findByAmountRange(final BigDecimal minAmount, final BigDecimal maxAmount,
+            final String authHeader) {
+        final var store = this.cachedColumnStore(authHeader);
+        if (store != null) {
+            return store.find(PaymentColumnStore.Filter.all().withAmountRange(minAmount, maxAmount),
+                    PaymentColumnStore.Sort.AMOUNT, false, 0);
+        }
+        return this.paymentClient.getPaymentsByAmountRange(minAmount, maxAmount, authHeader);
+    }
+
+    /**
+     * Returns the payments of the current user's column store, loading all
+     * payments first if there is no fresh one. Any combination of criteria,
+     * sort orders and sums is then answered in memory.
+     */
+    public PaymentColumnStore getColumnStore() throws ServiceException, AuthenticationException {
+        final var authHeader = this.authService.getAuthHeader();
+        if (authHeader == null) {
+            LOG.warn("No authentication header available");
+            throw new AuthenticationException("Not authenticated");
+        }
+        return this.getColumnStore(authHeader);
+    }
+
+    /**
+     * Like {@link #getColumnStore()}, for background threads without access
+     * to the VaadinSession.
+     */
+    public PaymentColumnStore getColumnStore(final String authHeader)
+            throws ServiceException, AuthenticationException {
+        final var store = this.cachedColumnStore(authHeader);
+        if (store != null) {
+            return store;
+        }
+        final var payments = this.getAllPayments(authHeader);
+        // Loading all payments has built the store, unless it is disabled
+        final var loaded = this.cachedColumnStore(authHeader);
+        return loaded != null ? loaded : PaymentColumnStore.of(payments);
+    }
+
+    /**
+     * The fresh column store of the credentials, if there is one; never loads
+     * anything, so it may be called from the UI thread.
+     */
+    public Optional<PaymentColumnStore> findColumnStore(final String authHeader) {
+        return Optional.ofNullable(this.cachedColumnStore(authHeader));
+    }
+
     public UserPaymentDto createPayment(final UserPaymentDto payment) {
-        LOG.debug("Creating new payment: {}", payment);
+        LOG.debug("Creating new payment: {}", LogSummary.of(() -> "source=" + payment.sourceId
+                + ", target=" + payment.targetId + ", date=" + payment.date));
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
             }
 
-            final Response response = this.paymentClient.createPayment(payment, authHeader);
-            if (response.getStatus() == 201) {
-                return response.readEntity(UserPaymentDto.class);
-            } else {
-                throw new ServiceException("Failed to create payment: " + response.getStatus());
-            }
+            return this.postPayment(payment, authHeader);
         } catch (final ProcessingException e) {
             LOG.error("Connection error while creating payment", e);
             throw new ServiceException("Backend connection failed", e);
@@ -198,10 +474,54 @@ public class UserPaymentService {
         }
     }
 
+    /**
+     * Like {@link #createPayment(UserPaymentDto)}, for background threads
+     * without access to the VaadinSession. An expired session is reported but
+     * not logged out.
+     */
+    public UserPaymentDto createPayment(final UserPaymentDto payment, final String authHeader)
+            throws ServiceException, AuthenticationException {
+        LOG.debug("Creating new payment with provided auth header: {}", LogSummary.of(() -> "source="
+                + payment.sourceId + ", target=" + payment.targetId + ", date=" + payment.date));
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+        try {
+            return this.postPayment(payment, authHeader);
+        } catch (final ProcessingException e) {
+            LOG.error("Connection error while creating payment", e);
+            throw new ServiceException("Backend connection failed", e);
+        } catch (final WebApplicationException e) {
+            LOG.error("HTTP error while creating payment: {}", e.getResponse().getStatus());
+            if (e.getResponse().getStatus() == 401) {
+                throw new AuthenticationException("Session expired");
+            }
+            throw new ServiceException("Backend error: " + e.getResponse().getStatus(), e);
+        } catch (final ServiceException e) {
+            throw e;
+        } catch (final Exception e) {
+            LOG.error("Unexpected error while creating payment", e);
+            throw new ServiceException("Unexpected error", e);
+        }
+    }
+
+    private UserPaymentDto postPayment(final UserPaymentDto payment, final String authHeader) {
+        final Response response = this.paymentClient.createPayment(payment, authHeader);
+        if (response.getStatus() == 201) {
+            final var created = response.readEntity(UserPaymentDto.class);
+            this.updateColumnStore(authHeader, store -> store.withPayment(created));
+            this.invalidateRanges(authHeader, null, created);
+            return created;
+        } else {
+            throw new ServiceException("Failed to create payment: " + response.getStatus());
+        }
+    }
+
     public UserPaymentDto updatePayment(final UserPaymentDto payment) {
-        LOG.debug("Updating payment: {}", payment);
+        LOG.debug("Updating payment: {}", LogSummary.of(() -> "id=" + payment.id));
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
@@ -209,7 +529,10 @@ public class UserPaymentService {
 
             final Response response = this.paymentClient.updatePayment(payment.id, payment, authHeader);
             if (response.getStatus() == 200) {
-                return response.readEntity(UserPaymentDto.class);
+                final var updated = response.readEntity(UserPaymentDto.class);
+                this.updateColumnStore(authHeader, store -> store.withPayment(updated));
+                this.invalidateRanges(authHeader, payment.id, updated);
+                return updated;
             } else {
                 throw new ServiceException("Failed to update payment: " + response.getStatus());
             }
@@ -232,14 +555,19 @@ public class UserPaymentService {
     public boolean deletePayment(final Long id) {
         LOG.debug("Deleting payment with ID: {}", id);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
             }
 
             final Response response = this.paymentClient.deletePayment(id, authHeader);
-            return response.getStatus() == 204;
+            if (response.getStatus() == 204) {
+                this.updateColumnStore(authHeader, store -> store.withoutPayment(id));
+                this.invalidateRanges(authHeader, id, null);
+                return true;
+            }
+            return false;
         } catch (final ProcessingException e) {
             LOG.error("Connection error while deleting payment {}", id, e);
             throw new ServiceException("Backend connection failed", e);
@@ -255,4 +583,70 @@ public class UserPaymentService {
             throw new ServiceException("Unexpected error", e);
         }
     }
+
+    private void rememberPayments(final String authHeader, final List<UserPaymentDto> payments) {
+        if (this.columnStoreEnabled && payments != null) {
+            this.columnStores.put(CredentialScope.of(authHeader),
+                    new ColumnStoreEntry(PaymentColumnStore.of(payments), Instant.now()));
+        }
+    }
+
+    private PaymentColumnStore cachedColumnStore(final String authHeader) {
+        if (!this.columnStoreEnabled) {
+            return null;
+        }
+        final var entry = this.columnStores.get(CredentialScope.of(authHeader));
+        if (entry == null || entry.loadedAt().plus(this.columnStoreMaxAge).isBefore(Instant.now())) {
+            return null;
+        }
+        return entry.store();
+    }
+
+    private void updateColumnStore(final String authHeader, final UnaryOperator<PaymentColumnStore> update) {
+        if (!this.columnStoreEnabled) {
+            return;
+        }
+        final var scope = CredentialScope.of(authHeader);
+        synchronized (this.columnStores) {
+            final var entry = this.columnStores.get(scope);
+            if (entry != null) {
+                this.columnStores.put(scope, new ColumnStoreEntry(update.apply(entry.store()), entry.loadedAt()));
+            }
+        }
+    }
+
+    private DateRangeCache<UserPaymentDto> rangeCache(final String authHeader) {
+        if (!this.rangeCacheEnabled) {
+            return null;
+        }
+        final var scope = CredentialScope.of(authHeader);
+        synchronized (this.rangeCaches) {
+            var cache = this.rangeCaches.get(scope);
+            if (cache == null) {
+                cache = new DateRangeCache<>(payment -> payment.date, this.rangeCacheMaxAge);
+                this.rangeCaches.put(scope, cache);
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * Drops the cached days a payment was on before and after a write, so the
+     * next query covering them refetches those days only.
+     */
+    private void invalidateRanges(final String authHeader, final Long id, final UserPaymentDto written) {
+        if (!this.rangeCacheEnabled) {
+            return;
+        }
+        final var cache = this.rangeCaches.get(CredentialScope.of(authHeader));
+        if (cache == null) {
+            return;
+        }
+        if (id != null) {
+            cache.invalidateIf(payment -> id.equals(payment.id));
+        }
+        if (written != null) {
+            cache.invalidate(written.date);
+        }
+    }
 }
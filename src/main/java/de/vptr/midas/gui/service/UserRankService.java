@@ -10,6 +10,8 @@ import de.vptr.midas.gui.client.UserRankClient;
 import de.vptr.midas.gui.dto.UserRankDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.util.CredentialScope;
+import de.vptr.midas.gui.util.SingleFlight;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.ProcessingException;
@@ -28,6 +30,11 @@ public class UserRankService {
     @Inject
     AuthService authService;
 
+    @Inject
+    ReferenceDataCache referenceData;
+
+    private final SingleFlight<String, List<UserRankDto>> allRanksInFlight = new SingleFlight<>();
+
     public List<UserRankDto> getAllRanks(final String authHeader) throws AuthenticationException, ServiceException {
         LOG.debug("Fetching all ranks");
         if (authHeader == null) {
@@ -35,7 +42,9 @@ public class UserRankService {
             throw new AuthenticationException("Authentication required");
         }
         try {
-            return this.userRankClient.getAllRanks(authHeader);
+            return this.referenceData.get(ReferenceDataCache.Kind.RANKS, authHeader,
+                    () -> this.allRanksInFlight.execute(CredentialScope.of(authHeader),
+                            () -> this.userRankClient.getAllRanks(authHeader)));
         } catch (final ProcessingException e) {
             LOG.error("Connection error while fetching ranks", e);
             throw new ServiceException("Backend connection failed", e);
@@ -60,7 +69,7 @@ public class UserRankService {
         }
 
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             final var response = this.userRankClient.getRank(id, authHeader);
 
             if (response.getStatus() == Response.Status.OK.getStatusCode()) {
@@ -90,7 +99,7 @@ public class UserRankService {
         }
 
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             final var response = this.userRankClient.createRank(rank, authHeader);
 
             if (response.getStatus() == Response.Status.CREATED.getStatusCode()) {
@@ -109,6 +118,8 @@ public class UserRankService {
         } catch (final Exception e) {
             LOG.error("Unexpected error creating user rank", e);
             throw new ServiceException("Unexpected error occurred", e);
+        } finally {
+            this.referenceData.invalidate(ReferenceDataCache.Kind.RANKS);
         }
     }
 
@@ -120,7 +131,7 @@ public class UserRankService {
         }
 
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             final var response = this.userRankClient.updateRank(rank.id, rank, authHeader);
 
             if (response.getStatus() == Response.Status.OK.getStatusCode()) {
@@ -139,6 +150,8 @@ public class UserRankService {
         } catch (final Exception e) {
             LOG.error("Unexpected error updating user rank {}", rank.id, e);
             throw new ServiceException("Unexpected error occurred", e);
+        } finally {
+            this.referenceData.invalidate(ReferenceDataCache.Kind.RANKS);
         }
     }
 
@@ -150,7 +163,7 @@ public class UserRankService {
         }
 
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             final var response = this.userRankClient.deleteRank(id, authHeader);
 
             if (response.getStatus() == Response.Status.NO_CONTENT.getStatusCode() ||
@@ -169,6 +182,8 @@ public class UserRankService {
         } catch (final Exception e) {
             LOG.error("Unexpected error deleting user rank {}", id, e);
             throw new ServiceException("Unexpected error occurred", e);
+        } finally {
+            this.referenceData.invalidate(ReferenceDataCache.Kind.RANKS);
         }
     }
 }
@@ -11,6 +11,8 @@ import de.vptr.midas.gui.client.UserClient;
 import de.vptr.midas.gui.dto.UserDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.util.CredentialScope;
+import de.vptr.midas.gui.util.SingleFlight;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.ProcessingException;
@@ -29,6 +31,8 @@ public class UserService {
     @Inject
     AuthService authService;
 
+    private final SingleFlight<String, List<UserDto>> allUsersInFlight = new SingleFlight<>();
+
     public List<UserDto> getAllUsers(final String authHeader) {
         LOG.debug("Fetching all users");
         try {
@@ -36,7 +40,8 @@ public class UserService {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Authentication required");
             }
-            return this.userClient.getAllUsers(authHeader);
+            return this.allUsersInFlight.execute(CredentialScope.of(authHeader),
+                    () -> this.userClient.getAllUsers(authHeader));
         } catch (final ProcessingException e) {
             LOG.error("Connection error while fetching users", e);
             throw new ServiceException("Backend connection failed", e);
@@ -56,7 +61,7 @@ public class UserService {
     public Optional<UserDto> getCurrentUser() {
         LOG.debug("Fetching current user");
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Optional.empty();
@@ -89,7 +94,7 @@ public class UserService {
     public Optional<UserDto> getUserById(final Long id) {
         LOG.debug("Fetching user with ID: {}", id);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Optional.empty();
@@ -119,10 +124,42 @@ public class UserService {
         }
     }
 
+    public Optional<UserDto> getUserById(final Long id, final String authHeader)
+            throws ServiceException, AuthenticationException {
+        LOG.debug("Fetching user with ID {} and provided auth header", id);
+        if (authHeader == null) {
+            LOG.warn("No authentication header provided");
+            throw new AuthenticationException("Authentication required");
+        }
+        try {
+            final Response response = this.userClient.getUser(id, authHeader);
+            if (response.getStatus() == 200) {
+                return Optional.of(response.readEntity(UserDto.class));
+            } else if (response.getStatus() == 404) {
+                return Optional.empty();
+            }
+            throw new ServiceException("Backend error: " + response.getStatus());
+        } catch (final ServiceException e) {
+            throw e;
+        } catch (final ProcessingException e) {
+            LOG.error("Connection error while fetching user {}", id, e);
+            throw new ServiceException("Backend connection failed", e);
+        } catch (final WebApplicationException e) {
+            LOG.error("HTTP error while fetching user {}: {}", id, e.getResponse().getStatus());
+            if (e.getResponse().getStatus() == 401) {
+                throw new AuthenticationException("Session expired");
+            }
+            throw new ServiceException("Backend error: " + e.getResponse().getStatus(), e);
+        } catch (final Exception e) {
+            LOG.error("Unexpected error while fetching user {}", id, e);
+            throw new ServiceException("Unexpected error", e);
+        }
+    }
+
     public Optional<UserDto> getUserByUsername(final String username) {
         LOG.debug("Fetching user with username: {}", username);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 return Optional.empty();
@@ -155,7 +192,7 @@ public class UserService {
     public UserDto createUser(final UserDto user) {
         LOG.debug("Creating new user: {}", user.username);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
@@ -186,7 +223,7 @@ public class UserService {
     public UserDto updateUser(final UserDto user) {
         LOG.debug("Updating user: {}", user.id);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
@@ -217,7 +254,7 @@ public class UserService {
     public boolean deleteUser(final Long id) {
         LOG.debug("Deleting user: {}", id);
         try {
-            final var authHeader = this.authService.getBasicAuthHeader();
+            final var authHeader = this.authService.getAuthHeader();
             if (authHeader == null) {
                 LOG.warn("No authentication header available");
                 throw new AuthenticationException("Not authenticated");
@@ -0,0 +1,221 @@
+package de.vptr.midas.gui.util;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import de.vptr.midas.gui.dto.PostCategoryDto;
+import de.vptr.midas.gui.dto.PostDto;
+
+/**
+ * Post counts and latest post timestamps per category, both for the category
+ * itself and for its whole subtree.
+ *
+ * Built in one pass over the posts followed by a bottom-up rollup over the
+ * {@link CategoryTree}. Afterwards single posts can be added, moved or
+ * removed; only the affected category and its ancestors are updated. The
+ * posts are remembered by id, so a removal needs nothing but the id and a
+ * moved post is recognised by its new category alone.
+ *
+ * Thread-safe; all methods synchronize on the instance.
+ */
+public final class CategoryStats {
+
+    public record Counts(int posts, int subtreePosts, LocalDateTime lastPost, LocalDateTime subtreeLastPost) {
+        private static final Counts NONE = new Counts(0, 0, null, null);
+    }
+
+    private record Entry(Long categoryId, LocalDateTime created) {
+    }
+
+    private static final class Node {
+        int posts;
+        int subtreePosts;
+        LocalDateTime subtreeLastPost;
+        // Creation times of the category's own posts with their multiplicity, so removing the latest one finds
+        // the next latest without a scan
+        final TreeMap<LocalDateTime, Integer> created = new TreeMap<>();
+
+        LocalDateTime lastPost() {
+            return this.created.isEmpty() ? null : this.created.lastKey();
+        }
+    }
+
+    private final CategoryTree tree;
+    private final Map<Long, Entry> posts = new HashMap<>();
+    private final Map<Long, Node> nodes = new HashMap<>();
+
+    private CategoryStats(final CategoryTree tree) {
+        this.tree = tree;
+    }
+
+    public static CategoryStats of(final CategoryTree tree, final Collection<PostDto> posts) {
+        final var stats = new CategoryStats(tree);
+        for (final var post : posts) {
+            final var entry = new Entry(post.category != null ? post.category.id : null, post.created);
+            if (post.id != null) {
+                stats.posts.put(post.id, entry);
+            }
+            stats.count(entry, 1);
+        }
+        stats.rollup();
+        return stats;
+    }
+
+    public CategoryTree getTree() {
+        return this.tree;
+    }
+
+    /**
+     * @return The same posts counted against a changed category hierarchy,
+     *         without fetching them again
+     */
+    public synchronized CategoryStats withTree(final CategoryTree tree) {
+        final var stats = new CategoryStats(tree);
+        for (final var post : this.posts.entrySet()) {
+            stats.posts.put(post.getKey(), post.getValue());
+            stats.count(post.getValue(), 1);
+        }
+        stats.rollup();
+        return stats;
+    }
+
+    public synchronized Counts get(final PostCategoryDto category) {
+        final var node = category != null ? this.nodes.get(category.id) : null;
+        if (node == null) {
+            return Counts.NONE;
+        }
+        return new Counts(node.posts, node.subtreePosts, node.lastPost(), node.subtreeLastPost);
+    }
+
+    /**
+     * Counts a created post, or moves an updated one to its current category.
+     */
+    public synchronized void put(final PostDto post) {
+        if (post.id == null) {
+            return;
+        }
+        final var entry = new Entry(post.category != null ? post.category.id : null, post.created);
+        final var previous = this.posts.put(post.id, entry);
+        if (entry.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            this.count(previous, -1);
+            this.propagate(previous.categoryId(), -1);
+        }
+        this.count(entry, 1);
+        this.propagate(entry.categoryId(), 1);
+    }
+
+    public synchronized void remove(final Long postId) {
+        final var previous = this.posts.remove(postId);
+        if (previous != null) {
+            this.count(previous, -1);
+            this.propagate(previous.categoryId(), -1);
+        }
+    }
+
+    private void count(final Entry entry, final int delta) {
+        if (entry.categoryId() == null) {
+            return;
+        }
+        final var node = this.nodes.computeIfAbsent(entry.categoryId(), id -> new Node());
+        node.posts += delta;
+        if (entry.created() != null) {
+            node.created.merge(entry.created(), delta, (count, change) -> count + change == 0 ? null : count + change);
+        }
+    }
+
+    /**
+     * Computes the subtree values of every category from its own posts and its
+     * children's subtrees, visiting children before their parents. Categories
+     * caught in a parent cycle only count the part of it below them.
+     */
+    private void rollup() {
+        final var done = new HashSet<Long>();
+        final var entered = new HashSet<Long>();
+        final var stack = new ArrayDeque<PostCategoryDto>();
+        for (final var start : this.tree.getAll()) {
+            stack.push(start);
+            while (!stack.isEmpty()) {
+                final var category = stack.peek();
+                if (done.contains(category.id)) {
+                    stack.pop();
+                } else if (entered.add(category.id)) {
+                    for (final var child : this.tree.getChildren(category)) {
+                        if (!entered.contains(child.id)) {
+                            stack.push(child);
+                        }
+                    }
+                } else {
+                    stack.pop();
+                    this.summarize(category, done);
+                    done.add(category.id);
+                }
+            }
+        }
+        for (final var node : this.nodes.entrySet()) {
+            if (!done.contains(node.getKey())) {
+                // Posts in a category missing from the hierarchy
+                node.getValue().subtreePosts = node.getValue().posts;
+                node.getValue().subtreeLastPost = node.getValue().lastPost();
+            }
+        }
+    }
+
+    /**
+     * Updates the subtree values of a category and all its ancestors after its
+     * own posts changed by {@code delta}.
+     */
+    private void propagate(final Long categoryId, final int delta) {
+        var category = categoryId != null ? this.tree.getById(categoryId) : null;
+        if (category == null) {
+            // Not in the hierarchy (yet), its own values are all there is
+            final var node = categoryId != null ? this.nodes.get(categoryId) : null;
+            if (node != null) {
+                node.subtreePosts += delta;
+                node.subtreeLastPost = node.lastPost();
+            }
+            return;
+        }
+        final var visited = new HashSet<Long>();
+        while (category != null && visited.add(category.id)) {
+            final var node = this.nodes.computeIfAbsent(category.id, id -> new Node());
+            node.subtreePosts += delta;
+            node.subtreeLastPost = this.subtreeLastPost(category, node, null);
+            category = category.parent != null ? this.tree.getById(category.parent.id) : null;
+        }
+    }
+
+    private void summarize(final PostCategoryDto category, final Set<Long> done) {
+        final var node = this.nodes.computeIfAbsent(category.id, id -> new Node());
+        var subtreePosts = node.posts;
+        for (final var child : this.tree.getChildren(category)) {
+            final var childNode = done.contains(child.id) ? this.nodes.get(child.id) : null;
+            if (childNode != null) {
+                subtreePosts += childNode.subtreePosts;
+            }
+        }
+        node.subtreePosts = subtreePosts;
+        node.subtreeLastPost = this.subtreeLastPost(category, node, done);
+    }
+
+    private LocalDateTime subtreeLastPost(final PostCategoryDto category, final Node node,
+            final Set<Long> done) {
+        var last = node.lastPost();
+        for (final var child : this.tree.getChildren(category)) {
+            final var childNode = done == null || done.contains(child.id) ? this.nodes.get(child.id) : null;
+            if (childNode != null && childNode.subtreeLastPost != null
+                    && (last == null || childNode.subtreeLastPost.isAfter(last))) {
+                last = childNode.subtreeLastPost;
+            }
+        }
+        return last;
+    }
+}
@@ -0,0 +1,75 @@
+package de.vptr.midas.gui.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.vptr.midas.gui.dto.PostCategoryDto;
+
+/**
+ * Parent/child index over a flat list of categories as returned by the
+ * backend. Building the index is a single pass, after which children and
+ * ancestors are resolved through map lookups instead of scanning the whole
+ * list for every tree node.
+ */
+public class CategoryTree {
+
+    private final List<PostCategoryDto> roots = new ArrayList<>();
+    private final Map<Long, PostCategoryDto> byId = new HashMap<>();
+    private final Map<Long, List<PostCategoryDto>> childrenByParentId = new HashMap<>();
+
+    private CategoryTree() {
+    }
+
+    public static CategoryTree of(final List<PostCategoryDto> categories) {
+        final var tree = new CategoryTree();
+        for (final var category : categories) {
+            tree.byId.put(category.id, category);
+            if (category.isRootCategory()) {
+                tree.roots.add(category);
+            } else {
+                tree.childrenByParentId.computeIfAbsent(category.parent.id, id -> new ArrayList<>()).add(category);
+            }
+        }
+        return tree;
+    }
+
+    public List<PostCategoryDto> getRoots() {
+        return this.roots;
+    }
+
+    public Collection<PostCategoryDto> getAll() {
+        return this.byId.values();
+    }
+
+    public List<PostCategoryDto> getChildren(final PostCategoryDto parent) {
+        return this.childrenByParentId.getOrDefault(parent.id, List.of());
+    }
+
+    public boolean hasChildren(final PostCategoryDto parent) {
+        return !this.getChildren(parent).isEmpty();
+    }
+
+    public PostCategoryDto getById(final Long id) {
+        return this.byId.get(id);
+    }
+
+    /**
+     * Checks whether {@code potential} sits anywhere below {@code ancestor}.
+     * Walks up the parent chain, guarding against cycles in inconsistent data.
+     */
+    public boolean isDescendantOf(final PostCategoryDto potential, final PostCategoryDto ancestor) {
+        var parent = potential.parent;
+        var steps = 0;
+        while (parent != null && steps++ <= this.byId.size()) {
+            if (parent.id.equals(ancestor.id)) {
+                return true;
+            }
+            final var resolved = this.byId.get(parent.id);
+            parent = resolved != null ? resolved.parent : null;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,68 @@
+package de.vptr.midas.gui.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class CredentialScope {
+
+    private static final int MAX_ALIASES = 10_000;
+
+    // Digest of an alias header -> scope of the credentials it stands for
+    private static final LruCache<String, String> ALIASES = new LruCache<>(MAX_ALIASES);
+
+    private CredentialScope() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Derives a stable cache key from an Authorization header, so that data
+     * loaded with one set of credentials is never served to another, without
+     * keeping the raw credentials in cache keys or log output.
+     *
+     * @param authHeader The Authorization header value
+     * @return A hex encoded SHA-256 digest of the header, or the scope of the
+     *         credentials the header was registered as an alias for
+     */
+    public static String of(final String authHeader) {
+        if (authHeader == null) {
+            throw new IllegalArgumentException("authHeader must not be null");
+        }
+
+        final var digest = digest(authHeader);
+        final var aliased = ALIASES.get(digest);
+        return aliased != null ? aliased : digest;
+    }
+
+    /**
+     * Makes {@code alias} resolve to the scope of {@code authHeader}. Bearer
+     * tokens change on every refresh but stand for the same credentials, so
+     * caches keyed by scope keep their entries across token refreshes.
+     *
+     * @param alias      The Authorization header to register, e.g. a bearer
+     *                   token issued for {@code authHeader}
+     * @param authHeader The Authorization header whose scope is shared
+     */
+    public static void alias(final String alias, final String authHeader) {
+        if (alias == null) {
+            throw new IllegalArgumentException("alias must not be null");
+        }
+        ALIASES.put(digest(alias), of(authHeader));
+    }
+
+    public static void removeAlias(final String alias) {
+        if (alias != null) {
+            ALIASES.remove(digest(alias));
+        }
+    }
+
+    private static String digest(final String authHeader) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(authHeader.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
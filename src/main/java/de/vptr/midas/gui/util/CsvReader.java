@@ -0,0 +1,148 @@
+package de.vptr.midas.gui.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+
+/**
+ * Reads CSV records one at a time, so files of any size are parsed without
+ * being held in memory.
+ *
+ * Follows RFC 4180: fields may be quoted, quotes inside quoted fields are
+ * doubled and quoted fields may span lines. The delimiter is taken from the
+ * first line, which is usually a header: semicolons (as written by spreadsheet
+ * applications and banks in locales with a decimal comma), tabs or commas.
+ * A leading byte order mark is skipped.
+ */
+public final class CsvReader implements Closeable {
+
+    private static final int DETECTION_LIMIT = 8192;
+
+    private final BufferedReader reader;
+    private final char delimiter;
+    private final StringBuilder field = new StringBuilder();
+    private int line = 1;
+    private int recordLine;
+    private boolean eof;
+
+    public CsvReader(final Reader reader) throws IOException {
+        this.reader = reader instanceof final BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.skipByteOrderMark();
+        this.delimiter = this.detectDelimiter();
+    }
+
+    public char delimiter() {
+        return this.delimiter;
+    }
+
+    /**
+     * @return The line number the record last returned by {@link #next()}
+     *         starts on, 1-based
+     */
+    public int lineNumber() {
+        return this.recordLine;
+    }
+
+    /**
+     * @return The fields of the next record, or {@code null} at the end of the
+     *         input. Blank lines are skipped.
+     */
+    public String[] next() throws IOException {
+        while (!this.eof) {
+            this.recordLine = this.line;
+            final var record = this.readRecord();
+            if (record.length > 1 || !record[0].isEmpty()) {
+                return record;
+            }
+        }
+        return null;
+    }
+
+    private String[] readRecord() throws IOException {
+        final var fields = new ArrayList<String>();
+        this.field.setLength(0);
+        var quoted = false;
+        var afterQuote = false;
+
+        while (true) {
+            final int c = this.reader.read();
+            if (c < 0) {
+                this.eof = true;
+                break;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    quoted = false;
+                    afterQuote = true;
+                } else {
+                    if (c == '\n') {
+                        this.line++;
+                    }
+                    this.field.append((char) c);
+                }
+            } else if (c == '"') {
+                // A doubled quote inside a quoted field, or the opening quote
+                if (afterQuote) {
+                    this.field.append('"');
+                }
+                quoted = true;
+                afterQuote = false;
+            } else if (c == this.delimiter) {
+                fields.add(this.field.toString());
+                this.field.setLength(0);
+                afterQuote = false;
+            } else if (c == '\n') {
+                this.line++;
+                break;
+            } else if (c != '\r') {
+                this.field.append((char) c);
+                afterQuote = false;
+            }
+        }
+        fields.add(this.field.toString());
+        return fields.toArray(String[]::new);
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        this.reader.mark(1);
+        if (this.reader.read() != '\uFEFF') {
+            this.reader.reset();
+        }
+    }
+
+    private char detectDelimiter() throws IOException {
+        this.reader.mark(DETECTION_LIMIT);
+        var semicolons = 0;
+        var tabs = 0;
+        var commas = 0;
+        var quoted = false;
+        for (var i = 0; i < DETECTION_LIMIT; i++) {
+            final int c = this.reader.read();
+            if (c < 0 || (!quoted && (c == '\n' || c == '\r'))) {
+                break;
+            }
+            switch (c) {
+                case '"' -> quoted = !quoted;
+                case ';' -> semicolons += quoted ? 0 : 1;
+                case '\t' -> tabs += quoted ? 0 : 1;
+                case ',' -> commas += quoted ? 0 : 1;
+                default -> {
+                    // Part of a field
+                }
+            }
+        }
+        this.reader.reset();
+
+        if (semicolons > 0 && semicolons >= commas && semicolons >= tabs) {
+            return ';';
+        }
+        return tabs > commas ? '\t' : ',';
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+}
@@ -0,0 +1,213 @@
+package de.vptr.midas.gui.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Cache for date-range queries that remembers which days have been fetched.
+ *
+ * A query is answered from the cache as far as its days are covered; only the
+ * gaps are fetched and merged in. Zooming from a month into a week and back
+ * therefore costs a single request. Covered ranges expire after
+ * {@code maxAge} and can be invalidated per day when items change.
+ *
+ * Fetches run outside the lock, so a slow backend does not block queries
+ * that are already covered. A fetch that overlaps an invalidation may have
+ * been answered before the write, so its items are returned to the caller
+ * but not cached.
+ *
+ * @param <T> The item type
+ */
+public class DateRangeCache<T> {
+
+    private final Function<T, LocalDate> dateOf;
+    private final Duration maxAge;
+
+    /** Covered, non-overlapping day ranges by their first epoch day. */
+    private final TreeMap<Long, Range> covered = new TreeMap<>();
+
+    /** Items by epoch day, only for covered days. */
+    private final TreeMap<Long, List<T>> itemsByDay = new TreeMap<>();
+
+    /** Bumped by every invalidation. */
+    private long generation;
+
+    private record Range(long start, long end, Instant fetchedAt) {
+    }
+
+    /**
+     * @param dateOf The date an item belongs to; items without one are ignored
+     * @param maxAge How long a fetched range is trusted
+     */
+    public DateRangeCache(final Function<T, LocalDate> dateOf, final Duration maxAge) {
+        this.dateOf = dateOf;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Returns the items dated between {@code from} and {@code to}
+     * (inclusive), ordered by date, fetching uncovered days with
+     * {@code fetcher}.
+     *
+     * @param fetcher Loads the items of an inclusive date range
+     */
+    public List<T> get(final LocalDate from, final LocalDate to,
+            final BiFunction<LocalDate, LocalDate, List<T>> fetcher) {
+        final var first = from.toEpochDay();
+        final var last = to.toEpochDay();
+
+        final List<long[]> gaps;
+        final long generation;
+        synchronized (this) {
+            this.expire();
+            gaps = this.gaps(first, last);
+            generation = this.generation;
+        }
+
+        // Gaps that could not be cached and their items by epoch day
+        final var uncachedGaps = new ArrayList<long[]>();
+        final var uncached = new TreeMap<Long, List<T>>();
+        for (final var gap : gaps) {
+            final var fetchedAt = Instant.now();
+            final var items = fetcher.apply(LocalDate.ofEpochDay(gap[0]), LocalDate.ofEpochDay(gap[1]));
+            synchronized (this) {
+                if (this.generation == generation) {
+                    this.store(gap[0], gap[1], items, fetchedAt);
+                } else {
+                    uncachedGaps.add(gap);
+                    this.group(items, gap[0], gap[1], uncached);
+                }
+            }
+        }
+
+        synchronized (this) {
+            final var days = new TreeMap<>(this.itemsByDay.subMap(first, true, last, true));
+            for (final var gap : uncachedGaps) {
+                days.subMap(gap[0], true, gap[1], true).clear();
+            }
+            days.putAll(uncached);
+            final var result = new ArrayList<T>();
+            for (final var items : days.values()) {
+                result.addAll(items);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Forgets the given day, so the next query touching it fetches it again.
+     */
+    public synchronized void invalidate(final LocalDate date) {
+        this.generation++;
+        if (date != null) {
+            this.uncover(date.toEpochDay(), date.toEpochDay());
+        }
+    }
+
+    /**
+     * Forgets every day holding an item that matches {@code predicate}, e.g.
+     * the old date of a payment that was changed or deleted.
+     */
+    public synchronized void invalidateIf(final Predicate<T> predicate) {
+        this.generation++;
+        final var days = new HashSet<Long>();
+        for (final var entry : this.itemsByDay.entrySet()) {
+            if (entry.getValue().stream().anyMatch(predicate)) {
+                days.add(entry.getKey());
+            }
+        }
+        for (final var day : days) {
+            this.uncover(day, day);
+        }
+    }
+
+    /**
+     * The inclusive day ranges within {@code first}..{@code last} that are
+     * not covered, in ascending order.
+     */
+    private List<long[]> gaps(final long first, final long last) {
+        final var gaps = new ArrayList<long[]>();
+        var cursor = first;
+
+        final var floor = this.covered.floorKey(first);
+        final var candidates = this.covered.tailMap(floor != null ? floor : first, true).values();
+        for (final var range : candidates) {
+            if (range.start() > last) {
+                break;
+            }
+            if (range.end() < cursor) {
+                continue;
+            }
+            if (range.start() > cursor) {
+                gaps.add(new long[] { cursor, range.start() - 1 });
+            }
+            cursor = range.end() + 1;
+            if (cursor > last) {
+                return gaps;
+            }
+        }
+        gaps.add(new long[] { cursor, last });
+        return gaps;
+    }
+
+    private void store(final long first, final long last, final List<T> items, final Instant fetchedAt) {
+        // Replaces whatever another thread stored for these days in the meantime
+        this.uncover(first, last);
+        this.group(items, first, last, this.itemsByDay);
+        this.covered.put(first, new Range(first, last, fetchedAt));
+    }
+
+    private void group(final List<T> items, final long first, final long last, final Map<Long, List<T>> byDay) {
+        for (final var item : items) {
+            final var date = this.dateOf.apply(item);
+            if (date != null && date.toEpochDay() >= first && date.toEpochDay() <= last) {
+                byDay.computeIfAbsent(date.toEpochDay(), day -> new ArrayList<>()).add(item);
+            }
+        }
+    }
+
+    private void uncover(final long first, final long last) {
+        this.itemsByDay.subMap(first, true, last, true).clear();
+
+        final var floor = this.covered.floorKey(first);
+        final var overlapping = new ArrayList<>(
+                this.covered.subMap(floor != null ? floor : first, true, last, true).values());
+        for (final var range : overlapping) {
+            if (range.end() < first) {
+                continue;
+            }
+            this.covered.remove(range.start());
+            if (range.start() < first) {
+                this.covered.put(range.start(), new Range(range.start(), first - 1, range.fetchedAt()));
+            }
+            if (range.end() > last) {
+                this.covered.put(last + 1, new Range(last + 1, range.end(), range.fetchedAt()));
+            }
+        }
+    }
+
+    private void expire() {
+        final var oldest = Instant.now().minus(this.maxAge);
+        final var expired = this.covered.values().stream()
+                .filter(range -> range.fetchedAt().isBefore(oldest))
+                .toList();
+        for (final var range : expired) {
+            this.uncover(range.start(), range.end());
+        }
+    }
+
+    synchronized Map<Long, Long> coveredRanges() {
+        final var ranges = new TreeMap<Long, Long>();
+        this.covered.values().forEach(range -> ranges.put(range.start(), range.end()));
+        return ranges;
+    }
+}
@@ -0,0 +1,171 @@
+package de.vptr.midas.gui.util;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
+
+/**
+ * Runs the background loads that fill one grid of a view, keeping at most one
+ * of them in flight.
+ *
+ * A load for another key (e.g. a different filter) supersedes the running one,
+ * which is cancelled. A load for the key that is already in flight is folded
+ * into it, so repeated refresh clicks cost one request. All loads are
+ * cancelled when the owning view detaches. Cancelling interrupts the worker
+ * thread, which aborts the blocking REST call instead of waiting for and
+ * deserializing a response nobody will see. Calls coalesced by
+ * {@link SingleFlight} are only released for this view; they are aborted
+ * once no other caller waits for them.
+ *
+ * Must only be used from the UI thread. The completion handler runs inside
+ * {@code ui.access} and only for the load that is still current.
+ *
+ * @param <T> The loaded type
+ */
+public class LoadCoordinator<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoadCoordinator.class);
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final var thread = new Thread(runnable, "midas-load-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Component owner;
+    private final Duration timeout;
+    private Load current;
+
+    private final class Load {
+        final String key;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        volatile Future<?> task;
+
+        Load(final String key) {
+            this.key = key;
+        }
+
+        void cancel() {
+            this.result.cancel(false);
+            this.interrupt();
+        }
+
+        void interrupt() {
+            final var running = this.task;
+            if (running != null) {
+                running.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * @param owner   The view whose detach cancels all loads
+     * @param timeout How long a load may take before it fails
+     */
+    public LoadCoordinator(final Component owner, final Duration timeout) {
+        this.owner = owner;
+        this.timeout = timeout;
+        owner.addDetachListener(event -> this.cancel());
+    }
+
+    /**
+     * Starts {@code loader} on a worker thread, unless a load for {@code key}
+     * is already in flight.
+     *
+     * @param key     Identifies what is loaded, e.g. "all" or a filter value
+     * @param loader  The load; must not access the VaadinSession
+     * @param handler Receives the value or the failure in the UI thread
+     */
+    public void load(final String key, final Supplier<T> loader, final BiConsumer<T, Throwable> handler) {
+        if (this.current != null && this.current.key.equals(key) && !this.current.result.isDone()) {
+            LOG.trace("Load '{}' is already in flight", key);
+            return;
+        }
+
+        final var load = this.start(key, handler);
+        load.task = EXECUTOR.submit(() -> {
+            try {
+                load.result.complete(loader.get());
+            } catch (final Throwable t) {
+                load.result.completeExceptionally(t);
+            }
+        });
+        if (load.result.isCancelled()) {
+            load.interrupt();
+        }
+    }
+
+    /**
+     * Hands the outcome of a load that was started elsewhere (e.g. a prefetch)
+     * to {@code handler}, superseding the running load.
+     */
+    public void use(final String key, final CompletableFuture<T> pending, final BiConsumer<T, Throwable> handler) {
+        final var load = this.start(key, handler);
+        pending.whenComplete((value, throwable) -> {
+            if (throwable != null) {
+                load.result.completeExceptionally(throwable);
+            } else {
+                load.result.complete(value);
+            }
+        });
+    }
+
+    /**
+     * Cancels the load in flight, if any. Views call this before they fill
+     * the grid by other means, so a late result cannot overwrite it.
+     */
+    public void cancel() {
+        if (this.current != null) {
+            LOG.trace("Cancelling load '{}'", this.current.key);
+            this.current.cancel();
+            this.current = null;
+        }
+    }
+
+    private Load start(final String key, final BiConsumer<T, Throwable> handler) {
+        this.cancel();
+
+        final var load = new Load(key);
+        this.current = load;
+
+        // Views start loading in beforeEnter, before they are attached to the UI
+        final var ui = UI.getCurrent() != null ? UI.getCurrent() : this.owner.getUI().orElse(null);
+
+        load.result.orTimeout(this.timeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((value, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                return;
+            }
+            if (throwable instanceof TimeoutException) {
+                load.interrupt();
+            }
+            if (ui == null || ui.isClosing()) {
+                return;
+            }
+            ui.access(() -> {
+                if (this.current != load) {
+                    LOG.trace("Discarding result of superseded load '{}'", key);
+                    return;
+                }
+                this.current = null;
+                handler.accept(value, throwable);
+            });
+        });
+        return load;
+    }
+}
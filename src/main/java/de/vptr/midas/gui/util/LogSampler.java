@@ -0,0 +1,79 @@
+package de.vptr.midas.gui.util;
+
+import java.time.Duration;
+
+/**
+ * Decides which of a stream of repeated log events are written.
+ *
+ * Per key, the first {@code burst} events of each window pass. Beyond that,
+ * sampled events pass once every {@code sampleEvery} events and all others
+ * are dropped. The number of dropped events is handed to the next event that
+ * passes, so it can report them. Keys are kept in an LRU cache, which bounds
+ * the memory used for keys that are not constant.
+ */
+public class LogSampler {
+
+    private final int burst;
+    private final int sampleEvery;
+    private final long windowNanos;
+    private final LruCache<String, Window> windows;
+
+    private static final class Window {
+        long startedAt;
+        long events;
+        long dropped;
+
+        Window(final long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+
+    /**
+     * @param burst       Events per key and window that always pass
+     * @param sampleEvery Pass every n-th sampled event beyond the burst; 0 drops
+     *                    them all
+     * @param window      Length of a window
+     * @param maxKeys     Number of keys to track
+     */
+    public LogSampler(final int burst, final int sampleEvery, final Duration window, final int maxKeys) {
+        if (burst < 0 || sampleEvery < 0) {
+            throw new IllegalArgumentException("burst and sampleEvery must not be negative");
+        }
+        this.burst = burst;
+        this.sampleEvery = sampleEvery;
+        this.windowNanos = window.toNanos();
+        this.windows = new LruCache<>(maxKeys);
+    }
+
+    /**
+     * Records one event for {@code key}.
+     *
+     * @param key    Identifies events that are repetitions of each other
+     * @param sample Whether events beyond the burst may be sampled, or must be
+     *               dropped until the window ends
+     * @return -1 if the event should be dropped, otherwise the number of events
+     *         for {@code key} dropped since the last one that passed
+     */
+    public long acquire(final String key, final boolean sample) {
+        final var now = System.nanoTime();
+
+        final var window = this.windows.computeIfAbsent(key, k -> new Window(now));
+
+        synchronized (window) {
+            if (now - window.startedAt >= this.windowNanos) {
+                window.startedAt = now;
+                window.events = 0;
+            }
+            window.events++;
+
+            final var beyondBurst = window.events - this.burst;
+            if (beyondBurst <= 0 || (sample && this.sampleEvery > 0 && beyondBurst % this.sampleEvery == 0)) {
+                final var dropped = window.dropped;
+                window.dropped = 0;
+                return dropped;
+            }
+            window.dropped++;
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package de.vptr.midas.gui.util;
+
+import java.util.function.Supplier;
+
+/**
+ * Log argument that builds its text only when the message is actually
+ * written. Used in place of DTOs, whose toString walks nested objects.
+ *
+ * <pre>
+ * LOG.debug("Creating new account: {}", LogSummary.of(() -&gt; "name=" + account.name));
+ * </pre>
+ */
+public final class LogSummary {
+
+    private final Supplier<String> summary;
+
+    private LogSummary(final Supplier<String> summary) {
+        this.summary = summary;
+    }
+
+    public static LogSummary of(final Supplier<String> summary) {
+        return new LogSummary(summary);
+    }
+
+    @Override
+    public String toString() {
+        return this.summary.get();
+    }
+}
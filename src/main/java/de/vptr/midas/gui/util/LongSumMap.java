@@ -0,0 +1,171 @@
+package de.vptr.midas.gui.util;
+
+import java.util.Arrays;
+
+/**
+ * Hash map from a {@code long} key to the number and the sum of the values
+ * added for it, stored in primitive arrays. Meant for counting and summing
+ * over large numbers of rows without allocating a boxed key and value per
+ * entry.
+ *
+ * Uses open addressing with linear probing. Key 0 marks a free slot, so its
+ * totals are kept in separate fields. Absent keys read as count and sum 0.
+ *
+ * Not thread-safe; aggregate into one map per thread and combine them with
+ * {@link #addAll}.
+ */
+public final class LongSumMap {
+
+    private static final long FREE = 0L;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private long[] counts;
+    private long[] sums;
+    private int mask;
+    private int shift;
+    private int size;
+    private long zeroCount;
+    private long zeroSum;
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long count, long sum);
+    }
+
+    public LongSumMap() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize Number of keys the map holds without resizing
+     */
+    public LongSumMap(final int expectedSize) {
+        this.allocate(Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean containsKey(final long key) {
+        return key == FREE ? this.zeroCount > 0 : this.keys[this.find(key)] == key;
+    }
+
+    /** Number of values added for {@code key}. */
+    public long count(final long key) {
+        if (key == FREE) {
+            return this.zeroCount;
+        }
+        final var slot = this.find(key);
+        return this.keys[slot] == key ? this.counts[slot] : 0L;
+    }
+
+    /** Sum of the values added for {@code key}. */
+    public long sum(final long key) {
+        if (key == FREE) {
+            return this.zeroSum;
+        }
+        final var slot = this.find(key);
+        return this.keys[slot] == key ? this.sums[slot] : 0L;
+    }
+
+    /**
+     * Counts {@code value} for {@code key}, inserting the key if absent.
+     */
+    public void add(final long key, final long value) {
+        this.add(key, 1, value);
+    }
+
+    /**
+     * Adds the totals of every key of {@code other} to this map.
+     */
+    public void addAll(final LongSumMap other) {
+        other.forEach(this::add);
+    }
+
+    public void forEach(final EntryConsumer consumer) {
+        if (this.zeroCount > 0) {
+            consumer.accept(FREE, this.zeroCount, this.zeroSum);
+        }
+        for (var slot = 0; slot < this.keys.length; slot++) {
+            if (this.keys[slot] != FREE) {
+                consumer.accept(this.keys[slot], this.counts[slot], this.sums[slot]);
+            }
+        }
+    }
+
+    /**
+     * Returns the keys in ascending order.
+     */
+    public long[] sortedKeys() {
+        final var result = new long[this.size];
+        var i = 0;
+        if (this.zeroCount > 0) {
+            result[i++] = FREE;
+        }
+        for (final var key : this.keys) {
+            if (key != FREE) {
+                result[i++] = key;
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private void add(final long key, final long count, final long sum) {
+        if (key == FREE) {
+            if (this.zeroCount == 0) {
+                this.size++;
+            }
+            this.zeroCount += count;
+            this.zeroSum += sum;
+            return;
+        }
+
+        final var slot = this.find(key);
+        if (this.keys[slot] == key) {
+            this.counts[slot] += count;
+            this.sums[slot] += sum;
+            return;
+        }
+        this.keys[slot] = key;
+        this.counts[slot] = count;
+        this.sums[slot] = sum;
+        if (++this.size > (this.mask + 1) * 3 / 4) {
+            this.rehash();
+        }
+    }
+
+    /** The slot holding {@code key}, or the free slot where it belongs. */
+    private int find(final long key) {
+        var slot = (int) ((key * GOLDEN_RATIO) >>> this.shift);
+        while (this.keys[slot] != FREE && this.keys[slot] != key) {
+            slot = (slot + 1) & this.mask;
+        }
+        return slot;
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new long[capacity];
+        this.counts = new long[capacity];
+        this.sums = new long[capacity];
+        this.mask = capacity - 1;
+        this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    private void rehash() {
+        final var oldKeys = this.keys;
+        final var oldCounts = this.counts;
+        final var oldSums = this.sums;
+        this.allocate(oldKeys.length * 2);
+        for (var i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                final var slot = this.find(oldKeys[i]);
+                this.keys[slot] = oldKeys[i];
+                this.counts[slot] = oldCounts[i];
+                this.sums[slot] = oldSums[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package de.vptr.midas.gui.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Small thread-safe cache that evicts the least recently used entry once more
+ * than {@code maxEntries} entries are stored.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public class LruCache<K, V> {
+
+    private final Map<K, V> entries;
+
+    public LruCache(final int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                return this.size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized V get(final K key) {
+        return this.entries.get(key);
+    }
+
+    public synchronized boolean containsKey(final K key) {
+        return this.entries.containsKey(key);
+    }
+
+    public synchronized void put(final K key, final V value) {
+        this.entries.put(key, value);
+    }
+
+    /**
+     * Returns the value for {@code key}, storing the one computed by
+     * {@code mappingFunction} if there is none. The function runs under the
+     * cache's lock, so concurrent callers for a key get the same value; it
+     * must be cheap and must not use this cache.
+     */
+    public synchronized V computeIfAbsent(final K key, final Function<? super K, ? extends V> mappingFunction) {
+        return this.entries.computeIfAbsent(key, mappingFunction);
+    }
+
+    public synchronized V remove(final K key) {
+        return this.entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        this.entries.clear();
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+}
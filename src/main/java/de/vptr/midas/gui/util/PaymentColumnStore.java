@@ -0,0 +1,402 @@
+package de.vptr.midas.gui.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import de.vptr.midas.gui.dto.UserPaymentDto;
+
+/**
+ * Column-oriented, immutable snapshot of a list of payments for filtering,
+ * sorting and summing in memory.
+ *
+ * Every filterable attribute is kept in its own primitive array: amounts in
+ * minor units (cents), dates as epoch days, account and user ids as longs.
+ * Two index arrays hold the row numbers ordered by date and by amount, so a
+ * date or amount range is located by binary search and only the rows inside
+ * it are checked against the remaining criteria. Queries never touch the DTOs
+ * except to return the matching ones.
+ *
+ * Updates return a new store and leave this one unchanged, so a store can be
+ * shared between threads without locking.
+ */
+public final class PaymentColumnStore {
+
+    /** Stands in for a missing id, date or amount; sorts before all real values. */
+    static final long NONE = Long.MIN_VALUE;
+
+    private static final int AMOUNT_SCALE = 2;
+
+    private final UserPaymentDto[] rows;
+    private final long[] ids;
+    private final long[] amounts;
+    private final long[] days;
+    private final long[] sourceIds;
+    private final long[] targetIds;
+    private final long[] userIds;
+    private final int[] byDate;
+    private final int[] byAmount;
+
+    public enum Sort {
+        DATE, AMOUNT
+    }
+
+    /**
+     * Criteria for {@link #find} and {@link #sum}; null fields match
+     * everything. Ranges are inclusive.
+     */
+    public record Filter(LocalDate from, LocalDate to, BigDecimal minAmount, BigDecimal maxAmount, Long accountId,
+            Long userId) {
+
+        private static final Filter ALL = new Filter(null, null, null, null, null, null);
+
+        public static Filter all() {
+            return ALL;
+        }
+
+        public Filter withDateRange(final LocalDate from, final LocalDate to) {
+            return new Filter(from, to, this.minAmount, this.maxAmount, this.accountId, this.userId);
+        }
+
+        public Filter withAmountRange(final BigDecimal minAmount, final BigDecimal maxAmount) {
+            return new Filter(this.from, this.to, minAmount, maxAmount, this.accountId, this.userId);
+        }
+
+        /** Matches payments from or to the account. */
+        public Filter withAccount(final Long accountId) {
+            return new Filter(this.from, this.to, this.minAmount, this.maxAmount, accountId, this.userId);
+        }
+
+        public Filter withUser(final Long userId) {
+            return new Filter(this.from, this.to, this.minAmount, this.maxAmount, this.accountId, userId);
+        }
+    }
+
+    private PaymentColumnStore(final UserPaymentDto[] rows, final long[] ids, final long[] amounts,
+            final long[] days, final long[] sourceIds, final long[] targetIds, final long[] userIds,
+            final int[] byDate, final int[] byAmount) {
+        this.rows = rows;
+        this.ids = ids;
+        this.amounts = amounts;
+        this.days = days;
+        this.sourceIds = sourceIds;
+        this.targetIds = targetIds;
+        this.userIds = userIds;
+        this.byDate = byDate;
+        this.byAmount = byAmount;
+    }
+
+    public static PaymentColumnStore of(final Collection<UserPaymentDto> payments) {
+        final var rows = payments.toArray(UserPaymentDto[]::new);
+        final var size = rows.length;
+        final var columns = new PaymentColumnStore(rows, new long[size], new long[size], new long[size],
+                new long[size], new long[size], new long[size], null, null);
+        for (var row = 0; row < size; row++) {
+            columns.fill(row, rows[row]);
+        }
+        return columns.withIndexes(sortedIndex(columns.days), sortedIndex(columns.amounts));
+    }
+
+    private PaymentColumnStore withIndexes(final int[] byDate, final int[] byAmount) {
+        return new PaymentColumnStore(this.rows, this.ids, this.amounts, this.days, this.sourceIds, this.targetIds,
+                this.userIds, byDate, byAmount);
+    }
+
+    public int size() {
+        return this.rows.length;
+    }
+
+    /**
+     * Returns a store in which {@code payment} replaces the row with the same
+     * id, or is added if there is none. Copies the columns and moves a single
+     * entry in each index, so no re-sort is needed.
+     */
+    public PaymentColumnStore withPayment(final UserPaymentDto payment) {
+        final var existing = this.rowOf(payment.id);
+        final var row = existing >= 0 ? existing : this.rows.length;
+        final var size = Math.max(this.rows.length, row + 1);
+
+        final var updated = new PaymentColumnStore(Arrays.copyOf(this.rows, size), Arrays.copyOf(this.ids, size),
+                Arrays.copyOf(this.amounts, size), Arrays.copyOf(this.days, size),
+                Arrays.copyOf(this.sourceIds, size), Arrays.copyOf(this.targetIds, size),
+                Arrays.copyOf(this.userIds, size), null, null);
+        updated.fill(row, payment);
+
+        final var byDate = existing >= 0 ? removeFromIndex(this.byDate, row, false) : this.byDate;
+        final var byAmount = existing >= 0 ? removeFromIndex(this.byAmount, row, false) : this.byAmount;
+        return updated.withIndexes(insertIntoIndex(byDate, updated.days, row),
+                insertIntoIndex(byAmount, updated.amounts, row));
+    }
+
+    /**
+     * Returns a store without the row with the given id.
+     */
+    public PaymentColumnStore withoutPayment(final Long id) {
+        final var row = this.rowOf(id);
+        if (row < 0) {
+            return this;
+        }
+        return new PaymentColumnStore(remove(this.rows, row),
+                remove(this.ids, row), remove(this.amounts, row), remove(this.days, row),
+                remove(this.sourceIds, row), remove(this.targetIds, row), remove(this.userIds, row),
+                removeFromIndex(this.byDate, row, true), removeFromIndex(this.byAmount, row, true));
+    }
+
+    /**
+     * Returns the payments matching {@code filter}, ordered by {@code sort}.
+     * Payments with equal keys keep the order in which they were loaded or
+     * added.
+     *
+     * @param limit Maximum number of payments to return, or 0 for all
+     */
+    public List<UserPaymentDto> find(final Filter filter, final Sort sort, final boolean descending,
+            final int limit) {
+        final var query = new Query(filter);
+        final var index = sort == Sort.DATE ? this.byDate : this.byAmount;
+
+        // Walk only the part of the index that can match when the sort column is also filtered
+        final int start;
+        final int end;
+        if (sort == Sort.DATE) {
+            start = lowerBound(index, this.days, query.fromDay);
+            end = upperBound(index, this.days, query.toDay);
+        } else {
+            start = lowerBound(index, this.amounts, query.minAmount);
+            end = upperBound(index, this.amounts, query.maxAmount);
+        }
+
+        final var max = limit > 0 ? limit : Integer.MAX_VALUE;
+        final var result = new ArrayList<UserPaymentDto>();
+        for (var i = 0; i < end - start && result.size() < max; i++) {
+            final var row = index[descending ? end - 1 - i : start + i];
+            if (this.matches(row, query)) {
+                result.add(this.rows[row]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sums the amounts of the payments matching {@code filter}.
+     */
+    public BigDecimal sum(final Filter filter) {
+        final var query = new Query(filter);
+
+        // Either range narrows the rows to visit; without one, every row is checked
+        final int[] index;
+        final int start;
+        final int end;
+        if (query.fromDay != NONE || query.toDay != Long.MAX_VALUE) {
+            index = this.byDate;
+            start = lowerBound(index, this.days, query.fromDay);
+            end = upperBound(index, this.days, query.toDay);
+        } else {
+            index = this.byAmount;
+            start = lowerBound(index, this.amounts, query.minAmount);
+            end = upperBound(index, this.amounts, query.maxAmount);
+        }
+
+        var total = 0L;
+        for (var i = start; i < end; i++) {
+            final var row = index[i];
+            if (this.amounts[row] != NONE && this.matches(row, query)) {
+                total += this.amounts[row];
+            }
+        }
+        return BigDecimal.valueOf(total, AMOUNT_SCALE);
+    }
+
+    /**
+     * The rows dated between {@code from} and {@code to} (inclusive, null for
+     * open), ordered by date.
+     */
+    int[] rowsBetween(final LocalDate from, final LocalDate to) {
+        final var query = new Query(Filter.all().withDateRange(from, to));
+        return Arrays.copyOfRange(this.byDate, lowerBound(this.byDate, this.days, query.fromDay),
+                upperBound(this.byDate, this.days, query.toDay));
+    }
+
+    // Columns for aggregations in this package, which must not modify them
+
+    long[] amountColumn() {
+        return this.amounts;
+    }
+
+    long[] dayColumn() {
+        return this.days;
+    }
+
+    long[] sourceIdColumn() {
+        return this.sourceIds;
+    }
+
+    long[] targetIdColumn() {
+        return this.targetIds;
+    }
+
+    private boolean matches(final int row, final Query query) {
+        final var day = this.days[row];
+        if (day < query.fromDay || day > query.toDay) {
+            return false;
+        }
+        final var amount = this.amounts[row];
+        if (amount < query.minAmount || amount > query.maxAmount) {
+            return false;
+        }
+        if (query.accountId != NONE && this.sourceIds[row] != query.accountId
+                && this.targetIds[row] != query.accountId) {
+            return false;
+        }
+        return query.userId == NONE || this.userIds[row] == query.userId;
+    }
+
+    private int rowOf(final Long id) {
+        if (id == null) {
+            return -1;
+        }
+        for (var row = 0; row < this.ids.length; row++) {
+            if (this.ids[row] == id) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The filter converted to the column representation. Open bounds become
+     * the widest possible range; a lower bound excludes rows without a value.
+     */
+    private static final class Query {
+        final long fromDay;
+        final long toDay;
+        final long minAmount;
+        final long maxAmount;
+        final long accountId;
+        final long userId;
+
+        Query(final Filter filter) {
+            this.fromDay = filter.from() != null ? filter.from().toEpochDay() : NONE;
+            this.toDay = filter.to() != null ? filter.to().toEpochDay() : Long.MAX_VALUE;
+            this.minAmount = filter.minAmount() != null ? toMinorUnits(filter.minAmount()) : NONE;
+            this.maxAmount = filter.maxAmount() != null ? toMinorUnits(filter.maxAmount()) : Long.MAX_VALUE;
+            this.accountId = orNone(filter.accountId());
+            this.userId = orNone(filter.userId());
+        }
+    }
+
+    private void fill(final int row, final UserPaymentDto payment) {
+        this.rows[row] = payment;
+        this.ids[row] = orNone(payment.id);
+        this.amounts[row] = payment.amount != null ? toMinorUnits(payment.amount) : NONE;
+        this.days[row] = payment.date != null ? payment.date.toEpochDay() : NONE;
+        this.sourceIds[row] = orNone(payment.sourceId);
+        this.targetIds[row] = orNone(payment.targetId);
+        this.userIds[row] = payment.user != null ? orNone(payment.user.id) : NONE;
+    }
+
+    static long toMinorUnits(final BigDecimal amount) {
+        return amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    private static long orNone(final Long value) {
+        return value != null ? value : NONE;
+    }
+
+    /**
+     * Row numbers ordered by {@code keys}, equal keys in row order. Each key
+     * is replaced by its rank among all keys, which fits into the upper half
+     * of a long next to the row number, so a single primitive sort suffices.
+     */
+    private static int[] sortedIndex(final long[] keys) {
+        final var sortedKeys = keys.clone();
+        Arrays.sort(sortedKeys);
+
+        final var packed = new long[keys.length];
+        for (var row = 0; row < keys.length; row++) {
+            final long rank = Arrays.binarySearch(sortedKeys, keys[row]);
+            packed[row] = rank << 32 | row;
+        }
+        Arrays.sort(packed);
+
+        final var index = new int[keys.length];
+        for (var i = 0; i < index.length; i++) {
+            index[i] = (int) packed[i];
+        }
+        return index;
+    }
+
+    /**
+     * Inserts {@code row} into {@code index} after all rows with the same key.
+     */
+    private static int[] insertIntoIndex(final int[] index, final long[] keys, final int row) {
+        final var low = upperBound(index, keys, keys[row]);
+        final var result = new int[index.length + 1];
+        System.arraycopy(index, 0, result, 0, low);
+        result[low] = row;
+        System.arraycopy(index, low, result, low + 1, index.length - low);
+        return result;
+    }
+
+    /**
+     * Removes {@code row} from {@code index}. When the row itself is deleted,
+     * the rows after it move up by one and are renumbered.
+     */
+    private static int[] removeFromIndex(final int[] index, final int row, final boolean renumber) {
+        final var result = new int[index.length - 1];
+        var j = 0;
+        for (final var entry : index) {
+            if (entry != row) {
+                result[j++] = renumber && entry > row ? entry - 1 : entry;
+            }
+        }
+        return result;
+    }
+
+    private static long[] remove(final long[] column, final int row) {
+        final var result = new long[column.length - 1];
+        System.arraycopy(column, 0, result, 0, row);
+        System.arraycopy(column, row + 1, result, row, result.length - row);
+        return result;
+    }
+
+    private static UserPaymentDto[] remove(final UserPaymentDto[] column, final int row) {
+        final var result = new UserPaymentDto[column.length - 1];
+        System.arraycopy(column, 0, result, 0, row);
+        System.arraycopy(column, row + 1, result, row, result.length - row);
+        return result;
+    }
+
+    /** First position in {@code index} whose key is at least {@code key}. */
+    private static int lowerBound(final int[] index, final long[] keys, final long key) {
+        var low = 0;
+        var high = index.length;
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            if (keys[index[mid]] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** First position in {@code index} whose key is greater than {@code key}. */
+    private static int upperBound(final int[] index, final long[] keys, final long key) {
+        var low = 0;
+        var high = index.length;
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            if (keys[index[mid]] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,237 @@
+package de.vptr.midas.gui.util;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Aggregates the payments of a {@link PaymentColumnStore} into flows between
+ * accounts: totals per (source, target) pair, inflow and outflow per account
+ * and totals per period.
+ *
+ * Reads the store's primitive columns and sums into {@link LongSumMap}s, so
+ * no value is boxed per payment. A pair is packed into one long key, which
+ * requires account ids between 0 and 2^32 - 1; payments outside that range or
+ * without accounts or amount are counted as skipped. Large inputs are split
+ * into one chunk per worker of the common pool; the chunks are aggregated in
+ * parallel and merged.
+ */
+public final class PaymentFlowAggregator {
+
+    /** Minimum rows per chunk; smaller inputs are aggregated on the calling thread. */
+    static final int MIN_CHUNK_SIZE = 1 << 16;
+
+    private static final int AMOUNT_SCALE = 2;
+
+    public enum Granularity {
+        MONTH, YEAR;
+
+        long key(final LocalDate date) {
+            return this == MONTH ? date.getYear() * 12L + date.getMonthValue() - 1 : date.getYear();
+        }
+
+        String label(final long key) {
+            return this == MONTH
+                    ? YearMonth.of((int) Math.floorDiv(key, 12), (int) Math.floorMod(key, 12) + 1).toString()
+                    : Long.toString(key);
+        }
+    }
+
+    public record Flow(long sourceId, long targetId, long count, long amountCents) {
+        public BigDecimal amount() {
+            return BigDecimal.valueOf(this.amountCents, AMOUNT_SCALE);
+        }
+    }
+
+    public record AccountFlow(long accountId, long inflowCents, long outflowCents) {
+        public BigDecimal inflow() {
+            return BigDecimal.valueOf(this.inflowCents, AMOUNT_SCALE);
+        }
+
+        public BigDecimal outflow() {
+            return BigDecimal.valueOf(this.outflowCents, AMOUNT_SCALE);
+        }
+
+        public BigDecimal net() {
+            return BigDecimal.valueOf(this.inflowCents - this.outflowCents, AMOUNT_SCALE);
+        }
+    }
+
+    public record PeriodFlow(String period, long count, long amountCents) {
+        public BigDecimal amount() {
+            return BigDecimal.valueOf(this.amountCents, AMOUNT_SCALE);
+        }
+    }
+
+    private PaymentFlowAggregator() {
+    }
+
+    /**
+     * Aggregates the payments dated between {@code from} and {@code to}
+     * (inclusive, null for open).
+     */
+    public static Flows aggregate(final PaymentColumnStore store, final LocalDate from, final LocalDate to,
+            final Granularity granularity) {
+        final var rows = store.rowsBetween(from, to);
+        // Few large chunks: merging the maps of a chunk costs about as much as filling them
+        final var chunks = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(),
+                rows.length / MIN_CHUNK_SIZE));
+        final var chunkSize = (rows.length + chunks - 1) / chunks;
+
+        var stream = IntStream.range(0, chunks);
+        if (chunks > 1) {
+            stream = stream.parallel();
+        }
+        final var partial = stream
+                .mapToObj(chunk -> new Partial().add(store, rows, chunk * chunkSize,
+                        Math.min(rows.length, (chunk + 1) * chunkSize), granularity))
+                .reduce(Partial::merge)
+                .orElseGet(Partial::new);
+        return new Flows(partial, granularity, rows.length);
+    }
+
+    /**
+     * The result of an aggregation.
+     */
+    public static final class Flows {
+
+        private final Partial totals;
+        private final Granularity granularity;
+        private final int paymentCount;
+
+        private Flows(final Partial totals, final Granularity granularity, final int paymentCount) {
+            this.totals = totals;
+            this.granularity = granularity;
+            this.paymentCount = paymentCount;
+        }
+
+        /** Number of payments in the date range, including skipped ones. */
+        public int paymentCount() {
+            return this.paymentCount;
+        }
+
+        /** Number of payments left out for lack of accounts or amount. */
+        public long skipped() {
+            return this.totals.skipped;
+        }
+
+        /**
+         * The {@code limit} pairs with the highest total amount, highest
+         * first.
+         */
+        public List<Flow> topFlows(final int limit) {
+            if (limit <= 0) {
+                return List.of();
+            }
+            final var order = Comparator.comparingLong(Flow::amountCents)
+                    .thenComparingLong(Flow::count)
+                    .thenComparing(Comparator.comparingLong(Flow::sourceId).reversed())
+                    .thenComparing(Comparator.comparingLong(Flow::targetId).reversed());
+
+            // Bounded min-heap: a flow object is only created for pairs that may enter the top
+            final var top = new PriorityQueue<Flow>(limit + 1, order);
+            this.totals.pairs.forEach((pair, count, amount) -> {
+                if (top.size() == limit && amount < top.peek().amountCents()) {
+                    return;
+                }
+                top.add(new Flow(pair >>> 32, pair & 0xFFFFFFFFL, count, amount));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            });
+
+            final var result = new ArrayList<>(top);
+            result.sort(order.reversed());
+            return result;
+        }
+
+        /** Inflow and outflow of every account involved, by account id. */
+        public List<AccountFlow> accounts() {
+            final var accounts = new LongSumMap(this.totals.inflows.size() + this.totals.outflows.size());
+            accounts.addAll(this.totals.inflows);
+            accounts.addAll(this.totals.outflows);
+
+            final var result = new ArrayList<AccountFlow>(accounts.size());
+            for (final var account : accounts.sortedKeys()) {
+                result.add(new AccountFlow(account, this.totals.inflows.sum(account),
+                        this.totals.outflows.sum(account)));
+            }
+            return result;
+        }
+
+        /** Count and amount per period, oldest first. Undated payments are left out. */
+        public List<PeriodFlow> periods() {
+            final var result = new ArrayList<PeriodFlow>(this.totals.periods.size());
+            for (final var period : this.totals.periods.sortedKeys()) {
+                result.add(new PeriodFlow(this.granularity.label(period), this.totals.periods.count(period),
+                        this.totals.periods.sum(period)));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Totals of one chunk of rows, merged into each other afterwards.
+     */
+    private static final class Partial {
+        final LongSumMap pairs = new LongSumMap();
+        final LongSumMap inflows = new LongSumMap();
+        final LongSumMap outflows = new LongSumMap();
+        final LongSumMap periods = new LongSumMap();
+        long skipped;
+
+        Partial add(final PaymentColumnStore store, final int[] rows, final int start, final int end,
+                final Granularity granularity) {
+            final var amounts = store.amountColumn();
+            final var days = store.dayColumn();
+            final var sourceIds = store.sourceIdColumn();
+            final var targetIds = store.targetIdColumn();
+
+            // Rows are ordered by date, so the period only has to be derived when the day changes
+            var lastDay = PaymentColumnStore.NONE;
+            var period = 0L;
+
+            for (var i = start; i < end; i++) {
+                final var row = rows[i];
+                final var amount = amounts[row];
+                final var source = sourceIds[row];
+                final var target = targetIds[row];
+                if (amount == PaymentColumnStore.NONE || (source >>> 32) != 0 || (target >>> 32) != 0) {
+                    this.skipped++;
+                    continue;
+                }
+
+                final var pair = source << 32 | target;
+                this.pairs.add(pair, amount);
+                this.outflows.add(source, amount);
+                this.inflows.add(target, amount);
+
+                final var day = days[row];
+                if (day == PaymentColumnStore.NONE) {
+                    continue;
+                }
+                if (day != lastDay) {
+                    lastDay = day;
+                    period = granularity.key(LocalDate.ofEpochDay(day));
+                }
+                this.periods.add(period, amount);
+            }
+            return this;
+        }
+
+        Partial merge(final Partial other) {
+            this.pairs.addAll(other.pairs);
+            this.inflows.addAll(other.inflows);
+            this.outflows.addAll(other.outflows);
+            this.periods.addAll(other.periods);
+            this.skipped += other.skipped;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package de.vptr.midas.gui.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Immutable index answering "all items whose name starts with ..." queries,
+ * case-insensitively and in name order.
+ *
+ * The names are kept as one sorted array, which is a trie flattened in
+ * depth-first order: the items below any prefix form a contiguous range that
+ * two binary searches find in O(log n), and any page of that range is a
+ * slice. Items without a name are not indexed.
+ *
+ * @param <T> The item type
+ */
+public final class PrefixIndex<T> {
+
+    private final String[] keys;
+    private final Object[] items;
+
+    private PrefixIndex(final String[] keys, final Object[] items) {
+        this.keys = keys;
+        this.items = items;
+    }
+
+    public static <T> PrefixIndex<T> of(final Collection<? extends T> items, final Function<T, String> name) {
+        final var entries = new ArrayList<Entry>(items.size());
+        for (final T item : items) {
+            final var key = name.apply(item);
+            if (key != null && !key.isBlank()) {
+                entries.add(new Entry(normalize(key), item));
+            }
+        }
+        entries.sort(null);
+
+        final var keys = new String[entries.size()];
+        final var values = new Object[entries.size()];
+        for (var i = 0; i < keys.length; i++) {
+            keys[i] = entries.get(i).key;
+            values[i] = entries.get(i).item;
+        }
+        return new PrefixIndex<>(keys, values);
+    }
+
+    private record Entry(String key, Object item) implements Comparable<Entry> {
+        @Override
+        public int compareTo(final Entry other) {
+            return this.key.compareTo(other.key);
+        }
+    }
+
+    public int size() {
+        return this.keys.length;
+    }
+
+    /**
+     * @return The number of items whose name starts with {@code prefix}; all
+     *         items for a null or blank prefix
+     */
+    public int count(final String prefix) {
+        final var key = normalize(prefix);
+        return this.upperBound(key) - this.lowerBound(key);
+    }
+
+    /**
+     * @return Up to {@code limit} items whose name starts with {@code prefix},
+     *         skipping the first {@code offset}
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> find(final String prefix, final int offset, final int limit) {
+        final var key = normalize(prefix);
+        final var from = this.lowerBound(key) + Math.max(0, offset);
+        final var to = (int) Math.min(this.upperBound(key), (long) from + Math.max(0, limit));
+        if (from >= to) {
+            return List.of();
+        }
+        return (List<T>) Arrays.asList(Arrays.copyOfRange(this.items, from, to));
+    }
+
+    private int lowerBound(final String prefix) {
+        var low = 0;
+        var high = this.keys.length;
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            if (this.keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(final String prefix) {
+        var low = this.lowerBound(prefix);
+        var high = this.keys.length;
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            if (this.keys[mid].startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(final String name) {
+        return name == null ? "" : name.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,137 @@
+package de.vptr.midas.gui.util;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical loads: while a load for a key is in flight,
+ * further callers with the same key wait for it and receive its result (or
+ * its exception) instead of starting their own. Nothing is kept once the load
+ * has finished, so this never serves stale data.
+ *
+ * The load runs on a worker thread of its own rather than on the thread of
+ * the caller that started it, so interrupting one caller (e.g. a cancelled
+ * view load) only releases that caller. The load itself is interrupted once
+ * the last caller waiting for it has left.
+ *
+ * @param <K> The key type, identifying the request including its credential
+ *            scope
+ * @param <V> The result type
+ */
+public class SingleFlight<K, V> {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final var thread = new Thread(runnable, "midas-flight-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ConcurrentMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+    private static final class Flight<V> {
+        final CompletableFuture<V> result = new CompletableFuture<>();
+        volatile Future<?> task;
+        // The caller that starts the flight is its first waiter
+        private int waiters = 1;
+        private boolean abandoned;
+
+        synchronized boolean enter() {
+            if (this.abandoned) {
+                return false;
+            }
+            this.waiters++;
+            return true;
+        }
+
+        /**
+         * @return true if this was the last waiter and the load is still
+         *         running, which then has to be aborted
+         */
+        synchronized boolean leave() {
+            this.waiters--;
+            if (this.waiters == 0 && !this.result.isDone()) {
+                this.abandoned = true;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Runs {@code loader} unless a load for {@code key} is already in flight,
+     * in which case that load's outcome is shared.
+     *
+     * @param key    The request key
+     * @param loader The load to perform, run on a worker thread; must not
+     *               depend on the calling thread
+     * @return The loaded value, possibly shared with concurrent callers
+     * @throws CancellationException If the calling thread is interrupted while
+     *                               waiting
+     */
+    public V execute(final K key, final Supplier<V> loader) {
+        while (true) {
+            final var own = new Flight<V>();
+            final var existing = this.inFlight.putIfAbsent(key, own);
+            if (existing == null) {
+                own.task = EXECUTOR.submit(() -> this.run(key, own, loader));
+                return this.await(key, own);
+            }
+            if (existing.enter()) {
+                return this.await(key, existing);
+            }
+            // Every caller has left that load and it is being aborted
+            this.inFlight.remove(key, existing);
+        }
+    }
+
+    public int inFlightCount() {
+        return this.inFlight.size();
+    }
+
+    private void run(final K key, final Flight<V> flight, final Supplier<V> loader) {
+        // Removed before completing, so a caller that asks again once it has the result starts a new load
+        try {
+            final var value = loader.get();
+            this.inFlight.remove(key, flight);
+            flight.result.complete(value);
+        } catch (final Throwable t) {
+            this.inFlight.remove(key, flight);
+            flight.result.completeExceptionally(t);
+        }
+    }
+
+    private V await(final K key, final Flight<V> flight) {
+        try {
+            return flight.result.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (flight.leave()) {
+                this.inFlight.remove(key, flight);
+                flight.task.cancel(true);
+            }
+            final var cancelled = new CancellationException("Interrupted while waiting for " + key);
+            cancelled.initCause(e);
+            throw cancelled;
+        } catch (final ExecutionException e) {
+            // Rethrow the loader's exception so every caller handles it as if it had loaded itself
+            if (e.getCause() instanceof final RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof final Error cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+}
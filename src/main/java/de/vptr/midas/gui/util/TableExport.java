@@ -0,0 +1,286 @@
+package de.vptr.midas.gui.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes rows as CSV or XLSX straight to an output stream.
+ *
+ * Each row is encoded and written as soon as it is read from the source, so
+ * memory use does not grow with the number of rows: nothing but a buffer is
+ * held besides the rows themselves. The XLSX file is a minimal SpreadsheetML
+ * package with inline strings, generated without a spreadsheet library. A
+ * worksheet holds at most {@value #XLSX_MAX_ROWS} rows, so longer exports
+ * continue on further worksheets, each starting with the header row.
+ *
+ * @param <T> The row type
+ */
+public final class TableExport<T> {
+
+    public enum Format {
+        CSV("csv", "text/csv;charset=UTF-8"),
+        XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+        private final String extension;
+        private final String contentType;
+
+        Format(final String extension, final String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public String extension() {
+            return this.extension;
+        }
+
+        public String contentType() {
+            return this.contentType;
+        }
+    }
+
+    /** The row limit of a SpreadsheetML worksheet, including the header row */
+    static final int XLSX_MAX_ROWS = 1_048_576;
+
+    int xlsxMaxRows = XLSX_MAX_ROWS;
+
+    private final List<String> headers = new ArrayList<>();
+    private final List<Function<T, ?>> values = new ArrayList<>();
+
+    /**
+     * Adds a column. Numbers are written as numbers, null as an empty cell and
+     * everything else as its string representation.
+     */
+    public TableExport<T> column(final String header, final Function<T, ?> value) {
+        this.headers.add(header);
+        this.values.add(value);
+        return this;
+    }
+
+    /**
+     * Writes a header row and one row per element of {@code rows}. Leaves
+     * {@code out} open.
+     */
+    public void write(final OutputStream out, final Format format, final Iterable<? extends T> rows)
+            throws IOException {
+        final var sheet = format == Format.CSV ? new CsvSheet(out) : new XlsxSheet(out, this.xlsxMaxRows);
+        final var cells = new Object[this.values.size()];
+
+        sheet.row(this.headers.toArray());
+        for (final T row : rows) {
+            for (var i = 0; i < cells.length; i++) {
+                cells[i] = this.values.get(i).apply(row);
+            }
+            sheet.row(cells);
+        }
+        sheet.finish();
+    }
+
+    private interface Sheet {
+        void row(Object[] cells) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * RFC 4180 CSV with a byte order mark, so spreadsheet applications detect
+     * UTF-8.
+     */
+    private static final class CsvSheet implements Sheet {
+        private final Writer writer;
+
+        CsvSheet(final OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.writer.write('\uFEFF');
+        }
+
+        @Override
+        public void row(final Object[] cells) throws IOException {
+            for (var i = 0; i < cells.length; i++) {
+                if (i > 0) {
+                    this.writer.write(',');
+                }
+                this.writer.write(csvValue(cells[i]));
+            }
+            this.writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            this.writer.flush();
+        }
+    }
+
+    static String csvValue(final Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof final BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Number) {
+            return value.toString();
+        }
+
+        var text = value.toString();
+        // Keeps spreadsheet applications from evaluating user input as a formula
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0
+                || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    /**
+     * A workbook whose worksheets are streamed row by row. The package parts
+     * listing the worksheets are the last zip entries, written once the number
+     * of worksheets is known.
+     */
+    private static final class XlsxSheet implements Sheet {
+        private static final String CONTENT_TYPES_NS =
+                "http://schemas.openxmlformats.org/package/2006/content-types";
+        private static final String PACKAGE_TYPE = "application/vnd.openxmlformats-package";
+        private static final String SHEET_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml";
+        private static final String MAIN_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+        private static final String RELATIONSHIP_NS = "http://schemas.openxmlformats.org/package/2006/relationships";
+        private static final String DOCUMENT_NS =
+                "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+        private static final String XML_DECLARATION =
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+
+        private final ZipOutputStream zip;
+        private final Writer writer;
+        private final int maxRows;
+        private Object[] header;
+        private int sheets;
+        private int rowsInSheet;
+
+        XlsxSheet(final OutputStream out, final int maxRows) throws IOException {
+            this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+            this.writer = new BufferedWriter(new OutputStreamWriter(this.zip, StandardCharsets.UTF_8));
+            this.maxRows = maxRows;
+            this.startSheet();
+        }
+
+        private void startSheet() throws IOException {
+            this.sheets++;
+            this.rowsInSheet = 0;
+            this.zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + this.sheets + ".xml"));
+            this.writer.write(XML_DECLARATION + "<worksheet xmlns=\"" + MAIN_NS + "\"><sheetData>");
+        }
+
+        private void endSheet() throws IOException {
+            this.writer.write("</sheetData></worksheet>");
+            this.writer.flush();
+            this.zip.closeEntry();
+        }
+
+        private void part(final String name, final String xml) throws IOException {
+            this.zip.putNextEntry(new ZipEntry(name));
+            this.writer.write(XML_DECLARATION);
+            this.writer.write(xml);
+            this.writer.flush();
+            this.zip.closeEntry();
+        }
+
+        @Override
+        public void row(final Object[] cells) throws IOException {
+            if (this.header == null) {
+                this.header = cells.clone();
+            } else if (this.rowsInSheet == this.maxRows) {
+                this.endSheet();
+                this.startSheet();
+                this.writeRow(this.header);
+            }
+            this.writeRow(cells);
+        }
+
+        private void writeRow(final Object[] cells) throws IOException {
+            this.writer.write("<row>");
+            for (final var cell : cells) {
+                if (cell == null) {
+                    this.writer.write("<c/>");
+                } else if (cell instanceof final Number number) {
+                    final var text = number instanceof final BigDecimal decimal
+                            ? decimal.toPlainString()
+                            : number.toString();
+                    this.writer.write("<c><v>" + text + "</v></c>");
+                } else {
+                    this.writer.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+                    this.writer.write(xmlText(cell.toString()));
+                    this.writer.write("</t></is></c>");
+                }
+            }
+            this.writer.write("</row>");
+            this.rowsInSheet++;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            this.endSheet();
+
+            final var overrides = new StringBuilder();
+            final var sheets = new StringBuilder();
+            final var relationships = new StringBuilder();
+            for (var i = 1; i <= this.sheets; i++) {
+                overrides.append("<Override PartName=\"/xl/worksheets/sheet").append(i).append(".xml\" ContentType=\"")
+                        .append(SHEET_TYPE).append(".worksheet+xml\"/>");
+                sheets.append("<sheet name=\"Export").append(i > 1 ? " " + i : "").append("\" sheetId=\"").append(i)
+                        .append("\" r:id=\"rId").append(i).append("\"/>");
+                relationships.append("<Relationship Id=\"rId").append(i).append("\" Type=\"").append(DOCUMENT_NS)
+                        .append("/worksheet\" Target=\"worksheets/sheet").append(i).append(".xml\"/>");
+            }
+
+            this.part("[Content_Types].xml", "<Types xmlns=\"" + CONTENT_TYPES_NS + "\">"
+                    + "<Default Extension=\"rels\" ContentType=\"" + PACKAGE_TYPE + ".relationships+xml\"/>"
+                    + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+                    + "<Override PartName=\"/xl/workbook.xml\" ContentType=\"" + SHEET_TYPE + ".sheet.main+xml\"/>"
+                    + overrides
+                    + "</Types>");
+            this.part("_rels/.rels", "<Relationships xmlns=\"" + RELATIONSHIP_NS + "\">"
+                    + "<Relationship Id=\"rId1\" Type=\"" + DOCUMENT_NS + "/officeDocument\""
+                    + " Target=\"xl/workbook.xml\"/>"
+                    + "</Relationships>");
+            this.part("xl/workbook.xml", "<workbook xmlns=\"" + MAIN_NS + "\" xmlns:r=\"" + DOCUMENT_NS + "\">"
+                    + "<sheets>" + sheets + "</sheets></workbook>");
+            this.part("xl/_rels/workbook.xml.rels", "<Relationships xmlns=\"" + RELATIONSHIP_NS + "\">"
+                    + relationships
+                    + "</Relationships>");
+            this.zip.finish();
+        }
+    }
+
+    /**
+     * Escapes markup characters and drops characters XML 1.0 does not allow.
+     */
+    static String xmlText(final String text) {
+        final var result = new StringBuilder(text.length());
+        for (var i = 0; i < text.length(); i++) {
+            final var c = text.charAt(i);
+            switch (c) {
+                case '&' -> result.append("&amp;");
+                case '<' -> result.append("&lt;");
+                case '>' -> result.append("&gt;");
+                case '"' -> result.append("&quot;");
+                default -> {
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        result.append(c);
+                    }
+                }
+            }
+        }
+        return result.toString();
+    }
+}
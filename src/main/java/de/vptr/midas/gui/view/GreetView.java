@@ -1,28 +1,50 @@
 package de.vptr.midas.gui.view;
 
-import com.vaadin.flow.component.Key;
-import com.vaadin.flow.component.button.Button;
-import com.vaadin.flow.component.button.ButtonVariant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.html.H2;
-import com.vaadin.flow.component.html.Paragraph;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import com.vaadin.flow.component.orderedlayout.FlexLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
-import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Route;
 
+import de.vptr.midas.gui.component.DashboardTile;
+import de.vptr.midas.gui.component.RefreshButton;
+import de.vptr.midas.gui.dto.PostCommentDto;
+import de.vptr.midas.gui.dto.UserPaymentDto;
 import de.vptr.midas.gui.service.AuthService;
-import de.vptr.midas.gui.service.GreetService;
+import de.vptr.midas.gui.service.DashboardService;
+import de.vptr.midas.gui.util.NotificationUtil;
 import jakarta.inject.Inject;
 
 @Route(value = "", layout = MainLayout.class)
 public class GreetView extends VerticalLayout implements BeforeEnterObserver {
 
+    private static final Logger LOG = LoggerFactory.getLogger(GreetView.class);
+
     @Inject
     AuthService authService;
 
     @Inject
-    GreetService greetService;
+    DashboardService dashboardService;
+
+    private DashboardTile recentCommentsTile;
+    private DashboardTile recentPaymentsTile;
+    private DashboardTile postCountTile;
+    private DashboardTile pageCountTile;
+    private DashboardTile healthTile;
+    private H2 welcomeLabel;
+    private boolean uiBuilt;
 
     public GreetView() {
         this.setAlignItems(Alignment.CENTER);
@@ -31,35 +53,101 @@ public class GreetView extends VerticalLayout implements BeforeEnterObserver {
 
     @Override
     public void beforeEnter(final BeforeEnterEvent event) {
-        this.buildUI();
+        if (!this.uiBuilt) {
+            this.buildUI();
+            this.uiBuilt = true;
+        }
+        this.welcomeLabel.setText("Welcome, " + this.authService.getUsername() + "!");
+        this.loadDashboard(event.getUI());
     }
 
     private void buildUI() {
-        this.removeAll();
+        // Welcome header, the text is set on every navigation
+        this.welcomeLabel = new H2();
+        this.welcomeLabel.getStyle().set("margin-top", "var(--lumo-space-l)");
 
-        // Welcome header
-        final var welcomeLabel = new H2("Welcome, " + this.authService.getUsername() + "!");
-        welcomeLabel.getStyle().set("margin-top", "var(--lumo-space-l)");
+        final var refreshButton = new RefreshButton(e -> this.getUI().ifPresent(this::loadDashboard));
 
-        // Main content
-        final var content = new VerticalLayout();
-        content.setAlignItems(Alignment.CENTER);
-        content.addClassName("centered-content");
+        // Dashboard tiles
+        this.postCountTile = new DashboardTile("Posts");
+        this.pageCountTile = new DashboardTile("Pages");
+        this.healthTile = new DashboardTile("Backend");
+        this.recentCommentsTile = new DashboardTile("Recent Comments");
+        this.recentPaymentsTile = new DashboardTile("Recent Payments");
 
-        final var textField = new TextField("Your name");
-        textField.addThemeName("bordered");
-        textField.setWidth("300px");
+        final var tiles = new FlexLayout(this.postCountTile, this.pageCountTile, this.healthTile,
+                this.recentCommentsTile, this.recentPaymentsTile);
+        tiles.setFlexWrap(FlexLayout.FlexWrap.WRAP);
+        tiles.setJustifyContentMode(FlexComponent.JustifyContentMode.CENTER);
+        tiles.getStyle().set("gap", "var(--lumo-space-m)");
+        tiles.setWidthFull();
 
-        final var button = new Button("Say hello 👋", e -> {
-            content.add(new Paragraph(this.greetService.greet(textField.getValue())));
-        });
+        this.add(this.welcomeLabel, refreshButton, tiles);
+    }
+
+    private void loadDashboard(final UI ui) {
+        // Capture the auth header in the UI thread where VaadinSession is available
+        final var authHeader = this.authService.getAuthHeader();
+        if (authHeader == null) {
+            NotificationUtil.showError("Authentication failed");
+            return;
+        }
 
-        button.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
-        button.addClickShortcut(Key.ENTER);
-        button.setWidth("300px");
+        final var snapshot = this.dashboardService.getSnapshot(authHeader);
+
+        this.bindTile(ui, snapshot.getPostCount(), this.postCountTile, count -> this.createCounter(count));
+        this.bindTile(ui, snapshot.getPageCount(), this.pageCountTile, count -> this.createCounter(count));
+        this.bindTile(ui, snapshot.getBackendAvailable(), this.healthTile,
+                available -> new Span(available ? "Online" : "Offline"));
+        this.bindTile(ui, snapshot.getRecentComments(), this.recentCommentsTile, this::createCommentList);
+        this.bindTile(ui, snapshot.getRecentPayments(), this.recentPaymentsTile, this::createPaymentList);
+    }
+
+    private <T> void bindTile(final UI ui, final CompletableFuture<T> data, final DashboardTile tile,
+            final Function<T, Component> renderer) {
+        data.whenComplete((value, throwable) -> ui.access(() -> {
+            if (throwable != null) {
+                LOG.error("Error loading dashboard tile: {}", throwable.getMessage());
+                tile.showError("Unavailable");
+            } else {
+                tile.setContent(renderer.apply(value));
+            }
+        }));
+    }
+
+    private Component createCounter(final int count) {
+        final var counter = new Span(String.valueOf(count));
+        counter.getStyle().set("font-size", "var(--lumo-font-size-xxxl)");
+        return counter;
+    }
+
+    private Component createCommentList(final List<PostCommentDto> comments) {
+        final var list = new VerticalLayout();
+        list.setPadding(false);
+        list.setSpacing(false);
+
+        if (comments.isEmpty()) {
+            list.add(new Span("No recent comments"));
+        }
+        for (final var comment : comments) {
+            final var author = comment.user != null ? comment.user.username : "Unknown";
+            list.add(new Span(author + ": " + comment.content));
+        }
+        return list;
+    }
 
-        content.add(textField, button);
+    private Component createPaymentList(final List<UserPaymentDto> payments) {
+        final var list = new VerticalLayout();
+        list.setPadding(false);
+        list.setSpacing(false);
 
-        this.add(welcomeLabel, content);
+        if (payments.isEmpty()) {
+            list.add(new Span("No recent payments"));
+        }
+        for (final var payment : payments) {
+            list.add(new Span(payment.date + ": " + payment.amount + " (" + payment.sourceId + " → "
+                    + payment.targetId + ")"));
+        }
+        return list;
     }
-}
\ No newline at end of file
+}
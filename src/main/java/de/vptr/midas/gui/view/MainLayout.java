@@ -7,6 +7,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.icon.Icon;
@@ -22,8 +23,12 @@ import com.vaadin.flow.router.RouterLink;
 
 import de.vptr.midas.gui.component.ThemeToggleButton;
 import de.vptr.midas.gui.service.AuthService;
+import de.vptr.midas.gui.service.DashboardService;
 import de.vptr.midas.gui.service.HealthService;
+import de.vptr.midas.gui.service.PrefetchService;
 import de.vptr.midas.gui.service.ThemeService;
+import de.vptr.midas.gui.service.UserAccountService;
+import de.vptr.midas.gui.service.UserPaymentService;
 import jakarta.inject.Inject;
 
 public class MainLayout extends VerticalLayout implements RouterLayout, BeforeEnterObserver {
@@ -42,6 +47,18 @@ public class MainLayout extends VerticalLayout implements RouterLayout, BeforeEn
     @Inject
     ThemeService themeService;
 
+    @Inject
+    PrefetchService prefetchService;
+
+    @Inject
+    DashboardService dashboardService;
+
+    @Inject
+    UserAccountService accountService;
+
+    @Inject
+    UserPaymentService paymentService;
+
     private HorizontalLayout topBar;
     private HorizontalLayout rightSide;
     private boolean initialized = false;
@@ -49,13 +66,50 @@ public class MainLayout extends VerticalLayout implements RouterLayout, BeforeEn
     private Tabs createNavigationTabs() {
         final var tabs = new Tabs();
 
-        tabs.add(new Tab(new RouterLink("Home", GreetView.class)));
-        tabs.add(new Tab(new RouterLink("Accounts", UserAccountView.class)));
-        tabs.add(new Tab(new RouterLink("Payments", UserPaymentView.class)));
+        tabs.add(this.createNavigationTab("Home", GreetView.class));
+        tabs.add(this.createNavigationTab("Accounts", UserAccountView.class));
+        tabs.add(this.createNavigationTab("Payments", UserPaymentView.class));
+        tabs.add(this.createNavigationTab("Flows", PaymentFlowView.class));
 
         return tabs;
     }
 
+    private Tab createNavigationTab(final String text, final Class<? extends Component> target) {
+        final var tab = new Tab(new RouterLink(text, target));
+
+        // Hovering or focusing a tab signals the intent to navigate, so start loading its data right away
+        tab.getElement().addEventListener("mouseenter", e -> this.prefetch(target));
+        tab.getElement().addEventListener("focusin", e -> this.prefetch(target));
+
+        return tab;
+    }
+
+    private void prefetch(final Class<? extends Component> target) {
+        if (!this.authService.isAuthenticated() || this.isActiveView(target)) {
+            return;
+        }
+
+        final var authHeader = this.authService.getAuthHeader();
+        if (authHeader == null) {
+            return;
+        }
+
+        if (target == GreetView.class) {
+            // Dashboard snapshots are already shared for a few seconds, requesting one is enough
+            this.dashboardService.getSnapshot(authHeader);
+        } else if (target == UserAccountView.class) {
+            this.prefetchService.prefetch(target, authHeader, this.accountService::getAllAccounts);
+        } else if (target == UserPaymentView.class) {
+            this.prefetchService.prefetch(target, authHeader, this.paymentService::getAllPayments);
+        }
+    }
+
+    private boolean isActiveView(final Class<? extends Component> target) {
+        return this.getUI()
+                .map(ui -> ui.getInternals().getActiveRouterTargetsChain().stream().anyMatch(target::isInstance))
+                .orElse(false);
+    }
+
     /**
      * Get the shared top bar for views that need to add additional components
      */
@@ -1,7 +1,7 @@
 package de.vptr.midas.gui.view;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,7 +15,6 @@ import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridVariant;
 import com.vaadin.flow.component.html.H1;
 import com.vaadin.flow.component.html.H3;
-import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.TextArea;
@@ -26,16 +25,20 @@ import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Route;
 
+import de.vptr.midas.gui.component.ActionColumnRenderer;
+import de.vptr.midas.gui.component.CheckboxRenderer;
 import de.vptr.midas.gui.component.CreateButton;
-import de.vptr.midas.gui.component.DeleteButton;
-import de.vptr.midas.gui.component.EditButton;
+import de.vptr.midas.gui.component.ExportButton;
+import de.vptr.midas.gui.component.LinkRenderer;
 import de.vptr.midas.gui.component.RefreshButton;
 import de.vptr.midas.gui.dto.PageDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
 import de.vptr.midas.gui.service.AuthService;
 import de.vptr.midas.gui.service.PageService;
+import de.vptr.midas.gui.util.LoadCoordinator;
 import de.vptr.midas.gui.util.NotificationUtil;
+import de.vptr.midas.gui.util.TableExport;
 import jakarta.inject.Inject;
 
 @Route(value = "pages", layout = MainLayout.class)
@@ -43,6 +46,14 @@ public class PageView extends VerticalLayout implements BeforeEnterObserver {
 
     private static final Logger LOG = LoggerFactory.getLogger(PageView.class);
 
+    private static final TableExport<PageDto> EXPORT = new TableExport<PageDto>()
+            .column("ID", page -> page.id)
+            .column("Title", page -> page.title)
+            .column("Slug", page -> page.slug)
+            .column("Published", page -> page.published)
+            .column("Created", page -> page.created)
+            .column("Last Edit", page -> page.lastEdit);
+
     @Inject
     PageService pageService;
 
@@ -50,14 +61,18 @@ public class PageView extends VerticalLayout implements BeforeEnterObserver {
     AuthService authService;
 
     private Grid<PageDto> grid;
+    private final LoadCoordinator<List<PageDto>> loads = new LoadCoordinator<>(this, Duration.ofSeconds(30));
     private TextField searchField;
     private Button searchButton;
     private Button showPublishedButton;
 
     private Dialog pageDialog;
+    private H3 pageDialogTitle;
     private Binder<PageDto> binder;
     private PageDto currentPage;
 
+    private boolean uiBuilt;
+
     public PageView() {
         this.setSizeFull();
         this.setPadding(true);
@@ -71,17 +86,20 @@ public class PageView extends VerticalLayout implements BeforeEnterObserver {
             return;
         }
 
-        this.buildUI();
+        if (!this.uiBuilt) {
+            this.buildUI();
+            this.uiBuilt = true;
+        }
         this.loadPagesAsync();
     }
 
     private void loadPagesAsync() {
-        LOG.info("Starting async page loading");
+        LOG.debug("Starting async page loading");
 
         // Capture the auth header in the UI thread where VaadinSession is available
         final String authHeader;
         try {
-            authHeader = this.authService.getBasicAuthHeader();
+            authHeader = this.authService.getAuthHeader();
         } catch (final Exception e) {
             LOG.error("Failed to get auth header", e);
             this.getUI().ifPresent(ui -> ui.access(() -> {
@@ -90,8 +108,8 @@ public class PageView extends VerticalLayout implements BeforeEnterObserver {
             return;
         }
 
-        CompletableFuture.supplyAsync(() -> {
-            LOG.info("Making REST call to load pages");
+        this.loads.load("all", () -> {
+            LOG.debug("Making REST call to load pages");
             try {
                 return this.pageService.getAllPages(authHeader);
             } catch (final AuthenticationException e) {
@@ -104,23 +122,18 @@ public class PageView extends VerticalLayout implements BeforeEnterObserver {
                 LOG.error("Error loading pages", e);
                 throw new RuntimeException("Failed to load pages", e);
             }
-        }).orTimeout(30, TimeUnit.SECONDS)
-                .whenComplete((pages, throwable) -> {
-                    this.getUI().ifPresent(ui -> ui.access(() -> {
-                        if (throwable != null) {
-                            LOG.error("Error loading pages: {}", throwable.getMessage(), throwable);
-                            NotificationUtil.showError("Failed to load pages: " + throwable.getMessage());
-                        } else {
-                            LOG.info("Successfully loaded {} pages", pages.size());
-                            this.grid.setItems(pages);
-                        }
-                    }));
-                });
+        }, (pages, throwable) -> {
+            if (throwable != null) {
+                LOG.error("Error loading pages: {}", throwable.getMessage(), throwable);
+                NotificationUtil.showError("Failed to load pages: " + throwable.getMessage());
+            } else {
+                LOG.debug("Successfully loaded {} pages", pages.size());
+                this.grid.setItems(pages);
+            }
+        });
     }
 
     private void buildUI() {
-        this.removeAll();
-
         // Header
         final var header = new H1("Pages");
         this.add(header);
@@ -136,9 +149,6 @@ public class PageView extends VerticalLayout implements BeforeEnterObserver {
         // Grid
         this.createGrid();
         this.add(this.grid);
-
-        // Page dialog
-        this.createPageDialog();
     }
 
     private HorizontalLayout createFilterLayout() {
@@ -167,7 +177,12 @@ public class PageView extends VerticalLayout implements BeforeEnterObserver {
         final var createButton = new CreateButton(e -> this.openPageDialog(null));
         final var refreshButton = new RefreshButton(e -> this.loadPagesAsync());
 
-        layout.add(createButton, refreshButton);
+        final var csvButton = new ExportButton<>("pages", TableExport.Format.CSV, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+        final var xlsxButton = new ExportButton<>("pages", TableExport.Format.XLSX, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+
+        layout.add(createButton, refreshButton, csvButton, xlsxButton);
         return layout;
     }
 
@@ -180,41 +195,20 @@ public class PageView extends VerticalLayout implements BeforeEnterObserver {
         this.grid.addColumn(page -> page.id).setHeader("ID").setWidth("80px").setFlexGrow(0);
 
         // Make the title column clickable
-        this.grid.addComponentColumn(page -> {
-            final var titleSpan = new Span(page.title);
-            titleSpan.getStyle().set("color", "var(--lumo-primary-text-color)");
-            titleSpan.getStyle().set("cursor", "pointer");
-            titleSpan.getStyle().set("width", "100%");
-            titleSpan.getStyle().set("display", "block");
-            titleSpan.addClickListener(e -> this.openPageDialog(page));
-            return titleSpan;
-        }).setHeader("Title").setFlexGrow(2);
+        this.grid.addColumn(new LinkRenderer<>(page -> page.title, this::openPageDialog))
+                .setHeader("Title").setFlexGrow(2);
 
         this.grid.addColumn(page -> page.slug).setHeader("Slug").setWidth("150px").setFlexGrow(1);
 
-        this.grid.addComponentColumn(page -> {
-            final var checkbox = new Checkbox();
-            checkbox.setValue(page.published != null ? page.published : false);
-            checkbox.setReadOnly(true);
-            return checkbox;
-        }).setHeader("Published").setWidth("100px").setFlexGrow(0);
+        this.grid.addColumn(new CheckboxRenderer<>(page -> page.published))
+                .setHeader("Published").setWidth("100px").setFlexGrow(0);
 
         this.grid.addColumn(page -> page.created).setHeader("Created").setWidth("150px").setFlexGrow(0);
         this.grid.addColumn(page -> page.lastEdit).setHeader("Last Edit").setWidth("150px").setFlexGrow(0);
 
         // Add action column
-        this.grid.addComponentColumn(this::createActionButtons).setHeader("Actions").setWidth("150px").setFlexGrow(0);
-    }
-
-    private HorizontalLayout createActionButtons(final PageDto page) {
-        final var layout = new HorizontalLayout();
-        layout.setSpacing(true);
-
-        final var editButton = new EditButton(e -> this.openPageDialog(page));
-        final var deleteButton = new DeleteButton(e -> this.deletePage(page));
-
-        layout.add(editButton, deleteButton);
-        return layout;
+        this.grid.addColumn(new ActionColumnRenderer<>(this::openPageDialog, this::deletePage))
+                .setHeader("Actions").setWidth("150px").setFlexGrow(0);
     }
 
     private void createPageDialog() {
@@ -225,13 +219,8 @@ public class PageView extends VerticalLayout implements BeforeEnterObserver {
         this.pageDialog.setCloseOnOutsideClick(false);
 
         this.binder = new Binder<>(PageDto.class);
-    }
-
-    private void openPageDialog(final PageDto page) {
-        this.pageDialog.removeAll();
-        this.currentPage = page != null ? page : new PageDto();
 
-        final var title = new H3(page != null ? "Edit Page" : "Create Page");
+        this.pageDialogTitle = new H3();
 
         final var form = new FormLayout();
         form.setResponsiveSteps(new FormLayout.ResponsiveStep("0", 1));
@@ -274,12 +263,20 @@ public class PageView extends VerticalLayout implements BeforeEnterObserver {
 
         buttonLayout.add(saveButton, cancelButton);
 
-        final var dialogLayout = new VerticalLayout(title, form, buttonLayout);
+        final var dialogLayout = new VerticalLayout(this.pageDialogTitle, form, buttonLayout);
         dialogLayout.setSpacing(true);
         dialogLayout.setPadding(false);
         dialogLayout.setSizeFull();
 
         this.pageDialog.add(dialogLayout);
+    }
+
+    private void openPageDialog(final PageDto page) {
+        if (this.pageDialog == null) {
+            this.createPageDialog();
+        }
+        this.currentPage = page != null ? page : new PageDto();
+        this.pageDialogTitle.setText(page != null ? "Edit Page" : "Create Page");
 
         // Load current page data
         this.binder.readBean(this.currentPage);
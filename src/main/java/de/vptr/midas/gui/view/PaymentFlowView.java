@@ -0,0 +1,238 @@
+package de.vptr.midas.gui.view;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.GridVariant;
+import com.vaadin.flow.component.html.H1;
+import com.vaadin.flow.component.html.H3;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.textfield.IntegerField;
+import com.vaadin.flow.router.BeforeEnterEvent;
+import com.vaadin.flow.router.BeforeEnterObserver;
+import com.vaadin.flow.router.Route;
+
+import de.vptr.midas.gui.component.RefreshButton;
+import de.vptr.midas.gui.exception.AuthenticationException;
+import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.service.AuthService;
+import de.vptr.midas.gui.service.UserPaymentService;
+import de.vptr.midas.gui.util.LoadCoordinator;
+import de.vptr.midas.gui.util.NotificationUtil;
+import de.vptr.midas.gui.util.PaymentFlowAggregator;
+import de.vptr.midas.gui.util.PaymentFlowAggregator.AccountFlow;
+import de.vptr.midas.gui.util.PaymentFlowAggregator.Flow;
+import de.vptr.midas.gui.util.PaymentFlowAggregator.Flows;
+import de.vptr.midas.gui.util.PaymentFlowAggregator.Granularity;
+import de.vptr.midas.gui.util.PaymentFlowAggregator.PeriodFlow;
+import jakarta.inject.Inject;
+
+@Route(value = "payment-flows", layout = MainLayout.class)
+public class PaymentFlowView extends VerticalLayout implements BeforeEnterObserver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentFlowView.class);
+
+    @Inject
+    UserPaymentService paymentService;
+
+    @Inject
+    AuthService authService;
+
+    private final LoadCoordinator<Flows> loads = new LoadCoordinator<>(this, Duration.ofSeconds(30));
+    private DatePicker startDatePicker;
+    private DatePicker endDatePicker;
+    private ComboBox<Granularity> granularityField;
+    private IntegerField topField;
+    private Span summaryLabel;
+
+    private Grid<Flow> flowGrid;
+    private Grid<AccountFlow> accountGrid;
+    private Grid<PeriodFlow> periodGrid;
+
+    private Flows flows;
+
+    private boolean uiBuilt;
+
+    public PaymentFlowView() {
+        this.setSizeFull();
+        this.setPadding(true);
+        this.setSpacing(true);
+    }
+
+    @Override
+    public void beforeEnter(final BeforeEnterEvent event) {
+        if (!this.authService.isAuthenticated()) {
+            event.forwardTo(LoginView.class);
+            return;
+        }
+
+        if (!this.uiBuilt) {
+            this.buildUI();
+            this.uiBuilt = true;
+        }
+        this.analyzeAsync();
+    }
+
+    private void analyzeAsync() {
+        final LocalDate startDate = this.startDatePicker.getValue();
+        final LocalDate endDate = this.endDatePicker.getValue();
+        final Granularity granularity = this.granularityField.getValue() != null
+                ? this.granularityField.getValue()
+                : Granularity.MONTH;
+
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            NotificationUtil.showWarning("Start date must be before end date");
+            return;
+        }
+
+        // Capture the auth header in the UI thread where VaadinSession is available
+        final String authHeader;
+        try {
+            authHeader = this.authService.getAuthHeader();
+        } catch (final Exception e) {
+            LOG.error("Failed to get auth header", e);
+            NotificationUtil.showError("Authentication failed");
+            return;
+        }
+
+        this.loads.load(startDate + ".." + endDate + ":" + granularity, () -> {
+            try {
+                final var store = this.paymentService.getColumnStore(authHeader);
+                return PaymentFlowAggregator.aggregate(store, startDate, endDate, granularity);
+            } catch (final AuthenticationException e) {
+                LOG.error("Authentication failed while loading payment flows", e);
+                throw e;
+            } catch (final ServiceException e) {
+                LOG.error("Service error while loading payment flows", e);
+                throw e;
+            } catch (final Exception e) {
+                LOG.error("Error aggregating payment flows", e);
+                throw new RuntimeException("Failed to aggregate payment flows", e);
+            }
+        }, (result, throwable) -> {
+            if (throwable != null) {
+                LOG.error("Error loading payment flows: {}", throwable.getMessage(), throwable);
+                NotificationUtil.showError("Failed to load payment flows: " + throwable.getMessage());
+            } else {
+                this.showFlows(result);
+            }
+        });
+    }
+
+    private void showFlows(final Flows result) {
+        this.flows = result;
+        this.showTopFlows();
+        this.accountGrid.setItems(result.accounts());
+        this.periodGrid.setItems(result.periods());
+
+        final var summary = new StringBuilder().append(result.paymentCount()).append(" payments");
+        if (result.skipped() > 0) {
+            summary.append(", ").append(result.skipped()).append(" without accounts or amount skipped");
+        }
+        this.summaryLabel.setText(summary.toString());
+    }
+
+    private void showTopFlows() {
+        if (this.flows != null) {
+            final int limit = this.topField.getValue() != null ? this.topField.getValue() : 10;
+            this.flowGrid.setItems(this.flows.topFlows(limit));
+        }
+    }
+
+    private void buildUI() {
+        // Header
+        final var header = new H1("Payment Flows");
+        this.add(header);
+
+        // Filter controls
+        final var filterLayout = this.createFilterLayout();
+        this.add(filterLayout);
+
+        // Grids
+        this.createGrids();
+
+        final var totalsLayout = new HorizontalLayout();
+        totalsLayout.setWidthFull();
+        totalsLayout.setSpacing(true);
+        totalsLayout.add(this.createSection("Accounts", this.accountGrid),
+                this.createSection("Periods", this.periodGrid));
+
+        this.add(this.createSection("Top Flows", this.flowGrid), totalsLayout);
+    }
+
+    private HorizontalLayout createFilterLayout() {
+        final var layout = new HorizontalLayout();
+        layout.setAlignItems(Alignment.END);
+        layout.setSpacing(true);
+
+        this.startDatePicker = new DatePicker("Start Date");
+        this.startDatePicker.setWidth("150px");
+
+        this.endDatePicker = new DatePicker("End Date");
+        this.endDatePicker.setWidth("150px");
+
+        this.granularityField = new ComboBox<>("Period");
+        this.granularityField.setItems(Granularity.values());
+        this.granularityField.setItemLabelGenerator(granularity -> granularity == Granularity.MONTH ? "Month" : "Year");
+        this.granularityField.setValue(Granularity.MONTH);
+        this.granularityField.setWidth("120px");
+
+        // The top flows are picked from the last result, changing their number needs no new aggregation
+        this.topField = new IntegerField("Top Flows");
+        this.topField.setValue(10);
+        this.topField.setMin(1);
+        this.topField.setMax(100);
+        this.topField.setWidth("120px");
+        this.topField.addValueChangeListener(e -> this.showTopFlows());
+
+        final var analyzeButton = new Button("Analyze", e -> this.analyzeAsync());
+        analyzeButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+
+        final var refreshButton = new RefreshButton(e -> this.analyzeAsync());
+
+        this.summaryLabel = new Span();
+
+        layout.add(this.startDatePicker, this.endDatePicker, this.granularityField, this.topField, analyzeButton,
+                refreshButton, this.summaryLabel);
+        return layout;
+    }
+
+    private void createGrids() {
+        this.flowGrid = new Grid<>(Flow.class, false);
+        this.flowGrid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES);
+        this.flowGrid.addColumn(Flow::sourceId).setHeader("Source Account").setWidth("140px").setFlexGrow(0);
+        this.flowGrid.addColumn(Flow::targetId).setHeader("Target Account").setWidth("140px").setFlexGrow(0);
+        this.flowGrid.addColumn(Flow::count).setHeader("Payments").setWidth("120px").setFlexGrow(0);
+        this.flowGrid.addColumn(Flow::amount).setHeader("Amount").setFlexGrow(1);
+
+        this.accountGrid = new Grid<>(AccountFlow.class, false);
+        this.accountGrid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES);
+        this.accountGrid.addColumn(AccountFlow::accountId).setHeader("Account").setWidth("100px").setFlexGrow(0);
+        this.accountGrid.addColumn(AccountFlow::inflow).setHeader("Inflow").setFlexGrow(1);
+        this.accountGrid.addColumn(AccountFlow::outflow).setHeader("Outflow").setFlexGrow(1);
+        this.accountGrid.addColumn(AccountFlow::net).setHeader("Net").setFlexGrow(1);
+
+        this.periodGrid = new Grid<>(PeriodFlow.class, false);
+        this.periodGrid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES);
+        this.periodGrid.addColumn(PeriodFlow::period).setHeader("Period").setWidth("120px").setFlexGrow(0);
+        this.periodGrid.addColumn(PeriodFlow::count).setHeader("Payments").setWidth("120px").setFlexGrow(0);
+        this.periodGrid.addColumn(PeriodFlow::amount).setHeader("Amount").setFlexGrow(1);
+    }
+
+    private VerticalLayout createSection(final String title, final Grid<?> grid) {
+        final var section = new VerticalLayout(new H3(title), grid);
+        section.setPadding(false);
+        section.setSpacing(false);
+        return section;
+    }
+}
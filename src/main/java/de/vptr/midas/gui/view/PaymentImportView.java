@@ -0,0 +1,288 @@
+package de.vptr.midas.gui.view;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.confirmdialog.ConfirmDialog;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.GridVariant;
+import com.vaadin.flow.component.html.H1;
+import com.vaadin.flow.component.html.H3;
+import com.vaadin.flow.component.html.Paragraph;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.progressbar.ProgressBar;
+import com.vaadin.flow.component.upload.Upload;
+import com.vaadin.flow.component.upload.receivers.FileBuffer;
+import com.vaadin.flow.router.BeforeEnterEvent;
+import com.vaadin.flow.router.BeforeEnterObserver;
+import com.vaadin.flow.router.Route;
+
+import de.vptr.midas.gui.exception.AuthenticationException;
+import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.service.AuthService;
+import de.vptr.midas.gui.service.PaymentImportService;
+import de.vptr.midas.gui.service.PaymentImportService.ImportResult;
+import de.vptr.midas.gui.service.PaymentImportService.Progress;
+import de.vptr.midas.gui.service.PaymentImportService.RowResult;
+import de.vptr.midas.gui.service.PaymentImportService.Status;
+import de.vptr.midas.gui.util.LoadCoordinator;
+import de.vptr.midas.gui.util.NotificationUtil;
+import jakarta.inject.Inject;
+
+@Route(value = "payments/import", layout = MainLayout.class)
+public class PaymentImportView extends VerticalLayout implements BeforeEnterObserver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentImportView.class);
+
+    private static final int MAX_FILE_SIZE = 64 * 1024 * 1024;
+
+    @Inject
+    PaymentImportService importService;
+
+    @Inject
+    AuthService authService;
+
+    // Leaving the view cancels the import, the rows created so far are kept
+    private final LoadCoordinator<ImportResult> loads = new LoadCoordinator<>(this, Duration.ofMinutes(30));
+    private FileBuffer buffer;
+    private Upload upload;
+    private ProgressBar progressBar;
+    private Span progressLabel;
+    private Grid<RowResult> problemGrid;
+    private boolean importing;
+
+    private boolean uiBuilt;
+
+    public PaymentImportView() {
+        this.setSizeFull();
+        this.setPadding(true);
+        this.setSpacing(true);
+        this.addDetachListener(event -> this.importing = false);
+    }
+
+    @Override
+    public void beforeEnter(final BeforeEnterEvent event) {
+        if (!this.authService.isAuthenticated()) {
+            event.forwardTo(LoginView.class);
+            return;
+        }
+
+        if (!this.uiBuilt) {
+            this.buildUI();
+            this.uiBuilt = true;
+        }
+    }
+
+    private void importAsync(final String fileName) {
+        if (this.importing) {
+            NotificationUtil.showWarning("An import is already running");
+            this.deleteUpload(this.buffer.getFileData().getFile());
+            return;
+        }
+
+        // Capture the auth header in the UI thread where VaadinSession is available
+        final String authHeader;
+        try {
+            authHeader = this.authService.getAuthHeader();
+        } catch (final Exception e) {
+            LOG.error("Failed to get auth header", e);
+            NotificationUtil.showError("Authentication failed");
+            return;
+        }
+
+        final var file = this.buffer.getFileData().getFile();
+        final var ui = UI.getCurrent();
+        this.importing = true;
+        this.problemGrid.setItems();
+        this.showProgress(new Progress(0, 0, 0, 0, 0));
+        this.progressBar.setVisible(true);
+
+        LOG.info("Importing payments from {}", fileName);
+        this.loads.load(fileName, () -> {
+            try (final var input = new FileInputStream(file)) {
+                return this.importService.importPayments(input, authHeader,
+                        progress -> ui.access(() -> this.showProgress(progress)));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (final AuthenticationException e) {
+                LOG.error("Authentication failed while importing payments", e);
+                throw e;
+            } catch (final ServiceException e) {
+                LOG.error("Service error while importing payments", e);
+                throw e;
+            } finally {
+                this.deleteUpload(file);
+            }
+        }, (result, throwable) -> {
+            this.importing = false;
+            this.progressBar.setVisible(false);
+            this.upload.clearFileList();
+            if (throwable != null) {
+                LOG.error("Error importing payments: {}", throwable.getMessage(), throwable);
+                NotificationUtil.showError("Failed to import payments: " + throwable.getMessage());
+                return;
+            }
+
+            this.showProgress(result.totals());
+            this.problemGrid.setItems(result.problems());
+            if (result.problems().isEmpty()) {
+                NotificationUtil.showSuccess(result.totals().created() + " payments imported");
+            } else {
+                NotificationUtil.showWarning(result.totals().created() + " payments imported, "
+                        + (result.totals().processed() - result.totals().created()) + " rows skipped");
+            }
+
+            final var duplicates = result.problems().stream()
+                    .filter(row -> row.status() == Status.DUPLICATE && row.payment() != null)
+                    .toList();
+            if (!duplicates.isEmpty()) {
+                this.confirmDuplicates(result.problems(), duplicates);
+            }
+        });
+    }
+
+    private void confirmDuplicates(final List<RowResult> problems, final List<RowResult> duplicates) {
+        final var confirmDialog = new ConfirmDialog();
+        confirmDialog.setHeader("Import duplicates?");
+        confirmDialog.setText(duplicates.size() + " rows match an existing payment or an earlier row with the "
+                + "same accounts, amount and date. Import them as separate payments anyway?");
+        confirmDialog.setCancelable(true);
+        confirmDialog.setCancelText("Skip");
+        confirmDialog.setConfirmText("Import");
+        confirmDialog.addConfirmListener(e -> this.importDuplicatesAsync(problems, duplicates));
+        confirmDialog.open();
+    }
+
+    private void importDuplicatesAsync(final List<RowResult> problems, final List<RowResult> duplicates) {
+        if (this.importing) {
+            NotificationUtil.showWarning("An import is already running");
+            return;
+        }
+
+        // Capture the auth header in the UI thread where VaadinSession is available
+        final String authHeader;
+        try {
+            authHeader = this.authService.getAuthHeader();
+        } catch (final Exception e) {
+            LOG.error("Failed to get auth header", e);
+            NotificationUtil.showError("Authentication failed");
+            return;
+        }
+
+        final var ui = UI.getCurrent();
+        this.importing = true;
+        this.showProgress(new Progress(0, 0, 0, 0, 0));
+        this.progressBar.setVisible(true);
+
+        LOG.info("Importing {} confirmed duplicate payments", duplicates.size());
+        this.loads.load("duplicates", () -> {
+            try {
+                return this.importService.importDuplicates(duplicates, authHeader,
+                        progress -> ui.access(() -> this.showProgress(progress)));
+            } catch (final AuthenticationException e) {
+                LOG.error("Authentication failed while importing duplicate payments", e);
+                throw e;
+            } catch (final ServiceException e) {
+                LOG.error("Service error while importing duplicate payments", e);
+                throw e;
+            }
+        }, (result, throwable) -> {
+            this.importing = false;
+            this.progressBar.setVisible(false);
+            if (throwable != null) {
+                LOG.error("Error importing duplicate payments: {}", throwable.getMessage(), throwable);
+                NotificationUtil.showError("Failed to import payments: " + throwable.getMessage());
+                return;
+            }
+
+            this.showProgress(result.totals());
+            // The confirmed rows are no longer skipped, unless creating them failed
+            final var remaining = new ArrayList<RowResult>();
+            for (final var row : problems) {
+                if (!duplicates.contains(row)) {
+                    remaining.add(row);
+                }
+            }
+            remaining.addAll(result.problems());
+            remaining.sort(Comparator.comparingInt(RowResult::line));
+            this.problemGrid.setItems(remaining);
+            if (result.problems().isEmpty()) {
+                NotificationUtil.showSuccess(result.totals().created() + " duplicate payments imported");
+            } else {
+                NotificationUtil.showWarning(result.totals().created() + " duplicate payments imported, "
+                        + result.totals().failed() + " failed");
+            }
+        });
+    }
+
+    private void deleteUpload(final File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (final IOException e) {
+            LOG.warn("Could not delete uploaded file {}", file, e);
+        }
+    }
+
+    private void showProgress(final Progress progress) {
+        this.progressLabel.setText(progress.processed() + " rows processed: " + progress.created() + " created, "
+                + progress.duplicates() + " duplicates, " + progress.invalid() + " invalid, " + progress.failed()
+                + " failed");
+    }
+
+    private void buildUI() {
+        // Header
+        final var header = new H1("Import Payments");
+        this.add(header);
+
+        this.add(new Paragraph("Upload a CSV file with a header row naming the columns source, target, amount, "
+                + "date and optionally comment. Source and target are account IDs, amounts may use a decimal "
+                + "comma and dates may be written as 2024-03-31 or 31.03.2024. Rows that match an existing payment are "
+                + "only imported after you confirm them."));
+
+        this.buffer = new FileBuffer();
+        this.upload = new Upload(this.buffer);
+        this.upload.setAcceptedFileTypes(".csv", ".txt", "text/csv", "text/plain");
+        this.upload.setMaxFiles(1);
+        this.upload.setMaxFileSize(MAX_FILE_SIZE);
+        this.upload.addSucceededListener(e -> this.importAsync(e.getFileName()));
+        this.upload.addFileRejectedListener(e -> NotificationUtil.showError(e.getErrorMessage()));
+
+        final var backButton = new Button("Back to Payments", e -> this.getUI()
+                .ifPresent(ui -> ui.navigate(UserPaymentView.class)));
+        backButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+
+        final var uploadLayout = new HorizontalLayout(this.upload, backButton);
+        uploadLayout.setAlignItems(Alignment.CENTER);
+        this.add(uploadLayout);
+
+        // Progress
+        this.progressBar = new ProgressBar();
+        this.progressBar.setIndeterminate(true);
+        this.progressBar.setVisible(false);
+        this.progressLabel = new Span();
+        this.add(this.progressBar, this.progressLabel);
+
+        // Rows that were not created
+        this.problemGrid = new Grid<>(RowResult.class, false);
+        this.problemGrid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES);
+        this.problemGrid.addColumn(RowResult::line).setHeader("Line").setWidth("100px").setFlexGrow(0);
+        this.problemGrid.addColumn(RowResult::status).setHeader("Status").setWidth("140px").setFlexGrow(0);
+        this.problemGrid.addColumn(RowResult::message).setHeader("Message").setFlexGrow(1);
+        this.add(new H3("Skipped Rows"), this.problemGrid);
+    }
+}
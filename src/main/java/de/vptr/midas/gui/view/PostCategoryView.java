@@ -1,8 +1,9 @@
 package de.vptr.midas.gui.view;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,16 +26,21 @@ import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Route;
 
+import de.vptr.midas.gui.component.ActionColumnRenderer;
 import de.vptr.midas.gui.component.CreateButton;
-import de.vptr.midas.gui.component.DeleteButton;
-import de.vptr.midas.gui.component.EditButton;
+import de.vptr.midas.gui.component.ExportButton;
 import de.vptr.midas.gui.component.RefreshButton;
 import de.vptr.midas.gui.dto.PostCategoryDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
 import de.vptr.midas.gui.service.AuthService;
 import de.vptr.midas.gui.service.PostCategoryService;
+import de.vptr.midas.gui.service.PostService;
+import de.vptr.midas.gui.util.CategoryStats;
+import de.vptr.midas.gui.util.CategoryTree;
+import de.vptr.midas.gui.util.LoadCoordinator;
 import de.vptr.midas.gui.util.NotificationUtil;
+import de.vptr.midas.gui.util.TableExport;
 import jakarta.inject.Inject;
 
 @Route(value = "categories", layout = MainLayout.class)
@@ -42,19 +48,35 @@ public class PostCategoryView extends VerticalLayout implements BeforeEnterObser
 
     private static final Logger LOG = LoggerFactory.getLogger(PostCategoryView.class);
 
+    private static final TableExport<PostCategoryDto> EXPORT = new TableExport<PostCategoryDto>()
+            .column("ID", category -> category.id)
+            .column("Name", category -> category.name)
+            .column("Parent", category -> category.parent != null ? category.parent.name : null);
+
     @Inject
     PostCategoryService categoryService;
 
+    @Inject
+    PostService postService;
+
     @Inject
     AuthService authService;
 
     private TreeGrid<PostCategoryDto> treeGrid;
+    private final LoadCoordinator<List<PostCategoryDto>> loads = new LoadCoordinator<>(this, Duration.ofSeconds(30));
+    private final LoadCoordinator<CategoryStats> statsLoads = new LoadCoordinator<>(this, Duration.ofSeconds(30));
     private List<PostCategoryDto> allCategories;
+    private CategoryTree categoryTree = CategoryTree.of(List.of());
+    private CategoryStats categoryStats;
 
     private Dialog categoryDialog;
+    private H3 categoryDialogTitle;
+    private ComboBox<PostCategoryDto> parentField;
     private Binder<PostCategoryDto> binder;
     private PostCategoryDto currentCategory;
 
+    private boolean uiBuilt;
+
     public PostCategoryView() {
         this.setSizeFull();
         this.setPadding(true);
@@ -68,17 +90,20 @@ public class PostCategoryView extends VerticalLayout implements BeforeEnterObser
             return;
         }
 
-        this.buildUI();
+        if (!this.uiBuilt) {
+            this.buildUI();
+            this.uiBuilt = true;
+        }
         this.loadCategoriesAsync();
     }
 
     private void loadCategoriesAsync() {
-        LOG.info("Starting async category loading");
+        LOG.debug("Starting async category loading");
 
         // Capture the auth header in the UI thread where VaadinSession is available
         final String authHeader;
         try {
-            authHeader = this.authService.getBasicAuthHeader();
+            authHeader = this.authService.getAuthHeader();
         } catch (final Exception e) {
             LOG.error("Failed to get auth header", e);
             this.getUI().ifPresent(ui -> ui.access(() -> {
@@ -87,8 +112,8 @@ public class PostCategoryView extends VerticalLayout implements BeforeEnterObser
             return;
         }
 
-        CompletableFuture.supplyAsync(() -> {
-            LOG.info("Making REST call to load categories");
+        this.loads.load("all", () -> {
+            LOG.debug("Making REST call to load categories");
             try {
                 return this.categoryService.getAllCategories(authHeader);
             } catch (final AuthenticationException e) {
@@ -101,40 +126,50 @@ public class PostCategoryView extends VerticalLayout implements BeforeEnterObser
                 LOG.error("Error loading categories", e);
                 throw new RuntimeException("Failed to load categories", e);
             }
-        }).orTimeout(30, TimeUnit.SECONDS)
-                .whenComplete((categories, throwable) -> {
-                    this.getUI().ifPresent(ui -> ui.access(() -> {
-                        if (throwable != null) {
-                            LOG.error("Error loading categories: {}", throwable.getMessage(), throwable);
-                            NotificationUtil.showError("Failed to load categories: " + throwable.getMessage());
-                        } else {
-                            LOG.info("Successfully loaded {} categories", categories.size());
-                            this.allCategories = categories;
-                            this.updateTreeGrid();
-                        }
-                    }));
-                });
+        }, (categories, throwable) -> {
+            if (throwable != null) {
+                LOG.error("Error loading categories: {}", throwable.getMessage(), throwable);
+                NotificationUtil.showError("Failed to load categories: " + throwable.getMessage());
+            } else {
+                LOG.debug("Successfully loaded {} categories", categories.size());
+                this.allCategories = categories;
+                this.updateTreeGrid();
+                this.loadStatsAsync(authHeader);
+            }
+        });
     }
 
-    private void updateTreeGrid() {
-        // Find root categories (categories without parent)
-        final var rootCategories = this.allCategories.stream()
-                .filter(PostCategoryDto::isRootCategory)
-                .toList();
+    private void loadStatsAsync(final String authHeader) {
+        final var tree = this.categoryTree;
+        this.statsLoads.load("all", () -> this.postService.getCategoryStats(tree, authHeader), (stats, throwable) -> {
+            if (throwable != null) {
+                // The tree is usable without the counts, so this is not worth interrupting the user for
+                LOG.warn("Error loading category post counts: {}", throwable.getMessage());
+                return;
+            }
+            this.categoryStats = stats;
+            this.treeGrid.getDataProvider().refreshAll();
+        });
+    }
 
-        this.treeGrid.setItems(rootCategories, this::getChildrenOfCategory);
-        this.treeGrid.expandRecursively(rootCategories, 2); // Expand up to 2 levels
+    private String statistic(final PostCategoryDto category, final Function<CategoryStats.Counts, Object> value) {
+        if (this.categoryStats == null) {
+            return "";
+        }
+        final var result = value.apply(this.categoryStats.get(category));
+        return result != null ? String.valueOf(result) : "";
     }
 
-    private List<PostCategoryDto> getChildrenOfCategory(final PostCategoryDto parent) {
-        return this.allCategories.stream()
-                .filter(category -> category.parent != null && category.parent.id.equals(parent.id))
-                .toList();
+    private void updateTreeGrid() {
+        this.categoryTree = CategoryTree.of(this.allCategories);
+        this.categoryStats = null;
+        final var rootCategories = this.categoryTree.getRoots();
+
+        this.treeGrid.setItems(rootCategories, this.categoryTree::getChildren);
+        this.treeGrid.expandRecursively(rootCategories, 2); // Expand up to 2 levels
     }
 
     private void buildUI() {
-        this.removeAll();
-
         // Header
         final var header = new H1("Post Categories");
         this.add(header);
@@ -146,9 +181,6 @@ public class PostCategoryView extends VerticalLayout implements BeforeEnterObser
         // Tree Grid
         this.createTreeGrid();
         this.add(this.treeGrid);
-
-        // Category dialog
-        this.createCategoryDialog();
     }
 
     private HorizontalLayout createButtonLayout() {
@@ -158,7 +190,12 @@ public class PostCategoryView extends VerticalLayout implements BeforeEnterObser
         final var createButton = new CreateButton(e -> this.openCategoryDialog(null));
         final var refreshButton = new RefreshButton(e -> this.loadCategoriesAsync());
 
-        layout.add(createButton, refreshButton);
+        final var csvButton = new ExportButton<>("post-categories", TableExport.Format.CSV, EXPORT,
+                () -> this.allCategories != null ? this.allCategories.stream() : Stream.empty());
+        final var xlsxButton = new ExportButton<>("post-categories", TableExport.Format.XLSX, EXPORT,
+                () -> this.allCategories != null ? this.allCategories.stream() : Stream.empty());
+
+        layout.add(createButton, refreshButton, csvButton, xlsxButton);
         return layout;
     }
 
@@ -177,22 +214,27 @@ public class PostCategoryView extends VerticalLayout implements BeforeEnterObser
                 .setHeader("Type")
                 .setFlexGrow(1);
 
-        // Add action column
-        this.treeGrid.addComponentColumn(this::createActionButtons)
-                .setHeader("Actions")
-                .setWidth("150px")
+        // Post counts fill in once loaded; the total includes all subcategories
+        this.treeGrid.addColumn(category -> this.statistic(category, CategoryStats.Counts::posts))
+                .setHeader("Posts")
+                .setWidth("100px")
                 .setFlexGrow(0);
-    }
 
-    private HorizontalLayout createActionButtons(final PostCategoryDto category) {
-        final var layout = new HorizontalLayout();
-        layout.setSpacing(true);
+        this.treeGrid.addColumn(category -> this.statistic(category, CategoryStats.Counts::subtreePosts))
+                .setHeader("Total Posts")
+                .setWidth("120px")
+                .setFlexGrow(0);
 
-        final var editButton = new EditButton(e -> this.openCategoryDialog(category));
-        final var deleteButton = new DeleteButton(e -> this.deleteCategory(category));
+        this.treeGrid.addColumn(category -> this.statistic(category, CategoryStats.Counts::subtreeLastPost))
+                .setHeader("Last Post")
+                .setWidth("180px")
+                .setFlexGrow(0);
 
-        layout.add(editButton, deleteButton);
-        return layout;
+        // Add action column
+        this.treeGrid.addColumn(new ActionColumnRenderer<>(this::openCategoryDialog, this::deleteCategory))
+                .setHeader("Actions")
+                .setWidth("150px")
+                .setFlexGrow(0);
     }
 
     private void createCategoryDialog() {
@@ -203,13 +245,8 @@ public class PostCategoryView extends VerticalLayout implements BeforeEnterObser
         this.categoryDialog.setCloseOnOutsideClick(false);
 
         this.binder = new Binder<>(PostCategoryDto.class);
-    }
-
-    private void openCategoryDialog(final PostCategoryDto category) {
-        this.categoryDialog.removeAll();
-        this.currentCategory = category != null ? category : new PostCategoryDto();
 
-        final var title = new H3(category != null ? "Edit Category" : "Create Category");
+        this.categoryDialogTitle = new H3();
 
         final var form = new FormLayout();
         form.setResponsiveSteps(new FormLayout.ResponsiveStep("0", 1));
@@ -219,23 +256,15 @@ public class PostCategoryView extends VerticalLayout implements BeforeEnterObser
         nameField.setRequired(true);
         nameField.setWidthFull();
 
-        final var parentField = new ComboBox<PostCategoryDto>("Parent Category");
-        parentField.setItemLabelGenerator(cat -> cat.name);
-        parentField.setWidthFull();
-        if (this.allCategories != null) {
-            // Only show categories that are not descendants of the current category
-            final var availableParents = this.allCategories.stream()
-                    .filter(cat -> category == null || !this.isDescendantOf(cat, category))
-                    .filter(cat -> category == null || !cat.id.equals(category.id))
-                    .toList();
-            parentField.setItems(availableParents);
-        }
+        this.parentField = new ComboBox<>("Parent Category");
+        this.parentField.setItemLabelGenerator(cat -> cat.name);
+        this.parentField.setWidthFull();
 
         // Bind fields
         this.binder.bind(nameField, cat -> cat.name, (cat, value) -> cat.name = value);
-        this.binder.bind(parentField, cat -> cat.parent, (cat, value) -> cat.parent = value);
+        this.binder.bind(this.parentField, cat -> cat.parent, (cat, value) -> cat.parent = value);
 
-        form.add(nameField, parentField);
+        form.add(nameField, this.parentField);
 
         // Button layout
         final var buttonLayout = new HorizontalLayout();
@@ -249,38 +278,34 @@ public class PostCategoryView extends VerticalLayout implements BeforeEnterObser
 
         buttonLayout.add(saveButton, cancelButton);
 
-        final var dialogLayout = new VerticalLayout(title, form, buttonLayout);
+        final var dialogLayout = new VerticalLayout(this.categoryDialogTitle, form, buttonLayout);
         dialogLayout.setSpacing(true);
         dialogLayout.setPadding(false);
         dialogLayout.setSizeFull();
 
         this.categoryDialog.add(dialogLayout);
-
-        // Load current category data
-        this.binder.readBean(this.currentCategory);
-
-        this.categoryDialog.open();
     }
 
-    private boolean isDescendantOf(final PostCategoryDto potential, final PostCategoryDto ancestor) {
-        if (potential.parent == null) {
-            return false;
-        }
-        if (potential.parent.id.equals(ancestor.id)) {
-            return true;
+    private void openCategoryDialog(final PostCategoryDto category) {
+        if (this.categoryDialog == null) {
+            this.createCategoryDialog();
         }
+        this.currentCategory = category != null ? category : new PostCategoryDto();
+        this.categoryDialogTitle.setText(category != null ? "Edit Category" : "Create Category");
 
-        // Find the parent in the list and check recursively
-        final var parent = this.allCategories.stream()
-                .filter(cat -> cat.id.equals(potential.parent.id))
-                .findFirst()
-                .orElse(null);
-
-        if (parent != null) {
-            return this.isDescendantOf(parent, ancestor);
+        if (this.allCategories != null) {
+            // Only show categories that are not descendants of the current category
+            final var availableParents = this.allCategories.stream()
+                    .filter(cat -> category == null || !this.categoryTree.isDescendantOf(cat, category))
+                    .filter(cat -> category == null || !cat.id.equals(category.id))
+                    .toList();
+            this.parentField.setItems(availableParents);
         }
 
-        return false;
+        // Load current category data
+        this.binder.readBean(this.currentCategory);
+
+        this.categoryDialog.open();
     }
 
     private void saveCategory() {
@@ -313,10 +338,7 @@ public class PostCategoryView extends VerticalLayout implements BeforeEnterObser
 
     private void deleteCategory(final PostCategoryDto category) {
         // Check if category has children
-        final boolean hasChildren = this.allCategories.stream()
-                .anyMatch(cat -> cat.parent != null && cat.parent.id.equals(category.id));
-
-        if (hasChildren) {
+        if (this.categoryTree.hasChildren(category)) {
             NotificationUtil
                     .showError("Cannot delete category with subcategories. Please delete or move subcategories first.");
             return;
@@ -1,7 +1,7 @@
 package de.vptr.midas.gui.view;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,27 +14,29 @@ import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridVariant;
 import com.vaadin.flow.component.html.H1;
 import com.vaadin.flow.component.html.H3;
-import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.TextArea;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.binder.ValidationException;
+import com.vaadin.flow.data.renderer.LitRenderer;
 import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Route;
 
+import de.vptr.midas.gui.component.ActionColumnRenderer;
 import de.vptr.midas.gui.component.CreateButton;
-import de.vptr.midas.gui.component.DeleteButton;
-import de.vptr.midas.gui.component.EditButton;
+import de.vptr.midas.gui.component.ExportButton;
 import de.vptr.midas.gui.component.RefreshButton;
 import de.vptr.midas.gui.dto.PostCommentDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
 import de.vptr.midas.gui.service.AuthService;
 import de.vptr.midas.gui.service.PostCommentService;
+import de.vptr.midas.gui.util.LoadCoordinator;
 import de.vptr.midas.gui.util.NotificationUtil;
+import de.vptr.midas.gui.util.TableExport;
 import jakarta.inject.Inject;
 
 @Route(value = "comments", layout = MainLayout.class)
@@ -42,6 +44,13 @@ public class PostCommentView extends VerticalLayout implements BeforeEnterObserv
 
     private static final Logger LOG = LoggerFactory.getLogger(PostCommentView.class);
 
+    private static final TableExport<PostCommentDto> EXPORT = new TableExport<PostCommentDto>()
+            .column("ID", comment -> comment.id)
+            .column("Post", comment -> comment.post != null ? comment.post.title : null)
+            .column("Author", comment -> comment.user != null ? comment.user.username : null)
+            .column("Content", comment -> comment.content)
+            .column("Created", comment -> comment.created);
+
     @Inject
     PostCommentService commentService;
 
@@ -49,14 +58,18 @@ public class PostCommentView extends VerticalLayout implements BeforeEnterObserv
     AuthService authService;
 
     private Grid<PostCommentDto> grid;
+    private final LoadCoordinator<List<PostCommentDto>> loads = new LoadCoordinator<>(this, Duration.ofSeconds(30));
     private TextField searchField;
     private Button searchButton;
     private Button showApprovedButton;
 
     private Dialog commentDialog;
+    private H3 commentDialogTitle;
     private Binder<PostCommentDto> binder;
     private PostCommentDto currentComment;
 
+    private boolean uiBuilt;
+
     public PostCommentView() {
         this.setSizeFull();
         this.setPadding(true);
@@ -70,17 +83,20 @@ public class PostCommentView extends VerticalLayout implements BeforeEnterObserv
             return;
         }
 
-        this.buildUI();
+        if (!this.uiBuilt) {
+            this.buildUI();
+            this.uiBuilt = true;
+        }
         this.loadCommentsAsync();
     }
 
     private void loadCommentsAsync() {
-        LOG.info("Starting async comment loading");
+        LOG.debug("Starting async comment loading");
 
         // Capture the auth header in the UI thread where VaadinSession is available
         final String authHeader;
         try {
-            authHeader = this.authService.getBasicAuthHeader();
+            authHeader = this.authService.getAuthHeader();
         } catch (final Exception e) {
             LOG.error("Failed to get auth header", e);
             this.getUI().ifPresent(ui -> ui.access(() -> {
@@ -89,8 +105,8 @@ public class PostCommentView extends VerticalLayout implements BeforeEnterObserv
             return;
         }
 
-        CompletableFuture.supplyAsync(() -> {
-            LOG.info("Making REST call to load comments");
+        this.loads.load("all", () -> {
+            LOG.debug("Making REST call to load comments");
             try {
                 return this.commentService.getAllComments(authHeader);
             } catch (final AuthenticationException e) {
@@ -103,23 +119,18 @@ public class PostCommentView extends VerticalLayout implements BeforeEnterObserv
                 LOG.error("Error loading comments", e);
                 throw new RuntimeException("Failed to load comments", e);
             }
-        }).orTimeout(30, TimeUnit.SECONDS)
-                .whenComplete((comments, throwable) -> {
-                    this.getUI().ifPresent(ui -> ui.access(() -> {
-                        if (throwable != null) {
-                            LOG.error("Error loading comments: {}", throwable.getMessage(), throwable);
-                            NotificationUtil.showError("Failed to load comments: " + throwable.getMessage());
-                        } else {
-                            LOG.info("Successfully loaded {} comments", comments.size());
-                            this.grid.setItems(comments);
-                        }
-                    }));
-                });
+        }, (comments, throwable) -> {
+            if (throwable != null) {
+                LOG.error("Error loading comments: {}", throwable.getMessage(), throwable);
+                NotificationUtil.showError("Failed to load comments: " + throwable.getMessage());
+            } else {
+                LOG.debug("Successfully loaded {} comments", comments.size());
+                this.grid.setItems(comments);
+            }
+        });
     }
 
     private void buildUI() {
-        this.removeAll();
-
         // Header
         final var header = new H1("Post Comments");
         this.add(header);
@@ -135,9 +146,6 @@ public class PostCommentView extends VerticalLayout implements BeforeEnterObserv
         // Grid
         this.createGrid();
         this.add(this.grid);
-
-        // Comment dialog
-        this.createCommentDialog();
     }
 
     private HorizontalLayout createFilterLayout() {
@@ -166,7 +174,12 @@ public class PostCommentView extends VerticalLayout implements BeforeEnterObserv
         final var createButton = new CreateButton(e -> this.openCommentDialog(null));
         final var refreshButton = new RefreshButton(e -> this.loadCommentsAsync());
 
-        layout.add(createButton, refreshButton);
+        final var csvButton = new ExportButton<>("comments", TableExport.Format.CSV, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+        final var xlsxButton = new ExportButton<>("comments", TableExport.Format.XLSX, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+
+        layout.add(createButton, refreshButton, csvButton, xlsxButton);
         return layout;
     }
 
@@ -183,30 +196,19 @@ public class PostCommentView extends VerticalLayout implements BeforeEnterObserv
         this.grid.addColumn(comment -> comment.user != null ? comment.user.username : "").setHeader("Author")
                 .setWidth("120px").setFlexGrow(0);
 
-        // Content column with limited display
-        this.grid.addComponentColumn(comment -> {
-            final var content = comment.content != null ? comment.content : "";
-            final var truncated = content.length() > 50 ? content.substring(0, 50) + "..." : content;
-            final var span = new Span(truncated);
-            span.setTitle(content); // Show full content on hover
-            return span;
-        }).setHeader("Content").setFlexGrow(2);
+        // Content column with limited display, full content on hover
+        this.grid.addColumn(LitRenderer.<PostCommentDto>of("<span title=\"${item.content}\">${item.truncated}</span>")
+                .withProperty("content", comment -> comment.content != null ? comment.content : "")
+                .withProperty("truncated", comment -> {
+                    final var content = comment.content != null ? comment.content : "";
+                    return content.length() > 50 ? content.substring(0, 50) + "..." : content;
+                })).setHeader("Content").setFlexGrow(2);
 
         this.grid.addColumn(comment -> comment.created).setHeader("Created").setWidth("150px").setFlexGrow(0);
 
         // Add action column
-        this.grid.addComponentColumn(this::createActionButtons).setHeader("Actions").setWidth("150px").setFlexGrow(0);
-    }
-
-    private HorizontalLayout createActionButtons(final PostCommentDto comment) {
-        final var layout = new HorizontalLayout();
-        layout.setSpacing(true);
-
-        final var editButton = new EditButton(e -> this.openCommentDialog(comment));
-        final var deleteButton = new DeleteButton(e -> this.deleteComment(comment));
-
-        layout.add(editButton, deleteButton);
-        return layout;
+        this.grid.addColumn(new ActionColumnRenderer<>(this::openCommentDialog, this::deleteComment))
+                .setHeader("Actions").setWidth("150px").setFlexGrow(0);
     }
 
     private void createCommentDialog() {
@@ -217,13 +219,8 @@ public class PostCommentView extends VerticalLayout implements BeforeEnterObserv
         this.commentDialog.setCloseOnOutsideClick(false);
 
         this.binder = new Binder<>(PostCommentDto.class);
-    }
-
-    private void openCommentDialog(final PostCommentDto comment) {
-        this.commentDialog.removeAll();
-        this.currentComment = comment != null ? comment : new PostCommentDto();
 
-        final var title = new H3(comment != null ? "Edit Comment" : "Create Comment");
+        this.commentDialogTitle = new H3();
 
         final var form = new FormLayout();
         form.setResponsiveSteps(new FormLayout.ResponsiveStep("0", 1));
@@ -251,12 +248,20 @@ public class PostCommentView extends VerticalLayout implements BeforeEnterObserv
 
         buttonLayout.add(saveButton, cancelButton);
 
-        final var dialogLayout = new VerticalLayout(title, form, buttonLayout);
+        final var dialogLayout = new VerticalLayout(this.commentDialogTitle, form, buttonLayout);
         dialogLayout.setSpacing(true);
         dialogLayout.setPadding(false);
         dialogLayout.setSizeFull();
 
         this.commentDialog.add(dialogLayout);
+    }
+
+    private void openCommentDialog(final PostCommentDto comment) {
+        if (this.commentDialog == null) {
+            this.createCommentDialog();
+        }
+        this.currentComment = comment != null ? comment : new PostCommentDto();
+        this.commentDialogTitle.setText(comment != null ? "Edit Comment" : "Create Comment");
 
         // Load current comment data
         this.binder.readBean(this.currentComment);
@@ -1,6 +1,11 @@
 package de.vptr.midas.gui.view;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -22,20 +27,28 @@ import com.vaadin.flow.component.textfield.TextArea;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.binder.ValidationException;
+import com.vaadin.flow.data.renderer.ComponentRenderer;
 import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Route;
 
+import de.vptr.midas.gui.component.ActionColumnRenderer;
+import de.vptr.midas.gui.component.CheckboxRenderer;
 import de.vptr.midas.gui.component.CreateButton;
-import de.vptr.midas.gui.component.DeleteButton;
-import de.vptr.midas.gui.component.EditButton;
+import de.vptr.midas.gui.component.ExportButton;
+import de.vptr.midas.gui.component.LinkRenderer;
 import de.vptr.midas.gui.component.RefreshButton;
+import de.vptr.midas.gui.dto.PostCommentDto;
 import de.vptr.midas.gui.dto.PostDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
 import de.vptr.midas.gui.service.AuthService;
+import de.vptr.midas.gui.service.PostCommentService;
 import de.vptr.midas.gui.service.PostService;
+import de.vptr.midas.gui.util.LoadCoordinator;
+import de.vptr.midas.gui.util.LruCache;
 import de.vptr.midas.gui.util.NotificationUtil;
+import de.vptr.midas.gui.util.TableExport;
 import jakarta.inject.Inject;
 
 @Route(value = "posts", layout = MainLayout.class)
@@ -43,21 +56,47 @@ public class PostView extends VerticalLayout implements BeforeEnterObserver {
 
     private static final Logger LOG = LoggerFactory.getLogger(PostView.class);
 
+    private static final TableExport<PostDto> EXPORT = new TableExport<PostDto>()
+            .column("ID", post -> post.id)
+            .column("Title", post -> post.title)
+            .column("Author", post -> post.user != null ? post.user.username : null)
+            .column("Category", post -> post.category != null ? post.category.name : null)
+            .column("Published", post -> post.published)
+            .column("Commentable", post -> post.commentable)
+            .column("Created", post -> post.created)
+            .column("Last Edit", post -> post.lastEdit);
+
+    private static final int COMMENT_CACHE_SIZE = 50;
+    private static final int COMMENT_PREFETCH_DISTANCE = 1;
+
     @Inject
     PostService postService;
 
+    @Inject
+    PostCommentService commentService;
+
     @Inject
     AuthService authService;
 
     private Grid<PostDto> grid;
+    private final LoadCoordinator<List<PostDto>> loads = new LoadCoordinator<>(this, Duration.ofSeconds(30));
+    private List<PostDto> posts = List.of();
     private TextField searchField;
     private Button searchButton;
     private Button showPublishedButton;
 
     private Dialog postDialog;
+    private H3 postDialogTitle;
     private Binder<PostDto> binder;
     private PostDto currentPost;
 
+    private final LruCache<Long, List<PostCommentDto>> commentCache = new LruCache<>(COMMENT_CACHE_SIZE);
+    private final Map<Long, CompletableFuture<List<PostCommentDto>>> pendingCommentLoads = new ConcurrentHashMap<>();
+    // Bumped whenever the post list is replaced, so comment loads started for the old list are not cached
+    private volatile int commentGeneration;
+
+    private boolean uiBuilt;
+
     public PostView() {
         this.setSizeFull();
         this.setPadding(true);
@@ -71,17 +110,20 @@ public class PostView extends VerticalLayout implements BeforeEnterObserver {
             return;
         }
 
-        this.buildUI();
+        if (!this.uiBuilt) {
+            this.buildUI();
+            this.uiBuilt = true;
+        }
         this.loadPostsAsync();
     }
 
     private void loadPostsAsync() {
-        LOG.info("Starting async post loading");
+        LOG.debug("Starting async post loading");
 
         // Capture the auth header in the UI thread where VaadinSession is available
         final String authHeader;
         try {
-            authHeader = this.authService.getBasicAuthHeader();
+            authHeader = this.authService.getAuthHeader();
         } catch (final Exception e) {
             LOG.error("Failed to get auth header", e);
             this.getUI().ifPresent(ui -> ui.access(() -> {
@@ -90,8 +132,8 @@ public class PostView extends VerticalLayout implements BeforeEnterObserver {
             return;
         }
 
-        CompletableFuture.supplyAsync(() -> {
-            LOG.info("Making REST call to load posts");
+        this.loads.load("all", () -> {
+            LOG.debug("Making REST call to load posts");
             try {
                 return this.postService.getAllPosts(authHeader);
             } catch (final AuthenticationException e) {
@@ -104,27 +146,33 @@ public class PostView extends VerticalLayout implements BeforeEnterObserver {
                 LOG.error("Error loading posts", e);
                 throw new RuntimeException("Failed to load posts", e);
             }
-        }).orTimeout(30, TimeUnit.SECONDS)
-                .whenComplete((posts, throwable) -> {
-                    this.getUI().ifPresent(ui -> ui.access(() -> {
-                        if (throwable != null) {
-                            LOG.error("Error loading posts: {}", throwable.getMessage(), throwable);
-                            NotificationUtil.showError("Failed to load posts: " + throwable.getMessage());
-                        } else {
-                            LOG.info("Successfully loaded {} posts", posts.size());
-                            this.grid.setItems(posts);
-                        }
-                    }));
-                });
+        }, (posts, throwable) -> {
+            if (throwable != null) {
+                LOG.error("Error loading posts: {}", throwable.getMessage(), throwable);
+                NotificationUtil.showError("Failed to load posts: " + throwable.getMessage());
+            } else {
+                LOG.debug("Successfully loaded {} posts", posts.size());
+                this.setPosts(posts);
+            }
+        });
     }
 
     private void loadPublishedPostsAsync() {
-        LOG.info("Starting async published post loading");
+        LOG.debug("Starting async published post loading");
+
+        final String authHeader;
+        try {
+            authHeader = this.authService.getAuthHeader();
+        } catch (final Exception e) {
+            LOG.error("Failed to get auth header", e);
+            NotificationUtil.showError("Authentication failed");
+            return;
+        }
 
-        CompletableFuture.supplyAsync(() -> {
-            LOG.info("Making REST call to load published posts");
+        this.loads.load("published", () -> {
+            LOG.debug("Making REST call to load published posts");
             try {
-                return this.postService.getPublishedPosts();
+                return this.postService.getPublishedPosts(authHeader);
             } catch (final AuthenticationException e) {
                 LOG.error("Authentication failed while loading published posts", e);
                 throw e;
@@ -135,23 +183,29 @@ public class PostView extends VerticalLayout implements BeforeEnterObserver {
                 LOG.error("Error loading published posts", e);
                 throw new RuntimeException("Failed to load published posts", e);
             }
-        }).orTimeout(30, TimeUnit.SECONDS)
-                .whenComplete((posts, throwable) -> {
-                    this.getUI().ifPresent(ui -> ui.access(() -> {
-                        if (throwable != null) {
-                            LOG.error("Error loading published posts: {}", throwable.getMessage(), throwable);
-                            NotificationUtil.showError("Failed to load published posts: " + throwable.getMessage());
-                        } else {
-                            LOG.info("Successfully loaded {} published posts", posts.size());
-                            this.grid.setItems(posts);
-                        }
-                    }));
-                });
+        }, (posts, throwable) -> {
+            if (throwable != null) {
+                LOG.error("Error loading published posts: {}", throwable.getMessage(), throwable);
+                NotificationUtil.showError("Failed to load published posts: " + throwable.getMessage());
+            } else {
+                LOG.debug("Successfully loaded {} published posts", posts.size());
+                this.setPosts(posts);
+            }
+        });
     }
 
-    private void buildUI() {
-        this.removeAll();
+    private void setPosts(final List<PostDto> posts) {
+        this.posts = posts;
+        synchronized (this.commentCache) {
+            this.commentGeneration++;
+            this.commentCache.clear();
+        }
+        this.pendingCommentLoads.values().forEach(load -> load.cancel(false));
+        this.pendingCommentLoads.clear();
+        this.grid.setItems(posts);
+    }
 
+    private void buildUI() {
         // Header
         final var header = new H1("Posts");
         this.add(header);
@@ -167,9 +221,6 @@ public class PostView extends VerticalLayout implements BeforeEnterObserver {
         // Grid
         this.createGrid();
         this.add(this.grid);
-
-        // Post dialog
-        this.createPostDialog();
     }
 
     private HorizontalLayout createFilterLayout() {
@@ -198,7 +249,12 @@ public class PostView extends VerticalLayout implements BeforeEnterObserver {
         final var createButton = new CreateButton(e -> this.openPostDialog(null));
         final var refreshButton = new RefreshButton(e -> this.loadPostsAsync());
 
-        layout.add(createButton, refreshButton);
+        final var csvButton = new ExportButton<>("posts", TableExport.Format.CSV, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+        final var xlsxButton = new ExportButton<>("posts", TableExport.Format.XLSX, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+
+        layout.add(createButton, refreshButton, csvButton, xlsxButton);
         return layout;
     }
 
@@ -211,51 +267,139 @@ public class PostView extends VerticalLayout implements BeforeEnterObserver {
         this.grid.addColumn(post -> post.id).setHeader("ID").setWidth("80px").setFlexGrow(0);
 
         // Make the title column clickable
-        this.grid.addComponentColumn(post -> {
-            final var titleSpan = new Span(post.title);
-            titleSpan.getStyle().set("color", "var(--lumo-primary-text-color)");
-            titleSpan.getStyle().set("cursor", "pointer");
-            titleSpan.getStyle().set("width", "100%");
-            titleSpan.getStyle().set("display", "block");
-            titleSpan.addClickListener(e -> this.openPostDialog(post));
-            return titleSpan;
-        }).setHeader("Title").setFlexGrow(2);
+        this.grid.addColumn(new LinkRenderer<>(post -> post.title, this::openPostDialog))
+                .setHeader("Title").setFlexGrow(2);
 
         this.grid.addColumn(post -> post.user != null ? post.user.username : "").setHeader("Author").setWidth("120px")
                 .setFlexGrow(0);
         this.grid.addColumn(post -> post.category != null ? post.category.name : "").setHeader("Category")
                 .setWidth("120px").setFlexGrow(0);
 
-        this.grid.addComponentColumn(post -> {
-            final var checkbox = new Checkbox();
-            checkbox.setValue(post.published != null ? post.published : false);
-            checkbox.setReadOnly(true);
-            return checkbox;
-        }).setHeader("Published").setWidth("100px").setFlexGrow(0);
+        this.grid.addColumn(new CheckboxRenderer<>(post -> post.published))
+                .setHeader("Published").setWidth("100px").setFlexGrow(0);
 
-        this.grid.addComponentColumn(post -> {
-            final var checkbox = new Checkbox();
-            checkbox.setValue(post.commentable != null ? post.commentable : false);
-            checkbox.setReadOnly(true);
-            return checkbox;
-        }).setHeader("Commentable").setWidth("100px").setFlexGrow(0);
+        this.grid.addColumn(new CheckboxRenderer<>(post -> post.commentable))
+                .setHeader("Commentable").setWidth("100px").setFlexGrow(0);
 
         this.grid.addColumn(post -> post.created).setHeader("Created").setWidth("150px").setFlexGrow(0);
         this.grid.addColumn(post -> post.lastEdit).setHeader("Last Edit").setWidth("150px").setFlexGrow(0);
 
         // Add action column
-        this.grid.addComponentColumn(this::createActionButtons).setHeader("Actions").setWidth("150px").setFlexGrow(0);
+        this.grid.addColumn(new ActionColumnRenderer<>(this::openPostDialog, this::deletePost))
+                .setHeader("Actions").setWidth("150px").setFlexGrow(0);
+
+        this.grid.addColumn(new LinkRenderer<>(post -> "Comments", this::toggleComments))
+                .setHeader("Comments").setWidth("110px").setFlexGrow(0);
+
+        // Expandable comment thread per post, loaded lazily when the row is opened via its comments link
+        this.grid.setItemDetailsRenderer(new ComponentRenderer<>(this::createCommentPanel));
+        this.grid.setDetailsVisibleOnClick(false);
+        this.grid.addSelectionListener(e -> e.getFirstSelectedItem().ifPresent(this::prefetchNeighbourComments));
     }
 
-    private HorizontalLayout createActionButtons(final PostDto post) {
-        final var layout = new HorizontalLayout();
-        layout.setSpacing(true);
+    private void toggleComments(final PostDto post) {
+        this.grid.setDetailsVisible(post, !this.grid.isDetailsVisible(post));
+    }
 
-        final var editButton = new EditButton(e -> this.openPostDialog(post));
-        final var deleteButton = new DeleteButton(e -> this.deletePost(post));
+    private VerticalLayout createCommentPanel(final PostDto post) {
+        final var panel = new VerticalLayout();
+        panel.setPadding(false);
+        panel.setSpacing(false);
 
-        layout.add(editButton, deleteButton);
-        return layout;
+        final var cached = this.commentCache.get(post.id);
+        if (cached != null) {
+            this.renderComments(panel, cached);
+            return panel;
+        }
+
+        panel.add(new Span("Loading comments..."));
+
+        final String authHeader = this.authService.getAuthHeader();
+        this.loadCommentsAsync(post.id, authHeader).whenComplete((comments, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                // The post list was replaced, and with it this panel
+                return;
+            }
+            this.getUI().ifPresent(ui -> ui.access(() -> {
+                panel.removeAll();
+                if (throwable != null) {
+                    LOG.error("Error loading comments for post {}: {}", post.id, throwable.getMessage(), throwable);
+                    panel.add(new Span("Failed to load comments"));
+                } else {
+                    this.renderComments(panel, comments);
+                }
+            }));
+        });
+        return panel;
+    }
+
+    private void renderComments(final VerticalLayout panel, final List<PostCommentDto> comments) {
+        if (comments.isEmpty()) {
+            panel.add(new Span("No comments yet"));
+            return;
+        }
+
+        for (final var comment : comments) {
+            final var author = new Span(comment.user != null ? comment.user.username : "Unknown");
+            author.getStyle().set("font-weight", "bold");
+
+            final var created = new Span(comment.created != null ? comment.created.toString() : "");
+            created.getStyle().set("color", "var(--lumo-secondary-text-color)");
+
+            final var header = new HorizontalLayout(author, created);
+            header.setSpacing(true);
+
+            panel.add(header, new Span(comment.content));
+        }
+    }
+
+    private void prefetchNeighbourComments(final PostDto selected) {
+        final var index = this.posts.indexOf(selected);
+        if (index < 0) {
+            return;
+        }
+
+        final String authHeader = this.authService.getAuthHeader();
+        final var from = Math.max(0, index - COMMENT_PREFETCH_DISTANCE);
+        final var to = Math.min(this.posts.size() - 1, index + COMMENT_PREFETCH_DISTANCE);
+        for (var i = from; i <= to; i++) {
+            final var postId = this.posts.get(i).id;
+            this.loadCommentsAsync(postId, authHeader).exceptionally(throwable -> {
+                LOG.debug("Prefetching comments for post {} failed: {}", postId, throwable.getMessage());
+                return null;
+            });
+        }
+    }
+
+    private CompletableFuture<List<PostCommentDto>> loadCommentsAsync(final Long postId, final String authHeader) {
+        final var cached = this.commentCache.get(postId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        final var generation = this.commentGeneration;
+        final var load = new CompletableFuture<List<PostCommentDto>>();
+        final var pending = this.pendingCommentLoads.putIfAbsent(postId, load);
+        if (pending != null) {
+            return pending;
+        }
+
+        CompletableFuture.supplyAsync(() -> this.commentService.getCommentsByPost(postId, authHeader))
+                .orTimeout(30, TimeUnit.SECONDS)
+                .whenComplete((comments, throwable) -> {
+                    this.pendingCommentLoads.remove(postId, load);
+                    if (throwable != null) {
+                        load.completeExceptionally(throwable);
+                    } else {
+                        synchronized (this.commentCache) {
+                            if (generation == this.commentGeneration) {
+                                this.commentCache.put(postId, comments);
+                            }
+                        }
+                        load.complete(comments);
+                    }
+                });
+        return load;
     }
 
     private void createPostDialog() {
@@ -266,13 +410,8 @@ public class PostView extends VerticalLayout implements BeforeEnterObserver {
         this.postDialog.setCloseOnOutsideClick(false);
 
         this.binder = new Binder<>(PostDto.class);
-    }
 
-    private void openPostDialog(final PostDto post) {
-        this.postDialog.removeAll();
-        this.currentPost = post != null ? post : new PostDto();
-
-        final var title = new H3(post != null ? "Edit Post" : "Create Post");
+        this.postDialogTitle = new H3();
 
         final var form = new FormLayout();
         form.setResponsiveSteps(new FormLayout.ResponsiveStep("0", 1));
@@ -312,12 +451,20 @@ public class PostView extends VerticalLayout implements BeforeEnterObserver {
 
         buttonLayout.add(saveButton, cancelButton);
 
-        final var dialogLayout = new VerticalLayout(title, form, buttonLayout);
+        final var dialogLayout = new VerticalLayout(this.postDialogTitle, form, buttonLayout);
         dialogLayout.setSpacing(true);
         dialogLayout.setPadding(false);
         dialogLayout.setSizeFull();
 
         this.postDialog.add(dialogLayout);
+    }
+
+    private void openPostDialog(final PostDto post) {
+        if (this.postDialog == null) {
+            this.createPostDialog();
+        }
+        this.currentPost = post != null ? post : new PostDto();
+        this.postDialogTitle.setText(post != null ? "Edit Post" : "Create Post");
 
         // Load current post data
         this.binder.readBean(this.currentPost);
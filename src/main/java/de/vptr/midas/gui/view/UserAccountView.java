@@ -1,8 +1,8 @@
 package de.vptr.midas.gui.view;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,10 +15,8 @@ import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridVariant;
 import com.vaadin.flow.component.html.H1;
 import com.vaadin.flow.component.html.H3;
-import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
-import com.vaadin.flow.component.textfield.NumberField;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.binder.ValidationException;
@@ -26,16 +24,22 @@ import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Route;
 
+import de.vptr.midas.gui.component.ActionColumnRenderer;
 import de.vptr.midas.gui.component.CreateButton;
-import de.vptr.midas.gui.component.DeleteButton;
-import de.vptr.midas.gui.component.EditButton;
+import de.vptr.midas.gui.component.ExportButton;
+import de.vptr.midas.gui.component.LinkRenderer;
 import de.vptr.midas.gui.component.RefreshButton;
+import de.vptr.midas.gui.component.UserPicker;
 import de.vptr.midas.gui.dto.UserAccountDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
 import de.vptr.midas.gui.service.AuthService;
+import de.vptr.midas.gui.service.LookupService;
+import de.vptr.midas.gui.service.PrefetchService;
 import de.vptr.midas.gui.service.UserAccountService;
+import de.vptr.midas.gui.util.LoadCoordinator;
 import de.vptr.midas.gui.util.NotificationUtil;
+import de.vptr.midas.gui.util.TableExport;
 import jakarta.inject.Inject;
 
 @Route(value = "accounts", layout = MainLayout.class)
@@ -43,22 +47,36 @@ public class UserAccountView extends VerticalLayout implements BeforeEnterObserv
 
     private static final Logger LOG = LoggerFactory.getLogger(UserAccountView.class);
 
+    private static final TableExport<UserAccountDto> EXPORT = new TableExport<UserAccountDto>()
+            .column("ID", account -> account.id)
+            .column("Name", account -> account.name);
+
     @Inject
     UserAccountService accountService;
 
     @Inject
     AuthService authService;
 
+    @Inject
+    PrefetchService prefetchService;
+
+    @Inject
+    LookupService lookupService;
+
     private Grid<UserAccountDto> grid;
+    private final LoadCoordinator<List<UserAccountDto>> loads = new LoadCoordinator<>(this, Duration.ofSeconds(30));
     private TextField searchField;
     private Button searchButton;
-    private NumberField userIdField;
+    private UserPicker userField;
     private Button filterByUserButton;
 
     private Dialog accountDialog;
+    private H3 accountDialogTitle;
     private Binder<UserAccountDto> binder;
     private UserAccountDto currentAccount;
 
+    private boolean uiBuilt;
+
     public UserAccountView() {
         this.setSizeFull();
         this.setSpacing(true);
@@ -67,19 +85,26 @@ public class UserAccountView extends VerticalLayout implements BeforeEnterObserv
 
     @Override
     public void beforeEnter(final BeforeEnterEvent event) {
-        LOG.info("UserAccountView.beforeEnter - Starting view initialization");
-        this.buildUI();
-        this.loadAccountsAsync();
-        LOG.info("UserAccountView.beforeEnter - View initialization completed");
+        LOG.debug("UserAccountView.beforeEnter - Starting view initialization");
+        if (!this.uiBuilt) {
+            this.buildUI();
+            this.uiBuilt = true;
+        }
+        this.loadAccountsAsync(true);
+        LOG.debug("UserAccountView.beforeEnter - View initialization completed");
     }
 
     private void loadAccountsAsync() {
-        LOG.info("Starting async account loading");
+        this.loadAccountsAsync(false);
+    }
+
+    private void loadAccountsAsync(final boolean usePrefetched) {
+        LOG.debug("Starting async account loading");
 
         // Capture the auth header in the UI thread where VaadinSession is available
         final String authHeader;
         try {
-            authHeader = this.authService.getBasicAuthHeader();
+            authHeader = this.authService.getAuthHeader();
         } catch (final Exception e) {
             LOG.error("Failed to get auth header", e);
             this.getUI().ifPresent(ui -> ui.access(() -> {
@@ -88,8 +113,25 @@ public class UserAccountView extends VerticalLayout implements BeforeEnterObserv
             return;
         }
 
-        CompletableFuture.supplyAsync(() -> {
-            LOG.info("Making REST call to load accounts");
+        // Only a navigation may use data prefetched from the navigation tabs, refreshes always load anew
+        final CompletableFuture<List<UserAccountDto>> prefetched = usePrefetched
+                ? this.prefetchService.take(UserAccountView.class, authHeader)
+                : null;
+        if (prefetched != null && prefetched.isDone() && !prefetched.isCompletedExceptionally()) {
+            final var accounts = prefetched.join();
+            LOG.debug("Using {} prefetched accounts", accounts.size());
+            this.loads.cancel();
+            this.grid.setItems(accounts);
+            return;
+        }
+        // A prefetch that already failed is replaced by a new load
+        if (prefetched != null && !prefetched.isDone()) {
+            this.loads.use("all", prefetched, this::showAccounts);
+            return;
+        }
+
+        this.loads.load("all", () -> {
+            LOG.debug("Making REST call to load accounts");
             try {
                 return this.accountService.getAllAccounts(authHeader);
             } catch (final AuthenticationException e) {
@@ -102,24 +144,20 @@ public class UserAccountView extends VerticalLayout implements BeforeEnterObserv
                 LOG.error("Error loading accounts", e);
                 throw new RuntimeException("Failed to load accounts", e);
             }
-        }).orTimeout(30, TimeUnit.SECONDS)
-                .whenComplete((accounts, throwable) -> {
-                    this.getUI().ifPresent(ui -> ui.access(() -> {
-                        if (throwable != null) {
-                            LOG.error("Error loading accounts: {}", throwable.getMessage(), throwable);
-                            NotificationUtil.showError("Failed to load accounts: " + throwable.getMessage());
-                            LOG.info("Successfully loaded 0 accounts");
-                        } else {
-                            LOG.info("Successfully loaded {} accounts", accounts.size());
-                            this.grid.setItems(accounts);
-                        }
-                    }));
-                });
+        }, this::showAccounts);
     }
 
-    private void buildUI() {
-        this.removeAll();
+    private void showAccounts(final List<UserAccountDto> accounts, final Throwable throwable) {
+        if (throwable != null) {
+            LOG.error("Error loading accounts: {}", throwable.getMessage(), throwable);
+            NotificationUtil.showError("Failed to load accounts: " + throwable.getMessage());
+        } else {
+            LOG.debug("Successfully loaded {} accounts", accounts.size());
+            this.grid.setItems(accounts);
+        }
+    }
 
+    private void buildUI() {
         // Header
         final var header = new H1("User Accounts");
         this.add(header);
@@ -135,9 +173,6 @@ public class UserAccountView extends VerticalLayout implements BeforeEnterObserv
         // Grid
         this.createGrid();
         this.add(this.grid);
-
-        // Account dialog
-        this.createAccountDialog();
     }
 
     private HorizontalLayout createFilterLayout() {
@@ -154,13 +189,13 @@ public class UserAccountView extends VerticalLayout implements BeforeEnterObserv
         this.searchButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
 
         // User filter
-        this.userIdField = new NumberField("Filter by User ID");
-        this.userIdField.setWidth("150px");
+        this.userField = new UserPicker("Filter by User", this.lookupService);
+        this.userField.setWidth("200px");
 
         this.filterByUserButton = new Button("Filter by User", e -> this.filterByUser());
         this.filterByUserButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
 
-        filterLayout.add(this.searchField, this.searchButton, this.userIdField, this.filterByUserButton);
+        filterLayout.add(this.searchField, this.searchButton, this.userField, this.filterByUserButton);
         return filterLayout;
     }
 
@@ -171,7 +206,12 @@ public class UserAccountView extends VerticalLayout implements BeforeEnterObserv
         final var refreshButton = new RefreshButton(e -> this.loadAccountsAsync());
         final var createButton = new CreateButton(e -> this.openAccountDialog(null), "Create Account");
 
-        buttonLayout.add(refreshButton, createButton);
+        final var csvButton = new ExportButton<>("accounts", TableExport.Format.CSV, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+        final var xlsxButton = new ExportButton<>("accounts", TableExport.Format.XLSX, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+
+        buttonLayout.add(refreshButton, createButton, csvButton, xlsxButton);
         return buttonLayout;
     }
 
@@ -184,29 +224,12 @@ public class UserAccountView extends VerticalLayout implements BeforeEnterObserv
         this.grid.addColumn(account -> account.id).setHeader("ID").setWidth("80px").setFlexGrow(0);
 
         // Make the name column clickable
-        this.grid.addComponentColumn(account -> {
-            final var nameSpan = new Span(account.name);
-            nameSpan.getStyle().set("color", "var(--lumo-primary-text-color)");
-            nameSpan.getStyle().set("cursor", "pointer");
-            nameSpan.getStyle().set("width", "100%");
-            nameSpan.getStyle().set("display", "block");
-            nameSpan.addClickListener(e -> this.showPayments(account));
-            return nameSpan;
-        }).setHeader("Name").setFlexGrow(1);
+        this.grid.addColumn(new LinkRenderer<>(account -> account.name, this::showPayments))
+                .setHeader("Name").setFlexGrow(1);
 
         // Add action column
-        this.grid.addComponentColumn(this::createActionButtons).setHeader("Actions").setWidth("200px").setFlexGrow(0);
-    }
-
-    private HorizontalLayout createActionButtons(final UserAccountDto account) {
-        final var layout = new HorizontalLayout();
-        layout.setSpacing(true);
-
-        final var editButton = new EditButton(e -> this.openAccountDialog(account));
-        final var deleteButton = new DeleteButton(e -> this.deleteAccount(account));
-
-        layout.add(editButton, deleteButton);
-        return layout;
+        this.grid.addColumn(new ActionColumnRenderer<>(this::openAccountDialog, this::deleteAccount))
+                .setHeader("Actions").setWidth("200px").setFlexGrow(0);
     }
 
     private void createAccountDialog() {
@@ -216,13 +239,8 @@ public class UserAccountView extends VerticalLayout implements BeforeEnterObserv
         this.accountDialog.setCloseOnOutsideClick(false);
 
         this.binder = new Binder<>(UserAccountDto.class);
-    }
 
-    private void openAccountDialog(final UserAccountDto account) {
-        this.accountDialog.removeAll();
-        this.currentAccount = account != null ? account : new UserAccountDto();
-
-        final var title = new H3(account != null ? "Edit Account" : "Create Account");
+        this.accountDialogTitle = new H3();
 
         final var form = new FormLayout();
         form.setResponsiveSteps(new FormLayout.ResponsiveStep("0", 1));
@@ -248,11 +266,19 @@ public class UserAccountView extends VerticalLayout implements BeforeEnterObserv
 
         buttonLayout.add(saveButton, cancelButton);
 
-        final var dialogLayout = new VerticalLayout(title, form, buttonLayout);
+        final var dialogLayout = new VerticalLayout(this.accountDialogTitle, form, buttonLayout);
         dialogLayout.setSpacing(true);
         dialogLayout.setPadding(false);
 
         this.accountDialog.add(dialogLayout);
+    }
+
+    private void openAccountDialog(final UserAccountDto account) {
+        if (this.accountDialog == null) {
+            this.createAccountDialog();
+        }
+        this.currentAccount = account != null ? account : new UserAccountDto();
+        this.accountDialogTitle.setText(account != null ? "Edit Account" : "Create Account");
 
         // Load current account data
         this.binder.readBean(this.currentAccount);
@@ -316,6 +342,7 @@ public class UserAccountView extends VerticalLayout implements BeforeEnterObserv
 
         try {
             final List<UserAccountDto> accounts = this.accountService.searchAccounts(query.trim());
+            this.loads.cancel();
             this.grid.setItems(accounts);
         } catch (final AuthenticationException e) {
             NotificationUtil.showError("Session expired. Please log in again.");
@@ -329,14 +356,15 @@ public class UserAccountView extends VerticalLayout implements BeforeEnterObserv
     }
 
     private void filterByUser() {
-        final Double userId = this.userIdField.getValue();
+        final Long userId = this.userField.getUserId();
         if (userId == null) {
-            NotificationUtil.showWarning("Please enter a user ID");
+            NotificationUtil.showWarning("Please select a user");
             return;
         }
 
         try {
-            final List<UserAccountDto> accounts = this.accountService.getAccountsByUser(userId.longValue());
+            final List<UserAccountDto> accounts = this.accountService.getAccountsByUser(userId);
+            this.loads.cancel();
             this.grid.setItems(accounts);
         } catch (final AuthenticationException e) {
             NotificationUtil.showError("Session expired. Please log in again.");
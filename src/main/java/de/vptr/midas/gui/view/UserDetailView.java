@@ -0,0 +1,213 @@
+package de.vptr.midas.gui.view;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.html.H1;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import com.vaadin.flow.component.orderedlayout.FlexLayout;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.router.BeforeEnterEvent;
+import com.vaadin.flow.router.BeforeEnterObserver;
+import com.vaadin.flow.router.BeforeEvent;
+import com.vaadin.flow.router.HasUrlParameter;
+import com.vaadin.flow.router.Route;
+
+import de.vptr.midas.gui.component.DashboardTile;
+import de.vptr.midas.gui.component.RefreshButton;
+import de.vptr.midas.gui.dto.UserDto;
+import de.vptr.midas.gui.result.UserDetail;
+import de.vptr.midas.gui.service.AuthService;
+import de.vptr.midas.gui.service.UserDetailService;
+import de.vptr.midas.gui.util.NotificationUtil;
+import jakarta.inject.Inject;
+
+@Route(value = "user", layout = MainLayout.class)
+public class UserDetailView extends VerticalLayout implements BeforeEnterObserver, HasUrlParameter<Long> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UserDetailView.class);
+
+    private static final int MAX_LIST_ENTRIES = 10;
+
+    @Inject
+    AuthService authService;
+
+    @Inject
+    UserDetailService detailService;
+
+    private Long userId;
+    private UserDetail detail;
+    private H1 header;
+    private FlexLayout tiles;
+
+    private boolean uiBuilt;
+
+    public UserDetailView() {
+        this.setPadding(true);
+        this.setSpacing(true);
+        this.addDetachListener(event -> this.cancelDetail());
+    }
+
+    @Override
+    public void setParameter(final BeforeEvent event, final Long parameter) {
+        this.userId = parameter;
+    }
+
+    @Override
+    public void beforeEnter(final BeforeEnterEvent event) {
+        if (!this.authService.isAuthenticated()) {
+            event.forwardTo(LoginView.class);
+            return;
+        }
+
+        if (!this.uiBuilt) {
+            this.buildUI();
+            this.uiBuilt = true;
+        }
+        this.loadDetail(event.getUI());
+    }
+
+    private void buildUI() {
+        this.header = new H1();
+
+        final var backButton = new Button("Back to Users", e -> this.getUI()
+                .ifPresent(ui -> ui.navigate(UserView.class)));
+        backButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+        final var refreshButton = new RefreshButton(e -> this.getUI().ifPresent(this::loadDetail));
+
+        final var buttonLayout = new HorizontalLayout(backButton, refreshButton);
+        buttonLayout.setAlignItems(Alignment.CENTER);
+
+        this.tiles = new FlexLayout();
+        this.tiles.setFlexWrap(FlexLayout.FlexWrap.WRAP);
+        this.tiles.setJustifyContentMode(FlexComponent.JustifyContentMode.START);
+        this.tiles.getStyle().set("gap", "var(--lumo-space-m)");
+        this.tiles.setWidthFull();
+
+        this.add(this.header, buttonLayout, this.tiles);
+    }
+
+    private void loadDetail(final UI ui) {
+        this.cancelDetail();
+        this.header.setText("User #" + this.userId);
+
+        // Capture the auth header in the UI thread where VaadinSession is available
+        final var authHeader = this.authService.getAuthHeader();
+        if (authHeader == null) {
+            NotificationUtil.showError("Authentication failed");
+            return;
+        }
+
+        final var profileTile = new DashboardTile("Profile");
+        final var totalTile = new DashboardTile("Payment Total");
+        final var groupsTile = new DashboardTile("Groups");
+        final var accountsTile = new DashboardTile("Accounts");
+        final var paymentsTile = new DashboardTile("Payments");
+        final var postsTile = new DashboardTile("Posts");
+        final var commentsTile = new DashboardTile("Comments");
+        this.tiles.removeAll();
+        this.tiles.add(profileTile, totalTile, groupsTile, accountsTile, paymentsTile, postsTile, commentsTile);
+
+        final var detail = this.detailService.getDetail(this.userId, authHeader);
+        this.detail = detail;
+
+        this.bindTile(ui, detail, detail.getUser(), profileTile, this::createProfile);
+        this.bindTile(ui, detail, detail.getPaymentTotal(), totalTile, this::createTotal);
+        this.bindTile(ui, detail, detail.getGroups(), groupsTile,
+                groups -> this.createList(groups, group -> group.name, "No groups"));
+        this.bindTile(ui, detail, detail.getAccounts(), accountsTile,
+                accounts -> this.createList(accounts, account -> account.name, "No accounts"));
+        this.bindTile(ui, detail, detail.getPayments(), paymentsTile,
+                payments -> this.createList(payments, payment -> payment.date + ": " + payment.amount + " ("
+                        + payment.sourceId + " → " + payment.targetId + ")", "No payments"));
+        this.bindTile(ui, detail, detail.getPosts(), postsTile,
+                posts -> this.createList(posts, post -> post.title, "No posts"));
+        this.bindTile(ui, detail, detail.getComments(), commentsTile,
+                comments -> this.createList(comments, comment -> comment.content, "No comments"));
+    }
+
+    private <T> void bindTile(final UI ui, final UserDetail detail, final CompletableFuture<T> data,
+            final DashboardTile tile, final Function<T, Component> renderer) {
+        data.whenComplete((value, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                return;
+            }
+            ui.access(() -> {
+                // A refresh or another user may have replaced this detail while it was loading
+                if (this.detail != detail) {
+                    return;
+                }
+                if (throwable != null) {
+                    LOG.error("Error loading user detail section: {}", throwable.getMessage());
+                    tile.showError("Unavailable");
+                } else {
+                    tile.setContent(renderer.apply(value));
+                }
+            });
+        });
+    }
+
+    private void cancelDetail() {
+        if (this.detail != null) {
+            this.detail.cancel();
+            this.detail = null;
+        }
+    }
+
+    private Component createProfile(final Optional<UserDto> user) {
+        if (user.isEmpty()) {
+            this.header.setText("User #" + this.userId + " not found");
+            return new Span("Not found");
+        }
+
+        final var found = user.get();
+        this.header.setText(found.username);
+
+        final var profile = new VerticalLayout();
+        profile.setPadding(false);
+        profile.setSpacing(false);
+        profile.add(new Span("Email: " + (found.email != null ? found.email : "")));
+        profile.add(new Span("Rank: " + (found.rank != null ? found.rank.getName() : "")));
+        profile.add(new Span("Activated: " + (Boolean.TRUE.equals(found.activated) ? "Yes" : "No")));
+        profile.add(new Span("Banned: " + (Boolean.TRUE.equals(found.banned) ? "Yes" : "No")));
+        profile.add(new Span("Created: " + (found.created != null ? found.created : "")));
+        profile.add(new Span("Last Login: " + (found.lastLogin != null ? found.lastLogin : "")));
+        return profile;
+    }
+
+    private Component createTotal(final BigDecimal total) {
+        final var counter = new Span(total.toPlainString());
+        counter.getStyle().set("font-size", "var(--lumo-font-size-xxxl)");
+        return counter;
+    }
+
+    private <T> Component createList(final List<T> items, final Function<T, String> text, final String emptyText) {
+        final var list = new VerticalLayout();
+        list.setPadding(false);
+        list.setSpacing(false);
+
+        if (items.isEmpty()) {
+            list.add(new Span(emptyText));
+        }
+        for (final var item : items.subList(0, Math.min(items.size(), MAX_LIST_ENTRIES))) {
+            list.add(new Span(text.apply(item)));
+        }
+        if (items.size() > MAX_LIST_ENTRIES) {
+            list.add(new Span("and " + (items.size() - MAX_LIST_ENTRIES) + " more"));
+        }
+        return list;
+    }
+}
@@ -1,7 +1,7 @@
 package de.vptr.midas.gui.view;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,7 +14,6 @@ import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridVariant;
 import com.vaadin.flow.component.html.H1;
 import com.vaadin.flow.component.html.H3;
-import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.TextField;
@@ -24,16 +23,19 @@ import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Route;
 
+import de.vptr.midas.gui.component.ActionColumnRenderer;
 import de.vptr.midas.gui.component.CreateButton;
-import de.vptr.midas.gui.component.DeleteButton;
-import de.vptr.midas.gui.component.EditButton;
+import de.vptr.midas.gui.component.ExportButton;
+import de.vptr.midas.gui.component.LinkRenderer;
 import de.vptr.midas.gui.component.RefreshButton;
 import de.vptr.midas.gui.dto.UserGroupDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
 import de.vptr.midas.gui.service.AuthService;
 import de.vptr.midas.gui.service.UserGroupService;
+import de.vptr.midas.gui.util.LoadCoordinator;
 import de.vptr.midas.gui.util.NotificationUtil;
+import de.vptr.midas.gui.util.TableExport;
 import jakarta.inject.Inject;
 
 @Route(value = "groups", layout = MainLayout.class)
@@ -41,6 +43,12 @@ public class UserGroupView extends VerticalLayout implements BeforeEnterObserver
 
     private static final Logger LOG = LoggerFactory.getLogger(UserGroupView.class);
 
+    private static final TableExport<UserGroupDto> EXPORT = new TableExport<UserGroupDto>()
+            .column("ID", group -> group.id)
+            .column("Name", group -> group.name)
+            .column("Users", group -> group.userCount)
+            .column("Created", group -> group.created);
+
     @Inject
     UserGroupService groupService;
 
@@ -48,13 +56,17 @@ public class UserGroupView extends VerticalLayout implements BeforeEnterObserver
     AuthService authService;
 
     private Grid<UserGroupDto> grid;
+    private final LoadCoordinator<List<UserGroupDto>> loads = new LoadCoordinator<>(this, Duration.ofSeconds(30));
     private TextField searchField;
     private Button searchButton;
 
     private Dialog groupDialog;
+    private H3 groupDialogTitle;
     private Binder<UserGroupDto> binder;
     private UserGroupDto currentGroup;
 
+    private boolean uiBuilt;
+
     public UserGroupView() {
         this.setSizeFull();
         this.setPadding(true);
@@ -68,17 +80,20 @@ public class UserGroupView extends VerticalLayout implements BeforeEnterObserver
             return;
         }
 
-        this.buildUI();
+        if (!this.uiBuilt) {
+            this.buildUI();
+            this.uiBuilt = true;
+        }
         this.loadGroupsAsync();
     }
 
     private void loadGroupsAsync() {
-        LOG.info("Starting async group loading");
+        LOG.debug("Starting async group loading");
 
         // Capture the auth header in the UI thread where VaadinSession is available
         final String authHeader;
         try {
-            authHeader = this.authService.getBasicAuthHeader();
+            authHeader = this.authService.getAuthHeader();
         } catch (final Exception e) {
             LOG.error("Failed to get auth header", e);
             this.getUI().ifPresent(ui -> ui.access(() -> {
@@ -87,8 +102,8 @@ public class UserGroupView extends VerticalLayout implements BeforeEnterObserver
             return;
         }
 
-        CompletableFuture.supplyAsync(() -> {
-            LOG.info("Making REST call to load groups");
+        this.loads.load("all", () -> {
+            LOG.debug("Making REST call to load groups");
             try {
                 return this.groupService.getAllGroups(authHeader);
             } catch (final AuthenticationException e) {
@@ -101,23 +116,18 @@ public class UserGroupView extends VerticalLayout implements BeforeEnterObserver
                 LOG.error("Error loading groups", e);
                 throw new RuntimeException("Failed to load groups", e);
             }
-        }).orTimeout(30, TimeUnit.SECONDS)
-                .whenComplete((groups, throwable) -> {
-                    this.getUI().ifPresent(ui -> ui.access(() -> {
-                        if (throwable != null) {
-                            LOG.error("Error loading groups: {}", throwable.getMessage(), throwable);
-                            NotificationUtil.showError("Failed to load groups: " + throwable.getMessage());
-                        } else {
-                            LOG.info("Successfully loaded {} groups", groups.size());
-                            this.grid.setItems(groups);
-                        }
-                    }));
-                });
+        }, (groups, throwable) -> {
+            if (throwable != null) {
+                LOG.error("Error loading groups: {}", throwable.getMessage(), throwable);
+                NotificationUtil.showError("Failed to load groups: " + throwable.getMessage());
+            } else {
+                LOG.debug("Successfully loaded {} groups", groups.size());
+                this.grid.setItems(groups);
+            }
+        });
     }
 
     private void buildUI() {
-        this.removeAll();
-
         // Header
         final var header = new H1("User Groups");
         this.add(header);
@@ -133,9 +143,6 @@ public class UserGroupView extends VerticalLayout implements BeforeEnterObserver
         // Grid
         this.createGrid();
         this.add(this.grid);
-
-        // Group dialog
-        this.createGroupDialog();
     }
 
     private HorizontalLayout createFilterLayout() {
@@ -161,7 +168,12 @@ public class UserGroupView extends VerticalLayout implements BeforeEnterObserver
         final var createButton = new CreateButton(e -> this.openGroupDialog(null));
         final var refreshButton = new RefreshButton(e -> this.loadGroupsAsync());
 
-        layout.add(createButton, refreshButton);
+        final var csvButton = new ExportButton<>("groups", TableExport.Format.CSV, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+        final var xlsxButton = new ExportButton<>("groups", TableExport.Format.XLSX, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+
+        layout.add(createButton, refreshButton, csvButton, xlsxButton);
         return layout;
     }
 
@@ -174,15 +186,8 @@ public class UserGroupView extends VerticalLayout implements BeforeEnterObserver
         this.grid.addColumn(group -> group.id).setHeader("ID").setWidth("80px").setFlexGrow(0);
 
         // Make the name column clickable
-        this.grid.addComponentColumn(group -> {
-            final var nameSpan = new Span(group.name);
-            nameSpan.getStyle().set("color", "var(--lumo-primary-text-color)");
-            nameSpan.getStyle().set("cursor", "pointer");
-            nameSpan.getStyle().set("width", "100%");
-            nameSpan.getStyle().set("display", "block");
-            nameSpan.addClickListener(e -> this.openGroupDialog(group));
-            return nameSpan;
-        }).setHeader("Name").setFlexGrow(2);
+        this.grid.addColumn(new LinkRenderer<>(group -> group.name, this::openGroupDialog))
+                .setHeader("Name").setFlexGrow(2);
 
         this.grid.addColumn(group -> group.userCount != null ? group.userCount.toString() : "0")
                 .setHeader("User Count")
@@ -192,18 +197,8 @@ public class UserGroupView extends VerticalLayout implements BeforeEnterObserver
         this.grid.addColumn(group -> group.created).setHeader("Created").setWidth("150px").setFlexGrow(0);
 
         // Add action column
-        this.grid.addComponentColumn(this::createActionButtons).setHeader("Actions").setWidth("150px").setFlexGrow(0);
-    }
-
-    private HorizontalLayout createActionButtons(final UserGroupDto group) {
-        final var layout = new HorizontalLayout();
-        layout.setSpacing(true);
-
-        final var editButton = new EditButton(e -> this.openGroupDialog(group));
-        final var deleteButton = new DeleteButton(e -> this.deleteGroup(group));
-
-        layout.add(editButton, deleteButton);
-        return layout;
+        this.grid.addColumn(new ActionColumnRenderer<>(this::openGroupDialog, this::deleteGroup))
+                .setHeader("Actions").setWidth("150px").setFlexGrow(0);
     }
 
     private void createGroupDialog() {
@@ -214,13 +209,8 @@ public class UserGroupView extends VerticalLayout implements BeforeEnterObserver
         this.groupDialog.setCloseOnOutsideClick(false);
 
         this.binder = new Binder<>(UserGroupDto.class);
-    }
-
-    private void openGroupDialog(final UserGroupDto group) {
-        this.groupDialog.removeAll();
-        this.currentGroup = group != null ? group : new UserGroupDto();
 
-        final var title = new H3(group != null ? "Edit Group" : "Create Group");
+        this.groupDialogTitle = new H3();
 
         final var form = new FormLayout();
         form.setResponsiveSteps(new FormLayout.ResponsiveStep("0", 1));
@@ -247,12 +237,20 @@ public class UserGroupView extends VerticalLayout implements BeforeEnterObserver
 
         buttonLayout.add(saveButton, cancelButton);
 
-        final var dialogLayout = new VerticalLayout(title, form, buttonLayout);
+        final var dialogLayout = new VerticalLayout(this.groupDialogTitle, form, buttonLayout);
         dialogLayout.setSpacing(true);
         dialogLayout.setPadding(false);
         dialogLayout.setSizeFull();
 
         this.groupDialog.add(dialogLayout);
+    }
+
+    private void openGroupDialog(final UserGroupDto group) {
+        if (this.groupDialog == null) {
+            this.createGroupDialog();
+        }
+        this.currentGroup = group != null ? group : new UserGroupDto();
+        this.groupDialogTitle.setText(group != null ? "Edit Group" : "Create Group");
 
         // Load current group data
         this.binder.readBean(this.currentGroup);
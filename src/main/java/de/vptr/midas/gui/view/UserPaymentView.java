@@ -1,9 +1,11 @@
 package de.vptr.midas.gui.view;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,11 +19,13 @@ import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridVariant;
 import com.vaadin.flow.component.html.H1;
 import com.vaadin.flow.component.html.H3;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.BigDecimalField;
 import com.vaadin.flow.component.textfield.IntegerField;
-import com.vaadin.flow.component.textfield.NumberField;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.binder.ValidationException;
@@ -29,16 +33,22 @@ import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Route;
 
+import de.vptr.midas.gui.component.AccountPicker;
+import de.vptr.midas.gui.component.ActionColumnRenderer;
 import de.vptr.midas.gui.component.CreateButton;
-import de.vptr.midas.gui.component.DeleteButton;
-import de.vptr.midas.gui.component.EditButton;
+import de.vptr.midas.gui.component.ExportButton;
 import de.vptr.midas.gui.component.RefreshButton;
 import de.vptr.midas.gui.dto.UserPaymentDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
 import de.vptr.midas.gui.service.AuthService;
+import de.vptr.midas.gui.service.LookupService;
+import de.vptr.midas.gui.service.PrefetchService;
 import de.vptr.midas.gui.service.UserPaymentService;
+import de.vptr.midas.gui.util.LoadCoordinator;
 import de.vptr.midas.gui.util.NotificationUtil;
+import de.vptr.midas.gui.util.PaymentColumnStore;
+import de.vptr.midas.gui.util.TableExport;
 import jakarta.inject.Inject;
 
 @Route(value = "payments", layout = MainLayout.class)
@@ -46,23 +56,48 @@ public class UserPaymentView extends VerticalLayout implements BeforeEnterObserv
 
     private static final Logger LOG = LoggerFactory.getLogger(UserPaymentView.class);
 
+    private static final TableExport<UserPaymentDto> EXPORT = new TableExport<UserPaymentDto>()
+            .column("ID", payment -> payment.id)
+            .column("User", payment -> payment.user != null ? payment.user.getUsername() : null)
+            .column("Source Account", payment -> payment.sourceId)
+            .column("Target Account", payment -> payment.targetId)
+            .column("Amount", payment -> payment.amount)
+            .column("Date", payment -> payment.date)
+            .column("Comment", payment -> payment.comment)
+            .column("Created", payment -> payment.created)
+            .column("Last Edited", payment -> payment.lastEdit);
+
     @Inject
     UserPaymentService paymentService;
 
     @Inject
     AuthService authService;
 
+    @Inject
+    PrefetchService prefetchService;
+
+    @Inject
+    LookupService lookupService;
+
     private Grid<UserPaymentDto> grid;
+    private final LoadCoordinator<List<UserPaymentDto>> loads = new LoadCoordinator<>(this, Duration.ofSeconds(30));
+    private final LoadCoordinator<PaymentColumnStore> storeLoads = new LoadCoordinator<>(this, Duration.ofSeconds(30));
     private IntegerField limitField;
     private DatePicker startDatePicker;
     private DatePicker endDatePicker;
-    private Button filterByDateButton;
+    private BigDecimalField minAmountField;
+    private BigDecimalField maxAmountField;
+    private Button filterButton;
+    private Span totalLabel;
     private Button filterRecentButton;
 
     private Dialog paymentDialog;
+    private H3 paymentDialogTitle;
     private Binder<UserPaymentDto> binder;
     private UserPaymentDto currentPayment;
 
+    private boolean uiBuilt;
+
     public UserPaymentView() {
         this.setSizeFull();
         this.setSpacing(true);
@@ -71,19 +106,28 @@ public class UserPaymentView extends VerticalLayout implements BeforeEnterObserv
 
     @Override
     public void beforeEnter(final BeforeEnterEvent event) {
-        LOG.info("UserPaymentView.beforeEnter - Starting view initialization");
-        this.buildUI();
-        this.loadPaymentsAsync();
-        LOG.info("UserPaymentView.beforeEnter - View initialization completed");
+        LOG.debug("UserPaymentView.beforeEnter - Starting view initialization");
+        if (!this.uiBuilt) {
+            this.buildUI();
+            this.uiBuilt = true;
+        }
+        this.loadPaymentsAsync(true);
+        // Index the accounts while the grid loads, so the payment dialog's pickers answer locally
+        this.lookupService.warm();
+        LOG.debug("UserPaymentView.beforeEnter - View initialization completed");
     }
 
     private void loadPaymentsAsync() {
-        LOG.info("Starting async payment loading");
+        this.loadPaymentsAsync(false);
+    }
+
+    private void loadPaymentsAsync(final boolean usePrefetched) {
+        LOG.debug("Starting async payment loading");
 
         // Capture the auth header in the UI thread where VaadinSession is available
         final String authHeader;
         try {
-            authHeader = this.authService.getBasicAuthHeader();
+            authHeader = this.authService.getAuthHeader();
         } catch (final Exception e) {
             LOG.error("Failed to get auth header", e);
             this.getUI().ifPresent(ui -> ui.access(() -> {
@@ -92,8 +136,26 @@ public class UserPaymentView extends VerticalLayout implements BeforeEnterObserv
             return;
         }
 
-        CompletableFuture.supplyAsync(() -> {
-            LOG.info("Making REST call to load payments");
+        // Only a navigation may use data prefetched from the navigation tabs, refreshes always load anew
+        final CompletableFuture<List<UserPaymentDto>> prefetched = usePrefetched
+                ? this.prefetchService.take(UserPaymentView.class, authHeader)
+                : null;
+        if (prefetched != null && prefetched.isDone() && !prefetched.isCompletedExceptionally()) {
+            final var payments = prefetched.join();
+            LOG.debug("Using {} prefetched payments", payments.size());
+            this.loads.cancel();
+            this.grid.setItems(payments);
+            this.totalLabel.setText("");
+            return;
+        }
+        // A prefetch that already failed is replaced by a new load
+        if (prefetched != null && !prefetched.isDone()) {
+            this.loads.use("all", prefetched, this::showPayments);
+            return;
+        }
+
+        this.loads.load("all", () -> {
+            LOG.debug("Making REST call to load payments");
             try {
                 return this.paymentService.getAllPayments(authHeader);
             } catch (final AuthenticationException e) {
@@ -106,24 +168,21 @@ public class UserPaymentView extends VerticalLayout implements BeforeEnterObserv
                 LOG.error("Error loading payments", e);
                 throw new RuntimeException("Failed to load payments", e);
             }
-        }).orTimeout(30, TimeUnit.SECONDS)
-                .whenComplete((payments, throwable) -> {
-                    this.getUI().ifPresent(ui -> ui.access(() -> {
-                        if (throwable != null) {
-                            LOG.error("Error loading payments: {}", throwable.getMessage(), throwable);
-                            NotificationUtil.showError("Failed to load payments: " + throwable.getMessage());
-                            LOG.info("Successfully loaded 0 payments");
-                        } else {
-                            LOG.info("Successfully loaded {} payments", payments.size());
-                            this.grid.setItems(payments);
-                        }
-                    }));
-                });
+        }, this::showPayments);
     }
 
-    private void buildUI() {
-        this.removeAll();
+    private void showPayments(final List<UserPaymentDto> payments, final Throwable throwable) {
+        if (throwable != null) {
+            LOG.error("Error loading payments: {}", throwable.getMessage(), throwable);
+            NotificationUtil.showError("Failed to load payments: " + throwable.getMessage());
+        } else {
+            LOG.debug("Successfully loaded {} payments", payments.size());
+            this.grid.setItems(payments);
+            this.totalLabel.setText("");
+        }
+    }
 
+    private void buildUI() {
         // Header
         final var header = new H1("User Payments");
         this.add(header);
@@ -139,9 +198,6 @@ public class UserPaymentView extends VerticalLayout implements BeforeEnterObserv
         // Grid
         this.createGrid();
         this.add(this.grid);
-
-        // Payment dialog
-        this.createPaymentDialog();
     }
 
     private HorizontalLayout createFilterLayout() {
@@ -166,11 +222,20 @@ public class UserPaymentView extends VerticalLayout implements BeforeEnterObserv
         this.endDatePicker = new DatePicker("End Date");
         this.endDatePicker.setWidth("150px");
 
-        this.filterByDateButton = new Button("Filter by Date", e -> this.filterByDateRange());
-        this.filterByDateButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+        // Amount range filter
+        this.minAmountField = new BigDecimalField("Min Amount");
+        this.minAmountField.setWidth("120px");
+
+        this.maxAmountField = new BigDecimalField("Max Amount");
+        this.maxAmountField.setWidth("120px");
+
+        this.filterButton = new Button("Filter", e -> this.filterPayments());
+        this.filterButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+
+        this.totalLabel = new Span();
 
         filterLayout.add(this.limitField, this.filterRecentButton, this.startDatePicker, this.endDatePicker,
-                this.filterByDateButton);
+                this.minAmountField, this.maxAmountField, this.filterButton, this.totalLabel);
         return filterLayout;
     }
 
@@ -181,7 +246,18 @@ public class UserPaymentView extends VerticalLayout implements BeforeEnterObserv
         final var refreshButton = new RefreshButton(e -> this.loadPaymentsAsync());
         final var createButton = new CreateButton(e -> this.openPaymentDialog(null), "Create Payment");
 
-        buttonLayout.add(refreshButton, createButton);
+        final var importButton = new Button("Import", e -> this.getUI()
+                .ifPresent(ui -> ui.navigate(PaymentImportView.class)));
+        importButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+        importButton.setIcon(new Icon(VaadinIcon.UPLOAD));
+        importButton.setTooltipText("Import payments from a CSV file");
+
+        final var csvButton = new ExportButton<>("payments", TableExport.Format.CSV, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+        final var xlsxButton = new ExportButton<>("payments", TableExport.Format.XLSX, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+
+        buttonLayout.add(refreshButton, createButton, importButton, csvButton, xlsxButton);
         return buttonLayout;
     }
 
@@ -206,18 +282,8 @@ public class UserPaymentView extends VerticalLayout implements BeforeEnterObserv
         this.grid.addColumn(payment -> payment.lastEdit).setHeader("Last Edited").setWidth("100px").setFlexGrow(0);
 
         // Add action column
-        this.grid.addComponentColumn(this::createActionButtons).setHeader("Actions").setWidth("150px").setFlexGrow(0);
-    }
-
-    private HorizontalLayout createActionButtons(final UserPaymentDto payment) {
-        final var layout = new HorizontalLayout();
-        layout.setSpacing(true);
-
-        final var editButton = new EditButton(e -> this.openPaymentDialog(payment));
-        final var deleteButton = new DeleteButton(e -> this.deletePayment(payment));
-
-        layout.add(editButton, deleteButton);
-        return layout;
+        this.grid.addColumn(new ActionColumnRenderer<>(this::openPaymentDialog, this::deletePayment))
+                .setHeader("Actions").setWidth("150px").setFlexGrow(0);
     }
 
     private void createPaymentDialog() {
@@ -227,31 +293,28 @@ public class UserPaymentView extends VerticalLayout implements BeforeEnterObserv
         this.paymentDialog.setCloseOnOutsideClick(false);
 
         this.binder = new Binder<>(UserPaymentDto.class);
-    }
-
-    private void openPaymentDialog(final UserPaymentDto payment) {
-        this.paymentDialog.removeAll();
-        this.currentPayment = payment != null ? payment : new UserPaymentDto();
 
-        final var title = new H3(payment != null ? "Edit Payment" : "Create Payment");
+        this.paymentDialogTitle = new H3();
 
         final var form = new FormLayout();
         form.setResponsiveSteps(new FormLayout.ResponsiveStep("0", 1));
 
         // Form fields
-        final var sourceAccountField = new NumberField("Source Account ID");
-        final var targetAccountField = new NumberField("Target Account ID");
+        final var sourceAccountField = new AccountPicker("Source Account", this.lookupService);
+        final var targetAccountField = new AccountPicker("Target Account", this.lookupService);
         final var amountField = new BigDecimalField("Amount");
         final var dateField = new DatePicker("Payment Date");
         final var commentField = new TextField("Comment");
 
-        this.binder.forField(sourceAccountField).bind(
-                payment1 -> payment1.sourceId != null ? payment1.sourceId.doubleValue() : null,
-                (payment1, value) -> payment1.sourceId = value != null ? value.longValue() : null);
+        this.binder.forField(sourceAccountField)
+                .withConverter(account -> account != null ? account.id : null,
+                        id -> this.lookupService.getAccount(id).orElse(null))
+                .bind(payment1 -> payment1.sourceId, (payment1, value) -> payment1.sourceId = value);
 
-        this.binder.forField(targetAccountField).bind(
-                payment1 -> payment1.targetId != null ? payment1.targetId.doubleValue() : null,
-                (payment1, value) -> payment1.targetId = value != null ? value.longValue() : null);
+        this.binder.forField(targetAccountField)
+                .withConverter(account -> account != null ? account.id : null,
+                        id -> this.lookupService.getAccount(id).orElse(null))
+                .bind(payment1 -> payment1.targetId, (payment1, value) -> payment1.targetId = value);
 
         this.binder.bind(amountField, payment1 -> payment1.amount, (payment1, value) -> payment1.amount = value);
         this.binder.bind(dateField, payment1 -> payment1.date, (payment1, value) -> payment1.date = value);
@@ -271,11 +334,19 @@ public class UserPaymentView extends VerticalLayout implements BeforeEnterObserv
 
         buttonLayout.add(saveButton, cancelButton);
 
-        final var dialogLayout = new VerticalLayout(title, form, buttonLayout);
+        final var dialogLayout = new VerticalLayout(this.paymentDialogTitle, form, buttonLayout);
         dialogLayout.setSpacing(true);
         dialogLayout.setPadding(false);
 
         this.paymentDialog.add(dialogLayout);
+    }
+
+    private void openPaymentDialog(final UserPaymentDto payment) {
+        if (this.paymentDialog == null) {
+            this.createPaymentDialog();
+        }
+        this.currentPayment = payment != null ? payment : new UserPaymentDto();
+        this.paymentDialogTitle.setText(payment != null ? "Edit Payment" : "Create Payment");
 
         // Load current payment data
         this.binder.readBean(this.currentPayment);
@@ -334,7 +405,9 @@ public class UserPaymentView extends VerticalLayout implements BeforeEnterObserv
         try {
             final int limit = this.limitField.getValue() != null ? this.limitField.getValue() : 10;
             final List<UserPaymentDto> payments = this.paymentService.getRecentPayments(limit);
+            this.loads.cancel();
             this.grid.setItems(payments);
+            this.totalLabel.setText("");
         } catch (final AuthenticationException e) {
             NotificationUtil.showError("Session expired. Please log in again.");
             this.getUI().ifPresent(ui -> ui.navigate(LoginView.class));
@@ -346,31 +419,90 @@ public class UserPaymentView extends VerticalLayout implements BeforeEnterObserv
         }
     }
 
-    private void filterByDateRange() {
+    private void filterPayments() {
         final LocalDate startDate = this.startDatePicker.getValue();
         final LocalDate endDate = this.endDatePicker.getValue();
+        final BigDecimal minAmount = this.minAmountField.getValue();
+        final BigDecimal maxAmount = this.maxAmountField.getValue();
 
-        if (startDate == null || endDate == null) {
-            NotificationUtil.showWarning("Please select both start and end dates");
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            NotificationUtil.showWarning("Start date must be before end date");
             return;
         }
 
-        if (startDate.isAfter(endDate)) {
-            NotificationUtil.showWarning("Start date must be before end date");
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            NotificationUtil.showWarning("Min amount must not exceed max amount");
             return;
         }
 
+        // Capture the auth header in the UI thread where VaadinSession is available
+        final String authHeader;
         try {
-            final List<UserPaymentDto> payments = this.paymentService.getPaymentsByDateRange(startDate, endDate);
-            this.grid.setItems(payments);
-        } catch (final AuthenticationException e) {
-            NotificationUtil.showError("Session expired. Please log in again.");
-            this.getUI().ifPresent(ui -> ui.navigate(LoginView.class));
-        } catch (final ServiceException e) {
-            NotificationUtil.showError("Error filtering payments: " + e.getMessage());
+            authHeader = this.authService.getAuthHeader();
         } catch (final Exception e) {
-            LOG.error("Unexpected error filtering payments", e);
-            NotificationUtil.showError("Unexpected error occurred");
+            LOG.error("Failed to get auth header", e);
+            NotificationUtil.showError("Authentication failed");
+            return;
+        }
+
+        final var filter = PaymentColumnStore.Filter.all()
+                .withDateRange(startDate, endDate)
+                .withAmountRange(minAmount, maxAmount);
+        final var sort = startDate != null || endDate != null || (minAmount == null && maxAmount == null)
+                ? PaymentColumnStore.Sort.DATE
+                : PaymentColumnStore.Sort.AMOUNT;
+
+        // All criteria are applied to the payments held in memory once they are loaded
+        final var store = this.paymentService.findColumnStore(authHeader);
+        if (store.isPresent()) {
+            this.loads.cancel();
+            this.grid.setItems(store.get().find(filter, sort, false, 0));
+            this.totalLabel.setText("Total: " + store.get().sum(filter));
+            return;
+        }
+
+        // Until then a narrow query answers the filter, while all payments load in the background
+        final var narrow = (startDate != null && endDate != null) || minAmount != null || maxAmount != null;
+        if (narrow) {
+            this.storeLoads.load("store", () -> this.paymentService.getColumnStore(authHeader), (loaded, throwable) -> {
+                if (throwable != null) {
+                    LOG.warn("Could not load payments for in-memory filtering: {}", throwable.getMessage());
+                }
+            });
         }
+        this.loads.load(filter.toString(), () -> {
+            LOG.debug("Making REST call to filter payments");
+            try {
+                final List<UserPaymentDto> payments;
+                if (!narrow) {
+                    payments = this.paymentService.getColumnStore(authHeader).find(filter, sort, false, 0);
+                } else if (startDate != null && endDate != null) {
+                    payments = this.paymentService.getPaymentsByDateRange(startDate, endDate, authHeader);
+                } else {
+                    payments = this.paymentService.getPaymentsByAmountRange(minAmount, maxAmount, authHeader);
+                }
+                return narrow ? PaymentColumnStore.of(payments).find(filter, sort, false, 0) : payments;
+            } catch (final AuthenticationException e) {
+                LOG.error("Authentication failed while filtering payments", e);
+                throw e;
+            } catch (final ServiceException e) {
+                LOG.error("Service error while filtering payments", e);
+                throw e;
+            }
+        }, (payments, throwable) -> {
+            if (throwable instanceof AuthenticationException) {
+                NotificationUtil.showError("Session expired. Please log in again.");
+                this.getUI().ifPresent(ui -> ui.navigate(LoginView.class));
+            } else if (throwable != null) {
+                LOG.error("Error filtering payments: {}", throwable.getMessage(), throwable);
+                NotificationUtil.showError("Error filtering payments: " + throwable.getMessage());
+            } else {
+                this.grid.setItems(payments);
+                this.totalLabel.setText("Total: " + payments.stream()
+                        .map(payment -> payment.amount)
+                        .filter(Objects::nonNull)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add));
+            }
+        });
     }
 }
@@ -1,7 +1,7 @@
 package de.vptr.midas.gui.view;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,7 +15,6 @@ import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridVariant;
 import com.vaadin.flow.component.html.H1;
 import com.vaadin.flow.component.html.H3;
-import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.TextField;
@@ -25,16 +24,20 @@ import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Route;
 
+import de.vptr.midas.gui.component.ActionColumnRenderer;
+import de.vptr.midas.gui.component.CheckboxRenderer;
 import de.vptr.midas.gui.component.CreateButton;
-import de.vptr.midas.gui.component.DeleteButton;
-import de.vptr.midas.gui.component.EditButton;
+import de.vptr.midas.gui.component.ExportButton;
+import de.vptr.midas.gui.component.LinkRenderer;
 import de.vptr.midas.gui.component.RefreshButton;
 import de.vptr.midas.gui.dto.UserRankDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
 import de.vptr.midas.gui.service.AuthService;
 import de.vptr.midas.gui.service.UserRankService;
+import de.vptr.midas.gui.util.LoadCoordinator;
 import de.vptr.midas.gui.util.NotificationUtil;
+import de.vptr.midas.gui.util.TableExport;
 import jakarta.inject.Inject;
 
 @Route(value = "ranks", layout = MainLayout.class)
@@ -42,6 +45,16 @@ public class UserRankView extends VerticalLayout implements BeforeEnterObserver
 
     private static final Logger LOG = LoggerFactory.getLogger(UserRankView.class);
 
+    private static final TableExport<UserRankDto> EXPORT = new TableExport<UserRankDto>()
+            .column("ID", rank -> rank.id)
+            .column("Name", rank -> rank.name)
+            .column("Add Posts", rank -> rank.postAdd)
+            .column("Edit Posts", rank -> rank.postEdit)
+            .column("Delete Posts", rank -> rank.postDelete)
+            .column("Add Users", rank -> rank.userAdd)
+            .column("Edit Users", rank -> rank.userEdit)
+            .column("Delete Users", rank -> rank.userDelete);
+
     @Inject
     UserRankService rankService;
 
@@ -49,13 +62,17 @@ public class UserRankView extends VerticalLayout implements BeforeEnterObserver
     AuthService authService;
 
     private Grid<UserRankDto> grid;
+    private final LoadCoordinator<List<UserRankDto>> loads = new LoadCoordinator<>(this, Duration.ofSeconds(30));
     private TextField searchField;
     private Button searchButton;
 
     private Dialog rankDialog;
+    private H3 rankDialogTitle;
     private Binder<UserRankDto> binder;
     private UserRankDto currentRank;
 
+    private boolean uiBuilt;
+
     public UserRankView() {
         this.setSizeFull();
         this.setPadding(true);
@@ -69,17 +86,20 @@ public class UserRankView extends VerticalLayout implements BeforeEnterObserver
             return;
         }
 
-        this.buildUI();
+        if (!this.uiBuilt) {
+            this.buildUI();
+            this.uiBuilt = true;
+        }
         this.loadRanksAsync();
     }
 
     private void loadRanksAsync() {
-        LOG.info("Starting async rank loading");
+        LOG.debug("Starting async rank loading");
 
         // Capture the auth header in the UI thread where VaadinSession is available
         final String authHeader;
         try {
-            authHeader = this.authService.getBasicAuthHeader();
+            authHeader = this.authService.getAuthHeader();
         } catch (final Exception e) {
             LOG.error("Failed to get auth header", e);
             this.getUI().ifPresent(ui -> ui.access(() -> {
@@ -88,8 +108,8 @@ public class UserRankView extends VerticalLayout implements BeforeEnterObserver
             return;
         }
 
-        CompletableFuture.supplyAsync(() -> {
-            LOG.info("Making REST call to load ranks");
+        this.loads.load("all", () -> {
+            LOG.debug("Making REST call to load ranks");
             try {
                 return this.rankService.getAllRanks(authHeader);
             } catch (final AuthenticationException e) {
@@ -102,23 +122,18 @@ public class UserRankView extends VerticalLayout implements BeforeEnterObserver
                 LOG.error("Error loading ranks", e);
                 throw new RuntimeException("Failed to load ranks", e);
             }
-        }).orTimeout(30, TimeUnit.SECONDS)
-                .whenComplete((ranks, throwable) -> {
-                    this.getUI().ifPresent(ui -> ui.access(() -> {
-                        if (throwable != null) {
-                            LOG.error("Error loading ranks: {}", throwable.getMessage(), throwable);
-                            NotificationUtil.showError("Failed to load ranks: " + throwable.getMessage());
-                        } else {
-                            LOG.info("Successfully loaded {} ranks", ranks.size());
-                            this.grid.setItems(ranks);
-                        }
-                    }));
-                });
+        }, (ranks, throwable) -> {
+            if (throwable != null) {
+                LOG.error("Error loading ranks: {}", throwable.getMessage(), throwable);
+                NotificationUtil.showError("Failed to load ranks: " + throwable.getMessage());
+            } else {
+                LOG.debug("Successfully loaded {} ranks", ranks.size());
+                this.grid.setItems(ranks);
+            }
+        });
     }
 
     private void buildUI() {
-        this.removeAll();
-
         // Header
         final var header = new H1("User Ranks");
         this.add(header);
@@ -134,9 +149,6 @@ public class UserRankView extends VerticalLayout implements BeforeEnterObserver
         // Grid
         this.createGrid();
         this.add(this.grid);
-
-        // Rank dialog
-        this.createRankDialog();
     }
 
     private HorizontalLayout createFilterLayout() {
@@ -162,7 +174,12 @@ public class UserRankView extends VerticalLayout implements BeforeEnterObserver
         final var createButton = new CreateButton(e -> this.openRankDialog(null));
         final var refreshButton = new RefreshButton(e -> this.loadRanksAsync());
 
-        layout.add(createButton, refreshButton);
+        final var csvButton = new ExportButton<>("ranks", TableExport.Format.CSV, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+        final var xlsxButton = new ExportButton<>("ranks", TableExport.Format.XLSX, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+
+        layout.add(createButton, refreshButton, csvButton, xlsxButton);
         return layout;
     }
 
@@ -175,43 +192,18 @@ public class UserRankView extends VerticalLayout implements BeforeEnterObserver
         this.grid.addColumn(rank -> rank.id).setHeader("ID").setWidth("80px").setFlexGrow(0);
 
         // Make the name column clickable
-        this.grid.addComponentColumn(rank -> {
-            final var nameSpan = new Span(rank.name);
-            nameSpan.getStyle().set("color", "var(--lumo-primary-text-color)");
-            nameSpan.getStyle().set("cursor", "pointer");
-            nameSpan.getStyle().set("width", "100%");
-            nameSpan.getStyle().set("display", "block");
-            nameSpan.addClickListener(e -> this.openRankDialog(rank));
-            return nameSpan;
-        }).setHeader("Name").setFlexGrow(2);
-
-        this.grid.addComponentColumn(rank -> {
-            final var checkbox = new Checkbox();
-            checkbox.setValue(rank.postAdd != null ? rank.postAdd : false);
-            checkbox.setReadOnly(true);
-            return checkbox;
-        }).setHeader("Post Permissions").setWidth("120px").setFlexGrow(0);
-
-        this.grid.addComponentColumn(rank -> {
-            final var checkbox = new Checkbox();
-            checkbox.setValue(rank.userAdd != null ? rank.userAdd : false);
-            checkbox.setReadOnly(true);
-            return checkbox;
-        }).setHeader("User Permissions").setWidth("120px").setFlexGrow(0);
-
-        // Add action column
-        this.grid.addComponentColumn(this::createActionButtons).setHeader("Actions").setWidth("150px").setFlexGrow(0);
-    }
+        this.grid.addColumn(new LinkRenderer<>(rank -> rank.name, this::openRankDialog))
+                .setHeader("Name").setFlexGrow(2);
 
-    private HorizontalLayout createActionButtons(final UserRankDto rank) {
-        final var layout = new HorizontalLayout();
-        layout.setSpacing(true);
+        this.grid.addColumn(new CheckboxRenderer<>(rank -> rank.postAdd))
+                .setHeader("Post Permissions").setWidth("120px").setFlexGrow(0);
 
-        final var editButton = new EditButton(e -> this.openRankDialog(rank));
-        final var deleteButton = new DeleteButton(e -> this.deleteRank(rank));
+        this.grid.addColumn(new CheckboxRenderer<>(rank -> rank.userAdd))
+                .setHeader("User Permissions").setWidth("120px").setFlexGrow(0);
 
-        layout.add(editButton, deleteButton);
-        return layout;
+        // Add action column
+        this.grid.addColumn(new ActionColumnRenderer<>(this::openRankDialog, this::deleteRank))
+                .setHeader("Actions").setWidth("150px").setFlexGrow(0);
     }
 
     private void createRankDialog() {
@@ -222,13 +214,8 @@ public class UserRankView extends VerticalLayout implements BeforeEnterObserver
         this.rankDialog.setCloseOnOutsideClick(false);
 
         this.binder = new Binder<>(UserRankDto.class);
-    }
-
-    private void openRankDialog(final UserRankDto rank) {
-        this.rankDialog.removeAll();
-        this.currentRank = rank != null ? rank : new UserRankDto();
 
-        final var title = new H3(rank != null ? "Edit Rank" : "Create Rank");
+        this.rankDialogTitle = new H3();
 
         final var form = new FormLayout();
         form.setResponsiveSteps(new FormLayout.ResponsiveStep("0", 1));
@@ -276,12 +263,20 @@ public class UserRankView extends VerticalLayout implements BeforeEnterObserver
 
         buttonLayout.add(saveButton, cancelButton);
 
-        final var dialogLayout = new VerticalLayout(title, form, buttonLayout);
+        final var dialogLayout = new VerticalLayout(this.rankDialogTitle, form, buttonLayout);
         dialogLayout.setSpacing(true);
         dialogLayout.setPadding(false);
         dialogLayout.setSizeFull();
 
         this.rankDialog.add(dialogLayout);
+    }
+
+    private void openRankDialog(final UserRankDto rank) {
+        if (this.rankDialog == null) {
+            this.createRankDialog();
+        }
+        this.currentRank = rank != null ? rank : new UserRankDto();
+        this.rankDialogTitle.setText(rank != null ? "Edit Rank" : "Create Rank");
 
         // Load current rank data
         this.binder.readBean(this.currentRank);
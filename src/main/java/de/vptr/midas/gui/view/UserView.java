@@ -1,7 +1,7 @@
 package de.vptr.midas.gui.view;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,7 +15,6 @@ import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridVariant;
 import com.vaadin.flow.component.html.H1;
 import com.vaadin.flow.component.html.H3;
-import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.EmailField;
@@ -26,16 +25,20 @@ import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Route;
 
+import de.vptr.midas.gui.component.ActionColumnRenderer;
+import de.vptr.midas.gui.component.CheckboxRenderer;
 import de.vptr.midas.gui.component.CreateButton;
-import de.vptr.midas.gui.component.DeleteButton;
-import de.vptr.midas.gui.component.EditButton;
+import de.vptr.midas.gui.component.ExportButton;
+import de.vptr.midas.gui.component.LinkRenderer;
 import de.vptr.midas.gui.component.RefreshButton;
 import de.vptr.midas.gui.dto.UserDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
 import de.vptr.midas.gui.service.AuthService;
 import de.vptr.midas.gui.service.UserService;
+import de.vptr.midas.gui.util.LoadCoordinator;
 import de.vptr.midas.gui.util.NotificationUtil;
+import de.vptr.midas.gui.util.TableExport;
 import jakarta.inject.Inject;
 
 @Route(value = "users", layout = MainLayout.class)
@@ -43,6 +46,16 @@ public class UserView extends VerticalLayout implements BeforeEnterObserver {
 
     private static final Logger LOG = LoggerFactory.getLogger(UserView.class);
 
+    private static final TableExport<UserDto> EXPORT = new TableExport<UserDto>()
+            .column("ID", user -> user.id)
+            .column("Username", user -> user.username)
+            .column("Email", user -> user.email)
+            .column("Rank", user -> user.rank != null ? user.rank.getName() : null)
+            .column("Activated", user -> user.activated)
+            .column("Banned", user -> user.banned)
+            .column("Created", user -> user.created)
+            .column("Last Login", user -> user.lastLogin);
+
     @Inject
     UserService userService;
 
@@ -50,13 +63,18 @@ public class UserView extends VerticalLayout implements BeforeEnterObserver {
     AuthService authService;
 
     private Grid<UserDto> grid;
+    private final LoadCoordinator<List<UserDto>> loads = new LoadCoordinator<>(this, Duration.ofSeconds(30));
     private TextField searchField;
     private Button searchButton;
 
     private Dialog userDialog;
+    private H3 userDialogTitle;
+    private TextField passwordField;
     private Binder<UserDto> binder;
     private UserDto currentUser;
 
+    private boolean uiBuilt;
+
     public UserView() {
         this.setSizeFull();
         this.setPadding(true);
@@ -70,17 +88,20 @@ public class UserView extends VerticalLayout implements BeforeEnterObserver {
             return;
         }
 
-        this.buildUI();
+        if (!this.uiBuilt) {
+            this.buildUI();
+            this.uiBuilt = true;
+        }
         this.loadUsersAsync();
     }
 
     private void loadUsersAsync() {
-        LOG.info("Starting async user loading");
+        LOG.debug("Starting async user loading");
 
         // Capture the auth header in the UI thread where VaadinSession is available
         final String authHeader;
         try {
-            authHeader = this.authService.getBasicAuthHeader();
+            authHeader = this.authService.getAuthHeader();
         } catch (final Exception e) {
             LOG.error("Failed to get auth header", e);
             this.getUI().ifPresent(ui -> ui.access(() -> {
@@ -89,8 +110,8 @@ public class UserView extends VerticalLayout implements BeforeEnterObserver {
             return;
         }
 
-        CompletableFuture.supplyAsync(() -> {
-            LOG.info("Making REST call to load users");
+        this.loads.load("all", () -> {
+            LOG.debug("Making REST call to load users");
             try {
                 return this.userService.getAllUsers(authHeader);
             } catch (final AuthenticationException e) {
@@ -103,23 +124,18 @@ public class UserView extends VerticalLayout implements BeforeEnterObserver {
                 LOG.error("Error loading users", e);
                 throw new RuntimeException("Failed to load users", e);
             }
-        }).orTimeout(30, TimeUnit.SECONDS)
-                .whenComplete((users, throwable) -> {
-                    this.getUI().ifPresent(ui -> ui.access(() -> {
-                        if (throwable != null) {
-                            LOG.error("Error loading users: {}", throwable.getMessage(), throwable);
-                            NotificationUtil.showError("Failed to load users: " + throwable.getMessage());
-                        } else {
-                            LOG.info("Successfully loaded {} users", users.size());
-                            this.grid.setItems(users);
-                        }
-                    }));
-                });
+        }, (users, throwable) -> {
+            if (throwable != null) {
+                LOG.error("Error loading users: {}", throwable.getMessage(), throwable);
+                NotificationUtil.showError("Failed to load users: " + throwable.getMessage());
+            } else {
+                LOG.debug("Successfully loaded {} users", users.size());
+                this.grid.setItems(users);
+            }
+        });
     }
 
     private void buildUI() {
-        this.removeAll();
-
         // Header
         final var header = new H1("Users");
         this.add(header);
@@ -135,9 +151,6 @@ public class UserView extends VerticalLayout implements BeforeEnterObserver {
         // Grid
         this.createGrid();
         this.add(this.grid);
-
-        // User dialog
-        this.createUserDialog();
     }
 
     private HorizontalLayout createFilterLayout() {
@@ -163,7 +176,12 @@ public class UserView extends VerticalLayout implements BeforeEnterObserver {
         final var createButton = new CreateButton(e -> this.openUserDialog(null));
         final var refreshButton = new RefreshButton(e -> this.loadUsersAsync());
 
-        layout.add(createButton, refreshButton);
+        final var csvButton = new ExportButton<>("users", TableExport.Format.CSV, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+        final var xlsxButton = new ExportButton<>("users", TableExport.Format.XLSX, EXPORT,
+                () -> this.grid.getGenericDataView().getItems());
+
+        layout.add(createButton, refreshButton, csvButton, xlsxButton);
         return layout;
     }
 
@@ -176,47 +194,24 @@ public class UserView extends VerticalLayout implements BeforeEnterObserver {
         this.grid.addColumn(user -> user.id).setHeader("ID").setWidth("80px").setFlexGrow(0);
 
         // Make the username column clickable
-        this.grid.addComponentColumn(user -> {
-            final var usernameSpan = new Span(user.username);
-            usernameSpan.getStyle().set("color", "var(--lumo-primary-text-color)");
-            usernameSpan.getStyle().set("cursor", "pointer");
-            usernameSpan.getStyle().set("width", "100%");
-            usernameSpan.getStyle().set("display", "block");
-            usernameSpan.addClickListener(e -> this.openUserDialog(user));
-            return usernameSpan;
-        }).setHeader("Username").setFlexGrow(1);
+        this.grid.addColumn(new LinkRenderer<>(user -> user.username, this::openUserDialog))
+                .setHeader("Username").setFlexGrow(1);
 
         this.grid.addColumn(user -> user.email).setHeader("Email").setFlexGrow(1);
         this.grid.addColumn(user -> user.rank != null ? user.rank.getName() : "").setHeader("Rank").setWidth("120px")
                 .setFlexGrow(0);
-        this.grid.addComponentColumn(user -> {
-            final var checkbox = new Checkbox();
-            checkbox.setValue(user.activated != null ? user.activated : false);
-            checkbox.setReadOnly(true);
-            return checkbox;
-        }).setHeader("Activated").setWidth("100px").setFlexGrow(0);
-        this.grid.addComponentColumn(user -> {
-            final var checkbox = new Checkbox();
-            checkbox.setValue(user.banned != null ? user.banned : false);
-            checkbox.setReadOnly(true);
-            return checkbox;
-        }).setHeader("Banned").setWidth("100px").setFlexGrow(0);
+        this.grid.addColumn(new CheckboxRenderer<>(user -> user.activated))
+                .setHeader("Activated").setWidth("100px").setFlexGrow(0);
+        this.grid.addColumn(new CheckboxRenderer<>(user -> user.banned))
+                .setHeader("Banned").setWidth("100px").setFlexGrow(0);
         this.grid.addColumn(user -> user.created).setHeader("Created").setWidth("150px").setFlexGrow(0);
         this.grid.addColumn(user -> user.lastLogin).setHeader("Last Login").setWidth("150px").setFlexGrow(0);
+        this.grid.addColumn(new LinkRenderer<>(user -> "Details", this::openUserDetail))
+                .setWidth("100px").setFlexGrow(0);
 
         // Add action column
-        this.grid.addComponentColumn(this::createActionButtons).setHeader("Actions").setWidth("150px").setFlexGrow(0);
-    }
-
-    private HorizontalLayout createActionButtons(final UserDto user) {
-        final var layout = new HorizontalLayout();
-        layout.setSpacing(true);
-
-        final var editButton = new EditButton(e -> this.openUserDialog(user));
-        final var deleteButton = new DeleteButton(e -> this.deleteUser(user));
-
-        layout.add(editButton, deleteButton);
-        return layout;
+        this.grid.addColumn(new ActionColumnRenderer<>(this::openUserDialog, this::deleteUser))
+                .setHeader("Actions").setWidth("150px").setFlexGrow(0);
     }
 
     private void createUserDialog() {
@@ -226,13 +221,8 @@ public class UserView extends VerticalLayout implements BeforeEnterObserver {
         this.userDialog.setCloseOnOutsideClick(false);
 
         this.binder = new Binder<>(UserDto.class);
-    }
 
-    private void openUserDialog(final UserDto user) {
-        this.userDialog.removeAll();
-        this.currentUser = user != null ? user : new UserDto();
-
-        final var title = new H3(user != null ? "Edit User" : "Create User");
+        this.userDialogTitle = new H3();
 
         final var form = new FormLayout();
         form.setResponsiveSteps(new FormLayout.ResponsiveStep("0", 1));
@@ -244,10 +234,7 @@ public class UserView extends VerticalLayout implements BeforeEnterObserver {
         final var emailField = new EmailField("Email");
         emailField.setRequired(true);
 
-        final var passwordField = new TextField("Password");
-        if (user == null) {
-            passwordField.setRequired(true);
-        }
+        this.passwordField = new TextField("Password");
 
         final var activatedField = new Checkbox("Activated");
         final var bannedField = new Checkbox("Banned");
@@ -255,13 +242,13 @@ public class UserView extends VerticalLayout implements BeforeEnterObserver {
         // Bind fields
         this.binder.bind(usernameField, user1 -> user1.username, (user1, value) -> user1.username = value);
         this.binder.bind(emailField, user1 -> user1.email, (user1, value) -> user1.email = value);
-        this.binder.bind(passwordField, user1 -> user1.password, (user1, value) -> user1.password = value);
+        this.binder.bind(this.passwordField, user1 -> user1.password, (user1, value) -> user1.password = value);
         this.binder.bind(activatedField, user1 -> user1.activated != null ? user1.activated : false,
                 (user1, value) -> user1.activated = value);
         this.binder.bind(bannedField, user1 -> user1.banned != null ? user1.banned : false,
                 (user1, value) -> user1.banned = value);
 
-        form.add(usernameField, emailField, passwordField, activatedField, bannedField);
+        form.add(usernameField, emailField, this.passwordField, activatedField, bannedField);
 
         // Button layout
         final var buttonLayout = new HorizontalLayout();
@@ -275,11 +262,24 @@ public class UserView extends VerticalLayout implements BeforeEnterObserver {
 
         buttonLayout.add(saveButton, cancelButton);
 
-        final var dialogLayout = new VerticalLayout(title, form, buttonLayout);
+        final var dialogLayout = new VerticalLayout(this.userDialogTitle, form, buttonLayout);
         dialogLayout.setSpacing(true);
         dialogLayout.setPadding(false);
 
         this.userDialog.add(dialogLayout);
+    }
+
+    private void openUserDetail(final UserDto user) {
+        this.getUI().ifPresent(ui -> ui.navigate(UserDetailView.class, user.id));
+    }
+
+    private void openUserDialog(final UserDto user) {
+        if (this.userDialog == null) {
+            this.createUserDialog();
+        }
+        this.currentUser = user != null ? user : new UserDto();
+        this.userDialogTitle.setText(user != null ? "Edit User" : "Create User");
+        this.passwordField.setRequired(user == null);
 
         // Load current user data
         this.binder.readBean(this.currentUser);
@@ -0,0 +1,89 @@
+package de.vptr.midas.gui;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+class LogSamplingFilterTest {
+
+    private static LogRecord record(final Level level, final String message) {
+        final var record = new LogRecord(level, message);
+        record.setLoggerName("de.vptr.midas.gui.service.UserAccountService");
+        return record;
+    }
+
+    @Test
+    void key_shouldGroupMessagesThatOnlyDifferInArguments() {
+        // Given
+        final var first = record(Level.SEVERE, "HTTP error while fetching account 4: 503");
+        final var second = record(Level.SEVERE, "HTTP error while fetching account 7: 500");
+
+        // When / Then
+        assertThat(LogSamplingFilter.key(first)).isEqualTo(LogSamplingFilter.key(second));
+    }
+
+    @Test
+    void key_shouldSeparateLevels() {
+        // Given
+        final var error = record(Level.SEVERE, "Connection error while fetching accounts");
+        final var warning = record(Level.WARNING, "Connection error while fetching accounts");
+
+        // When / Then
+        assertThat(LogSamplingFilter.key(error)).isNotEqualTo(LogSamplingFilter.key(warning));
+    }
+
+    @Test
+    void isLoggable_shouldSuppressRepeatedErrorsBeyondBurst() {
+        // Given
+        final var filter = new LogSamplingFilter(2, 100, Duration.ofHours(1), 100);
+
+        // When
+        var logged = 0;
+        for (var i = 0; i < 50; i++) {
+            if (filter.isLoggable(record(Level.SEVERE, "Connection error while fetching accounts"))) {
+                logged++;
+            }
+        }
+
+        // Then
+        assertThat(logged).isEqualTo(2);
+    }
+
+    @Test
+    void isLoggable_shouldSampleRepeatedDebugMessagesBeyondBurst() {
+        // Given
+        final var filter = new LogSamplingFilter(2, 10, Duration.ofHours(1), 100);
+
+        // When
+        var logged = 0;
+        for (var i = 0; i < 102; i++) {
+            if (filter.isLoggable(record(Level.FINE, "Fetching all user accounts"))) {
+                logged++;
+            }
+        }
+
+        // Then
+        assertThat(logged).isEqualTo(12);
+    }
+
+    @Test
+    void isLoggable_shouldReportSuppressedCount_whenWindowEnds() throws InterruptedException {
+        // Given
+        final var filter = new LogSamplingFilter(1, 0, Duration.ofMillis(20), 100);
+        filter.isLoggable(record(Level.SEVERE, "Backend unavailable"));
+        filter.isLoggable(record(Level.SEVERE, "Backend unavailable"));
+        Thread.sleep(50);
+        final var next = record(Level.SEVERE, "Backend unavailable");
+
+        // When
+        final var loggable = filter.isLoggable(next);
+
+        // Then
+        assertThat(loggable).isTrue();
+        assertThat(next.getMessage()).isEqualTo("Backend unavailable (1 similar messages suppressed)");
+    }
+}
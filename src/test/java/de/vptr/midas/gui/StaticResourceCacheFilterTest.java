@@ -0,0 +1,88 @@
+package de.vptr.midas.gui;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class StaticResourceCacheFilterTest {
+
+    @Mock
+    HttpServletRequest request;
+
+    @Mock
+    HttpServletResponse response;
+
+    @Mock
+    FilterChain chain;
+
+    private final StaticResourceCacheFilter filter = new StaticResourceCacheFilter();
+
+    @Test
+    void doFilter_shouldKeepImmutableHeader_whenResourceIsServed() throws IOException, ServletException {
+        // Given
+        doAnswer(invocation -> {
+            final HttpServletResponse wrapped = invocation.getArgument(1);
+            wrapped.setStatus(HttpServletResponse.SC_OK);
+            wrapped.setHeader("Cache-Control", "max-age=3600");
+            return null;
+        }).when(this.chain).doFilter(any(ServletRequest.class), any(HttpServletResponse.class));
+
+        // When
+        this.filter.doFilter(this.request, this.response, this.chain);
+
+        // Then
+        verify(this.response).setHeader("Cache-Control", StaticResourceCacheFilter.IMMUTABLE);
+        verify(this.response, never()).setHeader("Cache-Control", "max-age=3600");
+        verify(this.response, never()).setHeader("Cache-Control", StaticResourceCacheFilter.NO_CACHE);
+    }
+
+    @Test
+    void doFilter_shouldNotCacheError_whenResourceIsMissing() throws IOException, ServletException {
+        // Given
+        doAnswer(invocation -> {
+            final HttpServletResponse wrapped = invocation.getArgument(1);
+            wrapped.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return null;
+        }).when(this.chain).doFilter(any(ServletRequest.class), any(HttpServletResponse.class));
+
+        // When
+        this.filter.doFilter(this.request, this.response, this.chain);
+
+        // Then
+        verify(this.response).setHeader("Cache-Control", StaticResourceCacheFilter.NO_CACHE);
+        verify(this.response).sendError(HttpServletResponse.SC_NOT_FOUND);
+    }
+
+    @Test
+    void doFilter_shouldPassOwnCacheHeaders_afterServerError() throws IOException, ServletException {
+        // Given
+        doAnswer(invocation -> {
+            final HttpServletResponse wrapped = invocation.getArgument(1);
+            wrapped.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            wrapped.setHeader("Cache-Control", "no-store");
+            return null;
+        }).when(this.chain).doFilter(any(ServletRequest.class), any(HttpServletResponse.class));
+
+        // When
+        this.filter.doFilter(this.request, this.response, this.chain);
+
+        // Then
+        verify(this.response).setHeader("Cache-Control", StaticResourceCacheFilter.NO_CACHE);
+        verify(this.response).setHeader("Cache-Control", "no-store");
+    }
+}
@@ -0,0 +1,135 @@
+package de.vptr.midas.gui.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import de.vptr.midas.gui.util.CredentialScope;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.Response;
+
+class ConditionalRequestFilterTest {
+
+    private static final String BASE_URL = "http://localhost:8080/api/v1";
+    private static final String AUTH_HEADER = "Basic dGVzdDp0ZXN0";
+    private static final byte[] BODY = "[{\"id\":1,\"title\":\"First\"}]".getBytes(StandardCharsets.UTF_8);
+
+    private ConditionalRequestFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        this.filter = new ConditionalRequestFilter();
+        this.filter.cache = new ResponseCache();
+        this.filter.cache.maxBytes = 1000;
+        this.filter.baseUrl = BASE_URL;
+    }
+
+    @Test
+    void filter_shouldStoreRawBody_whenResponseHasValidator() throws IOException {
+        // Given
+        final var request = request("GET");
+        final var response = response(200);
+        when(response.hasEntity()).thenReturn(true);
+        when(response.getHeaderString(HttpHeaders.ETAG)).thenReturn("\"v1\"");
+        when(response.getHeaderString(HttpHeaders.CONTENT_TYPE)).thenReturn("application/json");
+        when(response.getEntityStream()).thenReturn(new ByteArrayInputStream(BODY));
+
+        // When
+        this.filter.filter(request);
+        this.filter.filter(request, response);
+
+        // Then
+        assertThat(readEntity(response)).isEqualTo(BODY);
+        final var cached = this.filter.cache.get(postsKey());
+        assertThat(cached.body()).isEqualTo(BODY);
+        assertThat(cached.etag()).isEqualTo("\"v1\"");
+        assertThat(this.filter.cache.getTotalBytes()).isEqualTo(BODY.length);
+    }
+
+    @Test
+    void filter_shouldReplayCachedBody_whenNotModified() throws IOException {
+        // Given
+        final var key = postsKey();
+        this.filter.cache.put(key, new ResponseCache.Entry(BODY, "\"v1\"", null, "application/json", null));
+        final var request = request("GET");
+        final var response = response(304);
+        final var responseHeaders = new MultivaluedHashMap<String, String>();
+        when(response.getHeaders()).thenReturn(responseHeaders);
+
+        // When
+        this.filter.filter(request);
+        this.filter.filter(request, response);
+
+        // Then
+        assertThat(request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH)).isEqualTo("\"v1\"");
+        verify(response).setStatus(200);
+        assertThat(responseHeaders.getFirst(HttpHeaders.CONTENT_TYPE)).isEqualTo("application/json");
+        // Every hit gets its own stream, so every caller deserializes its own instances
+        assertThat(readEntity(response)).isEqualTo(BODY);
+    }
+
+    @Test
+    void filter_shouldInvalidateCollection_whenWriting() {
+        // Given
+        final var key = postsKey();
+        this.filter.cache.put(key, new ResponseCache.Entry(BODY, "\"v1\"", null, "application/json", null));
+        final var request = mock(ClientRequestContext.class);
+        when(request.getMethod()).thenReturn("PUT");
+        when(request.getUri()).thenReturn(URI.create(BASE_URL + "/posts/1"));
+
+        // When
+        this.filter.filter(request);
+
+        // Then
+        assertThat(this.filter.cache.get(key)).isNull();
+    }
+
+    private static ResponseCache.Key postsKey() {
+        return new ResponseCache.Key(BASE_URL + "/posts", CredentialScope.of(AUTH_HEADER));
+    }
+
+    private static ClientRequestContext request(final String method) {
+        final var request = mock(ClientRequestContext.class);
+        final var properties = new HashMap<String, Object>();
+        final var headers = new MultivaluedHashMap<String, Object>();
+        when(request.getMethod()).thenReturn(method);
+        when(request.getUri()).thenReturn(URI.create(BASE_URL + "/posts"));
+        when(request.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn(AUTH_HEADER);
+        when(request.getHeaders()).thenReturn(headers);
+        doAnswer(invocation -> properties.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(request).setProperty(anyString(), any());
+        when(request.getProperty(anyString())).thenAnswer(invocation -> properties.get(invocation.getArgument(0)));
+        return request;
+    }
+
+    private static ClientResponseContext response(final int status) {
+        final var response = mock(ClientResponseContext.class);
+        when(response.getStatus()).thenReturn(status);
+        when(response.getStatusInfo()).thenReturn(Response.Status.fromStatusCode(status));
+        return response;
+    }
+
+    private static byte[] readEntity(final ClientResponseContext response) throws IOException {
+        final var captor = ArgumentCaptor.forClass(InputStream.class);
+        verify(response).setEntityStream(captor.capture());
+        return captor.getValue().readAllBytes();
+    }
+}
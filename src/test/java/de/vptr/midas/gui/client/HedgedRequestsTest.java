@@ -0,0 +1,111 @@
+package de.vptr.midas.gui.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.WebApplicationException;
+
+class HedgedRequestsTest {
+
+    private static final String POSTS = "GET /posts";
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private HedgedRequests hedging;
+
+    @BeforeEach
+    void setUp() {
+        final var tracker = new LatencyTracker();
+        tracker.window = 256;
+        tracker.minSamples = 20;
+        tracker.timeoutMultiplier = 3;
+        tracker.minTimeout = Duration.ofMillis(1);
+        // p95 and p99 of 100 ms: hedge after 100 ms, give up after 300 ms
+        for (var i = 0; i < 20; i++) {
+            tracker.record(POSTS, Duration.ofMillis(100));
+        }
+
+        this.hedging = new HedgedRequests();
+        this.hedging.tracker = tracker;
+        this.hedging.enabled = true;
+        this.hedging.budget = 1;
+        this.hedging.maxTimeout = Duration.ofSeconds(5);
+    }
+
+    @Test
+    void get_shouldUseHedge_whenFirstRequestIsSlow() {
+        // When
+        final var result = this.hedging.get(POSTS,
+                () -> this.calls.incrementAndGet() == 1 ? this.sleep(2000, "first") : "hedge");
+
+        // Then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(this.calls).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotHedge_whenBudgetIsUsedUp() {
+        // Given
+        this.hedging.budget = 0;
+
+        // When
+        final var result = this.hedging.get(POSTS, () -> this.sleep(200, "call " + this.calls.incrementAndGet()));
+
+        // Then
+        assertThat(result).isEqualTo("call 1");
+        assertThat(this.calls).hasValue(1);
+    }
+
+    @Test
+    void get_shouldRethrowWithoutHedge_whenBackendAnswersWithError() {
+        // Given
+        final var error = new WebApplicationException(404);
+
+        // When & Then
+        assertThatThrownBy(() -> this.hedging.get(POSTS, () -> {
+            this.calls.incrementAndGet();
+            throw error;
+        })).isSameAs(error);
+        assertThat(this.calls).hasValue(1);
+    }
+
+    @Test
+    void get_shouldThrowProcessingException_whenNoResponseWithinTimeout() {
+        // When & Then
+        assertThatThrownBy(() -> this.hedging.get(POSTS, () -> this.sleep(2000, "late")))
+                .isInstanceOf(ProcessingException.class)
+                .hasMessageContaining(POSTS);
+    }
+
+    @Test
+    void get_shouldExtendTimeout_whenBackendBecomesSlower() {
+        // Given
+        final var timeout = this.hedging.tracker.timeout(POSTS, this.hedging.maxTimeout);
+        assertThatThrownBy(() -> this.hedging.get(POSTS, () -> this.sleep(500, "slow")))
+                .isInstanceOf(ProcessingException.class);
+
+        // When
+        final var result = this.hedging.get(POSTS, () -> this.sleep(500, "slow"));
+
+        // Then
+        assertThat(timeout).isEqualTo(Duration.ofMillis(300));
+        assertThat(result).isEqualTo("slow");
+        assertThat(this.hedging.tracker.timeout(POSTS, this.hedging.maxTimeout)).isGreaterThan(Duration.ofMillis(500));
+    }
+
+    private String sleep(final long millis, final String result) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+}
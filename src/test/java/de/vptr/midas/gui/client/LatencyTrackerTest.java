@@ -0,0 +1,69 @@
+package de.vptr.midas.gui.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LatencyTrackerTest {
+
+    private static final String POSTS = "GET /posts";
+
+    private LatencyTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        this.tracker = new LatencyTracker();
+        this.tracker.window = 4;
+        this.tracker.minSamples = 2;
+        this.tracker.timeoutMultiplier = 3;
+        this.tracker.minTimeout = Duration.ofMillis(50);
+    }
+
+    @Test
+    void percentile_shouldReturnNull_whenTooFewSamples() {
+        // Given
+        this.tracker.record(POSTS, Duration.ofMillis(10));
+
+        // When & Then
+        assertThat(this.tracker.percentile(POSTS, 0.5)).isNull();
+        assertThat(this.tracker.percentile("GET /pages", 0.5)).isNull();
+        assertThat(this.tracker.timeout(POSTS, Duration.ofSeconds(1))).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void percentile_shouldOnlyConsiderLatestSamples() {
+        // Given
+        for (var i = 0; i < 4; i++) {
+            this.tracker.record(POSTS, Duration.ofMillis(1000));
+        }
+
+        // When
+        this.tracker.record(POSTS, Duration.ofMillis(10));
+        this.tracker.record(POSTS, Duration.ofMillis(20));
+        this.tracker.record(POSTS, Duration.ofMillis(30));
+
+        // Then
+        assertThat(this.tracker.percentile(POSTS, 0.5)).isEqualTo(Duration.ofMillis(20));
+        assertThat(this.tracker.percentile(POSTS, 0.99)).isEqualTo(Duration.ofMillis(1000));
+    }
+
+    @Test
+    void timeout_shouldBeMultipleOfP99WithinBounds() {
+        // Given
+        this.tracker.record("GET /fast", Duration.ofMillis(5));
+        this.tracker.record("GET /fast", Duration.ofMillis(10));
+        this.tracker.record("GET /normal", Duration.ofMillis(80));
+        this.tracker.record("GET /normal", Duration.ofMillis(100));
+        this.tracker.record("GET /slow", Duration.ofMillis(800));
+        this.tracker.record("GET /slow", Duration.ofMillis(900));
+
+        // When & Then
+        assertThat(this.tracker.timeout("GET /fast", Duration.ofSeconds(1))).isEqualTo(Duration.ofMillis(50));
+        assertThat(this.tracker.timeout("GET /normal", Duration.ofSeconds(1))).isEqualTo(Duration.ofMillis(300));
+        assertThat(this.tracker.timeout("GET /slow", Duration.ofSeconds(1))).isEqualTo(Duration.ofSeconds(1));
+        assertThat(this.tracker.timeout("GET /fast", Duration.ofMillis(20))).isEqualTo(Duration.ofMillis(20));
+    }
+}
@@ -0,0 +1,74 @@
+package de.vptr.midas.gui.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResponseCacheTest {
+
+    private static final String POSTS = "http://localhost:8080/api/v1/posts";
+    private static final String PAGES = "http://localhost:8080/api/v1/pages";
+
+    private ResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.cache = new ResponseCache();
+        this.cache.maxBytes = 100;
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsed_whenByteBudgetExceeded() {
+        // Given
+        final var first = new ResponseCache.Key(POSTS, "scope-a");
+        final var second = new ResponseCache.Key(POSTS, "scope-b");
+        final var third = new ResponseCache.Key(PAGES, "scope-a");
+        this.cache.put(first, entry(40));
+        this.cache.put(second, entry(40));
+
+        // When
+        this.cache.get(first);
+        this.cache.put(third, entry(40));
+
+        // Then
+        assertThat(this.cache.get(first)).isNotNull();
+        assertThat(this.cache.get(second)).isNull();
+        assertThat(this.cache.get(third)).isNotNull();
+        assertThat(this.cache.getTotalBytes()).isEqualTo(80);
+    }
+
+    @Test
+    void put_shouldSkipEntry_whenLargerThanBudget() {
+        // Given
+        final var key = new ResponseCache.Key(POSTS, "scope-a");
+        this.cache.put(key, entry(10));
+
+        // When
+        this.cache.put(key, entry(101));
+
+        // Then
+        assertThat(this.cache.get(key)).isNull();
+        assertThat(this.cache.getTotalBytes()).isZero();
+    }
+
+    @Test
+    void invalidate_shouldRemoveCollectionForAllScopes() {
+        // Given
+        this.cache.put(new ResponseCache.Key(POSTS, "scope-a"), entry(10));
+        this.cache.put(new ResponseCache.Key(POSTS + "/5", "scope-b"), entry(10));
+        this.cache.put(new ResponseCache.Key(PAGES, "scope-a"), entry(10));
+
+        // When
+        this.cache.invalidate(POSTS);
+
+        // Then
+        assertThat(this.cache.size()).isEqualTo(1);
+        assertThat(this.cache.get(new ResponseCache.Key(PAGES, "scope-a"))).isNotNull();
+        assertThat(this.cache.getTotalBytes()).isEqualTo(10);
+    }
+
+    private static ResponseCache.Entry entry(final long bytes) {
+        return new ResponseCache.Entry(new byte[(int) bytes], "\"etag\"", null, "application/json", null);
+    }
+}
@@ -0,0 +1,40 @@
+package de.vptr.midas.gui.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.server.VaadinSession;
+
+class ExportButtonTest {
+
+    @Test
+    void lockedChunks_shouldLockSessionOncePerChunk() {
+        // Given
+        final var session = mock(VaadinSession.class);
+        final var closed = new AtomicBoolean();
+        final var rowCount = ExportButton.CHUNK_SIZE * 2 + 1;
+        final var chunks = new ExportButton.LockedChunks<Integer>(session,
+                () -> IntStream.range(0, rowCount).boxed().onClose(() -> closed.set(true)));
+
+        // When
+        final List<Integer> rows = new ArrayList<>();
+        chunks.forEachRemaining(rows::add);
+        chunks.close();
+
+        // Then
+        assertThat(rows).hasSize(rowCount).startsWith(0, 1, 2).endsWith(rowCount - 1);
+        assertThat(closed).isTrue();
+        // Three chunks, the empty read that ends the stream and the close
+        verify(session, times(5)).lock();
+        verify(session, times(5)).unlock();
+    }
+}
@@ -0,0 +1,430 @@
+package de.vptr.midas.gui.load;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import de.vptr.midas.gui.dto.AuthTokenDto;
+import de.vptr.midas.gui.dto.PageDto;
+import de.vptr.midas.gui.dto.PostCategoryDto;
+import de.vptr.midas.gui.dto.PostCommentDto;
+import de.vptr.midas.gui.dto.PostDto;
+import de.vptr.midas.gui.dto.UserAccountDto;
+import de.vptr.midas.gui.dto.UserDto;
+import de.vptr.midas.gui.dto.UserGroupDto;
+import de.vptr.midas.gui.dto.UserPaymentDto;
+import de.vptr.midas.gui.dto.UserRankDto;
+
+/**
+ * In-process stand-in for the midas-api backend, serving the read contracts
+ * used by the GUI from a generated dataset.
+ *
+ * The dataset is serialized with the GUI's own DTOs, so the payloads match
+ * what the REST clients deserialize. Every response is delayed by a fixed
+ * latency, collection responses carry an ETag and honour If-None-Match,
+ * {@code /auth/token} issues opaque bearer tokens for any credentials, and
+ * requests are counted per path. The counters are exposed WireMock-style
+ * below {@code /__admin}:
+ * <ul>
+ * <li>{@code GET /__admin/requests} returns the total and per-path counts</li>
+ * <li>{@code POST /__admin/reset} clears them</li>
+ * </ul>
+ */
+public class FakeMidasApi implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(FakeMidasApi.class);
+
+    static final String BASE_PATH = "/api/v1";
+    static final String ADMIN_PATH = "/__admin";
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper mapper;
+    private final long latencyMillis;
+
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+    private final LongAdder totalRequests = new LongAdder();
+
+    private final Map<String, List<?>> collections = new TreeMap<>();
+    private final Map<String, Map<Long, Object>> collectionsById = new TreeMap<>();
+    private final Map<String, byte[]> serializedCollections = new ConcurrentHashMap<>();
+    private final List<PostCommentDto> comments = new ArrayList<>();
+    private final List<UserPaymentDto> payments = new ArrayList<>();
+
+    private FakeMidasApi(final int port, final int datasetSize, final long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        this.generate(datasetSize);
+
+        this.executor = Executors.newCachedThreadPool();
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        this.server.setExecutor(this.executor);
+        this.server.createContext(BASE_PATH, this::handleApi);
+        this.server.createContext(ADMIN_PATH, this::handleAdmin);
+        this.server.start();
+
+        LOG.info("Fake midas-api listening on {} with {} records per collection and {} ms latency", this.getBaseUrl(),
+                datasetSize, latencyMillis);
+    }
+
+    /**
+     * Starts the fake backend.
+     *
+     * @param port          the port to bind, or 0 for an ephemeral one
+     * @param datasetSize   number of posts, comments and payments; the smaller
+     *                      collections are derived from it
+     * @param latencyMillis delay added to every response
+     */
+    public static FakeMidasApi start(final int port, final int datasetSize, final long latencyMillis)
+            throws IOException {
+        return new FakeMidasApi(port, datasetSize, latencyMillis);
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + this.server.getAddress().getPort() + BASE_PATH;
+    }
+
+    public String getAdminUrl() {
+        return "http://localhost:" + this.server.getAddress().getPort() + ADMIN_PATH;
+    }
+
+    public long getTotalRequests() {
+        return this.totalRequests.sum();
+    }
+
+    public Map<String, Long> getRequestCounts() {
+        final Map<String, Long> counts = new TreeMap<>();
+        this.requestCounts.forEach((path, count) -> counts.put(path, count.sum()));
+        return counts;
+    }
+
+    public void resetRequestCounts() {
+        this.requestCounts.clear();
+        this.totalRequests.reset();
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+
+    private void generate(final int size) {
+        final var small = Math.max(5, size / 100);
+        final var medium = Math.max(10, size / 10);
+
+        final List<UserRankDto> ranks = new ArrayList<>();
+        for (var i = 1; i <= small; i++) {
+            final var rank = new UserRankDto();
+            rank.id = (long) i;
+            rank.name = "Rank " + i;
+            rank.postAdd = true;
+            rank.postEdit = i == 1;
+            ranks.add(rank);
+        }
+
+        final List<UserDto> users = new ArrayList<>();
+        for (var i = 1; i <= medium; i++) {
+            final var user = new UserDto("user" + i, "user" + i + "@example.com");
+            user.id = (long) i;
+            user.rank = ranks.get(i % ranks.size());
+            user.activated = true;
+            user.banned = false;
+            user.created = EPOCH.plusDays(i);
+            users.add(user);
+        }
+
+        final List<UserGroupDto> groups = new ArrayList<>();
+        for (var i = 1; i <= small; i++) {
+            final var group = new UserGroupDto();
+            group.id = (long) i;
+            group.name = "Group " + i;
+            group.userCount = (long) (users.size() / small);
+            group.created = EPOCH;
+            groups.add(group);
+        }
+
+        final List<UserAccountDto> accounts = new ArrayList<>();
+        for (var i = 1; i <= medium; i++) {
+            final var account = new UserAccountDto();
+            account.id = (long) i;
+            account.name = "Account " + i;
+            accounts.add(account);
+        }
+
+        final List<PostCategoryDto> categories = new ArrayList<>();
+        for (var i = 1; i <= small; i++) {
+            final var parent = i <= 3 ? null : categories.get((i - 1) % 3);
+            categories.add(new PostCategoryDto((long) i, "Category " + i, parent));
+        }
+
+        final List<PostDto> posts = new ArrayList<>();
+        for (var i = 1; i <= size; i++) {
+            posts.add(new PostDto((long) i, "Post " + i, "Lorem ipsum dolor sit amet. ".repeat(10),
+                    users.get(i % users.size()), categories.get(i % categories.size()), i % 5 != 0, true,
+                    EPOCH.plusMinutes(i), EPOCH.plusMinutes(i)));
+        }
+
+        for (var i = 1; i <= size; i++) {
+            final var comment = new PostCommentDto();
+            comment.id = (long) i;
+            comment.content = "Comment " + i;
+            comment.post = posts.get(i % posts.size());
+            comment.user = users.get(i % users.size());
+            comment.created = EPOCH.plusMinutes(i);
+            this.comments.add(comment);
+        }
+
+        for (var i = 1; i <= size; i++) {
+            final var payment = new UserPaymentDto(users.get(i % users.size()), (long) (i % accounts.size()) + 1,
+                    (long) ((i + 1) % accounts.size()) + 1, BigDecimal.valueOf(i * 137L % 100000, 2),
+                    LocalDate.of(2024, 1, 1).plusDays(i % 730), "Payment " + i, EPOCH.plusMinutes(i),
+                    EPOCH.plusMinutes(i));
+            payment.id = (long) i;
+            this.payments.add(payment);
+        }
+
+        final List<PageDto> pages = new ArrayList<>();
+        for (var i = 1; i <= medium; i++) {
+            final var page = new PageDto();
+            page.id = (long) i;
+            page.title = "Page " + i;
+            page.slug = "page-" + i;
+            page.content = "Lorem ipsum dolor sit amet. ".repeat(20);
+            page.published = true;
+            page.created = EPOCH;
+            page.lastEdit = EPOCH;
+            pages.add(page);
+        }
+
+        this.register("/user-ranks", ranks);
+        this.register("/users", users);
+        this.register("/user-groups", groups);
+        this.register("/user-accounts", accounts);
+        this.register("/categories", categories);
+        this.register("/posts", posts);
+        this.register("/posts/published", posts.stream().filter(post -> post.published).toList());
+        this.register("/comments", this.comments);
+        this.register("/user-payments", this.payments);
+        this.register("/pages", pages);
+    }
+
+    private void register(final String path, final List<?> items) {
+        final Map<Long, Object> index = new HashMap<>();
+        for (final var item : items) {
+            try {
+                index.put((Long) item.getClass().getField("id").get(item), item);
+            } catch (final ReflectiveOperationException e) {
+                throw new IllegalStateException("DTO without public id: " + item.getClass(), e);
+            }
+        }
+        this.collections.put(path, items);
+        this.collectionsById.put(path, index);
+    }
+
+    private void handleApi(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final var path = exchange.getRequestURI().getPath().substring(BASE_PATH.length());
+            this.count(exchange.getRequestMethod(), path);
+            this.sleep();
+
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                this.handleHead(exchange, path);
+            } else if ("GET".equals(exchange.getRequestMethod())) {
+                this.handleGet(exchange, path);
+            } else if ("POST".equals(exchange.getRequestMethod())) {
+                this.handlePost(exchange, path);
+            } else {
+                exchange.sendResponseHeaders(405, -1);
+            }
+        }
+    }
+
+    private void handleHead(final HttpExchange exchange, final String path) throws IOException {
+        if ("/health".equals(path)) {
+            exchange.sendResponseHeaders(200, -1);
+        } else if ("/auth".equals(path)) {
+            final var authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            exchange.sendResponseHeaders(authorization != null ? 200 : 401, -1);
+        } else {
+            exchange.sendResponseHeaders(404, -1);
+        }
+    }
+
+    private void handlePost(final HttpExchange exchange, final String path) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        if ("/auth/token".equals(path) && exchange.getRequestHeaders().getFirst("Authorization") != null
+                || "/auth/token/refresh".equals(path)) {
+            this.sendJson(exchange, this.toJson(new AuthTokenDto(UUID.randomUUID().toString(),
+                    UUID.randomUUID().toString(), 3600L)));
+        } else if ("/auth/token".equals(path)) {
+            exchange.sendResponseHeaders(401, -1);
+        } else {
+            exchange.sendResponseHeaders(405, -1);
+        }
+    }
+
+    private void handleGet(final HttpExchange exchange, final String path) throws IOException {
+        if (exchange.getRequestHeaders().getFirst("Authorization") == null) {
+            exchange.sendResponseHeaders(401, -1);
+            return;
+        }
+
+        if (this.collections.containsKey(path)) {
+            final var body = this.serializedCollections.computeIfAbsent(path,
+                    key -> this.toJson(this.collections.get(key)));
+            final var etag = "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                this.sendJson(exchange, body);
+            }
+        } else if ("/comments/recent".equals(path)) {
+            this.sendJson(exchange, this.toJson(this.recent(this.comments, this.limit(exchange))));
+        } else if ("/user-payments/recent".equals(path)) {
+            this.sendJson(exchange, this.toJson(this.recent(this.payments, this.limit(exchange))));
+        } else if (path.startsWith("/comments/post/")) {
+            final var postId = Long.valueOf(path.substring("/comments/post/".length()));
+            this.sendJson(exchange, this.toJson(
+                    this.comments.stream().filter(comment -> postId.equals(comment.post.id)).toList()));
+        } else {
+            this.handleGetById(exchange, path);
+        }
+    }
+
+    private void handleGetById(final HttpExchange exchange, final String path) throws IOException {
+        final var separator = path.lastIndexOf('/');
+        final var index = separator > 0 ? this.collectionsById.get(path.substring(0, separator)) : null;
+        if (index == null) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+
+        final Object match;
+        try {
+            match = index.get(Long.valueOf(path.substring(separator + 1)));
+        } catch (final NumberFormatException e) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+
+        if (match != null) {
+            this.sendJson(exchange, this.toJson(match));
+        } else {
+            exchange.sendResponseHeaders(404, -1);
+        }
+    }
+
+    private void handleAdmin(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final var path = exchange.getRequestURI().getPath().substring(ADMIN_PATH.length());
+            if ("GET".equals(exchange.getRequestMethod()) && "/requests".equals(path)) {
+                this.sendJson(exchange,
+                        this.toJson(Map.of("total", this.getTotalRequests(), "byPath", this.getRequestCounts())));
+            } else if ("POST".equals(exchange.getRequestMethod()) && "/reset".equals(path)) {
+                this.resetRequestCounts();
+                exchange.sendResponseHeaders(204, -1);
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+        }
+    }
+
+    private void count(final String method, final String path) {
+        // Collapse ids so the counts stay per endpoint rather than per record
+        final var endpoint = method + " " + path.replaceAll("/\\d+(?=/|$)", "/{id}");
+        this.requestCounts.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        this.totalRequests.increment();
+    }
+
+    private void sleep() {
+        if (this.latencyMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(this.latencyMillis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int limit(final HttpExchange exchange) {
+        final var query = exchange.getRequestURI().getQuery();
+        if (query != null) {
+            for (final var parameter : query.split("&")) {
+                if (parameter.startsWith("limit=")) {
+                    return Integer.parseInt(parameter.substring("limit=".length()));
+                }
+            }
+        }
+        return 10;
+    }
+
+    private <T> List<T> recent(final List<T> items, final int limit) {
+        return items.subList(Math.max(0, items.size() - limit), items.size()).reversed();
+    }
+
+    private byte[] toJson(final Object value) {
+        try {
+            return this.mapper.writeValueAsBytes(value);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Could not serialize fake response", e);
+        }
+    }
+
+    private void sendJson(final HttpExchange exchange, final byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    /**
+     * Runs the fake backend standalone, e.g. to point a manually started GUI at
+     * it.
+     *
+     * Arguments: {@code [port] [datasetSize] [latencyMillis]}, defaulting to
+     * 8080, 1000 and 20, which matches the default REST client URL.
+     */
+    public static void main(final String[] args) throws Exception {
+        final var port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        final var datasetSize = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        final var latencyMillis = args.length > 2 ? Long.parseLong(args[2]) : 20L;
+
+        final var api = start(port, datasetSize, latencyMillis);
+        Runtime.getRuntime().addShutdownHook(new Thread(api::close));
+        System.out.println("Fake midas-api running at " + api.getBaseUrl() + " - press Ctrl+C to stop");
+        System.out.println("Collections: " + String.join(", ", api.collections.keySet()));
+        Thread.currentThread().join();
+    }
+}
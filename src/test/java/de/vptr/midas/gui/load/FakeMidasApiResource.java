@@ -0,0 +1,41 @@
+package de.vptr.midas.gui.load;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+
+/**
+ * Starts a {@link FakeMidasApi} for the duration of a Quarkus test and points
+ * the midas-api REST clients at it.
+ *
+ * The dataset size and latency are taken from the {@code load.dataset.size}
+ * and {@code load.latency.ms} system properties.
+ */
+public class FakeMidasApiResource implements QuarkusTestResourceLifecycleManager {
+
+    static final String ADMIN_URL_PROPERTY = "load.fake-api.admin-url";
+
+    private FakeMidasApi api;
+
+    @Override
+    public Map<String, String> start() {
+        try {
+            this.api = FakeMidasApi.start(0, Integer.getInteger("load.dataset.size", 1000),
+                    Long.getLong("load.latency.ms", 20L));
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Could not start fake midas-api", e);
+        }
+        return Map.of(
+                "quarkus.rest-client.midas-api.url", this.api.getBaseUrl(),
+                ADMIN_URL_PROPERTY, this.api.getAdminUrl());
+    }
+
+    @Override
+    public void stop() {
+        if (this.api != null) {
+            this.api.close();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package de.vptr.midas.gui.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaadin.flow.server.VaadinSession;
+
+import de.vptr.midas.gui.service.AuthService;
+import de.vptr.midas.gui.service.CredentialValidationCache;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+/**
+ * Measures login latency through {@link AuthService} against
+ * {@link FakeMidasApi}: a cold round where every login has to be validated by
+ * the backend, followed by warm rounds where the same users log in again (new
+ * tabs, reconnects) and are answered from the credential validation cache.
+ *
+ * Reported: p50/p99 login latency per round and the number of backend
+ * credential checks. Excluded from the default build; run with
+ * {@code ./mvnw -Pload-test test}.
+ */
+@QuarkusTest
+@Tag("load")
+@QuarkusTestResource(value = FakeMidasApiResource.class, restrictToAnnotatedClass = true)
+class LoginLoadTest {
+    private static final Logger LOG = LoggerFactory.getLogger(LoginLoadTest.class);
+
+    // Credentials are checked by a token exchange, or by HEAD /auth if tokens are disabled
+    private static final List<String> AUTH_ENDPOINTS = List.of("HEAD /auth", "POST /auth/token");
+
+    @Inject
+    AuthService authService;
+
+    @Inject
+    CredentialValidationCache validationCache;
+
+    @ConfigProperty(name = FakeMidasApiResource.ADMIN_URL_PROPERTY)
+    String adminUrl;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void repeatedLogins_shouldSkipBackendValidation() throws Exception {
+        // Given
+        final var users = Integer.getInteger("load.sessions", 50);
+        final var warmRounds = Integer.getInteger("load.rounds", 3);
+        this.validationCache.clear();
+        this.resetBackendCounts();
+
+        // When
+        final var cold = this.loginRound(users);
+        final var coldChecks = this.backendAuthChecks();
+        final List<Long> warm = new ArrayList<>();
+        for (var round = 0; round < warmRounds; round++) {
+            warm.addAll(this.loginRound(users));
+        }
+        final var warmChecks = this.backendAuthChecks() - coldChecks;
+
+        // Then
+        LOG.info("Login load test results:\n{} users, cold p50 {} ms, p99 {} ms, {} backend checks\n"
+                + "{} warm rounds, p50 {} ms, p99 {} ms, {} backend checks",
+                users, percentile(cold, 0.50), percentile(cold, 0.99), coldChecks,
+                warmRounds, percentile(warm, 0.50), percentile(warm, 0.99), warmChecks);
+
+        assertThat(coldChecks).isEqualTo(users);
+        assertThat(warmChecks).isZero();
+    }
+
+    /**
+     * Logs every user in once, concurrently, each from its own session.
+     *
+     * @return The login latencies in nanoseconds
+     */
+    private List<Long> loginRound(final int users) throws InterruptedException {
+        final var latencies = new ConcurrentLinkedQueue<Long>();
+        final var failures = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(users);
+        final var start = new CountDownLatch(1);
+        final var done = new CountDownLatch(users);
+        for (var i = 0; i < users; i++) {
+            final var username = "user" + i;
+            executor.execute(() -> {
+                VaadinSession.setCurrent(new MapSession());
+                try {
+                    start.await();
+                    final var began = System.nanoTime();
+                    final var result = this.authService.authenticate(username, "secret");
+                    latencies.add(System.nanoTime() - began);
+                    if (!result.isSuccess()) {
+                        LOG.warn("Login of {} failed: {}", username, result.getMessage());
+                        failures.incrementAndGet();
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    VaadinSession.setCurrent(null);
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(5, TimeUnit.MINUTES)).as("logins finished in time").isTrue();
+        executor.shutdown();
+        assertThat(failures.get()).isZero();
+        return new ArrayList<>(latencies);
+    }
+
+    private void resetBackendCounts() throws IOException, InterruptedException {
+        this.httpClient.send(HttpRequest.newBuilder(URI.create(this.adminUrl + "/reset"))
+                .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private long backendAuthChecks() throws IOException, InterruptedException {
+        final var response = this.httpClient.send(
+                HttpRequest.newBuilder(URI.create(this.adminUrl + "/requests")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        final var byPath = this.mapper.readTree(response.body()).path("byPath");
+        return AUTH_ENDPOINTS.stream().mapToLong(endpoint -> byPath.path(endpoint).asLong()).sum();
+    }
+
+    private static String percentile(final List<Long> nanos, final double quantile) {
+        if (nanos.isEmpty()) {
+            return "-";
+        }
+        final List<Long> sorted = new ArrayList<>(nanos);
+        Collections.sort(sorted);
+        final var index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return String.format("%.1f", sorted.get(Math.max(0, index)) / 1_000_000.0);
+    }
+
+    /**
+     * Map-backed session, so the measurement covers the login path rather than
+     * Vaadin's session locking.
+     */
+    private static class MapSession extends VaadinSession {
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+        MapSession() {
+            super(null);
+        }
+
+        @Override
+        public Object getAttribute(final String name) {
+            return this.attributes.get(name);
+        }
+
+        @Override
+        public void setAttribute(final String name, final Object value) {
+            if (value == null) {
+                this.attributes.remove(name);
+            } else {
+                this.attributes.put(name, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package de.vptr.midas.gui.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.vptr.midas.gui.client.AuthClient;
+import de.vptr.midas.gui.result.DashboardSnapshot;
+import de.vptr.midas.gui.service.AuthService;
+import de.vptr.midas.gui.service.DashboardService;
+import de.vptr.midas.gui.service.HealthService;
+import de.vptr.midas.gui.service.PageService;
+import de.vptr.midas.gui.service.PostCategoryService;
+import de.vptr.midas.gui.service.PostCommentService;
+import de.vptr.midas.gui.service.PostService;
+import de.vptr.midas.gui.service.UserAccountService;
+import de.vptr.midas.gui.service.UserGroupService;
+import de.vptr.midas.gui.service.UserPaymentService;
+import de.vptr.midas.gui.service.UserRankService;
+import de.vptr.midas.gui.service.UserService;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+/**
+ * Drives many concurrent simulated sessions through the application's routes
+ * against {@link FakeMidasApi}.
+ *
+ * A session logs in, runs the layout's health check and then visits every
+ * route in random order for a number of rounds. Each visit performs the
+ * backend reads the route's view issues on navigation, through the real
+ * services and REST clients, and the session keeps the loaded data like an
+ * attached view keeps its grid items.
+ *
+ * Reported: p50/p99 navigation latency overall and per route, retained heap
+ * per session and backend call amplification (backend requests per
+ * navigation). Excluded from the default build; run with
+ * {@code ./mvnw -Pload-test test}.
+ */
+@QuarkusTest
+@Tag("load")
+@QuarkusTestResource(value = FakeMidasApiResource.class, restrictToAnnotatedClass = true)
+class RouteLoadTest {
+    private static final Logger LOG = LoggerFactory.getLogger(RouteLoadTest.class);
+
+    private static final Path REPORT = Path.of("target", "load", "route-load.csv");
+
+    @Inject
+    @RestClient
+    AuthClient authClient;
+
+    @Inject
+    HealthService healthService;
+
+    @Inject
+    DashboardService dashboardService;
+
+    @Inject
+    PostService postService;
+
+    @Inject
+    PostCategoryService categoryService;
+
+    @Inject
+    PostCommentService commentService;
+
+    @Inject
+    PageService pageService;
+
+    @Inject
+    UserService userService;
+
+    @Inject
+    UserGroupService groupService;
+
+    @Inject
+    UserRankService rankService;
+
+    @Inject
+    UserAccountService accountService;
+
+    @Inject
+    UserPaymentService paymentService;
+
+    @ConfigProperty(name = FakeMidasApiResource.ADMIN_URL_PROPERTY)
+    String adminUrl;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void concurrentSessions_shouldNavigateAllRoutes() throws Exception {
+        // Given
+        final var sessionCount = Integer.getInteger("load.sessions", 50);
+        final var rounds = Integer.getInteger("load.rounds", 3);
+        final var routes = this.routes();
+
+        this.warmUp(routes);
+        this.resetBackendCounts();
+        final var heapBefore = usedHeap();
+
+        final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+        final var failures = new AtomicInteger();
+        final var navigations = new AtomicInteger();
+        final List<SimulatedSession> sessions = Collections.synchronizedList(new ArrayList<>());
+
+        // When
+        final var executor = Executors.newFixedThreadPool(sessionCount);
+        final var start = new CountDownLatch(1);
+        final var done = new CountDownLatch(sessionCount);
+        final var startedAt = System.nanoTime();
+        for (var i = 0; i < sessionCount; i++) {
+            final var session = new SimulatedSession(i);
+            sessions.add(session);
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    session.login();
+                    for (var round = 0; round < rounds; round++) {
+                        for (final var route : session.shuffled(routes.keySet())) {
+                            final var began = System.nanoTime();
+                            try {
+                                session.visit(route, routes.get(route));
+                            } catch (final RuntimeException e) {
+                                LOG.warn("Navigation to '{}' failed: {}", route, e.getMessage());
+                                failures.incrementAndGet();
+                            }
+                            latencies.computeIfAbsent(route, key -> new ConcurrentLinkedQueue<>())
+                                    .add(System.nanoTime() - began);
+                            navigations.incrementAndGet();
+                        }
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (final RuntimeException e) {
+                    LOG.warn("Session {} aborted: {}", session.id, e.getMessage());
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.MINUTES)).as("sessions finished in time").isTrue();
+        final var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdown();
+
+        final var heapPerSession = Math.max(0, usedHeap() - heapBefore) / sessionCount;
+        Reference.reachabilityFence(sessions);
+        final var backendCalls = this.backendRequestCount();
+
+        // Then
+        final var all = latencies.values().stream().flatMap(ConcurrentLinkedQueue::stream).toList();
+        final var amplification = (double) backendCalls / navigations.get();
+        final var report = new StringBuilder()
+                .append(String.format("%d sessions x %d rounds, %d navigations in %d ms, %d failures%n",
+                        sessionCount, rounds, navigations.get(), elapsedMillis, failures.get()))
+                .append(String.format("latency p50 %.1f ms, p99 %.1f ms%n", percentile(all, 0.50),
+                        percentile(all, 0.99)))
+                .append(String.format("retained heap per session %d KiB%n", heapPerSession / 1024))
+                .append(String.format("backend calls %d (%.2f per navigation)%n", backendCalls, amplification));
+        latencies.forEach((route, values) -> report.append(String.format("  /%-12s p50 %7.1f ms  p99 %7.1f ms%n",
+                route, percentile(values, 0.50), percentile(values, 0.99))));
+        LOG.info("Load test results:\n{}", report);
+
+        this.writeReport(sessionCount, rounds, navigations.get(), failures.get(), percentile(all, 0.50),
+                percentile(all, 0.99), heapPerSession, amplification);
+
+        assertThat(failures.get()).isZero();
+        final var maxP99 = Long.getLong("load.max-p99-ms");
+        if (maxP99 != null) {
+            assertThat(percentile(all, 0.99)).as("p99 navigation latency").isLessThanOrEqualTo(maxP99);
+        }
+    }
+
+    /**
+     * The backend reads each route's view performs in beforeEnter, keyed by
+     * route path.
+     */
+    private Map<String, Function<String, Object>> routes() {
+        final Map<String, Function<String, Object>> routes = new LinkedHashMap<>();
+        routes.put("", authHeader -> {
+            final DashboardSnapshot snapshot = this.dashboardService.getSnapshot(authHeader);
+            return List.of(snapshot.getRecentComments().exceptionally(e -> List.of()).join(),
+                    snapshot.getRecentPayments().exceptionally(e -> List.of()).join(),
+                    snapshot.getPostCount().exceptionally(e -> -1).join(),
+                    snapshot.getPageCount().exceptionally(e -> -1).join());
+        });
+        routes.put("posts", this.postService::getAllPosts);
+        routes.put("categories", this.categoryService::getAllCategories);
+        routes.put("comments", this.commentService::getAllComments);
+        routes.put("pages", this.pageService::getAllPages);
+        routes.put("users", this.userService::getAllUsers);
+        routes.put("groups", this.groupService::getAllGroups);
+        routes.put("ranks", this.rankService::getAllRanks);
+        routes.put("accounts", this.accountService::getAllAccounts);
+        routes.put("payments", this.paymentService::getAllPayments);
+        return routes;
+    }
+
+    private void warmUp(final Map<String, Function<String, Object>> routes) {
+        final var authHeader = AuthService.buildBasicAuthHeader("warmup", "secret");
+        routes.values().forEach(route -> route.apply(authHeader));
+    }
+
+    private void resetBackendCounts() throws IOException, InterruptedException {
+        this.httpClient.send(HttpRequest.newBuilder(URI.create(this.adminUrl + "/reset"))
+                .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private long backendRequestCount() throws IOException, InterruptedException {
+        final var response = this.httpClient.send(
+                HttpRequest.newBuilder(URI.create(this.adminUrl + "/requests")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        final var counts = this.mapper.readTree(response.body());
+        LOG.info("Backend requests by endpoint: {}", counts.get("byPath"));
+        return counts.get("total").asLong();
+    }
+
+    private void writeReport(final int sessions, final int rounds, final int navigations, final int failures,
+            final double p50, final double p99, final long heapPerSession, final double amplification)
+            throws IOException {
+        Files.createDirectories(REPORT.getParent());
+        if (!Files.exists(REPORT)) {
+            Files.writeString(REPORT, "timestamp,dataset_size,latency_ms,sessions,rounds,navigations,failures,"
+                    + "p50_ms,p99_ms,heap_per_session_bytes,calls_per_navigation\n");
+        }
+        Files.writeString(REPORT, String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%d,%d,%.1f,%.1f,%d,%.2f%n",
+                OffsetDateTime.now(), Integer.getInteger("load.dataset.size", 1000),
+                Long.getLong("load.latency.ms", 20L), sessions, rounds, navigations, failures, p50, p99,
+                heapPerSession, amplification), StandardOpenOption.APPEND);
+    }
+
+    private static double percentile(final Iterable<Long> nanos, final double quantile) {
+        final List<Long> sorted = new ArrayList<>();
+        nanos.forEach(sorted::add);
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        Collections.sort(sorted);
+        final var index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        final var memory = ManagementFactory.getMemoryMXBean();
+        for (var i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * One user's browser session: its credentials and the data its views hold.
+     */
+    private class SimulatedSession {
+        private final int id;
+        private final String authHeader;
+        private final Random random;
+        private final Map<String, Object> views = new HashMap<>();
+
+        SimulatedSession(final int id) {
+            this.id = id;
+            this.authHeader = AuthService.buildBasicAuthHeader("user" + id, "secret");
+            this.random = new Random(id);
+        }
+
+        void login() {
+            RouteLoadTest.this.authClient.validateCredentials(this.authHeader).close();
+            RouteLoadTest.this.healthService.isBackendAvailable();
+        }
+
+        void visit(final String route, final Function<String, Object> load) {
+            this.views.put(route, load.apply(this.authHeader));
+        }
+
+        List<String> shuffled(final Iterable<String> routes) {
+            final List<String> order = new ArrayList<>();
+            routes.forEach(order::add);
+            Collections.shuffle(order, this.random);
+            return order;
+        }
+    }
+}
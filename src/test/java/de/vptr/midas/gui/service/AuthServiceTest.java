@@ -1,10 +1,14 @@
 package de.vptr.midas.gui.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.net.ConnectException;
+import java.time.Duration;
+import java.time.Instant;
 
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.junit.jupiter.api.AfterEach;
@@ -20,6 +24,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.vaadin.flow.server.VaadinSession;
 
 import de.vptr.midas.gui.client.AuthClient;
+import de.vptr.midas.gui.dto.AuthTokenDto;
+import de.vptr.midas.gui.dto.AuthTokenRefreshDto;
 import de.vptr.midas.gui.result.AuthResult;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.ProcessingException;
@@ -34,6 +40,9 @@ class AuthServiceTest {
     @Mock
     AuthClient authClient;
 
+    @Mock
+    CredentialValidationCache validationCache;
+
     @InjectMocks
     AuthService authService;
 
@@ -45,6 +54,11 @@ class AuthServiceTest {
         this.vaadinSession = Mockito.mock(VaadinSession.class);
         this.vaadinSessionMock = mockStatic(VaadinSession.class);
         this.vaadinSessionMock.when(VaadinSession::getCurrent).thenReturn(this.vaadinSession);
+        lenient().when(this.validationCache.tryAcquirePermit()).thenReturn(true);
+        this.authService.tokenRefreshSkew = Duration.ofSeconds(30);
+        this.authService.tokenDefaultLifetime = Duration.ofMinutes(5);
+        this.authService.tokenRetryAfter = Duration.ofSeconds(60);
+        this.authService.tokenSupportRecheck = Duration.ofHours(1);
     }
 
     @AfterEach
@@ -163,6 +177,73 @@ class AuthServiceTest {
         assertThat(result.getMessage()).contains("Connection error");
     }
 
+    @Test
+    void authenticate_shouldSkipBackendCheck_whenCredentialsRecentlyValidated() {
+        // Given
+        final String username = "testuser";
+        final String password = "testpass";
+        when(this.validationCache.isValid(AuthService.buildBasicAuthHeader(username, password))).thenReturn(true);
+
+        // When
+        final AuthResult result = this.authService.authenticate(username, password);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(AuthResult.Status.SUCCESS);
+        verifyNoInteractions(this.authClient);
+        verify(this.vaadinSession).setAttribute("authenticated.status", true);
+    }
+
+    @Test
+    void authenticate_shouldCacheValidation_whenBackendAcceptsCredentials() {
+        // Given
+        final String username = "testuser";
+        final String password = "testpass";
+        final String authHeader = AuthService.buildBasicAuthHeader(username, password);
+
+        // When
+        this.authService.authenticate(username, password);
+
+        // Then
+        verify(this.authClient).validateCredentials(authHeader);
+        verify(this.validationCache).markValid(authHeader);
+        verify(this.validationCache).releasePermit();
+    }
+
+    @Test
+    void authenticate_shouldInvalidateCachedValidation_when401Received() {
+        // Given
+        final String username = "testuser";
+        final String password = "wrongpass";
+        final Response response = Mockito.mock(Response.class);
+        final Response.StatusType statusType = Mockito.mock(Response.StatusType.class);
+        when(response.getStatus()).thenReturn(401);
+        when(response.getStatusInfo()).thenReturn(statusType);
+        when(statusType.getStatusCode()).thenReturn(401);
+        doThrow(new WebApplicationException(response)).when(this.authClient).validateCredentials(anyString());
+
+        // When
+        this.authService.authenticate(username, password);
+
+        // Then
+        verify(this.validationCache).invalidate(AuthService.buildBasicAuthHeader(username, password));
+        verify(this.validationCache, never()).markValid(anyString());
+        verify(this.validationCache).releasePermit();
+    }
+
+    @Test
+    void authenticate_shouldReturnBackendUnavailable_whenTooManyConcurrentLogins() {
+        // Given
+        when(this.validationCache.tryAcquirePermit()).thenReturn(false);
+
+        // When
+        final AuthResult result = this.authService.authenticate("testuser", "testpass");
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(AuthResult.Status.BACKEND_UNAVAILABLE);
+        verifyNoInteractions(this.authClient);
+        verify(this.validationCache, never()).releasePermit();
+    }
+
     @Test
     void logout_shouldClearSessionAttributes() {
         // Given
@@ -214,60 +295,220 @@ class AuthServiceTest {
     }
 
     @Test
-    void getBasicAuthHeader_shouldReturnNull_whenNotAuthenticated() {
+    void getAuthHeader_shouldReturnNull_whenNotAuthenticated() {
         // Given
         when(this.vaadinSession.getAttribute("authenticated.status")).thenReturn(false);
 
         // When
-        final String result = this.authService.getBasicAuthHeader();
+        final String result = this.authService.getAuthHeader();
 
         // Then
         assertThat(result).isNull();
     }
 
     @Test
-    void getBasicAuthHeader_shouldReturnNull_whenUsernameIsNull() {
+    void getAuthHeader_shouldReturnNull_whenUsernameIsNull() {
         // Given
         when(this.vaadinSession.getAttribute("authenticated.status")).thenReturn(true);
         when(this.vaadinSession.getAttribute("authenticated.username")).thenReturn(null);
         when(this.vaadinSession.getAttribute("authenticated.password")).thenReturn("password");
 
         // When
-        final String result = this.authService.getBasicAuthHeader();
+        final String result = this.authService.getAuthHeader();
 
         // Then
         assertThat(result).isNull();
     }
 
     @Test
-    void getBasicAuthHeader_shouldReturnNull_whenPasswordIsNull() {
+    void getAuthHeader_shouldReturnNull_whenPasswordIsNull() {
         // Given
         when(this.vaadinSession.getAttribute("authenticated.status")).thenReturn(true);
         when(this.vaadinSession.getAttribute("authenticated.username")).thenReturn("testuser");
         when(this.vaadinSession.getAttribute("authenticated.password")).thenReturn(null);
 
         // When
-        final String result = this.authService.getBasicAuthHeader();
+        final String result = this.authService.getAuthHeader();
 
         // Then
         assertThat(result).isNull();
     }
 
     @Test
-    void getBasicAuthHeader_shouldReturnEncodedCredentials_whenAuthenticated() {
+    void getAuthHeader_shouldReturnEncodedCredentials_whenAuthenticated() {
         // Given
         when(this.vaadinSession.getAttribute("authenticated.status")).thenReturn(true);
         when(this.vaadinSession.getAttribute("authenticated.username")).thenReturn("testuser");
         when(this.vaadinSession.getAttribute("authenticated.password")).thenReturn("testpass");
 
         // When
-        final String result = this.authService.getBasicAuthHeader();
+        final String result = this.authService.getAuthHeader();
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result).startsWith("Basic ");
     }
 
+    @Test
+    void authenticate_shouldStoreToken_whenBackendIssuesTokens() {
+        // Given
+        this.authService.bearerTokens = true;
+        final var token = new AuthTokenDto("access", "refresh", 3600L);
+        when(this.authClient.requestToken(anyString())).thenReturn(token);
+
+        // When
+        final AuthResult result = this.authService.authenticate("testuser", "testpass");
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(AuthResult.Status.SUCCESS);
+        verify(this.vaadinSession).setAttribute("authenticated.token", token);
+        verify(this.authClient, never()).validateCredentials(anyString());
+    }
+
+    @Test
+    void authenticate_shouldValidateCredentials_whenBackendDoesNotIssueTokens() {
+        // Given
+        this.authService.bearerTokens = true;
+        final Response response = Mockito.mock(Response.class);
+        final Response.StatusType statusType = Mockito.mock(Response.StatusType.class);
+        when(response.getStatus()).thenReturn(404);
+        when(response.getStatusInfo()).thenReturn(statusType);
+        when(statusType.getStatusCode()).thenReturn(404);
+        when(this.authClient.requestToken(anyString())).thenThrow(new WebApplicationException(response));
+
+        // When
+        final AuthResult result = this.authService.authenticate("testuser", "testpass");
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(AuthResult.Status.SUCCESS);
+        verify(this.authClient).validateCredentials(anyString());
+        verify(this.vaadinSession, never()).setAttribute(eq("authenticated.token"), any());
+    }
+
+    @Test
+    void getAuthHeader_shouldReturnBearerToken_whenTokenIsValid() {
+        // Given
+        this.authService.bearerTokens = true;
+        this.authService.tokenRefreshSkew = Duration.ofSeconds(30);
+        when(this.vaadinSession.getAttribute("authenticated.status")).thenReturn(true);
+        when(this.vaadinSession.getAttribute("authenticated.username")).thenReturn("testuser");
+        when(this.vaadinSession.getAttribute("authenticated.password")).thenReturn("testpass");
+        when(this.vaadinSession.getAttribute("authenticated.token"))
+                .thenReturn(new AuthTokenDto("access", "refresh", 3600L));
+        when(this.vaadinSession.getAttribute("authenticated.tokenExpiry")).thenReturn(Instant.now().plusSeconds(3600));
+
+        // When
+        final String result = this.authService.getAuthHeader();
+
+        // Then
+        assertThat(result).isEqualTo("Bearer access");
+        verifyNoInteractions(this.authClient);
+    }
+
+    @Test
+    void getAuthHeader_shouldRefreshToken_whenTokenIsAboutToExpire() {
+        // Given
+        this.authService.bearerTokens = true;
+        this.authService.tokenRefreshSkew = Duration.ofSeconds(30);
+        when(this.vaadinSession.getAttribute("authenticated.status")).thenReturn(true);
+        when(this.vaadinSession.getAttribute("authenticated.username")).thenReturn("testuser");
+        when(this.vaadinSession.getAttribute("authenticated.password")).thenReturn("testpass");
+        when(this.vaadinSession.getAttribute("authenticated.token"))
+                .thenReturn(new AuthTokenDto("access", "refresh", 3600L));
+        when(this.vaadinSession.getAttribute("authenticated.tokenExpiry")).thenReturn(Instant.now().plusSeconds(10));
+        when(this.authClient.refreshToken(any(AuthTokenRefreshDto.class)))
+                .thenReturn(new AuthTokenDto("refreshed", "refresh2", 3600L));
+
+        // When
+        final String result = this.authService.getAuthHeader();
+
+        // Then
+        assertThat(result).isEqualTo("Bearer refreshed");
+        verify(this.authClient, never()).requestToken(anyString());
+    }
+
+    @Test
+    void getAuthHeader_shouldFallBackToBasicAuth_whenTokenCannotBeObtained() {
+        // Given
+        this.authService.bearerTokens = true;
+        when(this.vaadinSession.getAttribute("authenticated.status")).thenReturn(true);
+        when(this.vaadinSession.getAttribute("authenticated.username")).thenReturn("testuser");
+        when(this.vaadinSession.getAttribute("authenticated.password")).thenReturn("testpass");
+        when(this.authClient.requestToken(anyString())).thenThrow(new ProcessingException("Connection refused"));
+
+        // When
+        final String result = this.authService.getAuthHeader();
+
+        // Then
+        assertThat(result).isEqualTo(AuthService.buildBasicAuthHeader("testuser", "testpass"));
+        verify(this.vaadinSession).setAttribute(eq("authenticated.tokenRetryAfter"), any(Instant.class));
+    }
+
+    @Test
+    void getAuthHeader_shouldUseBasicAuthWithoutRequestingToken_whileRetryIsPending() {
+        // Given
+        this.authService.bearerTokens = true;
+        when(this.vaadinSession.getAttribute("authenticated.status")).thenReturn(true);
+        when(this.vaadinSession.getAttribute("authenticated.username")).thenReturn("testuser");
+        when(this.vaadinSession.getAttribute("authenticated.password")).thenReturn("testpass");
+        when(this.vaadinSession.getAttribute("authenticated.tokenRetryAfter"))
+                .thenReturn(Instant.now().plusSeconds(30));
+
+        // When
+        final String result = this.authService.getAuthHeader();
+
+        // Then
+        assertThat(result).isEqualTo(AuthService.buildBasicAuthHeader("testuser", "testpass"));
+        verifyNoInteractions(this.authClient);
+    }
+
+    @Test
+    void authenticate_shouldGiveTokenDefaultLifetime_whenBackendSendsNoExpiry() {
+        // Given
+        this.authService.bearerTokens = true;
+        when(this.authClient.requestToken(anyString())).thenReturn(new AuthTokenDto("access", "refresh", null));
+
+        // When
+        this.authService.authenticate("testuser", "testpass");
+
+        // Then
+        final var latest = Instant.now().plus(this.authService.tokenDefaultLifetime);
+        verify(this.vaadinSession).setAttribute(eq("authenticated.tokenExpiry"),
+                argThat(expiry -> expiry instanceof final Instant instant && !instant.isAfter(latest)
+                        && instant.isAfter(latest.minusSeconds(10))));
+    }
+
+    @Test
+    void authenticate_shouldAskForTokensAgain_whenSupportRecheckIsDue() {
+        // Given
+        this.authService.bearerTokens = true;
+        this.authService.tokenSupportRecheck = Duration.ofMillis(-1);
+        when(this.authClient.requestToken(anyString()))
+                .thenThrow(new WebApplicationException(Response.status(404).build()));
+
+        // When
+        this.authService.authenticate("testuser", "testpass");
+        this.authService.authenticate("otheruser", "otherpass");
+
+        // Then
+        verify(this.authClient, times(2)).requestToken(anyString());
+    }
+
+    @Test
+    void authenticate_shouldNotAskForTokensAgain_beforeSupportRecheckIsDue() {
+        // Given
+        this.authService.bearerTokens = true;
+        when(this.authClient.requestToken(anyString()))
+                .thenThrow(new WebApplicationException(Response.status(404).build()));
+
+        // When
+        this.authService.authenticate("testuser", "testpass");
+        this.authService.authenticate("otheruser", "otherpass");
+
+        // Then
+        verify(this.authClient, times(1)).requestToken(anyString());
+    }
+
     @Test
     void getUsername_shouldReturnStoredUsername() {
         // Given
@@ -0,0 +1,91 @@
+package de.vptr.midas.gui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.vptr.midas.gui.util.CredentialScope;
+
+class CredentialValidationCacheTest {
+
+    private static final String AUTH_HEADER = "Basic dGVzdDp0ZXN0";
+
+    private CredentialValidationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.cache = new CredentialValidationCache();
+        this.cache.ttl = Duration.ofMinutes(1);
+        this.cache.maxEntries = 2;
+        this.cache.maxConcurrentValidations = 1;
+        this.cache.validationWait = Duration.ZERO;
+        this.cache.init();
+    }
+
+    @Test
+    void isValid_shouldReturnTrue_whenMarkedValidWithinTtl() {
+        // When
+        this.cache.markValid(AUTH_HEADER);
+
+        // Then
+        assertThat(this.cache.isValid(AUTH_HEADER)).isTrue();
+        assertThat(this.cache.isValid("Basic b3RoZXI6b3RoZXI=")).isFalse();
+    }
+
+    @Test
+    void isValid_shouldReturnFalse_whenTtlExpired() {
+        // Given
+        this.cache.ttl = Duration.ofMillis(-1);
+
+        // When
+        this.cache.markValid(AUTH_HEADER);
+
+        // Then
+        assertThat(this.cache.isValid(AUTH_HEADER)).isFalse();
+    }
+
+    @Test
+    void invalidate_shouldForgetValidation() {
+        // Given
+        this.cache.markValid(AUTH_HEADER);
+
+        // When
+        this.cache.invalidate(AUTH_HEADER);
+
+        // Then
+        assertThat(this.cache.isValid(AUTH_HEADER)).isFalse();
+    }
+
+    @Test
+    void invalidate_shouldForgetValidation_whenGivenBearerTokenOfCredentials() {
+        // Given
+        final var bearerHeader = "Bearer issued-for-test";
+        CredentialScope.alias(bearerHeader, AUTH_HEADER);
+        this.cache.markValid(AUTH_HEADER);
+
+        // When
+        this.cache.invalidate(bearerHeader);
+
+        // Then
+        assertThat(this.cache.isValid(AUTH_HEADER)).isFalse();
+        CredentialScope.removeAlias(bearerHeader);
+    }
+
+    @Test
+    void tryAcquirePermit_shouldFail_whenAllPermitsTaken() {
+        // Given
+        assertThat(this.cache.tryAcquirePermit()).isTrue();
+
+        // When
+        final var second = this.cache.tryAcquirePermit();
+        this.cache.releasePermit();
+        final var afterRelease = this.cache.tryAcquirePermit();
+
+        // Then
+        assertThat(second).isFalse();
+        assertThat(afterRelease).isTrue();
+    }
+}
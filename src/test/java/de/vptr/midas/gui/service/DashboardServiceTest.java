@@ -0,0 +1,157 @@
+package de.vptr.midas.gui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import de.vptr.midas.gui.dto.PageDto;
+import de.vptr.midas.gui.dto.PostCommentDto;
+import de.vptr.midas.gui.dto.PostDto;
+import de.vptr.midas.gui.dto.UserPaymentDto;
+import de.vptr.midas.gui.exception.AuthenticationException;
+import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.result.DashboardSnapshot;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    private static final String AUTH_HEADER = "Basic dGVzdDp0ZXN0";
+
+    @Mock
+    PostCommentService commentService;
+
+    @Mock
+    UserPaymentService paymentService;
+
+    @Mock
+    PostService postService;
+
+    @Mock
+    PageService pageService;
+
+    @Mock
+    HealthService healthService;
+
+    @InjectMocks
+    DashboardService dashboardService;
+
+    @Test
+    void getSnapshot_shouldLoadAllTiles() {
+        // Given
+        final var comment = new PostCommentDto();
+        final var payment = new UserPaymentDto();
+        when(this.commentService.getRecentComments(DashboardService.RECENT_LIMIT, AUTH_HEADER))
+                .thenReturn(List.of(comment));
+        when(this.paymentService.getRecentPayments(DashboardService.RECENT_LIMIT, AUTH_HEADER))
+                .thenReturn(List.of(payment));
+        when(this.postService.getAllPosts(AUTH_HEADER)).thenReturn(List.of(new PostDto(), new PostDto()));
+        when(this.pageService.getAllPages(AUTH_HEADER)).thenReturn(List.of(new PageDto()));
+        when(this.healthService.isBackendAvailable()).thenReturn(true);
+
+        // When
+        final var snapshot = this.dashboardService.getSnapshot(AUTH_HEADER);
+        this.awaitTiles(snapshot);
+
+        // Then
+        assertThat(snapshot.getRecentComments().join()).containsExactly(comment);
+        assertThat(snapshot.getRecentPayments().join()).containsExactly(payment);
+        assertThat(snapshot.getPostCount().join()).isEqualTo(2);
+        assertThat(snapshot.getPageCount().join()).isEqualTo(1);
+        assertThat(snapshot.getBackendAvailable().join()).isTrue();
+    }
+
+    @Test
+    void getSnapshot_shouldReuseFreshSnapshot_forSameCredentials() {
+        // Given
+        when(this.commentService.getRecentComments(DashboardService.RECENT_LIMIT, AUTH_HEADER))
+                .thenReturn(List.of());
+        when(this.paymentService.getRecentPayments(DashboardService.RECENT_LIMIT, AUTH_HEADER))
+                .thenReturn(List.of());
+        when(this.postService.getAllPosts(AUTH_HEADER)).thenReturn(List.of());
+        when(this.pageService.getAllPages(AUTH_HEADER)).thenReturn(List.of());
+        when(this.healthService.isBackendAvailable()).thenReturn(true);
+
+        // When
+        final var first = this.dashboardService.getSnapshot(AUTH_HEADER);
+        this.awaitTiles(first);
+        final var second = this.dashboardService.getSnapshot(AUTH_HEADER);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(this.postService, times(1)).getAllPosts(AUTH_HEADER);
+    }
+
+    @Test
+    void getSnapshot_shouldFailOnlyAffectedTile_whenOneCallFails() {
+        // Given
+        when(this.commentService.getRecentComments(DashboardService.RECENT_LIMIT, AUTH_HEADER))
+                .thenThrow(new ServiceException("Backend connection failed"));
+        when(this.paymentService.getRecentPayments(DashboardService.RECENT_LIMIT, AUTH_HEADER))
+                .thenReturn(List.of());
+        when(this.postService.getAllPosts(AUTH_HEADER)).thenReturn(List.of());
+        when(this.pageService.getAllPages(AUTH_HEADER)).thenReturn(List.of());
+        when(this.healthService.isBackendAvailable()).thenReturn(true);
+
+        // When
+        final var snapshot = this.dashboardService.getSnapshot(AUTH_HEADER);
+        this.awaitTiles(snapshot);
+
+        // Then
+        assertThat(snapshot.getRecentComments()).failsWithin(Duration.ofSeconds(5));
+        assertThat(snapshot.getPostCount().join()).isZero();
+        assertThat(snapshot.hasFailedTiles()).isTrue();
+        assertThat(snapshot.hasTransientFailures()).isTrue();
+    }
+
+    @Test
+    void getSnapshot_shouldReuseSnapshot_whenTileIsForbidden() {
+        // Given
+        when(this.commentService.getRecentComments(DashboardService.RECENT_LIMIT, AUTH_HEADER))
+                .thenReturn(List.of());
+        when(this.paymentService.getRecentPayments(DashboardService.RECENT_LIMIT, AUTH_HEADER))
+                .thenThrow(new ServiceException("Backend error: 403",
+                        new WebApplicationException(Response.status(403).build())));
+        when(this.postService.getAllPosts(AUTH_HEADER)).thenReturn(List.of());
+        when(this.pageService.getAllPages(AUTH_HEADER)).thenReturn(List.of());
+        when(this.healthService.isBackendAvailable()).thenReturn(true);
+
+        // When
+        final var first = this.dashboardService.getSnapshot(AUTH_HEADER);
+        this.awaitTiles(first);
+        final var second = this.dashboardService.getSnapshot(AUTH_HEADER);
+
+        // Then
+        assertThat(first.hasFailedTiles()).isTrue();
+        assertThat(first.hasTransientFailures()).isFalse();
+        assertThat(second).isSameAs(first);
+        verify(this.paymentService, times(1)).getRecentPayments(DashboardService.RECENT_LIMIT, AUTH_HEADER);
+    }
+
+    @Test
+    void getSnapshot_shouldThrowAuthenticationException_whenAuthHeaderIsNull() {
+        assertThatThrownBy(() -> this.dashboardService.getSnapshot(null))
+                .isInstanceOf(AuthenticationException.class)
+                .hasMessage("Authentication required");
+    }
+
+    private void awaitTiles(final DashboardSnapshot snapshot) {
+        CompletableFuture.allOf(snapshot.getRecentComments(), snapshot.getRecentPayments(), snapshot.getPostCount(),
+                snapshot.getPageCount(), snapshot.getBackendAvailable())
+                .handle((result, throwable) -> result)
+                .join();
+    }
+}
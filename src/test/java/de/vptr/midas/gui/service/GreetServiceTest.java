@@ -32,7 +32,7 @@ class GreetServiceTest {
     void greet_shouldReturnGreetingWithName_whenAuthenticated() {
         // Given
         final String name = "John";
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
 
         // When
         final String result = this.greetService.greet(name);
@@ -44,7 +44,7 @@ class GreetServiceTest {
     @Test
     void greet_shouldReturnGreetingWithAnonymous_whenNameIsNull() {
         // Given
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
 
         // When
         final String result = this.greetService.greet(null);
@@ -56,7 +56,7 @@ class GreetServiceTest {
     @Test
     void greet_shouldReturnGreetingWithAnonymous_whenNameIsEmpty() {
         // Given
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
 
         // When
         final String result = this.greetService.greet("");
@@ -68,7 +68,7 @@ class GreetServiceTest {
     @Test
     void greet_shouldReturnErrorMessage_whenNotAuthenticated() {
         // Given
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When
         final String result = this.greetService.greet("John");
@@ -81,7 +81,7 @@ class GreetServiceTest {
     void greet_shouldReturnSessionExpiredMessage_when401Error() {
         // Given
         final String name = "John";
-        when(this.authService.getBasicAuthHeader()).thenThrow(new RuntimeException("HTTP 401"));
+        when(this.authService.getAuthHeader()).thenThrow(new RuntimeException("HTTP 401"));
 
         // When
         final String result = this.greetService.greet(name);
@@ -95,7 +95,7 @@ class GreetServiceTest {
     void greet_shouldReturnBackendErrorMessage_whenOtherException() {
         // Given
         final String name = "John";
-        when(this.authService.getBasicAuthHeader()).thenThrow(new RuntimeException("Connection error"));
+        when(this.authService.getAuthHeader()).thenThrow(new RuntimeException("Connection error"));
 
         // When
         final String result = this.greetService.greet(name);
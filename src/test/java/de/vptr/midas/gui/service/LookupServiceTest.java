@@ -0,0 +1,121 @@
+package de.vptr.midas.gui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import de.vptr.midas.gui.dto.UserAccountDto;
+import de.vptr.midas.gui.dto.UserDto;
+import de.vptr.midas.gui.exception.ServiceException;
+
+@ExtendWith(MockitoExtension.class)
+class LookupServiceTest {
+
+    private static final String AUTH_HEADER = "Basic dGVzdDp0ZXN0";
+
+    @Mock
+    UserAccountService accountService;
+
+    @Mock
+    UserService userService;
+
+    @Mock
+    AuthService authService;
+
+    @InjectMocks
+    LookupService lookupService;
+
+    @BeforeEach
+    void setUp() {
+        this.lookupService.maxAge = Duration.ofSeconds(60);
+        when(this.authService.getAuthHeader()).thenReturn(AUTH_HEADER);
+    }
+
+    @Test
+    void findAccounts_shouldSearchBackendOncePerFilter_whileNotIndexed() {
+        // Given
+        // The indexes are built in the background and may not be attempted before the test ends
+        lenient().when(this.accountService.getAllAccounts(AUTH_HEADER))
+                .thenThrow(new ServiceException("Backend error: 503"));
+        lenient().when(this.userService.getAllUsers(AUTH_HEADER)).thenThrow(new ServiceException("Backend error: 503"));
+        when(this.accountService.searchAccounts("sav")).thenReturn(List.of(account(1L, "Savings")));
+
+        // When
+        final var count = this.lookupService.countAccounts("sav");
+        final var accounts = this.lookupService.findAccounts("sav", 0, 50);
+
+        // Then
+        assertThat(count).isEqualTo(1);
+        assertThat(accounts).extracting(account -> account.name).containsExactly("Savings");
+        verify(this.accountService, times(1)).searchAccounts("sav");
+    }
+
+    @Test
+    void findAccounts_shouldAnswerFromIndex_onceWarmed() {
+        // Given
+        when(this.accountService.getAllAccounts(AUTH_HEADER)).thenReturn(
+                List.of(account(1L, "Savings"), account(2L, "Salary"), account(3L, "Rent")));
+        when(this.userService.getAllUsers(AUTH_HEADER)).thenReturn(List.of(user(7L, "alice"), user(8L, "bob")));
+
+        // When
+        this.lookupService.warm(AUTH_HEADER);
+
+        // Then
+        final var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (this.lookupService.countUsers("a") == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        while (this.lookupService.countAccounts("s") == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(this.lookupService.findAccounts("S", 0, 50)).extracting(account -> account.name)
+                .containsExactly("Salary", "Savings");
+        assertThat(this.lookupService.getAccount(3L)).map(account -> account.name).contains("Rent");
+        assertThat(this.lookupService.findUsers("b", 0, 50)).extracting(user -> user.username)
+                .containsExactly("bob");
+        assertThat(this.lookupService.getUser(7L)).map(user -> user.username).contains("alice");
+        verify(this.accountService, never()).getAccountById(3L);
+        verify(this.userService, never()).getUserById(7L);
+    }
+
+    @Test
+    void findUsers_shouldMatchExactUsername_whileNotIndexed() {
+        // Given
+        lenient().when(this.accountService.getAllAccounts(AUTH_HEADER))
+                .thenThrow(new ServiceException("Backend error: 503"));
+        lenient().when(this.userService.getAllUsers(AUTH_HEADER)).thenThrow(new ServiceException("Backend error: 403"));
+        when(this.userService.getUserByUsername("alice")).thenReturn(Optional.of(user(7L, "alice")));
+
+        // When & Then
+        assertThat(this.lookupService.countUsers("alice")).isEqualTo(1);
+        assertThat(this.lookupService.findUsers(" alice ", 0, 50)).extracting(user -> user.id).containsExactly(7L);
+        assertThat(this.lookupService.findUsers("", 0, 50)).isEmpty();
+    }
+
+    private static UserAccountDto account(final Long id, final String name) {
+        final var account = new UserAccountDto(name);
+        account.id = id;
+        return account;
+    }
+
+    private static UserDto user(final Long id, final String username) {
+        final var user = new UserDto();
+        user.id = id;
+        user.username = username;
+        return user;
+    }
+}
@@ -94,7 +94,7 @@ class PageServiceTest {
         final PageDto expectedPage = new PageDto();
         final Response response = mock(Response.class);
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.pageClient.getPage(pageId, "Basic dGVzdDp0ZXN0")).thenReturn(response);
         when(response.getStatus()).thenReturn(200);
         when(response.readEntity(PageDto.class)).thenReturn(expectedPage);
@@ -125,7 +125,7 @@ class PageServiceTest {
         final PageDto createdPage = new PageDto();
         final Response response = mock(Response.class);
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.pageClient.createPage(eq(page), anyString())).thenReturn(response);
         when(response.getStatus()).thenReturn(201);
         when(response.readEntity(PageDto.class)).thenReturn(createdPage);
@@ -157,7 +157,7 @@ class PageServiceTest {
         final PageDto updatedPage = new PageDto();
         final Response response = mock(Response.class);
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.pageClient.updatePage(eq(page.id), eq(page), anyString())).thenReturn(response);
         when(response.getStatus()).thenReturn(200);
         when(response.readEntity(PageDto.class)).thenReturn(updatedPage);
@@ -187,7 +187,7 @@ class PageServiceTest {
         final Long pageId = 1L;
         final Response response = mock(Response.class);
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.pageClient.deletePage(eq(pageId), anyString())).thenReturn(response);
         when(response.getStatus()).thenReturn(204);
 
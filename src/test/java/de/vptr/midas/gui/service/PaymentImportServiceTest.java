@@ -0,0 +1,233 @@
+package de.vptr.midas.gui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import de.vptr.midas.gui.dto.UserAccountDto;
+import de.vptr.midas.gui.dto.UserPaymentDto;
+import de.vptr.midas.gui.exception.AuthenticationException;
+import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.service.PaymentImportService.RowResult;
+import de.vptr.midas.gui.service.PaymentImportService.Status;
+import de.vptr.midas.gui.util.PaymentColumnStore;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentImportServiceTest {
+
+    private static final String AUTH_HEADER = "Basic dGVzdDp0ZXN0";
+
+    @Mock
+    UserAccountService accountService;
+
+    @Mock
+    UserPaymentService paymentService;
+
+    @InjectMocks
+    PaymentImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        this.importService.concurrency = 4;
+        this.importService.progressInterval = Duration.ofMillis(250);
+    }
+
+    @Test
+    void importPayments_shouldCreateValidRowsAndReportOthers() {
+        // Given
+        this.givenAccounts(1L, 2L, 3L);
+        final var existing = new UserPaymentDto(null, 1L, 2L, new BigDecimal("10.00"), LocalDate.of(2024, 3, 1),
+                "Existing", null, null);
+        existing.id = 1L;
+        when(this.paymentService.getColumnStore(AUTH_HEADER)).thenReturn(PaymentColumnStore.of(List.of(existing)));
+        final List<UserPaymentDto> created = Collections.synchronizedList(new ArrayList<>());
+        when(this.paymentService.createPayment(any(UserPaymentDto.class), eq(AUTH_HEADER))).thenAnswer(invocation -> {
+            final UserPaymentDto payment = invocation.getArgument(0);
+            if ("Broken".equals(payment.comment)) {
+                throw new ServiceException("Backend error: 500");
+            }
+            created.add(payment);
+            return payment;
+        });
+
+        final var csv = """
+                Source;Target;Amount;Date;Comment
+                1;2;10;01.03.2024;Already imported
+                1;3;1.234,50;2024-03-02;Rent
+                1;3;1234.5;02.03.2024;Same rent again
+                1;9;5,00;2024-03-03;Unknown account
+                2;3;-5,00;2024-03-03;Negative
+                2;3;abc;2024-03-03;No number
+                3;1;7,00;2024-03-04;Broken
+                3;2;7,00;2024-03-04;
+                """;
+
+        // When
+        final var result = this.importService.importPayments(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), AUTH_HEADER, null);
+
+        // Then
+        assertThat(created).extracting(payment -> payment.amount)
+                .containsExactlyInAnyOrder(new BigDecimal("1234.50"), new BigDecimal("7.00"));
+        assertThat(result.totals().processed()).isEqualTo(8);
+        assertThat(result.totals().created()).isEqualTo(2);
+        assertThat(result.totals().duplicates()).isEqualTo(2);
+        assertThat(result.totals().invalid()).isEqualTo(3);
+        assertThat(result.totals().failed()).isEqualTo(1);
+        assertThat(result.problems()).extracting(RowResult::line, RowResult::status).containsExactly(
+                tuple(2, Status.DUPLICATE),
+                tuple(4, Status.DUPLICATE),
+                tuple(5, Status.INVALID),
+                tuple(6, Status.INVALID),
+                tuple(7, Status.INVALID),
+                tuple(8, Status.FAILED));
+        assertThat(result.problems().get(2).message()).isEqualTo("Unknown target account 9");
+        assertThat(result.problems().get(5).message()).isEqualTo("Backend error: 500");
+        assertThat(result.problems().get(1).payment().comment).isEqualTo("Same rent again");
+        assertThat(result.problems().get(2).payment()).isNull();
+    }
+
+    @Test
+    void importDuplicates_shouldCreateConfirmedPayments() {
+        // Given
+        final var payment = new UserPaymentDto(null, 1L, 3L, new BigDecimal("1234.5"), LocalDate.of(2024, 3, 2),
+                "Same rent again", null, null);
+        final var duplicates = List.of(
+                new RowResult(4, Status.DUPLICATE, "Same payment exists or appears earlier in the file", payment),
+                new RowResult(5, Status.INVALID, "Amount must be positive", null));
+        when(this.paymentService.createPayment(payment, AUTH_HEADER)).thenReturn(payment);
+
+        // When
+        final var result = this.importService.importDuplicates(duplicates, AUTH_HEADER, null);
+
+        // Then
+        assertThat(result.totals().created()).isEqualTo(1);
+        assertThat(result.totals().processed()).isEqualTo(1);
+        assertThat(result.problems()).isEmpty();
+        verify(this.paymentService, times(1)).createPayment(any(UserPaymentDto.class), eq(AUTH_HEADER));
+    }
+
+    @Test
+    void importPayments_shouldBoundConcurrentCreates() {
+        // Given
+        this.importService.concurrency = 2;
+        this.givenAccounts(1L, 2L);
+        when(this.paymentService.getColumnStore(AUTH_HEADER)).thenReturn(PaymentColumnStore.of(List.of()));
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+        when(this.paymentService.createPayment(any(UserPaymentDto.class), eq(AUTH_HEADER))).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            running.decrementAndGet();
+            return invocation.getArgument(0);
+        });
+
+        final var csv = new StringBuilder("source,target,amount,date\n");
+        for (var day = 1; day <= 20; day++) {
+            csv.append("1,2,10.00,2024-01-").append(String.format("%02d", day)).append('\n');
+        }
+        final var updates = new AtomicInteger();
+
+        // When
+        final var result = this.importService.importPayments(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), AUTH_HEADER,
+                progress -> updates.incrementAndGet());
+
+        // Then
+        assertThat(result.totals().created()).isEqualTo(20);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        assertThat(updates.get()).isGreaterThanOrEqualTo(1);
+        verify(this.paymentService, times(20)).createPayment(any(UserPaymentDto.class), eq(AUTH_HEADER));
+    }
+
+    @Test
+    void importPayments_shouldStop_whenSessionExpires() {
+        // Given
+        this.importService.concurrency = 1;
+        this.givenAccounts(1L, 2L);
+        when(this.paymentService.getColumnStore(AUTH_HEADER)).thenReturn(PaymentColumnStore.of(List.of()));
+        when(this.paymentService.createPayment(any(UserPaymentDto.class), eq(AUTH_HEADER)))
+                .thenThrow(new AuthenticationException("Session expired"));
+
+        final var csv = new StringBuilder("source,target,amount,date\n");
+        for (var day = 1; day <= 20; day++) {
+            csv.append("1,2,10.00,2024-01-").append(String.format("%02d", day)).append('\n');
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> this.importService.importPayments(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), AUTH_HEADER, null))
+                .isInstanceOf(AuthenticationException.class)
+                .hasMessage("Session expired");
+        verify(this.paymentService, times(1)).createPayment(any(UserPaymentDto.class), eq(AUTH_HEADER));
+    }
+
+    @Test
+    void importPayments_shouldRejectFile_whenRequiredColumnIsMissing() {
+        // Given
+        this.givenAccounts(1L, 2L);
+        when(this.paymentService.getColumnStore(AUTH_HEADER)).thenReturn(PaymentColumnStore.of(List.of()));
+        final var csv = "source,target,date\n1,2,2024-01-01\n";
+
+        // When & Then
+        assertThatThrownBy(() -> this.importService.importPayments(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), AUTH_HEADER, null))
+                .isInstanceOf(ServiceException.class)
+                .hasMessage("Import file has no amount column");
+        verify(this.paymentService, never()).createPayment(any(UserPaymentDto.class), eq(AUTH_HEADER));
+    }
+
+    @Test
+    void parseAmount_shouldTakeLastSeparatorAsDecimalSeparator() {
+        assertThat(PaymentImportService.parseAmount("1.234,56")).isEqualByComparingTo("1234.56");
+        assertThat(PaymentImportService.parseAmount("1,234.56")).isEqualByComparingTo("1234.56");
+        assertThat(PaymentImportService.parseAmount("12,5")).isEqualByComparingTo("12.5");
+        assertThat(PaymentImportService.parseAmount("100")).isEqualByComparingTo("100");
+        assertThat(PaymentImportService.parseAmount("1.234.567")).isEqualByComparingTo("1234567");
+    }
+
+    @Test
+    void parseAmount_shouldReject_whenMoreThanTwoDecimalPlaces() {
+        // When & Then
+        assertThatThrownBy(() -> PaymentImportService.parseAmount("1.234"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("more than two decimal places");
+        assertThatThrownBy(() -> PaymentImportService.parseAmount("1,234"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PaymentImportService.parseAmount("0.125"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void givenAccounts(final Long... ids) {
+        final var accounts = new ArrayList<UserAccountDto>();
+        for (final var id : ids) {
+            final var account = new UserAccountDto("Account " + id);
+            account.id = id;
+            accounts.add(account);
+        }
+        when(this.accountService.getAllAccounts(AUTH_HEADER)).thenReturn(accounts);
+    }
+}
@@ -2,6 +2,8 @@ package de.vptr.midas.gui.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -9,9 +11,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -38,9 +42,19 @@ class PostCategoryServiceTest {
     @Mock
     AuthService authService;
 
+    @Mock
+    ReferenceDataCache referenceData;
+
     @InjectMocks
     PostCategoryService postCategoryService;
 
+    @BeforeEach
+    void setUp() {
+        // Behave like an empty cache: always load from the client
+        lenient().when(this.referenceData.get(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+    }
+
     @Test
     void getAllCategories_shouldReturnCategoryList_whenAuthenticationProvided() {
         // Given
@@ -106,7 +120,7 @@ class PostCategoryServiceTest {
         final PostCategoryDto rootCategory = new PostCategoryDto(1L, "Root Category", null);
         final List<PostCategoryDto> expectedCategories = Collections.singletonList(rootCategory);
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.categoryClient.getRootCategories("Basic dGVzdDp0ZXN0")).thenReturn(expectedCategories);
 
         // When
@@ -125,7 +139,7 @@ class PostCategoryServiceTest {
         final PostCategoryDto expectedCategory = new PostCategoryDto(categoryId, "Test Category", null);
         final Response mockResponse = Response.status(200).entity(expectedCategory).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.categoryClient.getCategory(categoryId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -143,7 +157,7 @@ class PostCategoryServiceTest {
         final Long categoryId = 999L;
         final Response mockResponse = Response.status(404).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.categoryClient.getCategory(categoryId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -162,7 +176,7 @@ class PostCategoryServiceTest {
         final PostCategoryDto child2 = new PostCategoryDto(3L, "Child 2", parent);
         final List<PostCategoryDto> expectedChildren = Arrays.asList(child1, child2);
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.categoryClient.getCategoriesByParent(parentId, "Basic dGVzdDp0ZXN0")).thenReturn(expectedChildren);
 
         // When
@@ -180,7 +194,7 @@ class PostCategoryServiceTest {
         final PostCategoryDto createdCategory = new PostCategoryDto(1L, "New Category", null);
         final Response mockResponse = Response.status(201).entity(createdCategory).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.categoryClient.createCategory(newCategory, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -198,7 +212,7 @@ class PostCategoryServiceTest {
         final PostCategoryDto newCategory = new PostCategoryDto(null, "New Category", null);
         final Response mockResponse = Response.status(400).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.categoryClient.createCategory(newCategory, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When & Then
@@ -213,7 +227,7 @@ class PostCategoryServiceTest {
         final PostCategoryDto categoryToUpdate = new PostCategoryDto(1L, "Updated Category", null);
         final Response mockResponse = Response.status(200).entity(categoryToUpdate).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.categoryClient.updateCategory(1L, categoryToUpdate, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -231,7 +245,7 @@ class PostCategoryServiceTest {
         final Long categoryId = 1L;
         final Response mockResponse = Response.status(204).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.categoryClient.deleteCategory(categoryId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -248,7 +262,7 @@ class PostCategoryServiceTest {
         final Long categoryId = 1L;
         final Response mockResponse = Response.status(400).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.categoryClient.deleteCategory(categoryId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -118,7 +118,7 @@ class PostCommentServiceTest {
         final List<PostCommentDto> expectedComments = Collections.singletonList(comment);
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.commentClient.getCommentsByPost(postId, "Basic dGVzdDp0ZXN0")).thenReturn(expectedComments);
 
         // When
@@ -130,6 +130,46 @@ class PostCommentServiceTest {
         verify(this.commentClient).getCommentsByPost(postId, "Basic dGVzdDp0ZXN0");
     }
 
+    @Test
+    void getCommentsByPostWithAuthHeader_shouldReturnComments_whenPostExists() {
+        // Given
+        final Long postId = 1L;
+        final String authHeader = "Basic dGVzdDp0ZXN0";
+        final PostDto post = new PostDto();
+        post.id = postId;
+        final PostCommentDto comment = new PostCommentDto(1L, "Test comment", post, null, LocalDateTime.now());
+
+        when(this.commentClient.getCommentsByPost(postId, authHeader)).thenReturn(List.of(comment));
+
+        // When
+        final List<PostCommentDto> result = this.postCommentService.getCommentsByPost(postId, authHeader);
+
+        // Then
+        assertThat(result).containsExactly(comment);
+        verify(this.commentClient).getCommentsByPost(postId, authHeader);
+    }
+
+    @Test
+    void getCommentsByPostWithAuthHeader_shouldThrowAuthenticationException_whenAuthHeaderIsNull() {
+        // When & Then
+        assertThatThrownBy(() -> this.postCommentService.getCommentsByPost(1L, null))
+                .isInstanceOf(AuthenticationException.class)
+                .hasMessage("Authentication required");
+    }
+
+    @Test
+    void getCommentsByPostWithAuthHeader_shouldThrowAuthenticationException_when401Error() {
+        // Given
+        final String authHeader = "Basic dGVzdDp0ZXN0";
+        when(this.commentClient.getCommentsByPost(1L, authHeader))
+                .thenThrow(new WebApplicationException(Response.status(401).build()));
+
+        // When & Then
+        assertThatThrownBy(() -> this.postCommentService.getCommentsByPost(1L, authHeader))
+                .isInstanceOf(AuthenticationException.class)
+                .hasMessage("Session expired");
+    }
+
     @Test
     void getCommentsByPost_shouldThrowAuthenticationException_whenNotAuthenticated() {
         // Given
@@ -154,7 +194,7 @@ class PostCommentServiceTest {
         final Response mockResponse = Response.status(200).entity(expectedComment).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.commentClient.getComment(commentId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -172,7 +212,7 @@ class PostCommentServiceTest {
         final Response mockResponse = Response.status(404).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.commentClient.getComment(commentId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When & Then
@@ -192,7 +232,7 @@ class PostCommentServiceTest {
         final Response mockResponse = Response.status(201).entity(createdComment).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.commentClient.createComment(newComment, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -212,7 +252,7 @@ class PostCommentServiceTest {
         final Response mockResponse = Response.status(400).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.commentClient.createComment(newComment, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When & Then
@@ -232,7 +272,7 @@ class PostCommentServiceTest {
         final Response mockResponse = Response.status(200).entity(commentToUpdate).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.commentClient.updateComment(1L, commentToUpdate, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -251,7 +291,7 @@ class PostCommentServiceTest {
         final Response mockResponse = Response.status(204).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.commentClient.deleteComment(commentId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -269,7 +309,7 @@ class PostCommentServiceTest {
         final Response mockResponse = Response.status(400).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.commentClient.deleteComment(commentId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -287,7 +327,7 @@ class PostCommentServiceTest {
         final WebApplicationException webException = new WebApplicationException(mockResponse);
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.commentClient.getCommentsByPost(postId, "Basic dGVzdDp0ZXN0")).thenThrow(webException);
 
         // When & Then
@@ -304,7 +344,7 @@ class PostCommentServiceTest {
         final WebApplicationException webException = new WebApplicationException(mockResponse);
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.commentClient.getCommentsByPost(postId, "Basic dGVzdDp0ZXN0")).thenThrow(webException);
 
         // When & Then
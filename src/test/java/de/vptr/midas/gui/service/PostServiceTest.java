@@ -2,23 +2,31 @@ package de.vptr.midas.gui.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import de.vptr.midas.gui.client.HedgedRequests;
 import de.vptr.midas.gui.client.PostClient;
+import de.vptr.midas.gui.dto.PostCategoryDto;
 import de.vptr.midas.gui.dto.PostDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.util.CategoryTree;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.WebApplicationException;
@@ -35,9 +43,19 @@ class PostServiceTest {
     @Mock
     AuthService authService;
 
+    @Mock
+    HedgedRequests hedging;
+
     @InjectMocks
     PostService postService;
 
+    @BeforeEach
+    void setUp() {
+        // Requests run directly on the test thread
+        lenient().when(this.hedging.get(anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+    }
+
     @Test
     void getAllPosts_shouldReturnPosts_whenAuthHeaderProvided() {
         // Given
@@ -92,7 +110,7 @@ class PostServiceTest {
         // Given
         final String authHeader = "Basic dGVzdDp0ZXN0";
         final List<PostDto> expectedPosts = Arrays.asList(new PostDto(), new PostDto());
-        when(this.authService.getBasicAuthHeader()).thenReturn(authHeader);
+        when(this.authService.getAuthHeader()).thenReturn(authHeader);
         when(this.postClient.getPublishedPosts(authHeader)).thenReturn(expectedPosts);
 
         // When
@@ -106,7 +124,7 @@ class PostServiceTest {
     @Test
     void getPublishedPosts_shouldReturnEmptyList_whenNotAuthenticated() {
         // Given
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When
         final List<PostDto> result = this.postService.getPublishedPosts();
@@ -115,13 +133,41 @@ class PostServiceTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void getPublishedPosts_shouldUseProvidedAuthHeader_withoutTouchingSession() {
+        // Given
+        final String authHeader = "Bearer access";
+        final List<PostDto> expectedPosts = Arrays.asList(new PostDto());
+        when(this.postClient.getPublishedPosts(authHeader)).thenReturn(expectedPosts);
+
+        // When
+        final List<PostDto> result = this.postService.getPublishedPosts(authHeader);
+
+        // Then
+        assertThat(result).isEqualTo(expectedPosts);
+        verifyNoInteractions(this.authService);
+    }
+
+    @Test
+    void getPublishedPosts_shouldThrowAuthenticationExceptionWithoutLogout_when401WithAuthHeader() {
+        // Given
+        final String authHeader = "Bearer access";
+        when(this.postClient.getPublishedPosts(authHeader)).thenThrow(new WebApplicationException(401));
+
+        // When & Then
+        assertThatThrownBy(() -> this.postService.getPublishedPosts(authHeader))
+                .isInstanceOf(AuthenticationException.class)
+                .hasMessage("Session expired");
+        verify(this.authService, never()).logout();
+    }
+
     @Test
     void getPostById_shouldReturnPost_whenPostExists() {
         // Given
         final Long postId = 1L;
         final PostDto expectedPost = new PostDto();
         final Response response = mock(Response.class);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.postClient.getPost(postId, "Basic dGVzdDp0ZXN0")).thenReturn(response);
         when(response.getStatus()).thenReturn(200);
         when(response.readEntity(PostDto.class)).thenReturn(expectedPost);
@@ -137,7 +183,7 @@ class PostServiceTest {
     @Test
     void getPostById_shouldReturnEmpty_whenNotAuthenticated() {
         // Given
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When
         final Optional<PostDto> result = this.postService.getPostById(1L);
@@ -151,7 +197,7 @@ class PostServiceTest {
         // Given
         final Long postId = 999L;
         final Response response = mock(Response.class);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.postClient.getPost(postId, "Basic dGVzdDp0ZXN0")).thenReturn(response);
         when(response.getStatus()).thenReturn(404);
 
@@ -168,7 +214,7 @@ class PostServiceTest {
         final Long userId = 1L;
         final String authHeader = "Basic dGVzdDp0ZXN0";
         final List<PostDto> expectedPosts = Arrays.asList(new PostDto(), new PostDto());
-        when(this.authService.getBasicAuthHeader()).thenReturn(authHeader);
+        when(this.authService.getAuthHeader()).thenReturn(authHeader);
         when(this.postClient.getPostsByUser(userId, authHeader)).thenReturn(expectedPosts);
 
         // When
@@ -181,7 +227,7 @@ class PostServiceTest {
     @Test
     void getPostsByUser_shouldReturnEmptyList_whenNotAuthenticated() {
         // Given
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When
         final List<PostDto> result = this.postService.getPostsByUser(1L);
@@ -196,7 +242,7 @@ class PostServiceTest {
         final Long categoryId = 1L;
         final String authHeader = "Basic dGVzdDp0ZXN0";
         final List<PostDto> expectedPosts = Arrays.asList(new PostDto(), new PostDto());
-        when(this.authService.getBasicAuthHeader()).thenReturn(authHeader);
+        when(this.authService.getAuthHeader()).thenReturn(authHeader);
         when(this.postClient.getPostsByCategory(categoryId, authHeader)).thenReturn(expectedPosts);
 
         // When
@@ -209,7 +255,7 @@ class PostServiceTest {
     @Test
     void getPostsByCategory_shouldReturnEmptyList_whenNotAuthenticated() {
         // Given
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When
         final List<PostDto> result = this.postService.getPostsByCategory(1L);
@@ -224,7 +270,7 @@ class PostServiceTest {
         final PostDto newPost = new PostDto();
         final PostDto createdPost = new PostDto();
         final Response response = mock(Response.class);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.postClient.createPost(newPost, "Basic dGVzdDp0ZXN0")).thenReturn(response);
         when(response.getStatus()).thenReturn(201);
         when(response.readEntity(PostDto.class)).thenReturn(createdPost);
@@ -241,7 +287,7 @@ class PostServiceTest {
     void createPost_shouldThrowAuthenticationException_whenNotAuthenticated() {
         // Given
         final PostDto newPost = new PostDto();
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When & Then
         assertThatThrownBy(() -> this.postService.createPost(newPost))
@@ -254,7 +300,7 @@ class PostServiceTest {
         // Given
         final PostDto newPost = new PostDto();
         final Response response = mock(Response.class);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.postClient.createPost(newPost, "Basic dGVzdDp0ZXN0")).thenReturn(response);
         when(response.getStatus()).thenReturn(400);
 
@@ -271,7 +317,7 @@ class PostServiceTest {
         postToUpdate.id = 1L;
         final PostDto updatedPost = new PostDto();
         final Response response = mock(Response.class);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.postClient.updatePost(postToUpdate.id, postToUpdate, "Basic dGVzdDp0ZXN0")).thenReturn(response);
         when(response.getStatus()).thenReturn(200);
         when(response.readEntity(PostDto.class)).thenReturn(updatedPost);
@@ -288,7 +334,7 @@ class PostServiceTest {
     void updatePost_shouldThrowAuthenticationException_whenNotAuthenticated() {
         // Given
         final PostDto postToUpdate = new PostDto();
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When & Then
         assertThatThrownBy(() -> this.postService.updatePost(postToUpdate))
@@ -302,7 +348,7 @@ class PostServiceTest {
         final PostDto postToUpdate = new PostDto();
         postToUpdate.id = 1L;
         final Response response = mock(Response.class);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.postClient.updatePost(postToUpdate.id, postToUpdate, "Basic dGVzdDp0ZXN0")).thenReturn(response);
         when(response.getStatus()).thenReturn(400);
 
@@ -317,7 +363,7 @@ class PostServiceTest {
         // Given
         final Long postId = 1L;
         final Response response = mock(Response.class);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.postClient.deletePost(postId, "Basic dGVzdDp0ZXN0")).thenReturn(response);
         when(response.getStatus()).thenReturn(204);
 
@@ -334,7 +380,7 @@ class PostServiceTest {
         // Given
         final Long postId = 1L;
         final Response response = mock(Response.class);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.postClient.deletePost(postId, "Basic dGVzdDp0ZXN0")).thenReturn(response);
         when(response.getStatus()).thenReturn(400);
 
@@ -344,4 +390,58 @@ class PostServiceTest {
         // Then
         assertThat(result).isFalse();
     }
+
+    @Test
+    void getCategoryStats_shouldCountPostsOnce_andUpdateOnDelete() {
+        // Given
+        this.postService.categoryStatsMaxAge = Duration.ofSeconds(60);
+        final String authHeader = "Basic dGVzdDp0ZXN0";
+        final var root = new PostCategoryDto(1L, "Root", null);
+        final var child = new PostCategoryDto(2L, "Child", root);
+        final var tree = CategoryTree.of(List.of(root, child));
+        final var first = new PostDto();
+        first.id = 10L;
+        first.category = child;
+        final var second = new PostDto();
+        second.id = 11L;
+        second.category = root;
+        when(this.postClient.getAllPosts(authHeader)).thenReturn(List.of(first, second));
+        final Response response = mock(Response.class);
+        when(this.authService.getAuthHeader()).thenReturn(authHeader);
+        when(this.postClient.deletePost(10L, authHeader)).thenReturn(response);
+        when(response.getStatus()).thenReturn(204);
+
+        // When
+        final var stats = this.postService.getCategoryStats(tree, authHeader);
+        this.postService.deletePost(10L);
+        final var again = this.postService.getCategoryStats(tree, authHeader);
+
+        // Then
+        assertThat(again).isSameAs(stats);
+        assertThat(again.get(root).subtreePosts()).isEqualTo(1);
+        assertThat(again.get(child).posts()).isZero();
+        verify(this.postClient, times(1)).getAllPosts(authHeader);
+    }
+
+    @Test
+    void getCategoryStats_shouldRecountWithoutFetching_whenTreeChanges() {
+        // Given
+        this.postService.categoryStatsMaxAge = Duration.ofSeconds(60);
+        final String authHeader = "Basic dGVzdDp0ZXN0";
+        final var root = new PostCategoryDto(1L, "Root", null);
+        final var other = new PostCategoryDto(2L, "Other", null);
+        final var post = new PostDto();
+        post.id = 10L;
+        post.category = other;
+        when(this.postClient.getAllPosts(authHeader)).thenReturn(List.of(post));
+        this.postService.getCategoryStats(CategoryTree.of(List.of(root, other)), authHeader);
+        final var movedOther = new PostCategoryDto(2L, "Other", root);
+
+        // When
+        final var stats = this.postService.getCategoryStats(CategoryTree.of(List.of(root, movedOther)), authHeader);
+
+        // Then
+        assertThat(stats.get(root).subtreePosts()).isEqualTo(1);
+        verify(this.postClient, times(1)).getAllPosts(authHeader);
+    }
 }
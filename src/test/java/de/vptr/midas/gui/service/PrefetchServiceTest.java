@@ -0,0 +1,162 @@
+package de.vptr.midas.gui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.vaadin.flow.server.VaadinSession;
+
+import de.vptr.midas.gui.exception.ServiceException;
+
+@ExtendWith(MockitoExtension.class)
+class PrefetchServiceTest {
+
+    private static final String ALICE = "Basic YWxpY2U6c2VjcmV0";
+    private static final String BOB = "Basic Ym9iOnNlY3JldA==";
+
+    private PrefetchService prefetchService;
+    private MockedStatic<VaadinSession> vaadinSessionMock;
+
+    @BeforeEach
+    void setUp() {
+        this.prefetchService = new PrefetchService();
+        this.prefetchService.ttl = Duration.ofSeconds(10);
+
+        // Back the session attributes with a map so entries survive between calls
+        final Map<String, Object> attributes = new HashMap<>();
+        final var vaadinSession = Mockito.mock(VaadinSession.class);
+        lenient().when(vaadinSession.getAttribute(anyString()))
+                .thenAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)));
+        lenient().doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(vaadinSession).setAttribute(anyString(), any());
+
+        this.vaadinSessionMock = mockStatic(VaadinSession.class);
+        this.vaadinSessionMock.when(VaadinSession::getCurrent).thenReturn(vaadinSession);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.vaadinSessionMock.close();
+    }
+
+    @Test
+    void take_shouldReturnPrefetchedData_whenCredentialsMatch() {
+        // Given
+        this.prefetchService.prefetch(String.class, ALICE, header -> List.of("data"));
+
+        // When
+        final var result = this.prefetchService.<List<String>>take(String.class, ALICE);
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.join()).containsExactly("data");
+    }
+
+    @Test
+    void take_shouldReturnNull_whenPrefetchedWithOtherCredentials() {
+        // Given
+        this.prefetchService.prefetch(String.class, ALICE, header -> List.of("data"));
+
+        // When
+        final var result = this.prefetchService.<List<String>>take(String.class, BOB);
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void take_shouldReturnNull_whenAlreadyTaken() {
+        // Given
+        this.prefetchService.prefetch(String.class, ALICE, header -> List.of("data"));
+        this.prefetchService.take(String.class, ALICE);
+
+        // When
+        final var result = this.prefetchService.<List<String>>take(String.class, ALICE);
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void prefetch_shouldLoadOnce_whenTriggeredRepeatedly() {
+        // Given
+        final var loads = new AtomicInteger();
+
+        // When
+        this.prefetchService.prefetch(String.class, ALICE, header -> List.of("data-" + loads.incrementAndGet()));
+        this.prefetchService.prefetch(String.class, ALICE, header -> List.of("data-" + loads.incrementAndGet()));
+        this.prefetchService.take(String.class, ALICE).join();
+
+        // Then
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void take_shouldReturnNull_whenPrefetchFailed() {
+        // Given
+        this.prefetchService.prefetch(String.class, ALICE, header -> {
+            throw new ServiceException("Backend unavailable");
+        });
+
+        // When
+        final var result = this.awaitFailureThenTake();
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void take_shouldReturnNull_whenPrefetchExpired() {
+        // Given
+        this.prefetchService.prefetch(String.class, ALICE, header -> List.of("data"));
+        final var stale = Instant.now().minusSeconds(60);
+        this.prefetchEntries().computeIfPresent(String.class,
+                (target, entry) -> new PrefetchService.Entry(entry.scope(), entry.data(), stale));
+
+        // When
+        final var result = this.prefetchService.<List<String>>take(String.class, ALICE);
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void prefetch_shouldDoNothing_outsideOfVaadinRequest() {
+        // Given
+        this.vaadinSessionMock.when(VaadinSession::getCurrent).thenReturn(null);
+        final var loads = new AtomicInteger();
+
+        // When
+        this.prefetchService.prefetch(String.class, ALICE, header -> loads.incrementAndGet());
+
+        // Then
+        assertThat(loads).hasValue(0);
+        assertThat(this.prefetchService.<Integer>take(String.class, ALICE)).isNull();
+    }
+
+    private Object awaitFailureThenTake() {
+        final var entries = this.prefetchEntries();
+        entries.values().forEach(entry -> entry.data().handle((value, throwable) -> null).join());
+        return this.prefetchService.take(String.class, ALICE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Class<?>, PrefetchService.Entry> prefetchEntries() {
+        return (Map<Class<?>, PrefetchService.Entry>) VaadinSession.getCurrent()
+                .getAttribute(PrefetchService.SESSION_KEY);
+    }
+}
@@ -0,0 +1,172 @@
+package de.vptr.midas.gui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import de.vptr.midas.gui.dto.UserRankDto;
+import de.vptr.midas.gui.exception.ServiceException;
+
+class ReferenceDataCacheTest {
+
+    private static final String AUTH_HEADER = "Basic dGVzdDp0ZXN0";
+    private static final String OTHER_AUTH_HEADER = "Basic b3RoZXI6b3RoZXI=";
+
+    @TempDir
+    Path snapshotDir;
+
+    private ReferenceDataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.cache = this.newCache();
+    }
+
+    @Test
+    void get_shouldServeCachedEntry_whenFresh() {
+        // Given
+        final var loads = new AtomicInteger();
+
+        // When
+        this.cache.get(ReferenceDataCache.Kind.RANKS, AUTH_HEADER, () -> ranks(loads.incrementAndGet()));
+        final var result = this.cache.get(ReferenceDataCache.Kind.RANKS, AUTH_HEADER,
+                () -> ranks(loads.incrementAndGet()));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(result).extracting(rank -> rank.name).containsExactly("Rank 1");
+    }
+
+    @Test
+    void get_shouldSeparateCredentialScopes() {
+        // Given
+        this.cache.get(ReferenceDataCache.Kind.RANKS, AUTH_HEADER, () -> ranks(1));
+
+        // When
+        final var result = this.cache.get(ReferenceDataCache.Kind.RANKS, OTHER_AUTH_HEADER, () -> ranks(2));
+
+        // Then
+        assertThat(result).extracting(rank -> rank.name).containsExactly("Rank 2");
+    }
+
+    @Test
+    void get_shouldServeStaleEntryAndRevalidate_whenOlderThanRefreshAfter() throws Exception {
+        // Given
+        this.cache.refreshAfter = Duration.ZERO;
+        this.cache.get(ReferenceDataCache.Kind.RANKS, AUTH_HEADER, () -> ranks(1));
+
+        // When
+        final var stale = this.cache.get(ReferenceDataCache.Kind.RANKS, AUTH_HEADER, () -> ranks(2));
+
+        // Then
+        assertThat(stale).extracting(rank -> rank.name).containsExactly("Rank 1");
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        List<UserRankDto> revalidated;
+        do {
+            revalidated = this.cache.get(ReferenceDataCache.Kind.RANKS, AUTH_HEADER, () -> ranks(2));
+        } while (!"Rank 2".equals(revalidated.get(0).name) && System.nanoTime() < deadline);
+        assertThat(revalidated).extracting(rank -> rank.name).containsExactly("Rank 2");
+    }
+
+    @Test
+    void get_shouldPassLoaderException_whenNothingCached() {
+        // When / Then
+        assertThatThrownBy(() -> this.cache.get(ReferenceDataCache.Kind.RANKS, AUTH_HEADER, () -> {
+            throw new ServiceException("Backend connection failed");
+        })).isInstanceOf(ServiceException.class);
+    }
+
+    @Test
+    void invalidate_shouldDropEntriesOfKind() {
+        // Given
+        final var loads = new AtomicInteger();
+        this.cache.get(ReferenceDataCache.Kind.RANKS, AUTH_HEADER, () -> ranks(loads.incrementAndGet()));
+
+        // When
+        this.cache.invalidate(ReferenceDataCache.Kind.RANKS);
+        this.cache.get(ReferenceDataCache.Kind.RANKS, AUTH_HEADER, () -> ranks(loads.incrementAndGet()));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_shouldNotCacheLoad_whenInvalidatedWhileLoading() {
+        // Given
+        final var loads = new AtomicInteger();
+
+        // When
+        final var result = this.cache.get(ReferenceDataCache.Kind.RANKS, AUTH_HEADER, () -> {
+            // A write completes while the list is still being read
+            this.cache.invalidate(ReferenceDataCache.Kind.RANKS);
+            return ranks(loads.incrementAndGet());
+        });
+        final var next = this.cache.get(ReferenceDataCache.Kind.RANKS, AUTH_HEADER,
+                () -> ranks(loads.incrementAndGet()));
+
+        // Then
+        assertThat(result).extracting(rank -> rank.name).containsExactly("Rank 1");
+        assertThat(next).extracting(rank -> rank.name).containsExactly("Rank 2");
+    }
+
+    @Test
+    void restore_shouldServePersistedEntries_afterRestart() {
+        // Given
+        this.cache.get(ReferenceDataCache.Kind.RANKS, AUTH_HEADER, () -> ranks(1));
+        this.cache.persist();
+
+        // When
+        final var restarted = this.newCache();
+        restarted.restore();
+        final var result = restarted.get(ReferenceDataCache.Kind.RANKS, AUTH_HEADER, () -> {
+            throw new ServiceException("Backend connection failed");
+        });
+
+        // Then
+        assertThat(result).extracting(rank -> rank.name).containsExactly("Rank 1");
+        assertThat(result.get(0)).isInstanceOf(UserRankDto.class);
+    }
+
+    @Test
+    void restore_shouldSkipEntries_whenOlderThanMaxAge() {
+        // Given
+        this.cache.get(ReferenceDataCache.Kind.RANKS, AUTH_HEADER, () -> ranks(1));
+        this.cache.persist();
+
+        // When
+        final var restarted = this.newCache();
+        restarted.maxAge = Duration.ZERO;
+        restarted.restore();
+        final var result = restarted.get(ReferenceDataCache.Kind.RANKS, AUTH_HEADER, () -> ranks(2));
+
+        // Then
+        assertThat(result).extracting(rank -> rank.name).containsExactly("Rank 2");
+    }
+
+    private ReferenceDataCache newCache() {
+        final var cache = new ReferenceDataCache();
+        cache.objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+        cache.snapshotDir = this.snapshotDir;
+        cache.refreshAfter = Duration.ofMinutes(1);
+        cache.maxAge = Duration.ofHours(1);
+        return cache;
+    }
+
+    private static List<UserRankDto> ranks(final int version) {
+        final var rank = new UserRankDto("Rank " + version);
+        rank.id = 1L;
+        return List.of(rank);
+    }
+}
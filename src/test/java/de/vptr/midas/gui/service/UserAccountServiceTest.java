@@ -2,6 +2,8 @@ package de.vptr.midas.gui.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -9,8 +11,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -37,9 +41,19 @@ class UserAccountServiceTest {
     @Mock
     AuthService authService;
 
+    @Mock
+    ReferenceDataCache referenceData;
+
     @InjectMocks
     UserAccountService userAccountService;
 
+    @BeforeEach
+    void setUp() {
+        // Behave like an empty cache: always load from the client
+        lenient().when(this.referenceData.get(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+    }
+
     @Test
     void getAllAccounts_shouldReturnAccountList_whenAuthenticationProvided() {
         // Given
@@ -107,7 +121,7 @@ class UserAccountServiceTest {
         expectedAccount.id = accountId;
         final Response mockResponse = Response.status(200).entity(expectedAccount).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.accountClient.getAccount(accountId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -125,7 +139,7 @@ class UserAccountServiceTest {
         final Long accountId = 999L;
         final Response mockResponse = Response.status(404).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.accountClient.getAccount(accountId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -143,7 +157,7 @@ class UserAccountServiceTest {
         expectedAccount.id = 1L;
         final Response mockResponse = Response.status(200).entity(expectedAccount).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.accountClient.getAccountByName(accountName, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -162,7 +176,7 @@ class UserAccountServiceTest {
         final UserAccountDto account2 = new UserAccountDto("Account 2");
         final List<UserAccountDto> expectedAccounts = Arrays.asList(account1, account2);
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.accountClient.getAccountsByUser(userId, "Basic dGVzdDp0ZXN0")).thenReturn(expectedAccounts);
 
         // When
@@ -180,7 +194,7 @@ class UserAccountServiceTest {
         final UserAccountDto account = new UserAccountDto("Test Account");
         final List<UserAccountDto> expectedAccounts = Collections.singletonList(account);
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.accountClient.searchAccounts(query, "Basic dGVzdDp0ZXN0")).thenReturn(expectedAccounts);
 
         // When
@@ -199,7 +213,7 @@ class UserAccountServiceTest {
         createdAccount.id = 1L;
         final Response mockResponse = Response.status(201).entity(createdAccount).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.accountClient.createAccount(newAccount, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -217,7 +231,7 @@ class UserAccountServiceTest {
         final UserAccountDto newAccount = new UserAccountDto("New Account");
         final Response mockResponse = Response.status(400).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.accountClient.createAccount(newAccount, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When & Then
@@ -233,7 +247,7 @@ class UserAccountServiceTest {
         accountToUpdate.id = 1L;
         final Response mockResponse = Response.status(200).entity(accountToUpdate).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.accountClient.updateAccount(1L, accountToUpdate, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -251,7 +265,7 @@ class UserAccountServiceTest {
         final Long accountId = 1L;
         final Response mockResponse = Response.status(204).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.accountClient.deleteAccount(accountId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -268,7 +282,7 @@ class UserAccountServiceTest {
         final Long accountId = 1L;
         final Response mockResponse = Response.status(400).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.accountClient.deleteAccount(accountId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -281,7 +295,7 @@ class UserAccountServiceTest {
     @Test
     void getAccountById_shouldReturnEmpty_whenNotAuthenticated() {
         // Given
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When
         final Optional<UserAccountDto> result = this.userAccountService.getAccountById(1L);
@@ -294,7 +308,7 @@ class UserAccountServiceTest {
     void createAccount_shouldThrowAuthenticationException_whenNotAuthenticated() {
         // Given
         final UserAccountDto newAccount = new UserAccountDto("New Account");
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When & Then
         assertThatThrownBy(() -> this.userAccountService.createAccount(newAccount))
@@ -322,7 +336,7 @@ class UserAccountServiceTest {
         final Response mockResponse = Response.status(500).build();
         final WebApplicationException webException = new WebApplicationException(mockResponse);
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.accountClient.getAccount(accountId, "Basic dGVzdDp0ZXN0")).thenThrow(webException);
 
         // When & Then
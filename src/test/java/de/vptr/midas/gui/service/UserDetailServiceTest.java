@@ -0,0 +1,225 @@
+package de.vptr.midas.gui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import de.vptr.midas.gui.dto.PostCommentDto;
+import de.vptr.midas.gui.dto.PostDto;
+import de.vptr.midas.gui.dto.UserAccountDto;
+import de.vptr.midas.gui.dto.UserDto;
+import de.vptr.midas.gui.dto.UserGroupDto;
+import de.vptr.midas.gui.dto.UserPaymentDto;
+import de.vptr.midas.gui.exception.AuthenticationException;
+import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.result.UserDetail;
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailServiceTest {
+
+    private static final String AUTH_HEADER = "Basic dGVzdDp0ZXN0";
+    private static final Long USER_ID = 7L;
+
+    @Mock
+    UserService userService;
+
+    @Mock
+    UserAccountService accountService;
+
+    @Mock
+    UserPaymentService paymentService;
+
+    @Mock
+    PostService postService;
+
+    @Mock
+    PostCommentService commentService;
+
+    @Mock
+    UserGroupService groupService;
+
+    @InjectMocks
+    UserDetailService detailService;
+
+    @BeforeEach
+    void setUp() {
+        this.detailService.sectionTimeout = Duration.ofSeconds(5);
+    }
+
+    @Test
+    void getDetail_shouldLoadAllSections() {
+        // Given
+        final var user = new UserDto("alice", "alice@example.com");
+        final var account = new UserAccountDto("Checking");
+        final var payment = new UserPaymentDto();
+        final var post = new PostDto();
+        final var comment = new PostCommentDto();
+        final var group = new UserGroupDto();
+        when(this.userService.getUserById(USER_ID, AUTH_HEADER)).thenReturn(Optional.of(user));
+        when(this.accountService.getAccountsByUser(USER_ID, AUTH_HEADER)).thenReturn(List.of(account));
+        when(this.paymentService.getPaymentsByUser(USER_ID, AUTH_HEADER)).thenReturn(List.of(payment));
+        when(this.paymentService.getTotalAmountByUser(USER_ID, AUTH_HEADER)).thenReturn(new BigDecimal("42.50"));
+        when(this.postService.getPostsByUser(USER_ID, AUTH_HEADER)).thenReturn(List.of(post));
+        when(this.commentService.getCommentsByUser(USER_ID, AUTH_HEADER)).thenReturn(List.of(comment));
+        when(this.groupService.getGroupsForUser(USER_ID, AUTH_HEADER)).thenReturn(List.of(group));
+
+        // When
+        final var detail = this.detailService.getDetail(USER_ID, AUTH_HEADER);
+        this.awaitSections(detail);
+
+        // Then
+        assertThat(detail.getUserId()).isEqualTo(USER_ID);
+        assertThat(detail.getUser().join()).contains(user);
+        assertThat(detail.getAccounts().join()).containsExactly(account);
+        assertThat(detail.getPayments().join()).containsExactly(payment);
+        assertThat(detail.getPaymentTotal().join()).isEqualByComparingTo("42.50");
+        assertThat(detail.getPosts().join()).containsExactly(post);
+        assertThat(detail.getComments().join()).containsExactly(comment);
+        assertThat(detail.getGroups().join()).containsExactly(group);
+        assertThat(detail.hasFailedSections()).isFalse();
+    }
+
+    @Test
+    void getDetail_shouldRequestAllSectionsConcurrently() {
+        // Given
+        // Every request waits until all seven are in flight, which only happens if none waits for another
+        final var inFlight = new CountDownLatch(7);
+        when(this.userService.getUserById(USER_ID, AUTH_HEADER)).thenAnswer(this.arriveAndAwait(inFlight,
+                Optional.empty()));
+        when(this.accountService.getAccountsByUser(USER_ID, AUTH_HEADER)).thenAnswer(this.arriveAndAwait(inFlight,
+                List.of()));
+        when(this.paymentService.getPaymentsByUser(USER_ID, AUTH_HEADER)).thenAnswer(this.arriveAndAwait(inFlight,
+                List.of()));
+        when(this.paymentService.getTotalAmountByUser(USER_ID, AUTH_HEADER)).thenAnswer(this.arriveAndAwait(inFlight,
+                BigDecimal.ZERO));
+        when(this.postService.getPostsByUser(USER_ID, AUTH_HEADER)).thenAnswer(this.arriveAndAwait(inFlight,
+                List.of()));
+        when(this.commentService.getCommentsByUser(USER_ID, AUTH_HEADER)).thenAnswer(this.arriveAndAwait(inFlight,
+                List.of()));
+        when(this.groupService.getGroupsForUser(USER_ID, AUTH_HEADER)).thenAnswer(this.arriveAndAwait(inFlight,
+                List.of()));
+
+        // When
+        final var detail = this.detailService.getDetail(USER_ID, AUTH_HEADER);
+        this.awaitSections(detail);
+
+        // Then
+        assertThat(detail.hasFailedSections()).isFalse();
+        assertThat(detail.isDone()).isTrue();
+    }
+
+    @Test
+    void getDetail_shouldFailOnlyAffectedSections_whenCallsFailOrTimeOut() {
+        // Given
+        this.detailService.sectionTimeout = Duration.ofMillis(200);
+        final var release = new CountDownLatch(1);
+        final var interrupted = new CountDownLatch(1);
+        when(this.userService.getUserById(USER_ID, AUTH_HEADER)).thenReturn(Optional.empty());
+        when(this.accountService.getAccountsByUser(USER_ID, AUTH_HEADER)).thenReturn(List.of());
+        when(this.paymentService.getPaymentsByUser(USER_ID, AUTH_HEADER)).thenAnswer(invocation -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                interrupted.countDown();
+            }
+            return List.of();
+        });
+        when(this.paymentService.getTotalAmountByUser(USER_ID, AUTH_HEADER)).thenReturn(BigDecimal.ZERO);
+        when(this.postService.getPostsByUser(USER_ID, AUTH_HEADER)).thenReturn(List.of());
+        when(this.commentService.getCommentsByUser(USER_ID, AUTH_HEADER))
+                .thenThrow(new ServiceException("Backend connection failed"));
+        when(this.groupService.getGroupsForUser(USER_ID, AUTH_HEADER)).thenReturn(List.of());
+
+        // When
+        final var detail = this.detailService.getDetail(USER_ID, AUTH_HEADER);
+        this.awaitSections(detail);
+        final var requestInterrupted = interrupted.await(5, TimeUnit.SECONDS);
+        release.countDown();
+
+        // Then
+        assertThat(detail.getPayments()).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(TimeoutException.class);
+        assertThat(detail.getComments()).failsWithin(Duration.ofSeconds(5));
+        assertThat(requestInterrupted).isTrue();
+        assertThat(detail.getUser().join()).isEmpty();
+        assertThat(detail.getPosts().join()).isEmpty();
+        assertThat(detail.hasFailedSections()).isTrue();
+    }
+
+    @Test
+    void getDetail_shouldInterruptRequests_whenCancelled() throws InterruptedException {
+        // Given
+        final var started = new CountDownLatch(2);
+        final var interrupted = new CountDownLatch(2);
+        final Answer<Object> hang = invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(5000);
+            } catch (final InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        };
+        when(this.userService.getUserById(USER_ID, AUTH_HEADER)).thenAnswer(hang);
+        when(this.accountService.getAccountsByUser(USER_ID, AUTH_HEADER)).thenAnswer(hang);
+        when(this.paymentService.getPaymentsByUser(USER_ID, AUTH_HEADER)).thenReturn(List.of());
+        when(this.paymentService.getTotalAmountByUser(USER_ID, AUTH_HEADER)).thenReturn(BigDecimal.ZERO);
+        when(this.postService.getPostsByUser(USER_ID, AUTH_HEADER)).thenReturn(List.of());
+        when(this.commentService.getCommentsByUser(USER_ID, AUTH_HEADER)).thenReturn(List.of());
+        when(this.groupService.getGroupsForUser(USER_ID, AUTH_HEADER)).thenReturn(List.of());
+        final var detail = this.detailService.getDetail(USER_ID, AUTH_HEADER);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.allOf(detail.getPayments(), detail.getPaymentTotal(), detail.getPosts(),
+                detail.getComments(), detail.getGroups()).join();
+
+        // When
+        detail.cancel();
+
+        // Then
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(detail.getUser()).isCancelled();
+    }
+
+    @Test
+    void getDetail_shouldThrowAuthenticationException_whenAuthHeaderIsNull() {
+        assertThatThrownBy(() -> this.detailService.getDetail(USER_ID, null))
+                .isInstanceOf(AuthenticationException.class)
+                .hasMessage("Authentication required");
+    }
+
+    private <T> Answer<T> arriveAndAwait(final CountDownLatch latch, final T result) {
+        return invocation -> {
+            latch.countDown();
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new ServiceException("Requests were not sent concurrently");
+            }
+            return result;
+        };
+    }
+
+    private void awaitSections(final UserDetail detail) {
+        CompletableFuture.allOf(detail.getUser(), detail.getAccounts(), detail.getPayments(),
+                detail.getPaymentTotal(), detail.getPosts(), detail.getComments(), detail.getGroups())
+                .handle((result, throwable) -> result)
+                .join();
+    }
+}
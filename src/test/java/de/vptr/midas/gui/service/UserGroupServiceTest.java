@@ -2,6 +2,8 @@ package de.vptr.midas.gui.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -10,8 +12,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -39,9 +43,19 @@ class UserGroupServiceTest {
     @Mock
     AuthService authService;
 
+    @Mock
+    ReferenceDataCache referenceData;
+
     @InjectMocks
     UserGroupService userGroupService;
 
+    @BeforeEach
+    void setUp() {
+        // Behave like an empty cache: always load from the client
+        lenient().when(this.referenceData.get(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+    }
+
     @Test
     void getAllGroups_shouldReturnGroupList_whenAuthenticationProvided() {
         // Given
@@ -106,7 +120,7 @@ class UserGroupServiceTest {
         final UserGroupDto expectedGroup = new UserGroupDto(groupId, "Test Group");
         final Response mockResponse = Response.status(200).entity(expectedGroup).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.groupClient.getGroup(groupId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -124,7 +138,7 @@ class UserGroupServiceTest {
         final Long groupId = 999L;
         final Response mockResponse = Response.status(404).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.groupClient.getGroup(groupId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -144,7 +158,7 @@ class UserGroupServiceTest {
         user2.id = 2L;
         final List<UserDto> expectedUsers = Arrays.asList(user1, user2);
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.groupClient.getUsersInGroup(groupId, "Basic dGVzdDp0ZXN0")).thenReturn(expectedUsers);
 
         // When
@@ -164,7 +178,7 @@ class UserGroupServiceTest {
         createdGroup.created = LocalDateTime.now();
         final Response mockResponse = Response.status(201).entity(createdGroup).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.groupClient.createGroup(newGroup, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -182,7 +196,7 @@ class UserGroupServiceTest {
         final UserGroupDto newGroup = new UserGroupDto(null, "New Group");
         final Response mockResponse = Response.status(400).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.groupClient.createGroup(newGroup, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When & Then
@@ -197,7 +211,7 @@ class UserGroupServiceTest {
         final UserGroupDto groupToUpdate = new UserGroupDto(1L, "Updated Group");
         final Response mockResponse = Response.status(200).entity(groupToUpdate).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.groupClient.updateGroup(1L, groupToUpdate, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -215,7 +229,7 @@ class UserGroupServiceTest {
         final Long groupId = 1L;
         final Response mockResponse = Response.status(204).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.groupClient.deleteGroup(groupId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -232,7 +246,7 @@ class UserGroupServiceTest {
         final Long groupId = 1L;
         final Response mockResponse = Response.status(200).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.groupClient.deleteGroup(groupId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -248,7 +262,7 @@ class UserGroupServiceTest {
         final Long groupId = 1L;
         final Response mockResponse = Response.status(400).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.groupClient.deleteGroup(groupId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -265,7 +279,7 @@ class UserGroupServiceTest {
         final Long userId = 1L;
         final Response mockResponse = Response.status(200).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.groupClient.addUserToGroup(groupId, userId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -283,7 +297,7 @@ class UserGroupServiceTest {
         final Long userId = 1L;
         final Response mockResponse = Response.status(204).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.groupClient.removeUserFromGroup(groupId, userId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -298,7 +312,7 @@ class UserGroupServiceTest {
     void getGroupById_shouldReturnEmpty_whenNotAuthenticated() {
         // Given
         final Long groupId = 1L;
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When
         final Optional<UserGroupDto> result = this.userGroupService.getGroupById(groupId);
@@ -311,7 +325,7 @@ class UserGroupServiceTest {
     void createGroup_shouldThrowAuthenticationException_whenNotAuthenticated() {
         // Given
         final UserGroupDto newGroup = new UserGroupDto(null, "New Group");
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When & Then
         assertThatThrownBy(() -> this.userGroupService.createGroup(newGroup))
@@ -339,7 +353,7 @@ class UserGroupServiceTest {
         final Response mockResponse = Response.status(500).build();
         final WebApplicationException webException = new WebApplicationException(mockResponse);
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.groupClient.getGroup(groupId, "Basic dGVzdDp0ZXN0")).thenThrow(webException);
 
         // When & Then
@@ -354,7 +368,7 @@ class UserGroupServiceTest {
         final Long groupId = 1L;
         final List<UserDto> emptyList = Collections.emptyList();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.groupClient.getUsersInGroup(groupId, "Basic dGVzdDp0ZXN0")).thenReturn(emptyList);
 
         // When
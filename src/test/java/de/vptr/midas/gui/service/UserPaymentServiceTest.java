@@ -2,29 +2,39 @@ package de.vptr.midas.gui.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import de.vptr.midas.gui.client.HedgedRequests;
 import de.vptr.midas.gui.client.UserPaymentClient;
 import de.vptr.midas.gui.dto.UserDto;
 import de.vptr.midas.gui.dto.UserPaymentDto;
 import de.vptr.midas.gui.exception.AuthenticationException;
 import de.vptr.midas.gui.exception.ServiceException;
+import de.vptr.midas.gui.util.PaymentColumnStore;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.WebApplicationException;
@@ -41,9 +51,19 @@ class UserPaymentServiceTest {
     @Mock
     AuthService authService;
 
+    @Mock
+    HedgedRequests hedging;
+
     @InjectMocks
     UserPaymentService userPaymentService;
 
+    @BeforeEach
+    void setUp() {
+        // Requests run directly on the test thread
+        lenient().when(this.hedging.get(anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+    }
+
     @Test
     void getAllPayments_shouldReturnPaymentList_whenAuthenticationProvided() {
         // Given
@@ -118,7 +138,7 @@ class UserPaymentServiceTest {
         expectedPayment.id = paymentId;
         final Response mockResponse = Response.status(200).entity(expectedPayment).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.paymentClient.getPayment(paymentId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -136,7 +156,7 @@ class UserPaymentServiceTest {
         final Long paymentId = 999L;
         final Response mockResponse = Response.status(404).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.paymentClient.getPayment(paymentId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -156,7 +176,7 @@ class UserPaymentServiceTest {
                 LocalDate.now(), "User Payment", LocalDateTime.now(), LocalDateTime.now());
         final List<UserPaymentDto> expectedPayments = Collections.singletonList(payment);
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.paymentClient.getPaymentsByUser(userId, "Basic dGVzdDp0ZXN0")).thenReturn(expectedPayments);
 
         // When
@@ -176,7 +196,7 @@ class UserPaymentServiceTest {
                 LocalDate.now(), "Recent Payment", LocalDateTime.now(), LocalDateTime.now());
         final List<UserPaymentDto> expectedPayments = Collections.singletonList(recentPayment);
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.paymentClient.getRecentPayments(limit, "Basic dGVzdDp0ZXN0")).thenReturn(expectedPayments);
 
         // When
@@ -198,7 +218,7 @@ class UserPaymentServiceTest {
                 LocalDate.of(2023, 6, 15), "Date Range Payment", LocalDateTime.now(), LocalDateTime.now());
         final List<UserPaymentDto> expectedPayments = Collections.singletonList(payment);
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.paymentClient.getPaymentsByDateRange(startDate, endDate, "Basic dGVzdDp0ZXN0"))
                 .thenReturn(expectedPayments);
 
@@ -222,7 +242,7 @@ class UserPaymentServiceTest {
         createdPayment.id = 1L;
         final Response mockResponse = Response.status(201).entity(createdPayment).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.paymentClient.createPayment(newPayment, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -241,7 +261,7 @@ class UserPaymentServiceTest {
         newPayment.comment = "New Payment";
         final Response mockResponse = Response.status(400).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.paymentClient.createPayment(newPayment, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When & Then
@@ -250,6 +270,24 @@ class UserPaymentServiceTest {
                 .hasMessage("Unexpected error");
     }
 
+    @Test
+    void createPayment_shouldKeepFailureStatusAndSession_whenAuthHeaderProvided() {
+        // Given
+        final String authHeader = "Basic dGVzdDp0ZXN0";
+        final UserPaymentDto newPayment = new UserPaymentDto();
+        when(this.paymentClient.createPayment(newPayment, authHeader)).thenReturn(Response.status(400).build())
+                .thenThrow(new WebApplicationException(401));
+
+        // When & Then
+        assertThatThrownBy(() -> this.userPaymentService.createPayment(newPayment, authHeader))
+                .isInstanceOf(ServiceException.class)
+                .hasMessage("Failed to create payment: 400");
+        assertThatThrownBy(() -> this.userPaymentService.createPayment(newPayment, authHeader))
+                .isInstanceOf(AuthenticationException.class)
+                .hasMessage("Session expired");
+        verify(this.authService, never()).logout();
+    }
+
     @Test
     void updatePayment_shouldReturnUpdatedPayment_whenValidPayment() {
         // Given
@@ -259,7 +297,7 @@ class UserPaymentServiceTest {
         paymentToUpdate.id = 1L;
         final Response mockResponse = Response.status(200).entity(paymentToUpdate).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.paymentClient.updatePayment(1L, paymentToUpdate, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -277,7 +315,7 @@ class UserPaymentServiceTest {
         final Long paymentId = 1L;
         final Response mockResponse = Response.status(204).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.paymentClient.deletePayment(paymentId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -294,7 +332,7 @@ class UserPaymentServiceTest {
         final Long paymentId = 1L;
         final Response mockResponse = Response.status(400).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.paymentClient.deletePayment(paymentId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -307,7 +345,7 @@ class UserPaymentServiceTest {
     @Test
     void getPaymentById_shouldReturnEmpty_whenNotAuthenticated() {
         // Given
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When
         final Optional<UserPaymentDto> result = this.userPaymentService.getPaymentById(1L);
@@ -320,7 +358,7 @@ class UserPaymentServiceTest {
     void createPayment_shouldThrowAuthenticationException_whenNotAuthenticated() {
         // Given
         final UserPaymentDto newPayment = new UserPaymentDto();
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When & Then
         assertThatThrownBy(() -> this.userPaymentService.createPayment(newPayment))
@@ -348,7 +386,7 @@ class UserPaymentServiceTest {
         final Response mockResponse = Response.status(500).build();
         final WebApplicationException webException = new WebApplicationException(mockResponse);
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.paymentClient.getPayment(paymentId, "Basic dGVzdDp0ZXN0")).thenThrow(webException);
 
         // When & Then
@@ -363,7 +401,7 @@ class UserPaymentServiceTest {
         final Long userId = 1L;
         final List<UserPaymentDto> emptyList = Collections.emptyList();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.paymentClient.getPaymentsByUser(userId, "Basic dGVzdDp0ZXN0")).thenReturn(emptyList);
 
         // When
@@ -372,4 +410,162 @@ class UserPaymentServiceTest {
         // Then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    void getPaymentsByDateRange_shouldFilterInMemory_whenAllPaymentsLoaded() {
+        // Given
+        final String authHeader = "Basic dGVzdDp0ZXN0";
+        this.enableColumnStore();
+        final UserDto user = new UserDto("testuser", "test@example.com");
+        final UserPaymentDto january = new UserPaymentDto(user, 1L, 2L, new BigDecimal("100.00"),
+                LocalDate.of(2023, 1, 15), "January", LocalDateTime.now(), LocalDateTime.now());
+        january.id = 1L;
+        final UserPaymentDto june = new UserPaymentDto(user, 2L, 1L, new BigDecimal("50.00"),
+                LocalDate.of(2023, 6, 15), "June", LocalDateTime.now(), LocalDateTime.now());
+        june.id = 2L;
+
+        when(this.authService.getAuthHeader()).thenReturn(authHeader);
+        when(this.paymentClient.getAllPayments(authHeader)).thenReturn(Arrays.asList(january, june));
+        this.userPaymentService.getAllPayments(authHeader);
+
+        // When
+        final List<UserPaymentDto> result = this.userPaymentService.getPaymentsByDateRange(
+                LocalDate.of(2023, 1, 1), LocalDate.of(2023, 3, 31));
+
+        // Then
+        assertThat(result).containsExactly(january);
+        verify(this.paymentClient, never()).getPaymentsByDateRange(any(), any(), any());
+    }
+
+    @Test
+    void getPaymentsByAmountRange_shouldCallBackend_whenNothingLoaded() {
+        // Given
+        final BigDecimal min = new BigDecimal("10.00");
+        final BigDecimal max = new BigDecimal("20.00");
+        this.enableColumnStore();
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.paymentClient.getPaymentsByAmountRange(min, max, "Basic dGVzdDp0ZXN0"))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        final List<UserPaymentDto> result = this.userPaymentService.getPaymentsByAmountRange(min, max);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(this.paymentClient).getPaymentsByAmountRange(min, max, "Basic dGVzdDp0ZXN0");
+    }
+
+    @Test
+    void createPayment_shouldAddPaymentToColumnStore() {
+        // Given
+        final String authHeader = "Basic dGVzdDp0ZXN0";
+        this.enableColumnStore();
+        final UserDto user = new UserDto("testuser", "test@example.com");
+        final UserPaymentDto newPayment = new UserPaymentDto(user, 1L, 2L, new BigDecimal("75.00"),
+                LocalDate.of(2023, 2, 1), "New Payment", null, null);
+        final UserPaymentDto createdPayment = new UserPaymentDto(user, 1L, 2L, new BigDecimal("75.00"),
+                LocalDate.of(2023, 2, 1), "New Payment", LocalDateTime.now(), LocalDateTime.now());
+        createdPayment.id = 3L;
+
+        when(this.authService.getAuthHeader()).thenReturn(authHeader);
+        when(this.paymentClient.getAllPayments(authHeader)).thenReturn(Collections.emptyList());
+        when(this.paymentClient.createPayment(newPayment, authHeader))
+                .thenReturn(Response.status(201).entity(createdPayment).build());
+        this.userPaymentService.getAllPayments(authHeader);
+
+        // When
+        this.userPaymentService.createPayment(newPayment);
+
+        // Then
+        final var store = this.userPaymentService.getColumnStore();
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.sum(PaymentColumnStore.Filter.all()))
+                .isEqualByComparingTo("75.00");
+        verify(this.paymentClient).getAllPayments(authHeader);
+    }
+
+    @Test
+    void getPaymentsByDateRange_shouldFetchMonthOnce_whenZoomingInAndOut() {
+        // Given
+        final String authHeader = "Basic dGVzdDp0ZXN0";
+        this.userPaymentService.rangeCacheEnabled = true;
+        this.userPaymentService.rangeCacheMaxAge = Duration.ofMinutes(1);
+        final UserDto user = new UserDto("testuser", "test@example.com");
+        final UserPaymentDto early = new UserPaymentDto(user, 1L, 2L, new BigDecimal("10.00"),
+                LocalDate.of(2023, 3, 3), "Early", LocalDateTime.now(), LocalDateTime.now());
+        early.id = 1L;
+        final UserPaymentDto late = new UserPaymentDto(user, 1L, 2L, new BigDecimal("20.00"),
+                LocalDate.of(2023, 3, 28), "Late", LocalDateTime.now(), LocalDateTime.now());
+        late.id = 2L;
+        final LocalDate startDate = LocalDate.of(2023, 3, 1);
+        final LocalDate endDate = LocalDate.of(2023, 3, 31);
+
+        when(this.authService.getAuthHeader()).thenReturn(authHeader);
+        when(this.paymentClient.getPaymentsByDateRange(startDate, endDate, authHeader))
+                .thenReturn(Arrays.asList(early, late));
+
+        // When
+        final List<UserPaymentDto> month = this.userPaymentService.getPaymentsByDateRange(startDate, endDate);
+        final List<UserPaymentDto> week = this.userPaymentService.getPaymentsByDateRange(
+                LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 7));
+        final List<UserPaymentDto> monthAgain = this.userPaymentService.getPaymentsByDateRange(startDate, endDate);
+
+        // Then
+        assertThat(month).containsExactly(early, late);
+        assertThat(week).containsExactly(early);
+        assertThat(monthAgain).containsExactly(early, late);
+        verify(this.paymentClient).getPaymentsByDateRange(startDate, endDate, authHeader);
+    }
+
+    @Test
+    void getColumnStore_shouldReturnStoreBuiltByLoad() {
+        // Given
+        final String authHeader = "Basic dGVzdDp0ZXN0";
+        this.enableColumnStore();
+        when(this.paymentClient.getAllPayments(authHeader)).thenReturn(Collections.emptyList());
+
+        // When
+        final var loaded = this.userPaymentService.getColumnStore(authHeader);
+        final var cached = this.userPaymentService.findColumnStore(authHeader);
+
+        // Then
+        assertThat(cached).containsSame(loaded);
+        verify(this.paymentClient).getAllPayments(authHeader);
+    }
+
+    @Test
+    void findColumnStore_shouldNotLoad_whenNoStoreExists() {
+        // Given
+        this.enableColumnStore();
+
+        // When
+        final var store = this.userPaymentService.findColumnStore("Basic dGVzdDp0ZXN0");
+
+        // Then
+        assertThat(store).isEmpty();
+        verifyNoInteractions(this.paymentClient, this.authService);
+    }
+
+    @Test
+    void getPaymentsByDateRange_shouldUseProvidedAuthHeader_withoutTouchingSession() {
+        // Given
+        final String authHeader = "Basic dGVzdDp0ZXN0";
+        final LocalDate startDate = LocalDate.of(2023, 3, 1);
+        final LocalDate endDate = LocalDate.of(2023, 3, 31);
+        when(this.paymentClient.getPaymentsByDateRange(startDate, endDate, authHeader))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        final List<UserPaymentDto> result = this.userPaymentService.getPaymentsByDateRange(startDate, endDate,
+                authHeader);
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(this.authService);
+    }
+
+    private void enableColumnStore() {
+        this.userPaymentService.columnStoreEnabled = true;
+        this.userPaymentService.columnStoreMaxAge = Duration.ofMinutes(1);
+    }
 }
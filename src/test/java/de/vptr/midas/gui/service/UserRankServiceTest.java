@@ -2,13 +2,18 @@ package de.vptr.midas.gui.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -35,9 +40,19 @@ class UserRankServiceTest {
     @Mock
     AuthService authService;
 
+    @Mock
+    ReferenceDataCache referenceData;
+
     @InjectMocks
     UserRankService userRankService;
 
+    @BeforeEach
+    void setUp() {
+        // Behave like an empty cache: always load from the client
+        lenient().when(this.referenceData.get(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+    }
+
     @Test
     void getAllRanks_shouldReturnRankList_whenAuthenticationProvided() {
         // Given
@@ -110,7 +125,7 @@ class UserRankServiceTest {
         final Response mockResponse = Response.status(200).entity(expectedRank).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userRankClient.getRank(rankId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -142,7 +157,7 @@ class UserRankServiceTest {
         final Response mockResponse = Response.status(404).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userRankClient.getRank(rankId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When & Then
@@ -164,7 +179,7 @@ class UserRankServiceTest {
         final Response mockResponse = Response.status(201).entity(createdRank).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userRankClient.createRank(newRank, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -177,6 +192,24 @@ class UserRankServiceTest {
         verify(this.userRankClient).createRank(newRank, "Basic dGVzdDp0ZXN0");
     }
 
+    @Test
+    void createRank_shouldInvalidateReferenceData_afterWrite() {
+        // Given
+        final UserRankDto newRank = new UserRankDto("New Rank");
+        final Response mockResponse = Response.status(201).entity(new UserRankDto("New Rank")).build();
+        when(this.authService.isAuthenticated()).thenReturn(true);
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.userRankClient.createRank(newRank, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
+
+        // When
+        this.userRankService.createRank(newRank);
+
+        // Then
+        final var order = inOrder(this.userRankClient, this.referenceData);
+        order.verify(this.userRankClient).createRank(newRank, "Basic dGVzdDp0ZXN0");
+        order.verify(this.referenceData).invalidate(ReferenceDataCache.Kind.RANKS);
+    }
+
     @Test
     void createRank_shouldThrowAuthenticationException_whenNotAuthenticated() {
         // Given
@@ -196,7 +229,7 @@ class UserRankServiceTest {
         final Response mockResponse = Response.status(400).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userRankClient.createRank(newRank, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When & Then
@@ -215,7 +248,7 @@ class UserRankServiceTest {
         final Response mockResponse = Response.status(200).entity(rankToUpdate).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userRankClient.updateRank(1L, rankToUpdate, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -236,7 +269,7 @@ class UserRankServiceTest {
         final Response mockResponse = Response.status(400).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userRankClient.updateRank(1L, rankToUpdate, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When & Then
@@ -252,7 +285,7 @@ class UserRankServiceTest {
         final Response mockResponse = Response.status(204).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userRankClient.deleteRank(rankId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -270,7 +303,7 @@ class UserRankServiceTest {
         final Response mockResponse = Response.status(200).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userRankClient.deleteRank(rankId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -287,7 +320,7 @@ class UserRankServiceTest {
         final Response mockResponse = Response.status(400).build();
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userRankClient.deleteRank(rankId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -317,7 +350,7 @@ class UserRankServiceTest {
         final WebApplicationException webException = new WebApplicationException(mockResponse);
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userRankClient.getRank(rankId, "Basic dGVzdDp0ZXN0")).thenThrow(webException);
 
         // When & Then
@@ -334,7 +367,7 @@ class UserRankServiceTest {
         final WebApplicationException webException = new WebApplicationException(mockResponse);
 
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userRankClient.createRank(newRank, "Basic dGVzdDp0ZXN0")).thenThrow(webException);
 
         // When & Then
@@ -361,7 +394,7 @@ class UserRankServiceTest {
         // Given
         final Long rankId = 1L;
         when(this.authService.isAuthenticated()).thenReturn(true);
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userRankClient.getRank(rankId, "Basic dGVzdDp0ZXN0"))
                 .thenThrow(new RuntimeException("Unexpected error"));
 
@@ -122,7 +122,7 @@ class UserServiceTest {
         expectedUser.activated = true;
         final Response mockResponse = Response.status(200).entity(expectedUser).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userClient.getCurrentUser("Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -137,7 +137,7 @@ class UserServiceTest {
     @Test
     void getCurrentUser_shouldReturnEmpty_whenNotAuthenticated() {
         // Given
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When
         final Optional<UserDto> result = this.userService.getCurrentUser();
@@ -151,7 +151,7 @@ class UserServiceTest {
         // Given
         final Response mockResponse = Response.status(404).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userClient.getCurrentUser("Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -169,7 +169,7 @@ class UserServiceTest {
         expectedUser.id = userId;
         final Response mockResponse = Response.status(200).entity(expectedUser).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userClient.getUser(userId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -187,7 +187,7 @@ class UserServiceTest {
         final Long userId = 999L;
         final Response mockResponse = Response.status(404).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userClient.getUser(userId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -205,7 +205,7 @@ class UserServiceTest {
         expectedUser.id = 1L;
         final Response mockResponse = Response.status(200).entity(expectedUser).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userClient.getUserByUsername(username, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -228,7 +228,7 @@ class UserServiceTest {
         createdUser.created = LocalDateTime.now();
         final Response mockResponse = Response.status(201).entity(createdUser).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userClient.createUser(newUser, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -247,7 +247,7 @@ class UserServiceTest {
         final UserDto newUser = new UserDto("newuser", "new@example.com");
         final Response mockResponse = Response.status(400).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userClient.createUser(newUser, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When & Then
@@ -264,7 +264,7 @@ class UserServiceTest {
         userToUpdate.activated = true;
         final Response mockResponse = Response.status(200).entity(userToUpdate).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userClient.updateUser(1L, userToUpdate, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -284,7 +284,7 @@ class UserServiceTest {
         userToUpdate.id = 1L;
         final Response mockResponse = Response.status(400).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userClient.updateUser(1L, userToUpdate, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When & Then
@@ -299,7 +299,7 @@ class UserServiceTest {
         final Long userId = 1L;
         final Response mockResponse = Response.status(204).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userClient.deleteUser(userId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -316,7 +316,7 @@ class UserServiceTest {
         final Long userId = 1L;
         final Response mockResponse = Response.status(400).build();
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userClient.deleteUser(userId, "Basic dGVzdDp0ZXN0")).thenReturn(mockResponse);
 
         // When
@@ -330,7 +330,7 @@ class UserServiceTest {
     void getUserById_shouldReturnEmpty_whenNotAuthenticated() {
         // Given
         final Long userId = 1L;
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When
         final Optional<UserDto> result = this.userService.getUserById(userId);
@@ -343,7 +343,7 @@ class UserServiceTest {
     void createUser_shouldThrowAuthenticationException_whenNotAuthenticated() {
         // Given
         final UserDto newUser = new UserDto("newuser", "new@example.com");
-        when(this.authService.getBasicAuthHeader()).thenReturn(null);
+        when(this.authService.getAuthHeader()).thenReturn(null);
 
         // When & Then
         assertThatThrownBy(() -> this.userService.createUser(newUser))
@@ -371,7 +371,7 @@ class UserServiceTest {
         final Response mockResponse = Response.status(500).build();
         final WebApplicationException webException = new WebApplicationException(mockResponse);
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userClient.getUser(userId, "Basic dGVzdDp0ZXN0")).thenThrow(webException);
 
         // When & Then
@@ -386,7 +386,7 @@ class UserServiceTest {
         final Response mockResponse = Response.status(401).build();
         final WebApplicationException webException = new WebApplicationException(mockResponse);
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userClient.getCurrentUser("Basic dGVzdDp0ZXN0")).thenThrow(webException);
 
         // When & Then
@@ -418,7 +418,7 @@ class UserServiceTest {
         final UserDto userToUpdate = new UserDto("updateduser", "updated@example.com");
         userToUpdate.id = 1L;
 
-        when(this.authService.getBasicAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
+        when(this.authService.getAuthHeader()).thenReturn("Basic dGVzdDp0ZXN0");
         when(this.userClient.updateUser(1L, userToUpdate, "Basic dGVzdDp0ZXN0"))
                 .thenThrow(new RuntimeException("Unexpected error"));
 
@@ -0,0 +1,117 @@
+package de.vptr.midas.gui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.vptr.midas.gui.dto.PostCategoryDto;
+import de.vptr.midas.gui.dto.PostDto;
+
+class CategoryStatsTest {
+
+    private final PostCategoryDto root = new PostCategoryDto(1L, "Root", null);
+    private final PostCategoryDto child = new PostCategoryDto(2L, "Child", this.root);
+    private final PostCategoryDto grandChild = new PostCategoryDto(3L, "Grandchild", this.child);
+    private final PostCategoryDto otherRoot = new PostCategoryDto(4L, "Other", null);
+    private final CategoryTree tree = CategoryTree.of(List.of(this.root, this.child, this.grandChild, this.otherRoot));
+
+    @Test
+    void of_shouldRollUpCountsAndLatestPostToAncestors() {
+        // When
+        final var stats = CategoryStats.of(this.tree, List.of(
+                post(1L, this.root, day(1)),
+                post(2L, this.child, day(5)),
+                post(3L, this.grandChild, day(3)),
+                post(4L, this.grandChild, day(2)),
+                post(5L, null, day(9))));
+
+        // Then
+        assertThat(stats.get(this.root)).isEqualTo(new CategoryStats.Counts(1, 4, day(1), day(5)));
+        assertThat(stats.get(this.child)).isEqualTo(new CategoryStats.Counts(1, 3, day(5), day(5)));
+        assertThat(stats.get(this.grandChild)).isEqualTo(new CategoryStats.Counts(2, 2, day(3), day(3)));
+        assertThat(stats.get(this.otherRoot)).isEqualTo(new CategoryStats.Counts(0, 0, null, null));
+    }
+
+    @Test
+    void put_shouldMovePostBetweenSubtrees() {
+        // Given
+        final var stats = CategoryStats.of(this.tree, List.of(
+                post(1L, this.grandChild, day(7)),
+                post(2L, this.child, day(2))));
+
+        // When
+        stats.put(post(1L, this.otherRoot, day(7)));
+
+        // Then
+        assertThat(stats.get(this.grandChild)).isEqualTo(new CategoryStats.Counts(0, 0, null, null));
+        assertThat(stats.get(this.root)).isEqualTo(new CategoryStats.Counts(0, 1, null, day(2)));
+        assertThat(stats.get(this.otherRoot)).isEqualTo(new CategoryStats.Counts(1, 1, day(7), day(7)));
+    }
+
+    @Test
+    void remove_shouldFallBackToNextLatestPost() {
+        // Given
+        final var stats = CategoryStats.of(this.tree, List.of(
+                post(1L, this.grandChild, day(7)),
+                post(2L, this.grandChild, day(4)),
+                post(3L, this.root, day(1))));
+
+        // When
+        stats.remove(1L);
+        stats.put(post(4L, this.child, day(3)));
+
+        // Then
+        assertThat(stats.get(this.grandChild)).isEqualTo(new CategoryStats.Counts(1, 1, day(4), day(4)));
+        assertThat(stats.get(this.root)).isEqualTo(new CategoryStats.Counts(1, 3, day(1), day(4)));
+    }
+
+    @Test
+    void withTree_shouldRecountRememberedPostsForNewHierarchy() {
+        // Given
+        final var stats = CategoryStats.of(this.tree, List.of(post(1L, this.grandChild, day(7))));
+        final var movedChild = new PostCategoryDto(2L, "Child", this.otherRoot);
+        final var movedGrandChild = new PostCategoryDto(3L, "Grandchild", movedChild);
+        final var newTree = CategoryTree.of(List.of(this.root, movedChild, movedGrandChild, this.otherRoot));
+
+        // When
+        final var recounted = stats.withTree(newTree);
+
+        // Then
+        assertThat(recounted.getTree()).isSameAs(newTree);
+        assertThat(recounted.get(this.root).subtreePosts()).isZero();
+        assertThat(recounted.get(this.otherRoot).subtreePosts()).isEqualTo(1);
+        assertThat(stats.get(this.root).subtreePosts()).isEqualTo(1);
+    }
+
+    @Test
+    void of_shouldTerminate_whenParentsFormCycle() {
+        // Given
+        final var first = new PostCategoryDto(1L, "First", null);
+        final var second = new PostCategoryDto(2L, "Second", first);
+        first.parent = second;
+        final var cyclic = CategoryTree.of(List.of(first, second));
+
+        // When
+        final var stats = CategoryStats.of(cyclic, List.of(post(1L, first, day(1)), post(2L, second, day(2))));
+        stats.put(post(3L, second, day(3)));
+
+        // Then
+        assertThat(stats.get(first).posts()).isEqualTo(1);
+        assertThat(stats.get(second).posts()).isEqualTo(2);
+    }
+
+    private static PostDto post(final Long id, final PostCategoryDto category, final LocalDateTime created) {
+        final var post = new PostDto();
+        post.id = id;
+        post.category = category;
+        post.created = created;
+        return post;
+    }
+
+    private static LocalDateTime day(final int day) {
+        return LocalDateTime.of(2024, 3, day, 12, 0);
+    }
+}
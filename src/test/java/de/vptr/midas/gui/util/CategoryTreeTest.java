@@ -0,0 +1,62 @@
+package de.vptr.midas.gui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.vptr.midas.gui.dto.PostCategoryDto;
+
+class CategoryTreeTest {
+
+    @Test
+    void of_shouldIndexRootsAndChildren() {
+        // Given
+        final var root = new PostCategoryDto(1L, "Root", null);
+        final var child = new PostCategoryDto(2L, "Child", root);
+        final var grandChild = new PostCategoryDto(3L, "Grandchild", child);
+        final var otherRoot = new PostCategoryDto(4L, "Other", null);
+
+        // When
+        final var tree = CategoryTree.of(List.of(root, child, grandChild, otherRoot));
+
+        // Then
+        assertThat(tree.getRoots()).containsExactly(root, otherRoot);
+        assertThat(tree.getChildren(root)).containsExactly(child);
+        assertThat(tree.getChildren(child)).containsExactly(grandChild);
+        assertThat(tree.hasChildren(grandChild)).isFalse();
+        assertThat(tree.getById(3L)).isSameAs(grandChild);
+    }
+
+    @Test
+    void isDescendantOf_shouldFollowParentChain() {
+        // Given
+        final var root = new PostCategoryDto(1L, "Root", null);
+        final var child = new PostCategoryDto(2L, "Child", root);
+        final var grandChild = new PostCategoryDto(3L, "Grandchild", child);
+        final var otherRoot = new PostCategoryDto(4L, "Other", null);
+        final var tree = CategoryTree.of(List.of(root, child, grandChild, otherRoot));
+
+        // When / Then
+        assertThat(tree.isDescendantOf(grandChild, root)).isTrue();
+        assertThat(tree.isDescendantOf(child, grandChild)).isFalse();
+        assertThat(tree.isDescendantOf(grandChild, otherRoot)).isFalse();
+    }
+
+    @Test
+    void isDescendantOf_shouldTerminate_whenParentsFormCycle() {
+        // Given
+        final var first = new PostCategoryDto(1L, "First", null);
+        final var second = new PostCategoryDto(2L, "Second", first);
+        first.parent = second;
+        final var unrelated = new PostCategoryDto(3L, "Unrelated", null);
+        final var tree = CategoryTree.of(List.of(first, second, unrelated));
+
+        // When
+        final var result = tree.isDescendantOf(first, unrelated);
+
+        // Then
+        assertThat(result).isFalse();
+    }
+}
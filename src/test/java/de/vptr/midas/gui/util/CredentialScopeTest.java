@@ -0,0 +1,45 @@
+package de.vptr.midas.gui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CredentialScopeTest {
+
+    @Test
+    void of_shouldDifferForDifferentCredentials() {
+        // When
+        final var first = CredentialScope.of("Basic dXNlcjE6c2VjcmV0");
+        final var second = CredentialScope.of("Basic dXNlcjI6c2VjcmV0");
+
+        // Then
+        assertThat(first).isNotEqualTo(second).hasSize(64);
+    }
+
+    @Test
+    void of_shouldResolveAliasToScopeOfCredentials() {
+        // Given
+        final var basic = "Basic dXNlcjM6c2VjcmV0";
+        final var bearer = "Bearer alias-test-token";
+
+        // When
+        CredentialScope.alias(bearer, basic);
+
+        // Then
+        assertThat(CredentialScope.of(bearer)).isEqualTo(CredentialScope.of(basic));
+    }
+
+    @Test
+    void removeAlias_shouldRestoreOwnScope() {
+        // Given
+        final var basic = "Basic dXNlcjQ6c2VjcmV0";
+        final var bearer = "Bearer removed-alias-token";
+        CredentialScope.alias(bearer, basic);
+
+        // When
+        CredentialScope.removeAlias(bearer);
+
+        // Then
+        assertThat(CredentialScope.of(bearer)).isNotEqualTo(CredentialScope.of(basic));
+    }
+}
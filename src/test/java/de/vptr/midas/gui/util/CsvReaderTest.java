@@ -0,0 +1,52 @@
+package de.vptr.midas.gui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+    @Test
+    void next_shouldParseQuotedFieldsAcrossLines() throws IOException {
+        // Given
+        final var reader = new CsvReader(new StringReader(
+                "\uFEFFid,comment\r\n1,\"Rent, \"\"March\"\"\"\r\n\r\n2,\"two\nlines\"\n3,"));
+
+        // When & Then
+        assertThat(reader.delimiter()).isEqualTo(',');
+        assertThat(reader.next()).containsExactly("id", "comment");
+        assertThat(reader.next()).containsExactly("1", "Rent, \"March\"");
+        assertThat(reader.lineNumber()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("2", "two\nlines");
+        assertThat(reader.lineNumber()).isEqualTo(4);
+        assertThat(reader.next()).containsExactly("3", "");
+        assertThat(reader.lineNumber()).isEqualTo(6);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void constructor_shouldDetectSemicolonDelimiter() throws IOException {
+        // Given
+        final var reader = new CsvReader(new StringReader("\"a,b\";amount\nx;1,50\n"));
+
+        // When & Then
+        assertThat(reader.delimiter()).isEqualTo(';');
+        assertThat(reader.next()).containsExactly("a,b", "amount");
+        assertThat(reader.next()).containsExactly("x", "1,50");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void constructor_shouldDetectTabDelimiter() throws IOException {
+        // Given
+        final var reader = new CsvReader(new StringReader("source\ttarget\tcomment\n1\t2\tA, B\n"));
+
+        // When & Then
+        assertThat(reader.delimiter()).isEqualTo('\t');
+        assertThat(reader.next()).containsExactly("source", "target", "comment");
+        assertThat(reader.next()).containsExactly("1", "2", "A, B");
+    }
+}
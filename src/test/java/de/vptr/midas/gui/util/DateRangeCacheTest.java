@@ -0,0 +1,138 @@
+package de.vptr.midas.gui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DateRangeCacheTest {
+
+    private record Item(long id, LocalDate date) {
+    }
+
+    private final List<Item> backend = new ArrayList<>(List.of(
+            new Item(1, LocalDate.of(2024, 1, 31)),
+            new Item(2, LocalDate.of(2024, 2, 5)),
+            new Item(3, LocalDate.of(2024, 2, 14)),
+            new Item(4, LocalDate.of(2024, 2, 29)),
+            new Item(5, LocalDate.of(2024, 3, 1))));
+
+    private final List<String> fetches = new ArrayList<>();
+
+    private List<Item> fetch(final LocalDate from, final LocalDate to) {
+        this.fetches.add(from + ".." + to);
+        return this.backend.stream()
+                .filter(item -> !item.date().isBefore(from) && !item.date().isAfter(to))
+                .toList();
+    }
+
+    private static List<Long> ids(final List<Item> items) {
+        return items.stream().map(Item::id).toList();
+    }
+
+    @Test
+    void get_shouldAnswerSubRangesLocally_whenMonthWasFetched() {
+        // Given
+        final var cache = new DateRangeCache<Item>(Item::date, Duration.ofMinutes(1));
+        final var february = cache.get(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29), this::fetch);
+
+        // When
+        final var week = cache.get(LocalDate.of(2024, 2, 10), LocalDate.of(2024, 2, 16), this::fetch);
+        final var again = cache.get(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29), this::fetch);
+
+        // Then
+        assertThat(ids(february)).containsExactly(2L, 3L, 4L);
+        assertThat(ids(week)).containsExactly(3L);
+        assertThat(ids(again)).containsExactly(2L, 3L, 4L);
+        assertThat(this.fetches).containsExactly("2024-02-01..2024-02-29");
+    }
+
+    @Test
+    void get_shouldFetchOnlyGaps_whenRangeIsPartlyCovered() {
+        // Given
+        final var cache = new DateRangeCache<Item>(Item::date, Duration.ofMinutes(1));
+        cache.get(LocalDate.of(2024, 2, 10), LocalDate.of(2024, 2, 20), this::fetch);
+        this.fetches.clear();
+
+        // When
+        final var result = cache.get(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 3, 1), this::fetch);
+
+        // Then
+        assertThat(ids(result)).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(this.fetches).containsExactly("2024-01-31..2024-02-09", "2024-02-21..2024-03-01");
+        assertThat(cache.coveredRanges()).hasSize(3);
+    }
+
+    @Test
+    void invalidate_shouldRefetchOnlyTheChangedDay() {
+        // Given
+        final var cache = new DateRangeCache<Item>(Item::date, Duration.ofMinutes(1));
+        cache.get(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29), this::fetch);
+        this.fetches.clear();
+        this.backend.add(new Item(6, LocalDate.of(2024, 2, 14)));
+
+        // When
+        cache.invalidate(LocalDate.of(2024, 2, 14));
+        final var result = cache.get(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29), this::fetch);
+
+        // Then
+        assertThat(ids(result)).containsExactly(2L, 3L, 6L, 4L);
+        assertThat(this.fetches).containsExactly("2024-02-14..2024-02-14");
+    }
+
+    @Test
+    void get_shouldNotCacheFetch_whenInvalidatedWhileFetching() {
+        // Given
+        final var cache = new DateRangeCache<Item>(Item::date, Duration.ofMinutes(1));
+
+        // When
+        final var stale = cache.get(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29), (from, to) -> {
+            final var items = this.fetch(from, to);
+            // A payment is created on the 14th while the response is on its way
+            this.backend.add(new Item(6, LocalDate.of(2024, 2, 14)));
+            cache.invalidate(LocalDate.of(2024, 2, 14));
+            return items;
+        });
+        this.fetches.clear();
+        final var fresh = cache.get(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29), this::fetch);
+
+        // Then
+        assertThat(ids(stale)).containsExactly(2L, 3L, 4L);
+        assertThat(ids(fresh)).containsExactly(2L, 3L, 6L, 4L);
+        assertThat(this.fetches).containsExactly("2024-02-01..2024-02-29");
+    }
+
+    @Test
+    void invalidateIf_shouldForgetTheDayOfAMatchingItem() {
+        // Given
+        final var cache = new DateRangeCache<Item>(Item::date, Duration.ofMinutes(1));
+        cache.get(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29), this::fetch);
+        this.fetches.clear();
+        this.backend.removeIf(item -> item.id() == 2);
+
+        // When
+        cache.invalidateIf(item -> item.id() == 2);
+        final var result = cache.get(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29), this::fetch);
+
+        // Then
+        assertThat(ids(result)).containsExactly(3L, 4L);
+        assertThat(this.fetches).containsExactly("2024-02-05..2024-02-05");
+    }
+
+    @Test
+    void get_shouldRefetch_whenRangeExpired() {
+        // Given
+        final var cache = new DateRangeCache<Item>(Item::date, Duration.ofSeconds(-1));
+        cache.get(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29), this::fetch);
+
+        // When
+        cache.get(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29), this::fetch);
+
+        // Then
+        assertThat(this.fetches).hasSize(2);
+    }
+}
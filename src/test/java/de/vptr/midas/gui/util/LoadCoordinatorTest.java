@@ -0,0 +1,105 @@
+package de.vptr.midas.gui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.html.Div;
+
+class LoadCoordinatorTest {
+
+    private LoadCoordinator<String> loads;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        this.loads = new LoadCoordinator<>(new Div(), Duration.ofSeconds(30));
+        this.release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.release.countDown();
+    }
+
+    @Test
+    void load_shouldStartOnce_whenSameKeyIsAlreadyInFlight() throws InterruptedException {
+        // Given
+        final var started = new AtomicInteger();
+        final var running = new CountDownLatch(1);
+
+        // When
+        this.loads.load("all", this.blockingLoader(started, running, new CountDownLatch(1)), (value, throwable) -> {
+        });
+        running.await(5, TimeUnit.SECONDS);
+        this.loads.load("all", this.blockingLoader(started, new CountDownLatch(1), new CountDownLatch(1)),
+                (value, throwable) -> {
+                });
+
+        // Then
+        assertThat(started).hasValue(1);
+    }
+
+    @Test
+    void load_shouldInterruptRunningLoad_whenSupersededByOtherKey() throws InterruptedException {
+        // Given
+        final var running = new CountDownLatch(1);
+        final var interrupted = new CountDownLatch(1);
+        this.loads.load("all", this.blockingLoader(new AtomicInteger(), running, interrupted), (value, throwable) -> {
+        });
+        running.await(5, TimeUnit.SECONDS);
+
+        // When
+        this.loads.load("search", () -> "found", (value, throwable) -> {
+        });
+
+        // Then
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void cancel_shouldInterruptRunningLoad() throws InterruptedException {
+        // Given
+        final var started = new AtomicInteger();
+        final var running = new CountDownLatch(1);
+        final var interrupted = new CountDownLatch(1);
+        this.loads.load("all", this.blockingLoader(started, running, interrupted), (value, throwable) -> {
+        });
+        running.await(5, TimeUnit.SECONDS);
+
+        // When
+        this.loads.cancel();
+        final var restarted = new CountDownLatch(1);
+        this.loads.load("all", this.blockingLoader(started, restarted, new CountDownLatch(1)), (value, throwable) -> {
+        });
+
+        // Then
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(restarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(started).hasValue(2);
+    }
+
+    private Supplier<String> blockingLoader(final AtomicInteger started, final CountDownLatch running,
+            final CountDownLatch interrupted) {
+        return () -> {
+            started.incrementAndGet();
+            running.countDown();
+            try {
+                this.release.await();
+                return "loaded";
+            } catch (final InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
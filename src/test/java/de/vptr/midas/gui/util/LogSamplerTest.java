@@ -0,0 +1,126 @@
+package de.vptr.midas.gui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class LogSamplerTest {
+
+    private static final Duration LONG_WINDOW = Duration.ofHours(1);
+
+    @Test
+    void acquire_shouldDropEventsBeyondBurst_whenNotSampled() {
+        // Given
+        final var sampler = new LogSampler(3, 10, LONG_WINDOW, 10);
+
+        // When
+        final List<Long> results = new ArrayList<>();
+        for (var i = 0; i < 25; i++) {
+            results.add(sampler.acquire("error", false));
+        }
+
+        // Then
+        assertThat(results.subList(0, 3)).containsOnly(0L);
+        assertThat(results.subList(3, 25)).containsOnly(-1L);
+    }
+
+    @Test
+    void acquire_shouldPassEveryNthEventBeyondBurst_whenSampled() {
+        // Given
+        final var sampler = new LogSampler(2, 5, LONG_WINDOW, 10);
+
+        // When
+        var passed = 0;
+        var lastDropped = -1L;
+        for (var i = 0; i < 12; i++) {
+            final var dropped = sampler.acquire("debug", true);
+            if (dropped >= 0) {
+                passed++;
+                lastDropped = dropped;
+            }
+        }
+
+        // Then
+        assertThat(passed).isEqualTo(4);
+        assertThat(lastDropped).isEqualTo(4);
+    }
+
+    @Test
+    void acquire_shouldReportDroppedEvents_whenWindowEnds() throws InterruptedException {
+        // Given
+        final var sampler = new LogSampler(1, 0, Duration.ofMillis(20), 10);
+        sampler.acquire("error", false);
+        sampler.acquire("error", false);
+        sampler.acquire("error", false);
+
+        // When
+        Thread.sleep(50);
+        final var dropped = sampler.acquire("error", false);
+
+        // Then
+        assertThat(dropped).isEqualTo(2);
+    }
+
+    @Test
+    void acquire_shouldTrackKeysSeparately() {
+        // Given
+        final var sampler = new LogSampler(1, 0, LONG_WINDOW, 10);
+        sampler.acquire("accounts", false);
+
+        // When
+        final var otherKey = sampler.acquire("payments", false);
+        final var sameKey = sampler.acquire("accounts", false);
+
+        // Then
+        assertThat(otherKey).isZero();
+        assertThat(sameKey).isEqualTo(-1);
+    }
+
+    @Test
+    void acquire_shouldPassOnlyBurst_whenNewKeyIsHitConcurrently() throws Exception {
+        // Given
+        final var sampler = new LogSampler(5, 0, LONG_WINDOW, 10);
+        final var threads = 16;
+        final var start = new CountDownLatch(1);
+        final var passed = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        try {
+            for (var i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (var j = 0; j < 100; j++) {
+                        if (sampler.acquire("error", false) >= 0) {
+                            passed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(passed).hasValue(5);
+    }
+
+    @Test
+    void constructor_shouldRejectNegativeBurst() {
+        assertThatThrownBy(() -> new LogSampler(-1, 0, LONG_WINDOW, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,87 @@
+package de.vptr.midas.gui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LongSumMapTest {
+
+    @Test
+    void add_shouldCountAndSumPerKey() {
+        // Given
+        final var map = new LongSumMap();
+
+        // When
+        map.add(7, 100);
+        map.add(7, 50);
+        map.add(-3, 10);
+
+        // Then
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.count(7)).isEqualTo(2);
+        assertThat(map.sum(7)).isEqualTo(150);
+        assertThat(map.sum(-3)).isEqualTo(10);
+        assertThat(map.containsKey(42)).isFalse();
+        assertThat(map.sum(42)).isZero();
+    }
+
+    @Test
+    void add_shouldHandleZeroKey() {
+        // Given
+        final var map = new LongSumMap();
+
+        // When
+        map.add(0, 5);
+        map.add(0, 6);
+
+        // Then
+        assertThat(map.containsKey(0)).isTrue();
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.count(0)).isEqualTo(2);
+        assertThat(map.sum(0)).isEqualTo(11);
+        assertThat(map.sortedKeys()).containsExactly(0L);
+    }
+
+    @Test
+    void add_shouldMatchHashMap_whenGrowingBeyondInitialCapacity() {
+        // Given
+        final var map = new LongSumMap(4);
+        final var expected = new HashMap<Long, Long>();
+        final var random = new Random(42);
+
+        // When
+        for (var i = 0; i < 100_000; i++) {
+            final long key = random.nextInt(5_000) - 100;
+            final long value = random.nextInt(1_000);
+            map.add(key, value);
+            expected.merge(key, value, Long::sum);
+        }
+
+        // Then
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, sum) -> assertThat(map.sum(key)).isEqualTo(sum));
+    }
+
+    @Test
+    void addAll_shouldMergeCountsAndSums() {
+        // Given
+        final var first = new LongSumMap();
+        first.add(1, 10);
+        first.add(2, 20);
+        final var second = new LongSumMap();
+        second.add(2, 5);
+        second.add(3, 7);
+
+        // When
+        first.addAll(second);
+
+        // Then
+        assertThat(first.sortedKeys()).containsExactly(1L, 2L, 3L);
+        assertThat(first.count(2)).isEqualTo(2);
+        assertThat(first.sum(2)).isEqualTo(25);
+        assertThat(first.sum(3)).isEqualTo(7);
+    }
+}
@@ -0,0 +1,66 @@
+package de.vptr.midas.gui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsedEntry_whenCapacityExceeded() {
+        // Given
+        final LruCache<Long, String> cache = new LruCache<>(2);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+
+        // When
+        cache.get(1L);
+        cache.put(3L, "three");
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(1L)).isEqualTo("one");
+        assertThat(cache.containsKey(2L)).isFalse();
+        assertThat(cache.get(3L)).isEqualTo("three");
+    }
+
+    @Test
+    void computeIfAbsent_shouldKeepExistingValue_andEvictWhenCapacityExceeded() {
+        // Given
+        final LruCache<Long, String> cache = new LruCache<>(2);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+
+        // When
+        final var existing = cache.computeIfAbsent(1L, key -> "other");
+        final var computed = cache.computeIfAbsent(3L, key -> "three");
+
+        // Then
+        assertThat(existing).isEqualTo("one");
+        assertThat(computed).isEqualTo("three");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.containsKey(2L)).isFalse();
+    }
+
+    @Test
+    void clear_shouldRemoveAllEntries() {
+        // Given
+        final LruCache<Long, String> cache = new LruCache<>(4);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+
+        // When
+        cache.clear();
+
+        // Then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveCapacity() {
+        assertThatThrownBy(() -> new LruCache<Long, String>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
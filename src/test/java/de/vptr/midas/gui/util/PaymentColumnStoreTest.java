@@ -0,0 +1,147 @@
+package de.vptr.midas.gui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.vptr.midas.gui.dto.UserDto;
+import de.vptr.midas.gui.dto.UserPaymentDto;
+import de.vptr.midas.gui.util.PaymentColumnStore.Filter;
+import de.vptr.midas.gui.util.PaymentColumnStore.Sort;
+
+class PaymentColumnStoreTest {
+
+    private static UserPaymentDto payment(final long id, final long userId, final long sourceId, final long targetId,
+            final String amount, final LocalDate date) {
+        final var user = new UserDto();
+        user.id = userId;
+        final var payment = new UserPaymentDto(user, sourceId, targetId, new BigDecimal(amount), date, null, null,
+                null);
+        payment.id = id;
+        return payment;
+    }
+
+    private static List<Long> ids(final List<UserPaymentDto> payments) {
+        return payments.stream().map(payment -> payment.id).toList();
+    }
+
+    private final List<UserPaymentDto> payments = List.of(
+            payment(1, 1, 10, 20, "100.00", LocalDate.of(2024, 1, 5)),
+            payment(2, 1, 20, 10, "25.50", LocalDate.of(2024, 2, 10)),
+            payment(3, 2, 30, 10, "300.00", LocalDate.of(2024, 2, 20)),
+            payment(4, 2, 30, 40, "7.25", LocalDate.of(2024, 3, 1)));
+
+    @Test
+    void find_shouldCombineDateAmountAndAccountCriteria() {
+        // Given
+        final var store = PaymentColumnStore.of(this.payments);
+        final var filter = Filter.all()
+                .withDateRange(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 31))
+                .withAmountRange(new BigDecimal("10"), null)
+                .withAccount(10L);
+
+        // When
+        final var result = store.find(filter, Sort.DATE, false, 0);
+
+        // Then
+        assertThat(ids(result)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void find_shouldSortByAmountDescendingAndLimit() {
+        // Given
+        final var store = PaymentColumnStore.of(this.payments);
+
+        // When
+        final var result = store.find(Filter.all(), Sort.AMOUNT, true, 2);
+
+        // Then
+        assertThat(ids(result)).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void find_shouldIncludeRangeBoundaries() {
+        // Given
+        final var store = PaymentColumnStore.of(this.payments);
+        final var filter = Filter.all().withAmountRange(new BigDecimal("25.50"), new BigDecimal("100"));
+
+        // When
+        final var result = store.find(filter, Sort.AMOUNT, false, 0);
+
+        // Then
+        assertThat(ids(result)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void sum_shouldAddAmountsOfMatchingPayments() {
+        // Given
+        final var store = PaymentColumnStore.of(this.payments);
+
+        // When
+        final var total = store.sum(Filter.all().withUser(2L));
+
+        // Then
+        assertThat(total).isEqualByComparingTo("307.25");
+    }
+
+    @Test
+    void withPayment_shouldReplaceExistingRowAndKeepOrder() {
+        // Given
+        final var store = PaymentColumnStore.of(this.payments);
+
+        // When
+        final var updated = store.withPayment(payment(1, 1, 10, 20, "1.00", LocalDate.of(2024, 4, 1)));
+
+        // Then
+        assertThat(updated.size()).isEqualTo(4);
+        assertThat(ids(updated.find(Filter.all(), Sort.DATE, false, 0))).containsExactly(2L, 3L, 4L, 1L);
+        assertThat(ids(updated.find(Filter.all(), Sort.AMOUNT, false, 0))).containsExactly(1L, 4L, 2L, 3L);
+        assertThat(ids(store.find(Filter.all(), Sort.DATE, false, 0))).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void withPayment_shouldAddNewRow() {
+        // Given
+        final var store = PaymentColumnStore.of(this.payments);
+
+        // When
+        final var updated = store.withPayment(payment(5, 3, 50, 60, "50.00", LocalDate.of(2024, 2, 15)));
+
+        // Then
+        assertThat(updated.size()).isEqualTo(5);
+        assertThat(ids(updated.find(Filter.all(), Sort.DATE, false, 0))).containsExactly(1L, 2L, 5L, 3L, 4L);
+    }
+
+    @Test
+    void withoutPayment_shouldRemoveRow() {
+        // Given
+        final var store = PaymentColumnStore.of(this.payments);
+
+        // When
+        final var updated = store.withoutPayment(2L);
+
+        // Then
+        assertThat(updated.size()).isEqualTo(3);
+        assertThat(ids(updated.find(Filter.all(), Sort.AMOUNT, false, 0))).containsExactly(4L, 1L, 3L);
+        assertThat(updated.sum(Filter.all().withAccount(10L))).isEqualByComparingTo("400.00");
+    }
+
+    @Test
+    void find_shouldExcludePaymentsWithoutDate_whenDateRangeGiven() {
+        // Given
+        final var store = PaymentColumnStore.of(List.of(payment(1, 1, 10, 20, "5.00", null)));
+
+        // When
+        final var bounded = store.find(Filter.all().withDateRange(LocalDate.of(2024, 1, 1), null), Sort.DATE,
+                false, 0);
+        final var unbounded = store.find(Filter.all(), Sort.DATE, false, 0);
+
+        // Then
+        assertThat(bounded).isEmpty();
+        assertThat(unbounded).hasSize(1);
+    }
+}
@@ -0,0 +1,105 @@
+package de.vptr.midas.gui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.vptr.midas.gui.dto.UserPaymentDto;
+import de.vptr.midas.gui.util.PaymentFlowAggregator.AccountFlow;
+import de.vptr.midas.gui.util.PaymentFlowAggregator.Granularity;
+import de.vptr.midas.gui.util.PaymentFlowAggregator.PeriodFlow;
+
+class PaymentFlowAggregatorTest {
+
+    private static UserPaymentDto payment(final Long sourceId, final Long targetId, final String amount,
+            final LocalDate date) {
+        return new UserPaymentDto(null, sourceId, targetId, amount != null ? new BigDecimal(amount) : null, date,
+                null, null, null);
+    }
+
+    private final List<UserPaymentDto> payments = List.of(
+            payment(1L, 2L, "100.00", LocalDate.of(2024, 1, 5)),
+            payment(1L, 2L, "50.00", LocalDate.of(2024, 1, 20)),
+            payment(2L, 3L, "30.00", LocalDate.of(2024, 2, 1)),
+            payment(3L, 1L, "500.00", LocalDate.of(2024, 3, 15)),
+            payment(null, 1L, "10.00", LocalDate.of(2024, 3, 16)),
+            payment(2L, 1L, null, LocalDate.of(2024, 3, 17)));
+
+    @Test
+    void aggregate_shouldRankFlowsByAmount() {
+        // Given
+        final var store = PaymentColumnStore.of(this.payments);
+
+        // When
+        final var flows = PaymentFlowAggregator.aggregate(store, null, null, Granularity.MONTH);
+
+        // Then
+        final var top = flows.topFlows(2);
+        assertThat(top).hasSize(2);
+        assertThat(top.get(0).sourceId()).isEqualTo(3L);
+        assertThat(top.get(0).targetId()).isEqualTo(1L);
+        assertThat(top.get(0).amount()).isEqualByComparingTo("500.00");
+        assertThat(top.get(1).sourceId()).isEqualTo(1L);
+        assertThat(top.get(1).count()).isEqualTo(2);
+        assertThat(top.get(1).amount()).isEqualByComparingTo("150.00");
+        assertThat(flows.paymentCount()).isEqualTo(6);
+        assertThat(flows.skipped()).isEqualTo(2);
+    }
+
+    @Test
+    void aggregate_shouldSumInflowAndOutflowPerAccount() {
+        // Given
+        final var store = PaymentColumnStore.of(this.payments);
+
+        // When
+        final var accounts = PaymentFlowAggregator.aggregate(store, null, null, Granularity.MONTH).accounts();
+
+        // Then
+        assertThat(accounts).extracting(AccountFlow::accountId).containsExactly(1L, 2L, 3L);
+        assertThat(accounts.get(0).inflow()).isEqualByComparingTo("500.00");
+        assertThat(accounts.get(0).outflow()).isEqualByComparingTo("150.00");
+        assertThat(accounts.get(0).net()).isEqualByComparingTo("350.00");
+        assertThat(accounts.get(1).net()).isEqualByComparingTo("120.00");
+    }
+
+    @Test
+    void aggregate_shouldTotalPerPeriodWithinDateRange() {
+        // Given
+        final var store = PaymentColumnStore.of(this.payments);
+
+        // When
+        final var periods = PaymentFlowAggregator
+                .aggregate(store, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 3, 31), Granularity.MONTH)
+                .periods();
+
+        // Then
+        assertThat(periods).extracting(PeriodFlow::period).containsExactly("2024-01", "2024-02", "2024-03");
+        assertThat(periods).extracting(PeriodFlow::count).containsExactly(1L, 1L, 1L);
+        assertThat(periods.get(2).amount()).isEqualByComparingTo("500.00");
+    }
+
+    @Test
+    void aggregate_shouldMatchSequentialTotals_whenSplitIntoChunks() {
+        // Given
+        final var many = new ArrayList<UserPaymentDto>();
+        for (var i = 0; i < 3 * PaymentFlowAggregator.MIN_CHUNK_SIZE; i++) {
+            many.add(payment((long) (i % 7), (long) (i % 11), "1.25", LocalDate.of(2020, 1, 1).plusDays(i % 900)));
+        }
+        final var store = PaymentColumnStore.of(many);
+
+        // When
+        final var flows = PaymentFlowAggregator.aggregate(store, null, null, Granularity.YEAR);
+
+        // Then
+        assertThat(flows.periods()).extracting(PeriodFlow::period).containsExactly("2020", "2021", "2022");
+        assertThat(flows.periods().stream().mapToLong(PeriodFlow::count).sum()).isEqualTo(many.size());
+        assertThat(flows.accounts().stream().map(AccountFlow::inflow).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo(new BigDecimal("1.25").multiply(BigDecimal.valueOf(many.size())));
+        assertThat(flows.topFlows(1000)).hasSize(77);
+    }
+}
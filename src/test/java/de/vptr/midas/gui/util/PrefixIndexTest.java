@@ -0,0 +1,49 @@
+package de.vptr.midas.gui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PrefixIndexTest {
+
+    private final PrefixIndex<String> index = PrefixIndex.of(
+            Arrays.asList("Savings", "salary", "Sales Tax", "Rent", null, " ", "sa"), name -> name);
+
+    @Test
+    void find_shouldReturnMatchesInNameOrder_ignoringCase() {
+        // When & Then
+        assertThat(this.index.size()).isEqualTo(5);
+        assertThat(this.index.find("SA", 0, 10)).containsExactly("sa", "salary", "Sales Tax", "Savings");
+        assertThat(this.index.find("sal", 0, 10)).containsExactly("salary", "Sales Tax");
+        assertThat(this.index.find("x", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void find_shouldReturnPages() {
+        // When & Then
+        assertThat(this.index.count("sa")).isEqualTo(4);
+        assertThat(this.index.find("sa", 1, 2)).containsExactly("salary", "Sales Tax");
+        assertThat(this.index.find("sa", 3, Integer.MAX_VALUE)).containsExactly("Savings");
+        assertThat(this.index.find("sa", 4, 2)).isEmpty();
+    }
+
+    @Test
+    void find_shouldReturnAll_whenPrefixIsBlank() {
+        // When & Then
+        assertThat(this.index.count(null)).isEqualTo(5);
+        assertThat(this.index.find("", 0, 2)).containsExactly("Rent", "sa");
+    }
+
+    @Test
+    void of_shouldHandleEmptyInput() {
+        // Given
+        final var empty = PrefixIndex.<String>of(List.of(), name -> name);
+
+        // When & Then
+        assertThat(empty.count("a")).isZero();
+        assertThat(empty.find("a", 0, 10)).isEmpty();
+    }
+}
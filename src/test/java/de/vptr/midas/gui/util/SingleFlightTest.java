@@ -0,0 +1,178 @@
+package de.vptr.midas.gui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    @Test
+    void execute_shouldShareInFlightLoad_whenKeysMatch() throws Exception {
+        // Given
+        final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        final var loads = new AtomicInteger();
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        final var leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("posts", () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "result";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        final var follower = new CompletableFuture<String>();
+        final var followerThread = new Thread(() -> follower.complete(singleFlight.execute("posts", () -> {
+            loads.incrementAndGet();
+            return "other";
+        })));
+        followerThread.start();
+        while (followerThread.isAlive() && followerThread.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void execute_shouldLoadSeparately_whenKeysDiffer() {
+        // Given
+        final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        // When
+        final var first = singleFlight.execute("posts:a", () -> "a");
+        final var second = singleFlight.execute("posts:b", () -> "b");
+
+        // Then
+        assertThat(first).isEqualTo("a");
+        assertThat(second).isEqualTo("b");
+    }
+
+    @Test
+    void execute_shouldNotCacheResult_afterLoadFinished() {
+        // Given
+        final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        final var loads = new AtomicInteger();
+
+        // When
+        singleFlight.execute("posts", loads::incrementAndGet);
+        final var second = singleFlight.execute("posts", loads::incrementAndGet);
+
+        // Then
+        assertThat(second).isEqualTo(2);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void execute_shouldRethrowLoaderException_andReleaseKey() {
+        // Given
+        final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        // When / Then
+        assertThatThrownBy(() -> singleFlight.execute("posts", () -> {
+            throw new IllegalStateException("backend down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("backend down");
+        assertThat(singleFlight.inFlightCount()).isZero();
+        assertThat(singleFlight.execute("posts", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void execute_shouldKeepLoading_whenOneOfTwoWaitersIsInterrupted() throws Exception {
+        // Given
+        final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var loaderInterrupted = new AtomicBoolean();
+
+        final var leader = new CompletableFuture<Throwable>();
+        final var leaderThread = new Thread(() -> {
+            try {
+                singleFlight.execute("payments", () -> {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (final InterruptedException e) {
+                        loaderInterrupted.set(true);
+                    }
+                    return "result";
+                });
+                leader.complete(null);
+            } catch (final Throwable t) {
+                leader.complete(t);
+            }
+        });
+        leaderThread.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        final var follower = new CompletableFuture<String>();
+        final var followerThread = new Thread(() -> follower.complete(singleFlight.execute("payments", () -> "other")));
+        followerThread.start();
+        while (followerThread.isAlive() && followerThread.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        leaderThread.interrupt();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+        release.countDown();
+
+        // Then
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(loaderInterrupted).isFalse();
+    }
+
+    @Test
+    void execute_shouldInterruptLoad_whenLastWaiterIsInterrupted() throws Exception {
+        // Given
+        final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        final var started = new CountDownLatch(1);
+        final var loaderInterrupted = new CountDownLatch(1);
+
+        final var caller = new Thread(() -> {
+            try {
+                singleFlight.execute("payments", () -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(5000);
+                    } catch (final InterruptedException e) {
+                        loaderInterrupted.countDown();
+                    }
+                    return "late";
+                });
+            } catch (final CancellationException e) {
+                // Expected
+            }
+        });
+        caller.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        caller.interrupt();
+
+        // Then
+        assertThat(loaderInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package de.vptr.midas.gui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+
+class TableExportTest {
+
+    private record Row(Long id, String name, BigDecimal amount, LocalDate date) {
+    }
+
+    private final TableExport<Row> export = new TableExport<Row>()
+            .column("ID", Row::id)
+            .column("Name", Row::name)
+            .column("Amount", Row::amount)
+            .column("Date", Row::date);
+
+    private final List<Row> rows = List.of(
+            new Row(1L, "Rent, \"March\"", new BigDecimal("1E+3"), LocalDate.of(2024, 3, 1)),
+            new Row(2L, "=HYPERLINK(\"x\")", null, null));
+
+    @Test
+    void write_shouldQuoteAndEscapeCsv() throws IOException {
+        // Given
+        final var out = new ByteArrayOutputStream();
+
+        // When
+        this.export.write(out, TableExport.Format.CSV, this.rows);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFF"
+                + "ID,Name,Amount,Date\r\n"
+                + "1,\"Rent, \"\"March\"\"\",1000,2024-03-01\r\n"
+                + "2,\"'=HYPERLINK(\"\"x\"\")\",,\r\n");
+    }
+
+    @Test
+    void write_shouldProduceWorkbookWithOneRowPerElement() throws IOException {
+        // Given
+        final var out = new ByteArrayOutputStream();
+
+        // When
+        this.export.write(out, TableExport.Format.XLSX, this.rows);
+
+        // Then
+        final var entries = unzip(out.toByteArray());
+        assertThat(entries).containsKeys("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/worksheets/sheet1.xml");
+
+        final var sheet = entries.get("xl/worksheets/sheet1.xml");
+        assertThat(sheet.split("<row>")).hasSize(4);
+        assertThat(sheet).contains("<c><v>1000</v></c>")
+                .contains("Rent, &quot;March&quot;")
+                .contains("<c/><c/></row>")
+                .endsWith("</sheetData></worksheet>");
+    }
+
+    @Test
+    void write_shouldContinueOnNextWorksheet_whenRowLimitIsReached() throws IOException {
+        // Given
+        final var out = new ByteArrayOutputStream();
+        this.export.xlsxMaxRows = 2;
+        final var moreRows = List.of(this.rows.get(0), this.rows.get(1), this.rows.get(0));
+
+        // When
+        this.export.write(out, TableExport.Format.XLSX, moreRows);
+
+        // Then
+        final var entries = unzip(out.toByteArray());
+        assertThat(entries).containsKeys("xl/worksheets/sheet1.xml", "xl/worksheets/sheet2.xml",
+                "xl/worksheets/sheet3.xml").doesNotContainKey("xl/worksheets/sheet4.xml");
+        for (var i = 1; i <= 3; i++) {
+            final var sheet = entries.get("xl/worksheets/sheet" + i + ".xml");
+            assertThat(sheet.split("<row>")).hasSize(3);
+            assertThat(sheet).contains("<row><c t=\"inlineStr\"><is><t xml:space=\"preserve\">ID</t>")
+                    .endsWith("</sheetData></worksheet>");
+        }
+        assertThat(entries.get("xl/workbook.xml")).contains("<sheet name=\"Export 3\" sheetId=\"3\" r:id=\"rId3\"/>");
+        assertThat(entries.get("xl/_rels/workbook.xml.rels")).contains("Target=\"worksheets/sheet3.xml\"");
+        assertThat(entries.get("[Content_Types].xml")).contains("PartName=\"/xl/worksheets/sheet3.xml\"");
+    }
+
+    @Test
+    void xmlText_shouldDropCharactersNotAllowedInXml() {
+        assertThat(TableExport.xmlText("a\u0001<b>&\tc")).isEqualTo("a&lt;b&gt;&amp;\tc");
+    }
+
+    private static Map<String, String> unzip(final byte[] bytes) throws IOException {
+        final var entries = new HashMap<String, String>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(bytes))) {
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,58 @@
+import { existsSync, readdirSync, readFileSync, statSync, writeFileSync } from 'fs';
+import { join } from 'path';
+import type { Plugin, UserConfigFn } from 'vite';
+import { brotliCompressSync, constants, gzipSync } from 'zlib';
+import { overrideVaadinConfig } from './vite.generated';
+
+// Assets smaller than this are not worth a compressed variant
+const MIN_PRECOMPRESS_SIZE = 1024;
+const PRECOMPRESSIBLE = /\.(js|mjs|css|html|svg|json|txt|map)$/;
+
+/**
+ * Writes brotli (.br) and gzip (.gz) variants next to every compressible
+ * asset of the production build. Vaadin's static file server picks them up
+ * based on the Accept-Encoding header, so assets are compressed once at build
+ * time instead of on every request.
+ */
+function precompress(): Plugin {
+  let outDir: string;
+
+  const walk = (dir: string): string[] =>
+    readdirSync(dir).flatMap((name) => {
+      const path = join(dir, name);
+      return statSync(path).isDirectory() ? walk(path) : [path];
+    });
+
+  return {
+    name: 'midas:precompress',
+    apply: 'build',
+    configResolved(config) {
+      outDir = config.build.outDir;
+    },
+    closeBundle() {
+      for (const file of walk(outDir)) {
+        if (!PRECOMPRESSIBLE.test(file) || statSync(file).size < MIN_PRECOMPRESS_SIZE) {
+          continue;
+        }
+        const content = readFileSync(file);
+        if (!existsSync(`${file}.br`)) {
+          writeFileSync(
+            `${file}.br`,
+            brotliCompressSync(content, { params: { [constants.BROTLI_PARAM_QUALITY]: 11 } })
+          );
+        }
+        if (!existsSync(`${file}.gz`)) {
+          writeFileSync(`${file}.gz`, gzipSync(content, { level: 9 }));
+        }
+      }
+    }
+  };
+}
+
+const customConfig: UserConfigFn = (env) => ({
+  // Here you can add custom Vite parameters
+  // https://vitejs.dev/config/
+  plugins: [precompress()]
+});
+
+export default overrideVaadinConfig(customConfig);